@@ -7,11 +7,13 @@ import io.cyborgcode.roa.api.hooks.ApiHookFlow;
 import io.cyborgcode.roa.api.service.RestService;
 import io.cyborgcode.roa.framework.exceptions.HookExecutionException;
 import io.cyborgcode.roa.framework.hooks.HookExecution;
+import io.cyborgcode.roa.framework.hooks.HookGroupRunner;
 import io.cyborgcode.roa.framework.storage.StoreKeys;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -30,7 +32,8 @@ import static io.cyborgcode.roa.framework.util.PropertiesUtil.addSystemPropertie
  *
  *
  * <p>Hooks are looked up reflectively by type via {@link ReflectionUtil#findEnumImplementationsOfInterface},
- * then applied via their {@link ApiHookFlow#flow()} consumer.
+ * then applied via their {@link ApiHookFlow#flow()} consumer. Hooks sharing the same order are run by
+ * {@link HookGroupRunner}, concurrently when {@code hooks.parallel.enabled} is set.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -48,8 +51,8 @@ public class ApiHookExtension implements BeforeAllCallback, AfterAllCallback {
     * Called once before all tests in the class.
     *
     * <p>Gathers all {@link ApiHook} annotations on the test class with
-    * {@link HookExecution#BEFORE}, orders them by {@linkplain ApiHook#order() order},
-    * and invokes {@link #executeHook} on each. Finally, stores the resulting
+    * {@link HookExecution#BEFORE}, groups them by {@linkplain ApiHook#order() order},
+    * and invokes {@link #executeHook} on each, one group after the other. Finally, stores the resulting
     * parameters map under {@link StoreKeys#HOOKS_PARAMS}.
     *
     * @param context the current JUnit extension context
@@ -57,12 +60,13 @@ public class ApiHookExtension implements BeforeAllCallback, AfterAllCallback {
     */
    @Override
    public void beforeAll(final ExtensionContext context) throws Exception {
-      Map<Object, Object> hooksStorage = new HashMap<>();
+      Map<Object, Object> hooksStorage = Collections.synchronizedMap(new HashMap<>());
       ApiHook[] apiHooks = context.getRequiredTestClass().getAnnotationsByType(ApiHook.class);
-      Arrays.stream(apiHooks)
+      List<ResolvedHook> hooks = Arrays.stream(apiHooks)
             .filter(apiHook -> apiHook.when() == HookExecution.BEFORE)
-            .sorted(Comparator.comparingInt(ApiHook::order))
-            .forEach(apiHook -> executeHook(apiHook, hooksStorage));
+            .map(this::resolveHook)
+            .toList();
+      runHooks(hooks, hooksStorage);
       context.getStore(ExtensionContext.Namespace.GLOBAL).put(StoreKeys.HOOKS_PARAMS, hooksStorage);
    }
 
@@ -70,8 +74,8 @@ public class ApiHookExtension implements BeforeAllCallback, AfterAllCallback {
     * Called once after all tests in the class.
     *
     * <p>Gathers all {@link ApiHook} annotations on the test class with
-    * {@link HookExecution#AFTER}, orders them by {@linkplain ApiHook#order() order},
-    * and invokes {@link #executeHook} on each. Finally, stores the resulting
+    * {@link HookExecution#AFTER}, groups them by {@linkplain ApiHook#order() order},
+    * and invokes {@link #executeHook} on each, one group after the other. Finally, stores the resulting
     * parameters map under {@link StoreKeys#HOOKS_PARAMS}.
     *
     * @param context the current JUnit extension context
@@ -79,48 +83,101 @@ public class ApiHookExtension implements BeforeAllCallback, AfterAllCallback {
     */
    @Override
    public void afterAll(final ExtensionContext context) throws Exception {
-      Map<Object, Object> hooksStorage = new HashMap<>();
+      Map<Object, Object> hooksStorage = Collections.synchronizedMap(new HashMap<>());
       ApiHook[] apiHooks = context.getRequiredTestClass().getAnnotationsByType(ApiHook.class);
-      Arrays.stream(apiHooks)
+      List<ResolvedHook> hooks = Arrays.stream(apiHooks)
             .filter(apiHook -> apiHook.when() == HookExecution.AFTER)
-            .sorted(Comparator.comparingInt(ApiHook::order))
-            .forEach(apiHook -> executeHook(apiHook, hooksStorage));
+            .map(this::resolveHook)
+            .toList();
+      runHooks(hooks, hooksStorage);
       context.getStore(ExtensionContext.Namespace.GLOBAL).put(StoreKeys.HOOKS_PARAMS, hooksStorage);
    }
 
    /**
-    * Executes a single {@link ApiHook} by looking up its {@link ApiHookFlow},
-    * then invoking its {@code flow()} consumer with the shared storage map.
+    * Runs the hooks group by group through {@link HookGroupRunner}.
     *
-    * <p>Any exceptions during lookup or execution are caught and rethrown as
-    * {@link RuntimeException} with a standardized message.
+    * <p>Hooks running on the calling thread share the memoized {@link #restService()}. A hook running on a
+    * pooled thread gets a {@link RestService} of its own, which the pool thread does not keep after the hook.
     *
-    * @param apiHook      the hook annotation instance
-    * @param storageHooks the map into which the hook may write parameters
+    * @param hooks        the resolved hooks, in declaration order
+    * @param hooksStorage the map into which the hooks may write parameters
+    */
+   private void runHooks(List<ResolvedHook> hooks, Map<Object, Object> hooksStorage) {
+      Thread caller = Thread.currentThread();
+      HookGroupRunner.run(hooks, hook -> hook.apiHook().order(), hook -> executeHook(hook, hooksStorage,
+            Thread.currentThread() == caller ? restService() : newRestService()));
+   }
+
+   /**
+    * Looks up the {@link ApiHookFlow} of a single {@link ApiHook}.
+    *
+    * <p>Lookups run on the calling thread before any hook of the class starts, so a hook type that
+    * cannot be resolved fails the class before hooks run concurrently.
+    *
+    * @param apiHook the hook annotation instance
+    * @return the hook together with its flow
     */
-   private void executeHook(ApiHook apiHook, Map<Object, Object> storageHooks) {
+   private ResolvedHook resolveHook(ApiHook apiHook) {
       try {
          ApiHookFlow<?> hookFlow = ReflectionUtil.findEnumImplementationsOfInterface(
                ApiHookFlow.class, apiHook.type(), getApiConfig().projectPackages());
-         hookFlow.flow().accept(restService(), storageHooks, apiHook.arguments());
+         return new ResolvedHook(apiHook, hookFlow);
       } catch (Exception e) {
          throw new HookExecutionException("Error executing ApiHook: " + apiHook.type(), e);
       }
    }
 
    /**
-    * Lazily instantiates (and then caches) the {@link RestService} used by hooks.
+    * Executes a single resolved {@link ApiHook} by invoking the {@code flow()} consumer of its
+    * {@link ApiHookFlow} with the shared storage map.
+    *
+    * <p>Any exceptions during execution are caught and rethrown as
+    * {@link HookExecutionException} with a standardized message.
+    *
+    * @param hook         the hook annotation instance together with its flow
+    * @param storageHooks the map into which the hook may write parameters
+    * @param service      the rest service the hook calls
+    */
+   private void executeHook(ResolvedHook hook, Map<Object, Object> storageHooks, RestService service) {
+      try {
+         hook.hookFlow().flow().accept(service, storageHooks, hook.apiHook().arguments());
+      } catch (Exception e) {
+         throw new HookExecutionException("Error executing ApiHook: " + hook.apiHook().type(), e);
+      }
+   }
+
+   /**
+    * Lazily instantiates (and then caches) the {@link RestService} used by hooks on the calling thread.
     * On first call, creates a new {@link RestService} with Allure‐enabled
     * implementations; on subsequent calls, returns the same instance.
     *
-    * @return the singleton RestService for this extension
+    * @return the RestService of the calling thread for this extension
     */
    @SuppressWarnings("checkstyle:JavadocParagraph")
    private RestService restService() {
       if (restService == null) {
-         restService = new RestService(new RestClientAllureImpl(), new RestResponseValidatorAllureImpl());
+         restService = newRestService();
       }
       return restService;
    }
 
+   /**
+    * Creates a {@link RestService} with Allure‐enabled implementations.
+    * The service keeps authentication state, so hooks running concurrently never share one.
+    *
+    * @return a new RestService
+    */
+   private static RestService newRestService() {
+      return new RestService(new RestClientAllureImpl(), new RestResponseValidatorAllureImpl());
+   }
+
+   /**
+    * A {@link ApiHook} paired with the {@link ApiHookFlow} it resolved to.
+    *
+    * @param apiHook  the hook annotation instance
+    * @param hookFlow the flow executing the hook
+    */
+   private record ResolvedHook(ApiHook apiHook, ApiHookFlow<?> hookFlow) {
+   }
+
 }
@@ -4,6 +4,8 @@ import io.cyborgcode.roa.api.annotations.ApiHook;
 import io.cyborgcode.roa.api.config.ApiConfig;
 import io.cyborgcode.roa.api.config.ApiConfigHolder;
 import io.cyborgcode.roa.api.hooks.ApiHookFlow;
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
 import io.cyborgcode.roa.framework.hooks.HookExecution;
 import io.cyborgcode.roa.framework.storage.StoreKeys;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
@@ -17,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -130,6 +134,113 @@ class ApiHookExtensionTest {
         }
     }
 
+    @Nested
+    @DisplayName("Same‑order hooks Tests")
+    class SameOrderHooksTests {
+
+        @ApiHook(type = "usersType", when = HookExecution.BEFORE, arguments = {"users"}, order = 1)
+        @ApiHook(type = "ordersType", when = HookExecution.BEFORE, arguments = {"orders"}, order = 1)
+        static class DummyWithSameOrderHooks {
+        }
+
+        @Test
+        @DisplayName("beforeAll should run hooks of the same order concurrently, each with its own RestService")
+        void beforeAll_runsSameOrderHooksConcurrently() throws Exception {
+            doReturn(DummyWithSameOrderHooks.class).when(context).getRequiredTestClass();
+            when(context.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(store);
+
+            try (
+                    var cfgMock = mockStatic(ApiConfigHolder.class);
+                    var fwMock = mockStatic(FrameworkConfigHolder.class);
+                    var reflMock = mockStatic(ReflectionUtil.class)
+            ) {
+                ApiConfig cfg = mock(ApiConfig.class);
+                cfgMock.when(ApiConfigHolder::getApiConfig).thenReturn(cfg);
+                when(cfg.projectPackages()).thenReturn(new String[]{"any.pkg"});
+                FrameworkConfig frameworkConfig = mock(FrameworkConfig.class);
+                fwMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(frameworkConfig);
+                when(frameworkConfig.hooksParallelEnabled()).thenReturn(true);
+                lenient().when(frameworkConfig.hooksParallelThreads()).thenReturn(4);
+
+                // each hook waits for the other one, so they only finish when running at the same time
+                CountDownLatch bothStarted = new CountDownLatch(2);
+                ApiHookFlow hookFlow = mock(ApiHookFlow.class);
+                when(hookFlow.flow()).thenReturn(
+                        (restSvc, storage, args) -> {
+                            bothStarted.countDown();
+                            try {
+                                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            Map<Object, Object> map = (Map<Object, Object>) storage;
+                            Object[] arr = (Object[]) args;
+                            map.put(arr[0], restSvc);
+                        }
+                );
+
+                reflMock.when(() -> ReflectionUtil.findEnumImplementationsOfInterface(
+                        eq(ApiHookFlow.class), anyString(), anyString()
+                )).thenReturn(hookFlow);
+
+                extension.beforeAll(context);
+
+                ArgumentCaptor<Map<Object, Object>> cap = ArgumentCaptor.forClass(Map.class);
+                verify(store).put(eq(StoreKeys.HOOKS_PARAMS), cap.capture());
+
+                Map<Object, Object> saved = cap.getValue();
+                assertThat(bothStarted.getCount()).isZero();
+                assertThat(saved).containsKeys("users", "orders");
+                assertThat(saved.get("users")).isNotSameAs(saved.get("orders"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Sequential hooks Tests")
+    class SequentialHooksTests {
+
+        @ApiHook(type = "usersType", when = HookExecution.BEFORE, arguments = {"users"}, order = 1)
+        @ApiHook(type = "ordersType", when = HookExecution.BEFORE, arguments = {"orders"}, order = 2)
+        static class DummyWithOrderedHooks {
+        }
+
+        @Test
+        @DisplayName("beforeAll should share the memoized RestService between hooks on the calling thread")
+        void beforeAll_sharesRestServiceOnCallingThread() throws Exception {
+            doReturn(DummyWithOrderedHooks.class).when(context).getRequiredTestClass();
+            when(context.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(store);
+
+            try (
+                    var cfgMock = mockStatic(ApiConfigHolder.class);
+                    var reflMock = mockStatic(ReflectionUtil.class)
+            ) {
+                ApiConfig cfg = mock(ApiConfig.class);
+                cfgMock.when(ApiConfigHolder::getApiConfig).thenReturn(cfg);
+                when(cfg.projectPackages()).thenReturn(new String[]{"any.pkg"});
+
+                ApiHookFlow hookFlow = mock(ApiHookFlow.class);
+                when(hookFlow.flow()).thenReturn(
+                        (restSvc, storage, args) -> ((Map<Object, Object>) storage).put(((Object[]) args)[0], restSvc)
+                );
+                reflMock.when(() -> ReflectionUtil.findEnumImplementationsOfInterface(
+                        eq(ApiHookFlow.class), anyString(), anyString()
+                )).thenReturn(hookFlow);
+
+                extension.beforeAll(context);
+
+                ArgumentCaptor<Map<Object, Object>> cap = ArgumentCaptor.forClass(Map.class);
+                verify(store).put(eq(StoreKeys.HOOKS_PARAMS), cap.capture());
+
+                var restService = ApiHookExtension.class.getDeclaredMethod("restService");
+                restService.setAccessible(true);
+                Map<Object, Object> saved = cap.getValue();
+                assertThat(saved.get("users")).isSameAs(restService.invoke(extension));
+                assertThat(saved.get("orders")).isSameAs(saved.get("users"));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("afterAll Tests")
     class AfterAllTests {
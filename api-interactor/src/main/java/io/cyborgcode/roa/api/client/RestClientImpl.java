@@ -1,5 +1,6 @@
 package io.cyborgcode.roa.api.client;
 
+import io.cyborgcode.roa.api.jfr.RestRequestEvent;
 import io.cyborgcode.roa.api.log.LogApi;
 import io.restassured.http.Method;
 import io.restassured.path.json.JsonPath;
@@ -85,14 +86,23 @@ public class RestClientImpl implements RestClient {
 
       printRequest(methodName, url, prettyRequestBody, requestHeaders);
 
+      RestRequestEvent event = new RestRequestEvent();
+      event.begin();
       long startTime = currentTimeNanos();
 
       Response response = Optional.ofNullable(METHOD_EXECUTORS.get(method))
             .orElseThrow(() -> new IllegalArgumentException("HTTP method " + method + " is not supported"))
             .apply(spec);
 
+      event.end();
       long duration = (currentTimeNanos() - startTime) / 1_000_000;
       printResponse(methodName, url, response, duration);
+      if (event.shouldCommit()) {
+         byte[] body = response.asByteArray();
+         event.describe(methodName, urlTemplate(filterableSpec), response.getStatusCode(),
+               body != null ? body.length : 0);
+         event.commit();
+      }
 
       if (duration > SLOW_REQUEST_THRESHOLD_MS) {
          LogApi.warn("Request to endpoint {}-{} took too long: {}ms.", methodName, url, duration);
@@ -144,6 +154,24 @@ public class RestClientImpl implements RestClient {
       extended("Response headers: {}.", response.getHeaders() != null ? response.getHeaders().toString() : "");
    }
 
+   /**
+    * Returns the request URL with its path parameters as placeholders, such as {@code /users/{id}}.
+    *
+    * @param spec The request specification.
+    * @return The URL template, or the resolved URL if the request has no user-defined path.
+    */
+   private static String urlTemplate(final FilterableRequestSpecification spec) {
+      String path = spec.getUserDefinedPath();
+      if (path == null || path.isEmpty()) {
+         return spec.getURI();
+      }
+      if (path.contains("://")) {
+         return path;
+      }
+      return Optional.ofNullable(spec.getBaseUri()).orElse("") + Optional.ofNullable(spec.getBasePath()).orElse("")
+            + path;
+   }
+
    /**
     * Attempts to pretty-print JSON request bodies.
     *
@@ -0,0 +1,64 @@
+package io.cyborgcode.roa.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a REST request executed by {@code RestClientImpl}.
+ *
+ * <p>The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}. Its fields are only filled in once
+ * {@link #shouldCommit()} confirms a recording wants the event, so requests executed while no
+ * recording is running pay no more than the allocation of the event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(RestRequestEvent.NAME)
+@Label("REST Request")
+@Category({"Ring of Automation", "API"})
+@Description("An HTTP request sent through the API interactor")
+@Enabled(false)
+@StackTrace(false)
+public final class RestRequestEvent extends Event {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.api.RestRequest";
+
+   @Label("Method")
+   private String method;
+
+   @Label("URL Template")
+   @Description("The request URL with its path parameters still as placeholders")
+   private String urlTemplate;
+
+   @Label("Status")
+   private int status;
+
+   @Label("Response Size")
+   @DataAmount
+   private long bytes;
+
+   /**
+    * Describes the executed request.
+    *
+    * @param method      The HTTP method.
+    * @param urlTemplate The request URL with unresolved path parameters.
+    * @param status      The HTTP status of the response.
+    * @param bytes       The size of the response body in bytes.
+    */
+   public void describe(String method, String urlTemplate, int status, long bytes) {
+      this.method = method;
+      this.urlTemplate = urlTemplate;
+      this.status = status;
+      this.bytes = bytes;
+   }
+
+}
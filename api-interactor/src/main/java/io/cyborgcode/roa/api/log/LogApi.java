@@ -12,7 +12,7 @@ import io.cyborgcode.utilities.logging.LogCore;
  */
 public final class LogApi extends LogCore {
 
-   private static LogApi instance;
+   private static volatile LogApi instance;
 
    private LogApi() {
       super("ROA.API", "API");
@@ -109,15 +109,23 @@ public final class LogApi extends LogCore {
    }
 
    /**
-    * Retrieves the singleton instance of {@code LogApi}.
+    * Retrieves the singleton instance of {@code LogApi}, creating it once even when
+    * called concurrently from parallel test threads.
     *
     * @return The singleton instance of {@code LogApi}.
     */
    private static LogApi getInstance() {
-      if (instance == null) {
-         instance = new LogApi();
+      LogApi current = instance;
+      if (current == null) {
+         synchronized (LogApi.class) {
+            current = instance;
+            if (current == null) {
+               current = new LogApi();
+               instance = current;
+            }
+         }
       }
-      return instance;
+      return current;
    }
 
 }
@@ -0,0 +1,87 @@
+package io.cyborgcode.roa.api.jfr;
+
+import io.cyborgcode.roa.api.client.RestClientImpl;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Objects;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RestRequestEvent Tests")
+class RestRequestEventTest {
+
+   @TempDir
+   Path tempDir;
+
+   @Test
+   @DisplayName("Should record the method, URL template, status and response size of a request")
+   void shouldRecordExecutedRequest() throws IOException {
+      // Given
+      FilterableRequestSpecification spec = mock(FilterableRequestSpecification.class);
+      when(spec.getURI()).thenReturn("https://example.com/api/users/42");
+      when(spec.getBaseUri()).thenReturn("https://example.com");
+      when(spec.getBasePath()).thenReturn("/api");
+      when(spec.getUserDefinedPath()).thenReturn("/users/{id}");
+      Response response = mock(Response.class);
+      when(response.getStatusCode()).thenReturn(200);
+      when(response.asByteArray()).thenReturn(new byte[] {1, 2, 3});
+      when(spec.get()).thenReturn(response);
+      Path file = tempDir.resolve("requests.jfr");
+
+      // When
+      try (Recording recording = new Recording()) {
+         recording.enable(RestRequestEvent.NAME);
+         recording.start();
+         new RestClientImpl().execute(spec, Method.GET);
+         recording.stop();
+         recording.dump(file);
+      }
+
+      // Then
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(RestRequestEvent.NAME))
+            .toList();
+      assertEquals(1, events.size());
+      RecordedEvent event = events.get(0);
+      assertEquals("GET", event.getString("method"));
+      assertEquals("https://example.com/api/users/{id}", event.getString("urlTemplate"));
+      assertEquals(200, event.getInt("status"));
+      assertEquals(3L, event.getLong("bytes"));
+   }
+
+   @Test
+   @DisplayName("Should be enabled by the settings profile shipped in the jar")
+   void shouldBeEnabledByShippedProfile() throws IOException, ParseException {
+      // Given
+      try (Reader reader = new InputStreamReader(Objects.requireNonNull(
+            getClass().getClassLoader().getResourceAsStream("META-INF/roa/flight-recorder.jfc")),
+            StandardCharsets.UTF_8)) {
+
+         // When
+         Configuration configuration = Configuration.create(reader);
+
+         // Then
+         assertEquals("true", configuration.getSettings().get(RestRequestEvent.NAME + "#enabled"));
+         assertTrue(configuration.getSettings().containsKey(RestRequestEvent.NAME + "#threshold"));
+      }
+   }
+
+}
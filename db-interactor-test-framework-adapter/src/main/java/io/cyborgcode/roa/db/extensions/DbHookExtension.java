@@ -10,11 +10,13 @@ import io.cyborgcode.roa.db.json.JsonPathExtractor;
 import io.cyborgcode.roa.db.service.DatabaseService;
 import io.cyborgcode.roa.framework.exceptions.HookExecutionException;
 import io.cyborgcode.roa.framework.hooks.HookExecution;
+import io.cyborgcode.roa.framework.hooks.HookGroupRunner;
 import io.cyborgcode.roa.framework.storage.StoreKeys;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -29,6 +31,8 @@ import static io.cyborgcode.roa.framework.util.PropertiesUtil.addSystemPropertie
  * <p>Executes database-related hooks before and after all tests, ordered by the
  * {@code order} attribute on the {@code @DbHook} annotation, and stores the hook
  * parameters in the global ExtensionContext store under {@link StoreKeys#HOOKS_PARAMS}.
+ * Hooks sharing the same order are run by {@link HookGroupRunner}, concurrently when
+ * {@code hooks.parallel.enabled} is set.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -47,65 +51,89 @@ public class DbHookExtension implements BeforeAllCallback, AfterAllCallback {
 
    /**
     * Executes all {@link DbHook} annotations on the test class with {@link HookExecution#BEFORE}.
-    * Hooks are sorted by {@code order}, executed, and their parameters stored.
+    * Hooks are grouped by {@code order}, executed group by group, and their parameters stored.
     *
     * @param context the JUnit extension context for the test class
     * @throws Exception if any hook execution fails
     */
    @Override
    public void beforeAll(final ExtensionContext context) throws Exception {
-      Map<Object, Object> hooksStorage = new HashMap<>();
+      Map<Object, Object> hooksStorage = Collections.synchronizedMap(new HashMap<>());
       DbHook[] dbHooks = context.getRequiredTestClass().getAnnotationsByType(DbHook.class);
-      Arrays.stream(dbHooks)
+      List<ResolvedHook> hooks = Arrays.stream(dbHooks)
             .filter(dbHook -> dbHook.when() == HookExecution.BEFORE)
-            .sorted(Comparator.comparingInt(DbHook::order))
-            .forEach(dbHook -> executeHook(dbHook, hooksStorage));
+            .map(this::resolveHook)
+            .toList();
+      HookGroupRunner.run(hooks, hook -> hook.dbHook().order(), hook -> executeHook(hook, hooksStorage));
       context.getStore(ExtensionContext.Namespace.GLOBAL).put(StoreKeys.HOOKS_PARAMS, hooksStorage);
    }
 
    /**
     * Executes all {@link DbHook} annotations on the test class with {@link HookExecution#AFTER}.
-    * Hooks are sorted by {@code order}, executed, and their parameters stored.
+    * Hooks are grouped by {@code order}, executed group by group, and their parameters stored.
     *
     * @param context the JUnit extension context for the test class
     * @throws Exception if any hook execution fails
     */
    @Override
    public void afterAll(final ExtensionContext context) throws Exception {
-      Map<Object, Object> hooksStorage = new HashMap<>();
+      Map<Object, Object> hooksStorage = Collections.synchronizedMap(new HashMap<>());
       DbHook[] dbHooks = context.getRequiredTestClass().getAnnotationsByType(DbHook.class);
-      Arrays.stream(dbHooks)
+      List<ResolvedHook> hooks = Arrays.stream(dbHooks)
             .filter(dbHook -> dbHook.when() == HookExecution.AFTER)
-            .sorted(Comparator.comparingInt(DbHook::order))
-            .forEach(dbHook -> executeHook(dbHook, hooksStorage));
+            .map(this::resolveHook)
+            .toList();
+      HookGroupRunner.run(hooks, hook -> hook.dbHook().order(), hook -> executeHook(hook, hooksStorage));
       context.getStore(ExtensionContext.Namespace.GLOBAL).put(StoreKeys.HOOKS_PARAMS, hooksStorage);
    }
 
    /**
-    * Resolves and executes a single {@link DbHook} by locating the corresponding {@link DbHookFlow}
-    * implementation and invoking its flow.
+    * Looks up the {@link DbHookFlow} of a single {@link DbHook}.
     *
-    * @param dbHook       the annotation instance containing hook metadata
-    * @param storageHooks the map used to accumulate hook results and arguments
+    * <p>Lookups run on the calling thread before any hook of the class starts, so a hook type that
+    * cannot be resolved fails the class before hooks run concurrently.
+    *
+    * @param dbHook the hook annotation instance
+    * @return the hook together with its flow
     */
-   private void executeHook(DbHook dbHook, Map<Object, Object> storageHooks) {
+   private ResolvedHook resolveHook(DbHook dbHook) {
       try {
          DbHookFlow<?> hookFlow = ReflectionUtil.findEnumImplementationsOfInterface(
                DbHookFlow.class, dbHook.type(), getDbConfig().projectPackages());
-         hookFlow.flow().accept(dbService(), storageHooks, dbHook.arguments());
+         return new ResolvedHook(dbHook, hookFlow);
       } catch (Exception e) {
          throw new HookExecutionException("Error executing DbHook: " + dbHook.type(), e);
       }
    }
 
+   /**
+    * Executes a single resolved {@link DbHook} by invoking the {@code flow()} consumer of its
+    * {@link DbHookFlow} with the shared storage map.
+    *
+    * <p>Any exceptions during execution are caught and rethrown as
+    * {@link HookExecutionException} with a standardized message.
+    *
+    * @param hook         the hook annotation instance together with its flow
+    * @param storageHooks the map into which the hook may write parameters
+    */
+   private void executeHook(ResolvedHook hook, Map<Object, Object> storageHooks) {
+      try {
+         hook.hookFlow().flow().accept(dbService(), storageHooks, hook.dbHook().arguments());
+      } catch (Exception e) {
+         throw new HookExecutionException("Error executing DbHook: " + hook.dbHook().type(), e);
+      }
+   }
+
    /**
     * Lazily initializes and returns the singleton {@link DatabaseService}.
     *
     * <p>Configures JSON path extraction, a database connector manager, and an Allure result validator.
+    * The service is stateless and its connector manager caches clients in a concurrent map, so the
+    * instance is shared by hooks running concurrently.
     *
     * @return the shared {@code DatabaseService} instance
     */
-   private DatabaseService dbService() {
+   private synchronized DatabaseService dbService() {
       if (databaseService == null) {
          JsonPathExtractor jsonPathExtractor = new JsonPathExtractor(new ObjectMapper());
          databaseService =
@@ -116,4 +144,13 @@ public class DbHookExtension implements BeforeAllCallback, AfterAllCallback {
       return databaseService;
    }
 
+   /**
+    * A {@link DbHook} paired with the {@link DbHookFlow} it resolved to.
+    *
+    * @param dbHook   the hook annotation instance
+    * @param hookFlow the flow executing the hook
+    */
+   private record ResolvedHook(DbHook dbHook, DbHookFlow<?> hookFlow) {
+   }
+
 }
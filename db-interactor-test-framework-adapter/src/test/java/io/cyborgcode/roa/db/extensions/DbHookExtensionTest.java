@@ -5,18 +5,23 @@ import io.cyborgcode.roa.db.config.DbConfig;
 import io.cyborgcode.roa.db.config.DbConfigHolder;
 import io.cyborgcode.roa.db.hooks.DbHookFlow;
 import io.cyborgcode.roa.db.service.DatabaseService;
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
 import io.cyborgcode.roa.framework.storage.StoreKeys;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static io.cyborgcode.roa.framework.hooks.HookExecution.AFTER;
@@ -43,6 +48,12 @@ class DbHookExtensionTest {
         // Two hooks, one BEFORE and one AFTER
     }
 
+    @DbHook(when = BEFORE, type = "usersType", arguments = {"users"}, order = 1)
+    @DbHook(when = BEFORE, type = "ordersType", arguments = {"orders"}, order = 1)
+    static class SameOrderHooksClass {
+        // Two independent BEFORE hooks sharing the same order
+    }
+
     @Test
     @DisplayName("beforeAll with no hooks should put empty map into store")
     void beforeAll_noHooks_putsEmptyMap() throws Exception {
@@ -136,6 +147,53 @@ class DbHookExtensionTest {
         }
     }
 
+    @Test
+    @DisplayName("beforeAll should run hooks of the same order concurrently when enabled")
+    void beforeAll_sameOrderHooks_runConcurrently() throws Exception {
+        ExtensionContext ctx = mock(ExtensionContext.class);
+        ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+        doReturn(SameOrderHooksClass.class).when(ctx).getRequiredTestClass();
+        doReturn(store).when(ctx).getStore(Namespace.GLOBAL);
+
+        try (MockedStatic<DbConfigHolder> dbh = mockStatic(DbConfigHolder.class);
+             MockedStatic<FrameworkConfigHolder> fwh = mockStatic(FrameworkConfigHolder.class);
+             MockedStatic<ReflectionUtil> rif = mockStatic(ReflectionUtil.class)) {
+
+            var mockConfig = mock(DbConfig.class);
+            when(mockConfig.projectPackages()).thenReturn(new String[]{"my.project"});
+            dbh.when(DbConfigHolder::getDbConfig).thenReturn(mockConfig);
+            FrameworkConfig frameworkConfig = mock(FrameworkConfig.class);
+            when(frameworkConfig.hooksParallelEnabled()).thenReturn(true);
+            when(frameworkConfig.hooksParallelThreads()).thenReturn(4);
+            fwh.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(frameworkConfig);
+
+            // each hook waits for the other one, so they only finish when running at the same time
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            DbHookFlow dummyFlow = mock(DbHookFlow.class);
+            when(dummyFlow.flow()).thenReturn((svc, storage, args) -> {
+                bothStarted.countDown();
+                try {
+                    assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String key = ((String[]) args)[0];
+                ((Map<Object, Object>) storage).put(key, Thread.currentThread().getName());
+            });
+            rif.when(() -> ReflectionUtil.findEnumImplementationsOfInterface(
+                            eq(DbHookFlow.class), any(String.class), eq("my.project")))
+                    .thenReturn(dummyFlow);
+
+            extension.beforeAll(ctx);
+
+            ArgumentCaptor<Map<Object, Object>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(store).put(eq(StoreKeys.HOOKS_PARAMS), captor.capture());
+            assertEquals(0, bothStarted.getCount());
+            assertEquals(2, captor.getValue().size());
+            assertNotEquals(captor.getValue().get("users"), captor.getValue().get("orders"));
+        }
+    }
+
     @Test
     @DisplayName("dbService should return same service instance on multiple calls")
     void dbService_cachesServiceInstance() throws Exception {
@@ -155,9 +213,11 @@ class DbHookExtensionTest {
     void executeHook_invokesHookFlow() throws Exception {
         DbHookExtension extension = new DbHookExtension();
 
-        // grab the private method
+        // grab the private methods
+        Method resolve = DbHookExtension.class.getDeclaredMethod("resolveHook", DbHook.class);
+        resolve.setAccessible(true);
         Method exec = DbHookExtension.class
-                .getDeclaredMethod("executeHook", DbHook.class, Map.class);
+                .getDeclaredMethod("executeHook", resolve.getReturnType(), Map.class);
         exec.setAccessible(true);
 
         // prepare a storage map to pass in
@@ -195,8 +255,8 @@ class DbHookExtensionTest {
                             eq("my.pkg")))
                     .thenReturn(dummyFlow);
 
-            // invoke the private method
-            exec.invoke(extension, beforeHook, storage);
+            // invoke the private methods
+            exec.invoke(extension, resolve.invoke(extension, beforeHook), storage);
 
             // verify we actually called into ReflectionUtil
             rif.verify(() -> ReflectionUtil.findEnumImplementationsOfInterface(
@@ -215,14 +275,11 @@ class DbHookExtensionTest {
     }
 
     @Test
-    @DisplayName("executeHook should wrap any exception in a RuntimeException")
-    void executeHook_wrappingExceptions() throws Exception {
+    @DisplayName("resolveHook should wrap any exception in a RuntimeException")
+    void resolveHook_wrappingExceptions() throws Exception {
         DbHookExtension extension = new DbHookExtension();
-        Method exec = DbHookExtension.class
-                .getDeclaredMethod("executeHook", DbHook.class, Map.class);
-        exec.setAccessible(true);
-
-        Map<Object, Object> storage = new HashMap<>();
+        Method resolve = DbHookExtension.class.getDeclaredMethod("resolveHook", DbHook.class);
+        resolve.setAccessible(true);
 
         try (MockedStatic<DbConfigHolder> dbh = mockStatic(DbConfigHolder.class);
              MockedStatic<ReflectionUtil> rif = mockStatic(ReflectionUtil.class)) {
@@ -242,7 +299,7 @@ class DbHookExtensionTest {
             // invoking via reflection will wrap your RuntimeException in InvocationTargetException
             InvocationTargetException ite = assertThrows(
                     InvocationTargetException.class,
-                    () -> exec.invoke(extension, beforeHook, storage)
+                    () -> resolve.invoke(extension, beforeHook)
             );
 
             Throwable cause = ite.getCause();
@@ -3,6 +3,7 @@ package io.cyborgcode.roa.db.client;
 import io.cyborgcode.roa.db.config.DatabaseConfiguration;
 import io.cyborgcode.roa.db.connector.BaseDbConnectorService;
 import io.cyborgcode.roa.db.exceptions.DatabaseOperationException;
+import io.cyborgcode.roa.db.jfr.DbQueryEvent;
 import io.cyborgcode.roa.db.log.LogDb;
 import io.cyborgcode.roa.db.query.QueryResponse;
 import java.sql.Connection;
@@ -62,12 +63,20 @@ public class RelationalDbClient implements DbClient {
    private QueryResponse executeAndProcessQuery(Connection connection, String query) throws SQLException {
       printQuery(query);
       long startTime = System.currentTimeMillis();
-
-      if (query.trim().toLowerCase().startsWith("select")) {
-         return executeSelectQuery(connection, query, startTime);
-      } else {
-         return executeUpdateQuery(connection, query, startTime);
+      DbQueryEvent event = new DbQueryEvent();
+      event.begin();
+
+      boolean select = query.trim().toLowerCase().startsWith("select");
+      QueryResponse response = select
+            ? executeSelectQuery(connection, query, startTime)
+            : executeUpdateQuery(connection, query, startTime);
+
+      event.end();
+      if (event.shouldCommit()) {
+         event.describe(query, select ? response.getRows().size() : updatedRows(response));
+         event.commit();
       }
+      return response;
    }
 
    private QueryResponse executeSelectQuery(Connection connection, String query, long startTime) throws SQLException {
@@ -120,6 +129,10 @@ public class RelationalDbClient implements DbClient {
       }
    }
 
+   private static long updatedRows(QueryResponse response) {
+      return ((Number) response.getRows().get(0).get("updatedRows")).longValue();
+   }
+
    /**
     * Logs the executed query.
     *
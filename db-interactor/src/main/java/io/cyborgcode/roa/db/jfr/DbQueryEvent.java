@@ -0,0 +1,75 @@
+package io.cyborgcode.roa.db.jfr;
+
+import java.util.regex.Pattern;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a query executed by {@code RelationalDbClient}.
+ *
+ * <p>Queries are recorded by their fingerprint: string and numeric literals are replaced with {@code ?},
+ * {@code IN} lists are collapsed and whitespace is normalized, so the same statement executed with different
+ * values aggregates into one entry and no test data ends up in the recording.
+ *
+ * <p>The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}. The fingerprint is only computed once {@link #shouldCommit()}
+ * confirms a recording wants the event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(DbQueryEvent.NAME)
+@Label("Database Query")
+@Category({"Ring of Automation", "DB"})
+@Description("A SQL statement executed through the DB interactor")
+@Enabled(false)
+@StackTrace(false)
+public final class DbQueryEvent extends Event {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.db.Query";
+
+   private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+   private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+   private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+   private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+   @Label("SQL Fingerprint")
+   @Description("The statement with its literals replaced by placeholders")
+   private String sql;
+
+   @Label("Rows")
+   @Description("Rows returned by a query or affected by an update")
+   private long rows;
+
+   /**
+    * Describes the executed statement.
+    *
+    * @param query The executed SQL statement.
+    * @param rows  The rows returned or affected by the statement.
+    */
+   public void describe(String query, long rows) {
+      this.sql = fingerprint(query);
+      this.rows = rows;
+   }
+
+   /**
+    * Reduces a SQL statement to its shape by replacing literals with placeholders.
+    *
+    * @param query The SQL statement.
+    * @return The fingerprint of the statement.
+    */
+   static String fingerprint(String query) {
+      String fingerprint = STRING_LITERAL.matcher(query).replaceAll("?");
+      fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+      fingerprint = IN_LIST.matcher(fingerprint).replaceAll("IN (?)");
+      return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+   }
+
+}
@@ -12,7 +12,7 @@ import io.cyborgcode.utilities.logging.LogCore;
  */
 public final class LogDb extends LogCore {
 
-   private static LogDb instance;
+   private static volatile LogDb instance;
 
    private LogDb() {
       super("ROA.DB", "DB");
@@ -109,15 +109,23 @@ public final class LogDb extends LogCore {
    }
 
    /**
-    * Retrieves the singleton instance of {@code LogDb}.
+    * Retrieves the singleton instance of {@code LogDb}, creating it once even when
+    * called concurrently from parallel test threads.
     *
     * @return The singleton instance of {@code LogDb}.
     */
    private static LogDb getInstance() {
-      if (instance == null) {
-         instance = new LogDb();
+      LogDb current = instance;
+      if (current == null) {
+         synchronized (LogDb.class) {
+            current = instance;
+            if (current == null) {
+               current = new LogDb();
+               instance = current;
+            }
+         }
       }
-      return instance;
+      return current;
    }
 
 }
@@ -0,0 +1,77 @@
+package io.cyborgcode.roa.db.jfr;
+
+import io.cyborgcode.roa.db.client.RelationalDbClient;
+import io.cyborgcode.roa.db.config.DatabaseConfiguration;
+import io.cyborgcode.roa.db.connector.BaseDbConnectorService;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DbQueryEvent Tests")
+class DbQueryEventTest {
+
+   @TempDir
+   Path tempDir;
+
+   @ParameterizedTest(name = "{0}")
+   @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+         "SELECT * FROM users WHERE id = 42|SELECT * FROM users WHERE id = ?",
+         "SELECT * FROM users WHERE name = 'O''Neil'|SELECT * FROM users WHERE name = ?",
+         "SELECT * FROM t1 WHERE id IN (1, 2,3)|SELECT * FROM t1 WHERE id IN (?)",
+         "UPDATE users\n   SET  score = 1.5|UPDATE users SET score = ?"
+   })
+   @DisplayName("Should replace literals in the SQL fingerprint")
+   void shouldFingerprintQueries(String query, String fingerprint) {
+      // When
+      String actual = DbQueryEvent.fingerprint(query);
+
+      // Then
+      assertEquals(fingerprint, actual);
+   }
+
+   @Test
+   @DisplayName("Should record the fingerprint and affected rows of an executed update")
+   void shouldRecordExecutedQuery() throws Exception {
+      // Given
+      BaseDbConnectorService connector = mock(BaseDbConnectorService.class);
+      DatabaseConfiguration dbConfig = mock(DatabaseConfiguration.class);
+      Connection connection = mock(Connection.class);
+      Statement statement = mock(Statement.class);
+      String query = "UPDATE users SET name = 'test' WHERE id = 7";
+      when(connector.getConnection(dbConfig)).thenReturn(connection);
+      when(connection.createStatement()).thenReturn(statement);
+      when(statement.executeUpdate(query)).thenReturn(3);
+      Path file = tempDir.resolve("queries.jfr");
+
+      // When
+      try (Recording recording = new Recording()) {
+         recording.enable(DbQueryEvent.NAME);
+         recording.start();
+         new RelationalDbClient(connector, dbConfig).executeQuery(query);
+         recording.stop();
+         recording.dump(file);
+      }
+
+      // Then
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(DbQueryEvent.NAME))
+            .toList();
+      assertEquals(1, events.size());
+      assertEquals("UPDATE users SET name = ? WHERE id = ?", events.get(0).getString("sql"));
+      assertEquals(3L, events.get(0).getLong("rows"));
+   }
+
+}
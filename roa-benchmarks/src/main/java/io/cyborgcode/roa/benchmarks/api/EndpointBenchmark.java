@@ -0,0 +1,69 @@
+package io.cyborgcode.roa.benchmarks.api;
+
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.api.core.ParametrizedEndpoint;
+import io.cyborgcode.roa.benchmarks.fixture.BenchmarkEndpoints;
+import io.restassured.specification.RequestSpecification;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building a {@link ParametrizedEndpoint} and turning it into a request specification.
+ *
+ * <p>REST Assured request logging is disabled for the forked JVM so that the request specification
+ * benchmark measures the framework code and not console output.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dapi.restassured.logging.enabled=false")
+public class EndpointBenchmark {
+
+   private Endpoint<BenchmarkEndpoints> parametrized;
+
+   @Setup
+   public void setUp() {
+      parametrized = build();
+   }
+
+   @Benchmark
+   public Endpoint<BenchmarkEndpoints> buildParametrizedEndpoint() {
+      return build();
+   }
+
+   @Benchmark
+   public Map<String, List<String>> mergeHeaders() {
+      return parametrized.headers();
+   }
+
+   @Benchmark
+   public RequestSpecification prepareRequestSpec() {
+      return parametrized.prepareRequestSpec(null);
+   }
+
+   private static Endpoint<BenchmarkEndpoints> build() {
+      return BenchmarkEndpoints.GET_USER
+            .withPathParam("userId", 42)
+            .withPathParam("orderId", 7)
+            .withQueryParam("page", 1)
+            .withQueryParam("size", 50)
+            .withHeader("X-Trace-Id", "benchmark")
+            .withHeader("X-Roles", List.of("admin", "user"));
+   }
+
+}
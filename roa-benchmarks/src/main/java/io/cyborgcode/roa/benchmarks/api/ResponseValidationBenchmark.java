@@ -0,0 +1,58 @@
+package io.cyborgcode.roa.benchmarks.api;
+
+import io.cyborgcode.roa.api.validator.RestAssertionTarget;
+import io.cyborgcode.roa.api.validator.RestResponseValidatorImpl;
+import io.cyborgcode.roa.benchmarks.fixture.FakeResponses;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.roa.validator.core.AssertionResult;
+import io.cyborgcode.roa.validator.core.AssertionTypes;
+import io.restassured.response.Response;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks validating an in-memory {@link Response} against status, header and body assertions.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseValidationBenchmark {
+
+   private final RestResponseValidatorImpl validator = new RestResponseValidatorImpl();
+
+   private Response response;
+
+   @Setup
+   public void setUp() {
+      response = FakeResponses.ok(FakeResponses.USERS_BODY);
+   }
+
+   @Benchmark
+   public List<AssertionResult<Object>> validateResponse() {
+      // Assertions are built per call, the validator assigns the key of status assertions
+      return validator.validateResponse(response,
+            Assertion.builder().target(RestAssertionTarget.STATUS).type(AssertionTypes.IS).expected(200).build(),
+            Assertion.builder().target(RestAssertionTarget.HEADER).key("X-Request-Id")
+                  .type(AssertionTypes.IS).expected("benchmark").build(),
+            Assertion.builder().target(RestAssertionTarget.BODY).key("data[1].name")
+                  .type(AssertionTypes.IS).expected("Linus").build(),
+            Assertion.builder().target(RestAssertionTarget.BODY).key("data.id")
+                  .type(AssertionTypes.CONTAINS_ALL).expected(List.of(1, 3)).build());
+   }
+
+}
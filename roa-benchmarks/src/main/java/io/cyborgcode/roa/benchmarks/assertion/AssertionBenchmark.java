@@ -0,0 +1,105 @@
+package io.cyborgcode.roa.benchmarks.assertion;
+
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.roa.validator.core.AssertionResult;
+import io.cyborgcode.roa.validator.core.AssertionTarget;
+import io.cyborgcode.roa.validator.core.AssertionTypes;
+import io.cyborgcode.roa.validator.util.AssertionUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AssertionUtil#validate(Map, List)} for every built-in {@link AssertionTypes} value.
+ *
+ * <p>Each type is validated with an actual and expected value for which the assertion passes, so the
+ * measured path is the one taken by green tests.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+
+   private static final String KEY = "value";
+
+   @Param({"IS", "NOT", "CONTAINS", "NOT_NULL", "ALL_NOT_NULL", "IS_NULL", "ALL_NULL", "GREATER_THAN",
+         "LESS_THAN", "CONTAINS_ALL", "CONTAINS_ANY", "STARTS_WITH", "ENDS_WITH", "LENGTH", "MATCHES_REGEX",
+         "EMPTY", "NOT_EMPTY", "BETWEEN", "EQUALS_IGNORE_CASE"})
+   public String type;
+
+   private Map<String, Object> data;
+
+   private List<Assertion> assertions;
+
+   @Setup
+   public void setUp() {
+      AssertionTypes assertionType = AssertionTypes.valueOf(type);
+      Object[] sample = passingSample(assertionType);
+      data = Map.of(KEY, sample[0]);
+      assertions = List.of(Assertion.builder()
+            .target(BenchmarkTarget.VALUE)
+            .key(KEY)
+            .type(assertionType)
+            .expected(sample[1])
+            .build());
+   }
+
+   @Benchmark
+   public List<AssertionResult<Object>> validate() {
+      return AssertionUtil.validate(data, assertions);
+   }
+
+   private static Object[] passingSample(AssertionTypes assertionType) {
+      return switch (assertionType) {
+         case IS -> new Object[] {"ring", "ring"};
+         case NOT -> new Object[] {"ring", "quest"};
+         case CONTAINS -> new Object[] {"ring of automation", "of"};
+         case NOT_NULL -> new Object[] {"ring", true};
+         case ALL_NOT_NULL -> new Object[] {List.of("api", "db", "ui"), true};
+         case IS_NULL -> new Object[] {"ring", false};
+         case ALL_NULL -> new Object[] {List.of("api", "db", "ui"), false};
+         case GREATER_THAN -> new Object[] {10, 5};
+         case LESS_THAN -> new Object[] {5, 10};
+         case CONTAINS_ALL -> new Object[] {List.of("api", "db", "ui"), List.of("api", "ui")};
+         case CONTAINS_ANY -> new Object[] {List.of("api", "db", "ui"), List.of("ui", "mobile")};
+         case STARTS_WITH -> new Object[] {"ring of automation", "ring"};
+         case ENDS_WITH -> new Object[] {"ring of automation", "automation"};
+         case LENGTH -> new Object[] {"ring", 4};
+         case MATCHES_REGEX -> new Object[] {"ring-42", "ring-\\d+"};
+         case EMPTY -> new Object[] {List.of(), true};
+         case NOT_EMPTY -> new Object[] {List.of("api"), true};
+         case BETWEEN -> new Object[] {7, List.of(1, 10)};
+         case EQUALS_IGNORE_CASE -> new Object[] {"Ring", "RING"};
+      };
+   }
+
+   /**
+    * Assertion target of the benchmark assertions.
+    */
+   public enum BenchmarkTarget implements AssertionTarget<BenchmarkTarget> {
+
+      VALUE;
+
+      @Override
+      public BenchmarkTarget target() {
+         return this;
+      }
+   }
+
+}
@@ -0,0 +1,109 @@
+package io.cyborgcode.roa.benchmarks.browser;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Benchmarks wrapped {@link SmartWebElement} actions against the local page {@code pages/element-actions.html}.
+ *
+ * <p>Like every benchmark in the {@code browser} package this one drives a real headless Chrome. The
+ * {@code optimistic} parameter sets {@code element.actions.optimistic}: {@code false} waits for every element to
+ * become clickable before the action, {@code true} attempts the action first and waits only when WebDriver
+ * reports the element as not interactable. JMH runs each parameter value in its own fork, so the property is set
+ * before the configuration is first read.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dwait.duration.in.seconds=5")
+public class ElementActionBenchmark {
+
+   private static final String TEXT = "Ring of Automation";
+
+   @Param({"false", "true"})
+   private String optimistic;
+
+   private Path page;
+   private ChromeDriver chrome;
+   private SmartWebElement increment;
+   private SmartWebElement doubleTarget;
+   private SmartWebElement name;
+   private SmartWebElement late;
+
+   @Setup
+   public void setUp() throws IOException {
+      System.setProperty("element.actions.optimistic", optimistic);
+      page = Files.createTempFile("element-actions", ".html");
+      try (InputStream html = ElementActionBenchmark.class.getResourceAsStream("/pages/element-actions.html")) {
+         if (html == null) {
+            throw new UncheckedIOException(
+                  new IOException("pages/element-actions.html is missing from the classpath"));
+         }
+         Files.copy(html, page, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      chrome = new ChromeDriver(new ChromeOptions().addArguments("--headless=new"));
+      chrome.get(page.toUri().toString());
+      SmartWebDriver driver = new SmartWebDriver(chrome);
+      increment = driver.findSmartElement(By.id("increment"));
+      doubleTarget = driver.findSmartElement(By.id("double-target"));
+      name = driver.findSmartElement(By.id("name"));
+      late = driver.findSmartElement(By.id("late"));
+   }
+
+   @TearDown
+   public void tearDown() throws IOException {
+      if (chrome != null) {
+         chrome.quit();
+      }
+      Files.deleteIfExists(page);
+   }
+
+   @Benchmark
+   public void click() {
+      increment.click();
+   }
+
+   @Benchmark
+   public void doubleClick() {
+      doubleTarget.doubleClick();
+   }
+
+   @Benchmark
+   public void clearAndSendKeys() {
+      name.clearAndSendKeys(TEXT);
+   }
+
+   @Benchmark
+   public void clickElementShownLater() {
+      chrome.executeScript("window.showLater(20);");
+      late.click();
+   }
+
+}
@@ -0,0 +1,123 @@
+package io.cyborgcode.roa.benchmarks.browser;
+
+import io.cyborgcode.roa.ui.selenium.exceptions.UiInteractionException;
+import io.cyborgcode.roa.ui.selenium.shadowroot.ShadowDomUtils;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Benchmarks {@link ShadowDomUtils} lookups against the local deep shadow DOM page {@code pages/deep-shadow.html}.
+ *
+ * <p>Unlike the other benchmarks this one drives a real headless Chrome, so it lives in the {@code browser}
+ * package that the regression gate leaves out by default. Chrome must be installed; Selenium Manager resolves
+ * the matching driver. Every level of the page holds {@code breadth} components and one nested level, each in its
+ * own open shadow root, down to {@code depth} levels.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dwait.duration.in.seconds=5")
+public class ShadowDomLookupBenchmark {
+
+   private static final By DEEP_TARGET = By.id("deep-target");
+   private static final By ITEMS = By.className("item");
+   private static final By MISSING = By.id("missing");
+
+   @Param({"4", "12"})
+   private int depth;
+
+   @Param({"5"})
+   private int breadth;
+
+   private Path page;
+   private ChromeDriver chrome;
+   private SmartWebDriver driver;
+   private int lateElements;
+
+   @Setup
+   public void setUp() throws IOException {
+      page = Files.createTempFile("deep-shadow", ".html");
+      try (InputStream html = ShadowDomLookupBenchmark.class.getResourceAsStream("/pages/deep-shadow.html")) {
+         if (html == null) {
+            throw new UncheckedIOException(new IOException("pages/deep-shadow.html is missing from the classpath"));
+         }
+         Files.copy(html, page, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      chrome = new ChromeDriver(new ChromeOptions().addArguments("--headless=new"));
+      chrome.get(page.toUri() + "?depth=" + depth + "&breadth=" + breadth);
+      new WebDriverWait(chrome, Duration.ofSeconds(10))
+            .until(webDriver -> ((JavascriptExecutor) webDriver).executeScript("return window.deepShadowReady;"));
+      driver = new SmartWebDriver(chrome);
+   }
+
+   @TearDown
+   public void tearDown() throws IOException {
+      if (chrome != null) {
+         chrome.quit();
+      }
+      Files.deleteIfExists(page);
+   }
+
+   @Benchmark
+   public boolean shadowRootElementsPresent() {
+      return ShadowDomUtils.shadowRootElementsPresent(driver);
+   }
+
+   @Benchmark
+   public SmartWebElement findDeepElement() {
+      return ShadowDomUtils.findElementInShadowRoots(driver, DEEP_TARGET);
+   }
+
+   @Benchmark
+   public List<SmartWebElement> findAllItems() {
+      return ShadowDomUtils.findElementsInShadowRoots(driver, ITEMS);
+   }
+
+   @Benchmark
+   public SmartWebElement findMissingElementWithoutWait() {
+      try {
+         return ShadowDomUtils.findElementInShadowRoots(driver, MISSING, 0);
+      } catch (UiInteractionException e) {
+         return null;
+      }
+   }
+
+   @Benchmark
+   public SmartWebElement findElementAddedLater() {
+      String id = "late-" + lateElements++;
+      chrome.executeScript("window.addLateElement(arguments[0]);", id);
+      return ShadowDomUtils.findElementInShadowRoots(driver, By.id(id));
+   }
+
+}
@@ -0,0 +1,60 @@
+package io.cyborgcode.roa.benchmarks.db;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cyborgcode.roa.benchmarks.fixture.SampleUser;
+import io.cyborgcode.roa.db.json.JsonPathExtractor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link JsonPathExtractor#extract(Object, String, Class)} over query results of
+ * {@code rows} records.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathExtractorBenchmark {
+
+   @Param({"1", "100"})
+   public int rows;
+
+   private JsonPathExtractor extractor;
+
+   private Map<String, Object> result;
+
+   @Setup
+   public void setUp() {
+      extractor = new JsonPathExtractor(new ObjectMapper());
+      List<SampleUser> users = IntStream.range(0, rows).mapToObj(SampleUser::of).toList();
+      result = Map.of("rows", users, "count", rows);
+   }
+
+   @Benchmark
+   public String extractScalar() {
+      return extractor.extract(result, "$.rows[0].email", String.class);
+   }
+
+   @Benchmark
+   public List<?> extractList() {
+      return extractor.extract(result, "$.rows[*].name", List.class);
+   }
+
+}
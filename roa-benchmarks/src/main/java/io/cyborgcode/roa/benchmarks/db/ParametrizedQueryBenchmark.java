@@ -0,0 +1,56 @@
+package io.cyborgcode.roa.benchmarks.db;
+
+import io.cyborgcode.roa.benchmarks.fixture.BenchmarkQueries;
+import io.cyborgcode.roa.db.query.DbQuery;
+import io.cyborgcode.roa.db.query.ParametrizedQuery;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks binding parameters into a {@link ParametrizedQuery} and rendering the final SQL.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParametrizedQueryBenchmark {
+
+   private DbQuery<BenchmarkQueries> parametrized;
+
+   @Setup
+   public void setUp() {
+      parametrized = bind();
+   }
+
+   @Benchmark
+   public DbQuery<BenchmarkQueries> bindParameters() {
+      return bind();
+   }
+
+   @Benchmark
+   public String renderQuery() {
+      return parametrized.query();
+   }
+
+   private static DbQuery<BenchmarkQueries> bind() {
+      return BenchmarkQueries.FIND_ORDERS
+            .withParam("userId", 42)
+            .withParam("status", "SHIPPED")
+            .withParam("since", "2024-01-01")
+            .withParam("limit", 50);
+   }
+
+}
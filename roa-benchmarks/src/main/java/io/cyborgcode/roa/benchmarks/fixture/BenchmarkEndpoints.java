@@ -0,0 +1,53 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.http.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoints used by the API benchmarks.
+ *
+ * <p>The base URL is fixed so the benchmarks do not depend on an API configuration file.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum BenchmarkEndpoints implements Endpoint<BenchmarkEndpoints> {
+
+   GET_USER(Method.GET, "/users/{userId}/orders/{orderId}");
+
+   private final Method method;
+
+   private final String url;
+
+   BenchmarkEndpoints(Method method, String url) {
+      this.method = method;
+      this.url = url;
+   }
+
+   @Override
+   public Method method() {
+      return method;
+   }
+
+   @Override
+   public String url() {
+      return url;
+   }
+
+   @Override
+   public BenchmarkEndpoints enumImpl() {
+      return this;
+   }
+
+   @Override
+   public String baseUrl() {
+      return "http://localhost:8080/api";
+   }
+
+   @Override
+   public Map<String, List<String>> headers() {
+      return Map.of("Accept-Language", List.of("en"));
+   }
+
+}
@@ -0,0 +1,17 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+/**
+ * Enum keys used by the storage and report benchmarks.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum BenchmarkKeys {
+
+   API,
+   DB,
+   UI,
+   ARGUMENTS,
+   USER,
+   ORDER
+
+}
@@ -0,0 +1,32 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import io.cyborgcode.roa.db.query.DbQuery;
+
+/**
+ * Queries used by the database benchmarks.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum BenchmarkQueries implements DbQuery<BenchmarkQueries> {
+
+   FIND_ORDERS("SELECT o.id, o.total, o.status FROM orders o JOIN users u ON u.id = o.user_id "
+         + "WHERE u.id = {userId} AND o.status = '{status}' AND o.created_at > '{since}' "
+         + "ORDER BY o.created_at DESC LIMIT {limit}");
+
+   private final String query;
+
+   BenchmarkQueries(String query) {
+      this.query = query;
+   }
+
+   @Override
+   public String query() {
+      return query;
+   }
+
+   @Override
+   public BenchmarkQueries enumImpl() {
+      return this;
+   }
+
+}
@@ -0,0 +1,54 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+/**
+ * Factory of in-memory REST Assured {@link Response} instances used by the benchmarks.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class FakeResponses {
+
+   /**
+    * JSON body shared by the API benchmarks.
+    */
+   public static final String USERS_BODY = """
+         {
+           "page": 1,
+           "total": 3,
+           "data": [
+             {"id": 1, "name": "Ada", "email": "ada@example.com", "roles": ["admin", "user"]},
+             {"id": 2, "name": "Linus", "email": "linus@example.com", "roles": ["user"]},
+             {"id": 3, "name": "Grace", "email": "grace@example.com", "roles": ["user"]}
+           ]
+         }
+         """;
+
+   private FakeResponses() {
+   }
+
+   /**
+    * Builds a {@code 200 OK} JSON response with the given body.
+    *
+    * @param body The JSON body of the response.
+    * @return A response that never touches the network.
+    */
+   public static Response ok(String body) {
+      Response response = new ResponseBuilder()
+            .setStatusCode(200)
+            .setStatusLine("HTTP/1.1 200 OK")
+            .setContentType(ContentType.JSON)
+            .setHeader("X-Request-Id", "benchmark")
+            .setBody(body)
+            .build();
+      if (response instanceof RestAssuredResponseImpl restAssuredResponse) {
+         restAssuredResponse.setConfig(RestAssuredConfig.config());
+      }
+      return response;
+   }
+
+}
@@ -0,0 +1,118 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-memory {@link WebDriver} used by the benchmarks in place of a real browser.
+ *
+ * <p>Every lookup answers immediately with a {@link FakeWebElement} carrying the locator text, and
+ * scripts are answered by a configurable function, so the benchmarks measure the framework code
+ * around the driver and not browser round trips.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+
+   private static final String URL = "about:blank";
+
+   private final Function<String, Object> scriptAnswers;
+
+   /**
+    * Creates a driver whose scripts all return {@code null}.
+    */
+   public FakeWebDriver() {
+      this(script -> null);
+   }
+
+   /**
+    * Creates a driver answering scripts with the given function.
+    *
+    * @param scriptAnswers Maps the executed script source to its result.
+    */
+   public FakeWebDriver(Function<String, Object> scriptAnswers) {
+      this.scriptAnswers = scriptAnswers;
+   }
+
+   @Override
+   public void get(String url) {
+      // Navigation is a no-op
+   }
+
+   @Override
+   public String getCurrentUrl() {
+      return URL;
+   }
+
+   @Override
+   public String getTitle() {
+      return "";
+   }
+
+   @Override
+   public List<WebElement> findElements(By by) {
+      return List.of(new FakeWebElement(by.toString()));
+   }
+
+   @Override
+   public WebElement findElement(By by) {
+      return new FakeWebElement(by.toString());
+   }
+
+   @Override
+   public String getPageSource() {
+      return "";
+   }
+
+   @Override
+   public void close() {
+      // Nothing to release
+   }
+
+   @Override
+   public void quit() {
+      // Nothing to release
+   }
+
+   @Override
+   public Set<String> getWindowHandles() {
+      return Collections.singleton(URL);
+   }
+
+   @Override
+   public String getWindowHandle() {
+      return URL;
+   }
+
+   @Override
+   public TargetLocator switchTo() {
+      throw new UnsupportedOperationException("Switching targets is not supported by the fake driver");
+   }
+
+   @Override
+   public Navigation navigate() {
+      throw new UnsupportedOperationException("Navigation is not supported by the fake driver");
+   }
+
+   @Override
+   public Options manage() {
+      throw new UnsupportedOperationException("Driver options are not supported by the fake driver");
+   }
+
+   @Override
+   public Object executeScript(String script, Object... args) {
+      return scriptAnswers.apply(script);
+   }
+
+   @Override
+   public Object executeAsyncScript(String script, Object... args) {
+      return scriptAnswers.apply(script);
+   }
+
+}
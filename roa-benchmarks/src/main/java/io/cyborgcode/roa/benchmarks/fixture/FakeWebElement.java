@@ -0,0 +1,118 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import java.util.List;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-memory {@link WebElement} returning fixed values without touching a browser.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class FakeWebElement implements WebElement {
+
+   private static final Point LOCATION = new Point(0, 0);
+
+   private static final Dimension SIZE = new Dimension(100, 20);
+
+   private final String text;
+
+   /**
+    * Creates an element exposing the given visible text.
+    *
+    * @param text The text returned by {@link #getText()}.
+    */
+   public FakeWebElement(String text) {
+      this.text = text;
+   }
+
+   @Override
+   public void click() {
+      // Interactions are no-ops
+   }
+
+   @Override
+   public void submit() {
+      // Interactions are no-ops
+   }
+
+   @Override
+   public void sendKeys(CharSequence... keysToSend) {
+      // Interactions are no-ops
+   }
+
+   @Override
+   public void clear() {
+      // Interactions are no-ops
+   }
+
+   @Override
+   public String getTagName() {
+      return "div";
+   }
+
+   @Override
+   public String getAttribute(String name) {
+      return null;
+   }
+
+   @Override
+   public boolean isSelected() {
+      return false;
+   }
+
+   @Override
+   public boolean isEnabled() {
+      return true;
+   }
+
+   @Override
+   public String getText() {
+      return text;
+   }
+
+   @Override
+   public List<WebElement> findElements(By by) {
+      return List.of(new FakeWebElement(by.toString()));
+   }
+
+   @Override
+   public WebElement findElement(By by) {
+      return new FakeWebElement(by.toString());
+   }
+
+   @Override
+   public boolean isDisplayed() {
+      return true;
+   }
+
+   @Override
+   public Point getLocation() {
+      return LOCATION;
+   }
+
+   @Override
+   public Dimension getSize() {
+      return SIZE;
+   }
+
+   @Override
+   public Rectangle getRect() {
+      return new Rectangle(LOCATION, SIZE);
+   }
+
+   @Override
+   public String getCssValue(String propertyName) {
+      return "";
+   }
+
+   @Override
+   public <X> X getScreenshotAs(OutputType<X> target) {
+      throw new UnsupportedOperationException("Screenshots are not supported by the fake element");
+   }
+
+}
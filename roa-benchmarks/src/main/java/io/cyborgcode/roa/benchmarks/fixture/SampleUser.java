@@ -0,0 +1,26 @@
+package io.cyborgcode.roa.benchmarks.fixture;
+
+import java.util.List;
+
+/**
+ * Small domain object stored, serialized and formatted by the benchmarks.
+ *
+ * @param id    The user identifier.
+ * @param name  The display name.
+ * @param email The email address.
+ * @param roles The granted roles.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record SampleUser(int id, String name, String email, List<String> roles) {
+
+   /**
+    * Creates a deterministic user for the given index.
+    *
+    * @param index The index used to derive all field values.
+    * @return A new sample user.
+    */
+   public static SampleUser of(int index) {
+      return new SampleUser(index, "user-" + index, "user-" + index + "@example.com", List.of("user", "tester"));
+   }
+
+}
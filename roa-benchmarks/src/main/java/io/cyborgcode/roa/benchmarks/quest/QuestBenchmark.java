@@ -0,0 +1,96 @@
+package io.cyborgcode.roa.benchmarks.quest;
+
+import io.cyborgcode.roa.framework.chain.FluentService;
+import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks switching between rings with {@link Quest#use(Class)}.
+ *
+ * <p>{@code useRegisteredRing} measures the steady state of a running quest, {@code useBySuperType}
+ * the lookup of a ring through one of its super types, and {@code useOnFreshQuest} the first lookup
+ * on a newly created quest.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestBenchmark {
+
+   private final ApiRing apiRing = new ApiRing();
+
+   private final DbRing dbRing = new DbRing();
+
+   private final UiRing uiRing = new UiRing();
+
+   private Quest quest;
+
+   @Setup
+   public void setUp() {
+      quest = newQuest();
+   }
+
+   @Benchmark
+   public FluentService useRegisteredRing() {
+      return quest.use(DbRing.class);
+   }
+
+   @Benchmark
+   public FluentService useBySuperType() {
+      return quest.use(BaseUiRing.class);
+   }
+
+   @Benchmark
+   public FluentService useOnFreshQuest() {
+      return newQuest().use(UiRing.class);
+   }
+
+   private Quest newQuest() {
+      Quest created = new Quest();
+      SuperQuest superQuest = new SuperQuest(created);
+      superQuest.registerRing(ApiRing.class, apiRing);
+      superQuest.registerRing(DbRing.class, dbRing);
+      superQuest.registerRing(UiRing.class, uiRing);
+      return created;
+   }
+
+   /**
+    * Stand-in for an API ring.
+    */
+   public static class ApiRing extends FluentService {
+   }
+
+   /**
+    * Stand-in for a database ring.
+    */
+   public static class DbRing extends FluentService {
+   }
+
+   /**
+    * Common super type of the UI ring, looked up instead of the concrete ring.
+    */
+   public static class BaseUiRing extends FluentService {
+   }
+
+   /**
+    * Stand-in for a UI ring.
+    */
+   public static class UiRing extends BaseUiRing {
+   }
+
+}
@@ -0,0 +1,161 @@
+package io.cyborgcode.roa.benchmarks.regression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file with a committed baseline and fails on regressions.
+ *
+ * <p>A benchmark regresses when its score is worse than the baseline score by more than the given
+ * threshold: higher for time based modes, lower for throughput. A benchmark missing from the baseline
+ * fails as well, so an empty or outdated baseline cannot let the gate pass, unless missing baselines are
+ * explicitly allowed.
+ *
+ * <p>Usage: {@code BaselineComparator <baseline.json> <result.json> <threshold> [allowMissingBaseline]},
+ * where the threshold is a fraction, for example {@code 0.10} for 10%, and {@code allowMissingBaseline}
+ * defaults to {@code false}. The process exits with status {@code 1} when at least one benchmark regressed
+ * or has no baseline.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BaselineComparator {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+
+   private final double threshold;
+   private final boolean allowMissingBaseline;
+
+   /**
+    * Creates a comparator tolerating the given relative slowdown and failing benchmarks without a baseline.
+    *
+    * @param threshold The tolerated relative difference, for example {@code 0.10} for 10%.
+    * @throws IllegalArgumentException if the threshold is negative.
+    */
+   public BaselineComparator(double threshold) {
+      this(threshold, false);
+   }
+
+   /**
+    * Creates a comparator tolerating the given relative slowdown.
+    *
+    * @param threshold            The tolerated relative difference, for example {@code 0.10} for 10%.
+    * @param allowMissingBaseline Whether benchmarks without a baseline are only reported instead of failing.
+    * @throws IllegalArgumentException if the threshold is negative.
+    */
+   public BaselineComparator(double threshold, boolean allowMissingBaseline) {
+      if (threshold < 0) {
+         throw new IllegalArgumentException("Regression threshold must not be negative: " + threshold);
+      }
+      this.threshold = threshold;
+      this.allowMissingBaseline = allowMissingBaseline;
+   }
+
+   public static void main(String[] args) {
+      if (args.length < 3 || args.length > 4) {
+         System.err.println(
+               "Usage: BaselineComparator <baseline.json> <result.json> <threshold> [allowMissingBaseline]");
+         System.exit(2);
+      }
+      Map<String, BenchmarkScore> baseline = read(Path.of(args[0]));
+      Map<String, BenchmarkScore> results = read(Path.of(args[1]));
+      boolean allowMissingBaseline = args.length == 4 && Boolean.parseBoolean(args[3]);
+      List<String> regressions = new BaselineComparator(Double.parseDouble(args[2]), allowMissingBaseline)
+            .compare(baseline, results);
+
+      if (!regressions.isEmpty()) {
+         System.err.println(regressions.size() + " benchmark(s) regressed beyond the threshold or have no baseline:");
+         regressions.forEach(regression -> System.err.println("  " + regression));
+         System.exit(1);
+      }
+      System.out.println("No benchmark regressed beyond the threshold.");
+   }
+
+   /**
+    * Compares results with the baseline and describes every regression found.
+    *
+    * @param baseline The baseline scores keyed by benchmark id.
+    * @param results  The scores of the current run keyed by benchmark id.
+    * @return Descriptions of the regressed benchmarks and, unless allowed, of the benchmarks without a baseline,
+    *       empty if none were found.
+    */
+   public List<String> compare(Map<String, BenchmarkScore> baseline, Map<String, BenchmarkScore> results) {
+      List<String> regressions = new ArrayList<>();
+      results.forEach((id, current) -> {
+         BenchmarkScore reference = baseline.get(id);
+         if (reference == null) {
+            if (allowMissingBaseline) {
+               System.out.println("No baseline for " + id + ", scored " + format(current));
+            } else {
+               regressions.add(id + ": no baseline recorded, scored " + format(current));
+            }
+            return;
+         }
+         if (!reference.mode().equals(current.mode()) || !reference.unit().equals(current.unit())) {
+            regressions.add(id + ": baseline " + format(reference) + " is not comparable with " + format(current));
+            return;
+         }
+         if (isRegression(reference, current)) {
+            regressions.add(id + ": " + format(current) + " against baseline " + format(reference));
+         } else {
+            System.out.println("OK " + id + ": " + format(current) + " against baseline " + format(reference));
+         }
+      });
+      return regressions;
+   }
+
+   private boolean isRegression(BenchmarkScore reference, BenchmarkScore current) {
+      if (reference.higherIsBetter()) {
+         return current.score() < reference.score() * (1 - threshold);
+      }
+      return current.score() > reference.score() * (1 + threshold);
+   }
+
+   /**
+    * Reads the primary scores from a JMH JSON result file.
+    *
+    * @param file The JMH result file, as written with {@code -rf json}.
+    * @return The scores keyed by benchmark id, in file order.
+    * @throws UncheckedIOException if the file cannot be read or parsed.
+    */
+   public static Map<String, BenchmarkScore> read(Path file) {
+      try {
+         return parse(Files.readString(file));
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to read benchmark results from " + file, e);
+      }
+   }
+
+   /**
+    * Parses the primary scores from JMH JSON result content.
+    *
+    * @param json The JMH JSON result content.
+    * @return The scores keyed by benchmark id, in document order.
+    * @throws IOException if the content is not valid JSON.
+    */
+   public static Map<String, BenchmarkScore> parse(String json) throws IOException {
+      Map<String, BenchmarkScore> scores = new LinkedHashMap<>();
+      for (JsonNode run : MAPPER.readTree(json)) {
+         Map<String, String> params = new LinkedHashMap<>();
+         run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+         String id = BenchmarkScore.id(run.path("benchmark").asText(), params);
+         JsonNode metric = run.path("primaryMetric");
+         scores.put(id, new BenchmarkScore(id, run.path("mode").asText(), metric.path("score").asDouble(),
+               metric.path("scoreUnit").asText()));
+      }
+      return scores;
+   }
+
+   private static String format(BenchmarkScore score) {
+      return String.format(Locale.ROOT, "%.3f %s", score.score(), score.unit());
+   }
+
+}
@@ -0,0 +1,40 @@
+package io.cyborgcode.roa.benchmarks.regression;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Primary score of a single benchmark run, as written by JMH in its JSON result format.
+ *
+ * @param id    The benchmark name followed by its parameters, identifying the score across runs.
+ * @param mode  The JMH mode short label, for example {@code avgt} or {@code thrpt}.
+ * @param score The primary metric score.
+ * @param unit  The unit of the score, for example {@code ns/op}.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record BenchmarkScore(String id, String mode, double score, String unit) {
+
+   /**
+    * Builds the identifier of a benchmark from its name and parameters.
+    *
+    * @param benchmark The fully qualified benchmark method name.
+    * @param params    The benchmark parameters, may be {@code null} or empty.
+    * @return The benchmark name, followed by the parameters sorted by name when present.
+    */
+   public static String id(String benchmark, Map<String, String> params) {
+      if (params == null || params.isEmpty()) {
+         return benchmark;
+      }
+      return benchmark + new TreeMap<>(params);
+   }
+
+   /**
+    * Indicates whether a higher score is better, which is the case for throughput modes only.
+    *
+    * @return {@code true} for the throughput mode, {@code false} for time based modes.
+    */
+   public boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+   }
+
+}
@@ -0,0 +1,62 @@
+package io.cyborgcode.roa.benchmarks.report;
+
+import io.cyborgcode.roa.benchmarks.fixture.BenchmarkKeys;
+import io.cyborgcode.roa.benchmarks.fixture.SampleUser;
+import io.cyborgcode.roa.framework.util.ObjectFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rendering test arguments into the HTML attached to Allure reports.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectFormatterBenchmark {
+
+   @Param({"1", "50"})
+   public int arguments;
+
+   private Map<Enum<?>, List<Object>> data;
+
+   private SampleUser user;
+
+   @Setup
+   public void setUp() {
+      data = new LinkedHashMap<>();
+      data.put(BenchmarkKeys.ARGUMENTS,
+            IntStream.range(0, arguments).mapToObj(i -> (Object) SampleUser.of(i)).toList());
+      data.put(BenchmarkKeys.USER, List.of("plain text", 42, List.of(SampleUser.of(0), SampleUser.of(1))));
+      user = SampleUser.of(0);
+   }
+
+   @Benchmark
+   public String generateHtmlContent() {
+      return ObjectFormatter.generateHtmlContent(data);
+   }
+
+   @Benchmark
+   public String formatObjectFields() {
+      return ObjectFormatter.formatObjectFields(user);
+   }
+
+}
@@ -0,0 +1,77 @@
+package io.cyborgcode.roa.benchmarks.storage;
+
+import io.cyborgcode.roa.benchmarks.fixture.BenchmarkKeys;
+import io.cyborgcode.roa.benchmarks.fixture.SampleUser;
+import io.cyborgcode.roa.framework.storage.Storage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link Storage} operations every quest step goes through.
+ *
+ * <p>The read benchmarks run against a storage pre-filled with {@code depth} values per key, alternating
+ * between two types, so lookups by class have to skip over values of the other type.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+
+   @Param({"1", "16", "128"})
+   public int depth;
+
+   private Storage storage;
+
+   private SampleUser user;
+
+   @Setup
+   public void setUp() {
+      storage = new Storage();
+      user = SampleUser.of(0);
+      for (int i = 0; i < depth; i++) {
+         storage.put(BenchmarkKeys.USER, SampleUser.of(i));
+         storage.put(BenchmarkKeys.USER, "marker-" + i);
+      }
+      storage.sub(BenchmarkKeys.API).put(BenchmarkKeys.ORDER, user);
+   }
+
+   @Benchmark
+   public Storage putIntoFreshStorage() {
+      Storage fresh = new Storage();
+      for (int i = 0; i < depth; i++) {
+         fresh.put(BenchmarkKeys.USER, user);
+      }
+      return fresh;
+   }
+
+   @Benchmark
+   public String getLatest() {
+      return storage.get(BenchmarkKeys.USER, String.class);
+   }
+
+   @Benchmark
+   public SampleUser getByClass() {
+      return storage.getByClass(BenchmarkKeys.USER, SampleUser.class);
+   }
+
+   @Benchmark
+   public SampleUser subThenGet() {
+      return storage.sub(BenchmarkKeys.API).get(BenchmarkKeys.ORDER, SampleUser.class);
+   }
+
+}
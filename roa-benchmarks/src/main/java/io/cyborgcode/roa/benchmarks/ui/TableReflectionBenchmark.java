@@ -0,0 +1,88 @@
+package io.cyborgcode.roa.benchmarks.ui;
+
+import io.cyborgcode.roa.benchmarks.fixture.FakeWebDriver;
+import io.cyborgcode.roa.benchmarks.fixture.FakeWebElement;
+import io.cyborgcode.roa.ui.components.table.model.TableCell;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import io.cyborgcode.roa.ui.util.table.TableReflectionUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the cells of a table row model through {@link TableReflectionUtil}.
+ *
+ * <p>Cells wrap {@link SmartWebElement}s over the in-memory {@link FakeWebDriver}, so no browser is involved.
+ * The wait duration is set for the forked JVM because creating smart elements requires it.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dwait.duration.in.seconds=1")
+public class TableReflectionBenchmark {
+
+   private OrderRow row;
+
+   @Setup
+   public void setUp() {
+      FakeWebDriver driver = new FakeWebDriver();
+      row = new OrderRow(
+            cell(driver, "1001"),
+            cell(driver, "Ada"),
+            cell(driver, "SHIPPED"),
+            List.of(cell(driver, "edit"), cell(driver, "delete"), cell(driver, "details")));
+   }
+
+   @Benchmark
+   public List<String> extractTextsFromRow() {
+      return TableReflectionUtil.extractTextsFromRow(row);
+   }
+
+   @Benchmark
+   public List<SmartWebElement> extractElementsFromRow() {
+      return TableReflectionUtil.extractElementsFromRow(row);
+   }
+
+   private static TableCell cell(FakeWebDriver driver, String text) {
+      return new TableCell(new SmartWebElement(new FakeWebElement(text), driver), text);
+   }
+
+   /**
+    * Row model shaped like the ones used by table components.
+    */
+   @SuppressWarnings("unused")
+   public static class OrderRow {
+
+      private final TableCell id;
+
+      private final String note = "not a cell";
+
+      private final TableCell customer;
+
+      private final TableCell status;
+
+      private final List<TableCell> actions;
+
+      OrderRow(TableCell id, TableCell customer, TableCell status, List<TableCell> actions) {
+         this.id = id;
+         this.customer = customer;
+         this.status = status;
+         this.actions = actions;
+      }
+
+   }
+
+}
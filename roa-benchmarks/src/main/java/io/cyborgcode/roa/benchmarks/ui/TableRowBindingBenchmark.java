@@ -0,0 +1,169 @@
+package io.cyborgcode.roa.benchmarks.ui;
+
+import io.cyborgcode.roa.ui.components.table.model.TableCell;
+import io.cyborgcode.roa.ui.util.table.TableRowBinding;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks binding table rows to a row model, the in-memory part of reading a table.
+ *
+ * <p>Each row is built the way {@code TableImpl} builds it: a row instance per table section, a setter call per
+ * cell, the sections merged into one row, and finally the cell texts extracted as done by table validations.
+ * {@code reflectiveRowBinding} repeats the per-row reflection used before rows were bound through
+ * {@link TableRowBinding}; {@code plannedRowBinding} uses the cached plan. Scores are per row, so the rows per
+ * second are the inverse of the score.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableRowBindingBenchmark {
+
+   private static final int ROWS = 100;
+
+   private final TableCell id = new TableCell("1001");
+
+   private final TableCell customer = new TableCell("Ada");
+
+   private final TableCell status = new TableCell("SHIPPED");
+
+   private final List<TableCell> actions = List.of(new TableCell("edit"), new TableCell("delete"));
+
+   @Benchmark
+   @OperationsPerInvocation(ROWS)
+   public List<List<String>> reflectiveRowBinding() throws ReflectiveOperationException {
+      List<List<String>> texts = new ArrayList<>(ROWS);
+      for (int i = 0; i < ROWS; i++) {
+         OrderRow main = OrderRow.class.getDeclaredConstructor().newInstance();
+         reflectiveSet(main, "setId", id);
+         reflectiveSet(main, "setCustomer", customer);
+         reflectiveSet(main, "setStatus", status);
+         OrderRow details = OrderRow.class.getDeclaredConstructor().newInstance();
+         reflectiveSet(details, "setActions", actions);
+         texts.add(reflectiveTexts(reflectiveMerge(main, details)));
+      }
+      return texts;
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(ROWS)
+   public List<List<String>> plannedRowBinding() throws Throwable {
+      TableRowBinding binding = TableRowBinding.of(OrderRow.class);
+      List<List<String>> texts = new ArrayList<>(ROWS);
+      for (int i = 0; i < ROWS; i++) {
+         Object main = binding.newRow();
+         plannedSet(binding, main, "setId", id);
+         plannedSet(binding, main, "setCustomer", customer);
+         plannedSet(binding, main, "setStatus", status);
+         Object details = binding.newRow();
+         plannedSet(binding, details, "setActions", actions);
+         binding.merge(main, details);
+         texts.add(plannedTexts(binding, main));
+      }
+      return texts;
+   }
+
+   private static void reflectiveSet(Object row, String setterName, Object value) throws ReflectiveOperationException {
+      Class<?> type = value instanceof List ? List.class : value.getClass();
+      Method setter = row.getClass().getDeclaredMethod(setterName, type);
+      setter.invoke(row, value);
+   }
+
+   private static Object reflectiveMerge(Object target, Object source) throws IllegalAccessException {
+      for (Field field : target.getClass().getDeclaredFields()) {
+         field.setAccessible(true);
+         if (field.get(target) == null) {
+            Object value = field.get(source);
+            if (value != null) {
+               field.set(target, value);
+            }
+         }
+      }
+      return target;
+   }
+
+   private static List<String> reflectiveTexts(Object row) throws IllegalAccessException {
+      List<String> texts = new ArrayList<>();
+      for (Field field : row.getClass().getDeclaredFields()) {
+         field.setAccessible(true);
+         collectTexts(field.get(row), texts);
+      }
+      return texts;
+   }
+
+   private static void plannedSet(TableRowBinding binding, Object row, String setterName, Object value)
+         throws Throwable {
+      MethodHandle setter = binding.setter(setterName, value instanceof List ? List.class : value.getClass());
+      setter.invokeExact(row, value);
+   }
+
+   private static List<String> plannedTexts(TableRowBinding binding, Object row) {
+      List<String> texts = new ArrayList<>();
+      for (TableRowBinding.FieldBinding field : binding.cellFields()) {
+         collectTexts(field.get(row), texts);
+      }
+      return texts;
+   }
+
+   private static void collectTexts(Object value, List<String> texts) {
+      if (value instanceof TableCell cell) {
+         texts.add(cell.getText());
+      } else if (value instanceof List<?> cells) {
+         for (Object cell : cells) {
+            texts.add(((TableCell) cell).getText());
+         }
+      }
+   }
+
+   /**
+    * Row model shaped like the ones used by table components.
+    */
+   @SuppressWarnings("unused")
+   public static class OrderRow {
+
+      private TableCell id;
+
+      private TableCell customer;
+
+      private TableCell status;
+
+      private List<TableCell> actions;
+
+      public void setId(TableCell id) {
+         this.id = id;
+      }
+
+      public void setCustomer(TableCell customer) {
+         this.customer = customer;
+      }
+
+      public void setStatus(TableCell status) {
+         this.status = status;
+      }
+
+      public void setActions(List<TableCell> actions) {
+         this.actions = actions;
+      }
+
+   }
+
+}
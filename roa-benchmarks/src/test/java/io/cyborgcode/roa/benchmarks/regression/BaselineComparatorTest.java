@@ -0,0 +1,133 @@
+package io.cyborgcode.roa.benchmarks.regression;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaselineComparatorTest {
+
+    private static final String BENCHMARK = "io.cyborgcode.roa.benchmarks.storage.StorageBenchmark.getLatest";
+
+    @Test
+    @DisplayName("Should parse benchmark ids including sorted parameters from JMH JSON")
+    void testParse_ShouldKeyScoresByBenchmarkAndParams() throws IOException {
+        // Given
+        String json = """
+                [{"benchmark": "%s", "mode": "avgt", "params": {"depth": "16", "alpha": "x"},
+                  "primaryMetric": {"score": 12.5, "scoreUnit": "ns/op"}}]
+                """.formatted(BENCHMARK);
+
+        // When
+        Map<String, BenchmarkScore> scores = BaselineComparator.parse(json);
+
+        // Then
+        String id = BENCHMARK + "{alpha=x, depth=16}";
+        assertEquals(new BenchmarkScore(id, "avgt", 12.5, "ns/op"), scores.get(id));
+    }
+
+    @Test
+    @DisplayName("Should report a time based benchmark slower than the threshold allows")
+    void testCompare_ShouldReportSlowerAverageTime() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 100, "ns/op")),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 111, "ns/op")));
+
+        // Then
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith(BENCHMARK));
+    }
+
+    @Test
+    @DisplayName("Should accept scores within the threshold")
+    void testCompare_ShouldAcceptScoresWithinThreshold() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 100, "ns/op")),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 109, "ns/op")));
+
+        // Then
+        assertTrue(regressions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report a throughput benchmark lower than the threshold allows")
+    void testCompare_ShouldReportLowerThroughput() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "thrpt", 1000, "ops/s")),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "thrpt", 850, "ops/s")));
+
+        // Then
+        assertEquals(1, regressions.size());
+    }
+
+    @Test
+    @DisplayName("Should report benchmarks missing from the baseline")
+    void testCompare_ShouldReportBenchmarksWithoutBaseline() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 100, "ns/op")));
+
+        // Then
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("no baseline recorded"));
+    }
+
+    @Test
+    @DisplayName("Should pass benchmarks missing from the baseline when allowed")
+    void testCompare_ShouldPassBenchmarksWithoutBaselineWhenAllowed() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10, true);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 100, "ns/op")));
+
+        // Then
+        assertTrue(regressions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report scores measured in a different unit than the baseline")
+    void testCompare_ShouldReportIncomparableUnits() {
+        // Given
+        BaselineComparator comparator = new BaselineComparator(0.10);
+
+        // When
+        List<String> regressions = comparator.compare(
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 100, "ns/op")),
+                Map.of(BENCHMARK, new BenchmarkScore(BENCHMARK, "avgt", 0.1, "us/op")));
+
+        // Then
+        assertEquals(1, regressions.size());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative threshold")
+    void testConstructor_ShouldRejectNegativeThreshold() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new BaselineComparator(-0.1));
+    }
+
+}
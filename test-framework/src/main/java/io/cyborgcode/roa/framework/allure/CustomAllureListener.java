@@ -1,9 +1,12 @@
 package io.cyborgcode.roa.framework.allure;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
 import io.qameta.allure.junit5.AllureJunit5;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.UUID;
 
 /**
@@ -24,9 +27,12 @@ import java.util.UUID;
 public class CustomAllureListener extends AllureJunit5 {
 
    /**
-    * Thread-local storage for the current step name.
+    * Thread-local stack of the names of the currently open steps, innermost last.
+    *
+    * <p>Mirrors the thread-bound step stack of the Allure lifecycle, so nested steps and
+    * tests running in parallel on different threads each see their own active step.
     */
-   private static final ThreadLocal<String> STEP_NAME = new ThreadLocal<>();
+   private static final ThreadLocal<Deque<String>> STEP_NAMES = new ThreadLocal<>();
 
    /**
     * Enumeration for defining different step status types in Allure reporting.
@@ -60,6 +66,15 @@ public class CustomAllureListener extends AllureJunit5 {
       ERROR
    }
 
+   /**
+    * A running step or test case other threads can nest their steps under.
+    *
+    * @param testCaseUuid The uuid of the running test case, if known.
+    * @param uuid         The uuid of the parent step or test case.
+    */
+   public record StepParent(String testCaseUuid, String uuid) {
+   }
+
    /**
     * Starts a new step.
     *
@@ -70,12 +85,36 @@ public class CustomAllureListener extends AllureJunit5 {
     * @param type The status type of the step.
     */
    private static void startStep(String name, StatusType type) {
+      startStep(null, name, type);
+   }
+
+   /**
+    * Starts a new step, optionally as a child of an explicit parent.
+    *
+    * @param parent The parent to nest the step under, or {@code null} for the active step of this thread.
+    * @param name   The name of the step.
+    * @param type   The status type of the step.
+    */
+   private static void startStep(StepParent parent, String name, StatusType type) {
       String uuid = UUID.randomUUID().toString();
       StepResult stepResult = new StepResult().setName(name);
       applyStepType(stepResult, type);
 
-      Allure.getLifecycle().startStep(uuid, stepResult);
-      STEP_NAME.set(name);
+      AllureLifecycle lifecycle = Allure.getLifecycle();
+      if (parent == null) {
+         lifecycle.startStep(uuid, stepResult);
+      } else {
+         if (parent.testCaseUuid() != null) {
+            lifecycle.setCurrentTestCase(parent.testCaseUuid());
+         }
+         lifecycle.startStep(parent.uuid(), uuid, stepResult);
+      }
+      Deque<String> stepNames = STEP_NAMES.get();
+      if (stepNames == null) {
+         stepNames = new ArrayDeque<>();
+         STEP_NAMES.set(stepNames);
+      }
+      stepNames.addLast(name);
    }
 
    /**
@@ -96,6 +135,32 @@ public class CustomAllureListener extends AllureJunit5 {
       startStep(stepName, StatusType.DEFAULT);
    }
 
+   /**
+    * Starts a new step on the current thread as a child of a step captured on another thread.
+    *
+    * <p>Used for work handed from the test thread to worker threads, so the steps of every worker are
+    * nested under the step that was active when the work was handed over. Falls back to the active
+    * step of the current thread when no parent is given.
+    *
+    * @param parent   The captured parent step, see {@link #currentStepParent()}.
+    * @param stepName The name of the step.
+    */
+   public static void startStep(StepParent parent, String stepName) {
+      startStep(parent, stepName, StatusType.DEFAULT);
+   }
+
+   /**
+    * Captures the innermost running step, or test case, of the current thread.
+    *
+    * @return The captured parent, or {@code null} if nothing is running on this thread.
+    */
+   public static StepParent currentStepParent() {
+      AllureLifecycle lifecycle = Allure.getLifecycle();
+      return lifecycle.getCurrentTestCaseOrStep()
+            .map(uuid -> new StepParent(lifecycle.getCurrentTestCase().orElse(null), uuid))
+            .orElse(null);
+   }
+
    /**
     * Starts a new step with a custom name and predefined {@link StatusType}.
     *
@@ -108,10 +173,18 @@ public class CustomAllureListener extends AllureJunit5 {
 
    /**
     * Stops the most recently started step.
+    *
+    * <p>The enclosing step, if any, becomes the active step again.
     */
    public static void stopStep() {
       Allure.getLifecycle().stopStep();
-      STEP_NAME.remove();
+      Deque<String> stepNames = STEP_NAMES.get();
+      if (stepNames != null) {
+         stepNames.pollLast();
+         if (stepNames.isEmpty()) {
+            STEP_NAMES.remove();
+         }
+      }
    }
 
    /**
@@ -121,7 +194,7 @@ public class CustomAllureListener extends AllureJunit5 {
     * @return {@code true} if the specified step with name is active, otherwise {@code false}.
     */
    public static boolean isStepActive(String stepName) {
-      return stepName.equals(STEP_NAME.get());
+      return stepName.equals(getActiveStepName());
    }
 
    /**
@@ -130,7 +203,8 @@ public class CustomAllureListener extends AllureJunit5 {
     * @return active step name.
     */
    public static String getActiveStepName() {
-      return STEP_NAME.get();
+      Deque<String> stepNames = STEP_NAMES.get();
+      return stepNames == null ? null : stepNames.peekLast();
    }
 
    /**
@@ -38,7 +38,12 @@ public enum StepType {
    /**
     * Represents the pre-processing journey for a specific request.
     */
-   PROCESSING_PRE_QUEST("Processing preQuestJourney");
+   PROCESSING_PRE_QUEST("Processing preQuestJourney"),
+
+   /**
+    * Represents a pre-quest journey executed concurrently with other journeys of the same order.
+    */
+   PRE_QUEST_BRANCH("Pre-Quest Branch");
 
    /**
     * The display name of the step type, used in Allure reports.
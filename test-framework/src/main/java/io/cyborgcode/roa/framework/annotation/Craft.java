@@ -29,4 +29,16 @@ public @interface Craft {
     */
    String model();
 
+   /**
+    * Indicates whether a {@code Late} argument is created in the background as soon as the test starts.
+    *
+    * <p>The argument is still handed to the test as a {@code Late}; its {@code create()} waits for the
+    * background creation and returns the same object on every call. Only use it for data that does not
+    * depend on anything the test or its journeys set up first. Has no effect on eagerly created arguments,
+    * which are prefetched when {@code craft.prefetch.enabled} is set.
+    *
+    * @return {@code true} if the {@code Late} argument is prefetched.
+    */
+   boolean prefetch() default false;
+
 }
@@ -52,4 +52,18 @@ public @interface Journey {
     */
    int order() default 0;
 
+   /**
+    * Specifies how long the outcome of the journey is reused.
+    *
+    * <p>With {@link JourneyScope#CLASS} or {@link JourneyScope#RUN} the journey runs only for the first test
+    * requesting it with the same {@link #journeyData()}; later tests receive a copy of the storage entries it
+    * produced, including the resolved {@code PRE_ARGUMENTS}. The stored objects themselves are shared between
+    * those tests and must be treated as read-only. Only storage is seeded, so journeys preparing other state,
+    * such as a browser session, must keep the default scope. A failed journey is not remembered and runs again
+    * for the next test.
+    *
+    * @return The reuse scope of the journey.
+    */
+   JourneyScope scope() default JourneyScope.TEST;
+
 }
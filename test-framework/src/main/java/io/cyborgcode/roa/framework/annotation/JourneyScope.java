@@ -0,0 +1,29 @@
+package io.cyborgcode.roa.framework.annotation;
+
+/**
+ * Defines how long the outcome of a {@link Journey} is reused.
+ *
+ * <p>By default a journey runs before every test that declares it. With {@link #CLASS} or {@link #RUN}
+ * the journey runs once for each distinct combination of journey name and {@link JourneyData} values,
+ * and every later test is seeded with a copy of the storage entries the first execution produced.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum JourneyScope {
+
+   /**
+    * The journey runs before every test that declares it.
+    */
+   TEST,
+
+   /**
+    * The journey runs once per test class; its outcome is discarded when the class finishes.
+    */
+   CLASS,
+
+   /**
+    * The journey runs once per test run; its outcome is shared by all test classes.
+    */
+   RUN
+
+}
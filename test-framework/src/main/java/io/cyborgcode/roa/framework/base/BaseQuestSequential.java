@@ -3,9 +3,10 @@ package io.cyborgcode.roa.framework.base;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.test.annotation.DirtiesContext;
 
 /**
  * Base test class for sequential test execution.
@@ -14,11 +15,14 @@ import org.springframework.test.annotation.DirtiesContext;
  * within a single instance using the {@code PER_CLASS} lifecycle.
  * It also provides before-all and after-all lifecycle hooks for test setup and cleanup.
  *
+ * <p>The Spring context is shared with all other test classes. Class-level state stays isolated because each
+ * test class instance is injected with its own prototype-scoped {@link Services}.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Component
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
 public class BaseQuestSequential extends BaseQuest {
 
    /**
@@ -1,12 +1,14 @@
 package io.cyborgcode.roa.framework.base;
 
 import io.cyborgcode.roa.framework.log.LogQuest;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import static io.cyborgcode.utilities.reflections.ReflectionUtil.getFieldValues;
@@ -19,10 +21,15 @@ import static io.cyborgcode.utilities.reflections.ReflectionUtil.getFieldValues;
  *
  * <p>Services are lazily initialized and stored in an internal cache to optimize performance.
  *
+ * <p>The bean is prototype-scoped: every {@link BaseQuestSequential} test class receives its own instance, so the
+ * services it resolves in its class-level hooks are not shared with other test classes running on the same
+ * cached Spring context.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Component
 @Lazy
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class Services {
 
    /**
@@ -31,9 +38,9 @@ public class Services {
    private final ApplicationContext applicationContext;
 
    /**
-    * Cache for storing retrieved service instances.
+    * Cache for storing retrieved service instances, safe for quests running in parallel.
     */
-   private final Map<Class<?>, Object> serviceCache = new HashMap<>();
+   private final Map<Class<?>, Object> serviceCache = new ConcurrentHashMap<>();
 
    /**
     * Constructs a new {@code Services} instance with the provided application context.
@@ -49,7 +56,8 @@ public class Services {
     * Retrieves a service instance for the specified fluent service class and service type.
     *
     * <p>If the requested service is not already cached, it is retrieved from the application context
-    * and stored for future access.
+    * and stored for future access. The bean lookup runs outside the cache, so concurrent callers never
+    * block each other; if two of them race, the first stored instance wins.
     *
     * @param fluentServiceClass The class representing the fluent service.
     * @param serviceClass       The type of service to retrieve.
@@ -60,22 +68,30 @@ public class Services {
     */
    public <T extends ClassLevelHook, K> K service(Class<T> fluentServiceClass, Class<K> serviceClass) {
 
-      return serviceClass.cast(serviceCache.computeIfAbsent(serviceClass, key -> {
-         ClassLevelHook fluentService = applicationContext.getBeansOfType(ClassLevelHook.class)
-               .values().stream()
-               .filter(fluent -> fluent.getClass().equals(fluentServiceClass))
-               .findFirst()
-               .orElseThrow(() -> new IllegalStateException(
-                     "No bean found for the specified fluentServiceClass: " + fluentServiceClass.getName()));
+      Object cached = serviceCache.get(serviceClass);
+      if (cached != null) {
+         return serviceClass.cast(cached);
+      }
+
+      ClassLevelHook fluentService = applicationContext.getBeansOfType(ClassLevelHook.class)
+            .values().stream()
+            .filter(fluent -> fluent.getClass().equals(fluentServiceClass))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                  "No bean found for the specified fluentServiceClass: " + fluentServiceClass.getName()));
 
-         List<K> fieldValues = getFieldValues(fluentService, serviceClass);
-         if (fieldValues.size() > 1) {
-            LogQuest.warn(
-                  "There is more than one service from type: {} inside class: {}. The first one will be taken: {}",
-                  serviceClass, fluentServiceClass, fieldValues.get(0));
-         }
-         return fieldValues.get(0);
-      }));
+      List<K> fieldValues = getFieldValues(fluentService, serviceClass);
+      if (fieldValues.size() > 1) {
+         LogQuest.warn(
+               "There is more than one service from type: {} inside class: {}. The first one will be taken: {}",
+               serviceClass, fluentServiceClass, fieldValues.get(0));
+      }
+      K service = fieldValues.get(0);
+      if (service == null) {
+         return null;
+      }
+      Object existing = serviceCache.putIfAbsent(serviceClass, service);
+      return existing != null ? serviceClass.cast(existing) : service;
    }
 
 }
@@ -102,4 +102,16 @@ public class FluentService implements FluentChain {
       //can override for specific services
    }
 
+   /**
+    * Hook method invoked before an artifact of the given type is read from the fields of this service.
+    *
+    * <p>Services creating their artifacts on first access override it to create those of the requested type,
+    * so that {@link Quest} finds them when reading the fields.
+    *
+    * @param artifactType The class type of the requested artifact.
+    */
+   protected void prepareArtifact(Class<?> artifactType) {
+      //can override for services with lazy artifacts
+   }
+
 }
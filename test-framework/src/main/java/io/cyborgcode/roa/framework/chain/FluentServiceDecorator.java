@@ -58,4 +58,14 @@ public final class FluentServiceDecorator extends FluentService {
    public void postQuestSetupInitialization() {
       fluentService.postQuestSetupInitialization();
    }
+
+   /**
+    * Prepares the artifacts of the given type by delegating to the wrapped service.
+    *
+    * @param artifactType The class type of the requested artifact.
+    */
+   @Override
+   public void prepareArtifact(Class<?> artifactType) {
+      fluentService.prepareArtifact(artifactType);
+   }
 }
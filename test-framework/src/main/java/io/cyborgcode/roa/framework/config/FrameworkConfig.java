@@ -43,4 +43,215 @@ public interface FrameworkConfig extends Config {
    @Key("test.env")
    String testEnv();
 
+   /**
+    * Indicates whether the log events of each test are captured in memory for the Allure report.
+    *
+    * <p>When disabled, the logs attached to the report are filtered from the log file instead.
+    *
+    * @return {@code true} if in-memory log capture is enabled.
+    */
+   @Key("log.capture.enabled")
+   @DefaultValue("true")
+   boolean logCaptureEnabled();
+
+   /**
+    * Retrieves the maximum number of log events kept in memory per test.
+    *
+    * <p>Once the limit is reached, the oldest events of the test are dropped.
+    *
+    * @return The per-test log capture capacity.
+    */
+   @Key("log.capture.max.events")
+   @DefaultValue("5000")
+   int logCaptureMaxEvents();
+
+   /**
+    * Retrieves the Log4j pattern used to render captured log events.
+    *
+    * @return The log capture layout pattern.
+    */
+   @Key("log.capture.pattern")
+   @DefaultValue("%d{HH:mm:ss.SSS} [%t] %-5level %logger{1} [scenario=%X{testName}] - %msg")
+   String logCapturePattern();
+
+   /**
+    * Indicates whether test details and test data are added to the Allure description only for failed tests.
+    *
+    * <p>Skips rendering the description HTML for passing tests, which keeps teardown cheap on large suites.
+    *
+    * @return {@code true} if the description is rendered only for failed tests.
+    */
+   @Key("report.details.on.failure.only")
+   @DefaultValue("false")
+   boolean reportDetailsOnFailureOnly();
+
+   /**
+    * Retrieves the preset used to size parallel test execution.
+    *
+    * <p>One of {@code CPU_BOUND}, {@code IO_BOUND} or {@code UI}; applies when parallel execution uses
+    * {@code QuestParallelExecutionStrategy}.
+    *
+    * @return The parallel execution preset name.
+    */
+   @Key("parallel.preset")
+   @DefaultValue("CPU_BOUND")
+   String parallelPreset();
+
+   /**
+    * Retrieves the exact number of tests to run concurrently.
+    *
+    * <p>Overrides {@link #parallelPreset()} when positive.
+    *
+    * @return The parallel thread count, or {@code 0} to derive it from the preset.
+    */
+   @Key("parallel.threads")
+   @DefaultValue("0")
+   int parallelThreads();
+
+   /**
+    * Indicates whether the duration of every executed test is recorded in the duration history file.
+    *
+    * <p>The history is used by {@code DurationShardFilter} to balance test shards across CI nodes.
+    *
+    * @return {@code true} if test durations are recorded.
+    */
+   @Key("duration.history.enabled")
+   @DefaultValue("true")
+   boolean durationHistoryEnabled();
+
+   /**
+    * Retrieves the path of the file holding the recorded test durations.
+    *
+    * @return The duration history file path, relative to the working directory unless absolute.
+    */
+   @Key("duration.history.file")
+   @DefaultValue("target/test-durations.txt")
+   String durationHistoryFile();
+
+   /**
+    * Retrieves the zero-based index of the shard executed by this run.
+    *
+    * @return The shard index, between {@code 0} and {@link #shardTotal()} exclusive.
+    */
+   @Key("shard.index")
+   @DefaultValue("0")
+   int shardIndex();
+
+   /**
+    * Retrieves the number of shards the test suite is split into.
+    *
+    * <p>Sharding is disabled when the total is {@code 1}.
+    *
+    * @return The total number of shards.
+    */
+   @Key("shard.total")
+   @DefaultValue("1")
+   int shardTotal();
+
+   /**
+    * Indicates whether {@code @Journey} preconditions sharing the same order run concurrently.
+    *
+    * <p>Journeys with the same order must then be independent of each other. Groups of different orders
+    * still run one after another, in ascending order.
+    *
+    * @return {@code true} if journeys of the same order run concurrently.
+    */
+   @Key("journey.parallel.enabled")
+   @DefaultValue("false")
+   boolean journeyParallelEnabled();
+
+   /**
+    * Retrieves the maximum number of journeys executed concurrently across all running tests.
+    *
+    * @return The size of the journey thread pool.
+    */
+   @Key("journey.parallel.threads")
+   @DefaultValue("4")
+   int journeyParallelThreads();
+
+   /**
+    * Indicates whether eagerly created {@code @Craft} arguments are created in the background.
+    *
+    * <p>When enabled, the arguments of a test are created concurrently as soon as the test starts,
+    * overlapping with quest creation and driver startup.
+    *
+    * @return {@code true} if {@code @Craft} arguments are prefetched.
+    */
+   @Key("craft.prefetch.enabled")
+   @DefaultValue("false")
+   boolean craftPrefetchEnabled();
+
+   /**
+    * Retrieves the maximum number of {@code @Craft} arguments created concurrently across all running tests.
+    *
+    * @return The size of the argument prefetch thread pool.
+    */
+   @Key("craft.prefetch.threads")
+   @DefaultValue("4")
+   int craftPrefetchThreads();
+
+   /**
+    * Indicates whether class-level hooks sharing the same order run concurrently.
+    *
+    * <p>Applies to {@code @ApiHook} and {@code @DbHook}. Hooks of different orders always run one group
+    * after the other.
+    *
+    * @return {@code true} if hooks of the same order run concurrently.
+    */
+   @Key("hooks.parallel.enabled")
+   @DefaultValue("false")
+   boolean hooksParallelEnabled();
+
+   /**
+    * Retrieves the maximum number of hooks executed concurrently across all running test classes.
+    *
+    * @return The size of the hook thread pool.
+    */
+   @Key("hooks.parallel.threads")
+   @DefaultValue("4")
+   int hooksParallelThreads();
+
+   /**
+    * Indicates whether the framework phases of every test are recorded in a timeline.
+    *
+    * <p>Each test gets its timeline attached to the report, and the timelines of the whole run are written
+    * to a Chrome trace-event file.
+    *
+    * @return {@code true} if framework phase timelines are recorded.
+    */
+   @Key("timeline.enabled")
+   @DefaultValue("false")
+   boolean timelineEnabled();
+
+   /**
+    * Retrieves the path of the Chrome trace-event file holding the timelines of the run.
+    *
+    * @return The trace file path, relative to the working directory unless absolute.
+    */
+   @Key("timeline.trace.file")
+   @DefaultValue("target/roa-trace.json")
+   String timelineTraceFile();
+
+   /**
+    * Indicates whether a Java Flight Recorder recording is started for the test run.
+    *
+    * <p>The recording uses the JDK {@code default} settings together with every
+    * {@code META-INF/roa/flight-recorder.jfc} profile found on the classpath, which enable the framework
+    * events of the ROA libraries.
+    *
+    * @return {@code true} if the test run is recorded.
+    */
+   @Key("jfr.enabled")
+   @DefaultValue("false")
+   boolean jfrEnabled();
+
+   /**
+    * Retrieves the path of the flight recording written at the end of the test run.
+    *
+    * @return The recording file path, relative to the working directory unless absolute.
+    */
+   @Key("jfr.file")
+   @DefaultValue("target/roa.jfr")
+   String jfrFile();
+
 }
@@ -18,7 +18,7 @@ public class FrameworkConfigHolder {
    /**
     * Cached instance of the framework configuration.
     */
-   private static FrameworkConfig config;
+   private static volatile FrameworkConfig config;
 
    private FrameworkConfigHolder() {
    }
@@ -1,7 +1,14 @@
 package io.cyborgcode.roa.framework.decorators;
 
-import java.util.IdentityHashMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,20 +17,40 @@ import org.springframework.stereotype.Component;
  * <p>This class provides a mechanism to dynamically apply decorators to objects at runtime,
  * ensuring that the same decorated instance is reused whenever possible.
  *
- * <p>The factory maintains a cache of decorated objects using an {@code IdentityHashMap},
- * allowing efficient retrieval of previously created decorators. It uses reflection
- * to instantiate decorators by searching for a constructor that accepts the target
- * object's class or its superclass.
+ * <p>The factory maintains a concurrent cache of decorated objects keyed by the identity of the
+ * original object. Both the original object and its decorator are held weakly, so entries disappear
+ * once a quest and its services are no longer in use; {@link #release(Object)} drops an entry eagerly.
+ * Decorator constructors accepting the target object's class or its superclass are resolved once per
+ * (target class, decorator class) pair into {@link MethodHandle}s.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Component
 public class DecoratorsFactory {
 
+   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+   private static final MethodType DECORATOR_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+   /**
+    * Decorator constructors resolved per target class, keyed by decorator class.
+    */
+   private static final ClassValue<Map<Class<?>, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+      @Override
+      protected Map<Class<?>, MethodHandle> computeValue(Class<?> type) {
+         return new ConcurrentHashMap<>();
+      }
+   };
+
    /**
     * Cache for storing decorated instances mapped to their original objects.
     */
-   private final Map<Object, Object> cache = new IdentityHashMap<>();
+   private final Map<TargetKey, WeakReference<Object>> cache = new ConcurrentHashMap<>();
+
+   /**
+    * Queue receiving keys whose original objects have been garbage collected.
+    */
+   private final ReferenceQueue<Object> collectedTargets = new ReferenceQueue<>();
 
    /**
     * Decorates a given target object with the specified decorator class.
@@ -44,39 +71,116 @@ public class DecoratorsFactory {
       if (target == null) {
          return null;
       }
+      expungeCollectedTargets();
 
-      if (cache.containsKey(target) && cache.get(target).getClass().equals(decoratorClass)) {
-         return (K) cache.get(target);
+      WeakReference<Object> cachedReference = cache.get(new TargetKey(target, null));
+      Object cached = cachedReference == null ? null : cachedReference.get();
+      if (cached != null && cached.getClass().equals(decoratorClass)) {
+         return (K) cached;
       }
 
-      K decorator;
+      K decorator = createDecorator(target, decoratorClass);
+      cache.put(new TargetKey(target, collectedTargets), new WeakReference<>(decorator));
+      return decorator;
+   }
+
+   /**
+    * Removes the cached decorator of the given object.
+    *
+    * <p>Called once the owning quest has ended so that its decorated instances are dropped right away.
+    *
+    * @param target The original object whose decorator should be released.
+    */
+   public void release(Object target) {
+      if (target != null) {
+         cache.remove(new TargetKey(target, null));
+      }
+      expungeCollectedTargets();
+   }
+
+   private <K> K createDecorator(Object target, Class<K> decoratorClass) {
+      MethodHandle constructor = CONSTRUCTORS.get(target.getClass())
+            .computeIfAbsent(decoratorClass, type -> resolveConstructor(target.getClass(), type));
       try {
-         decorator = decoratorClass
-               .getDeclaredConstructor(target.getClass())
-               .newInstance(target);
+         return decoratorClass.cast((Object) constructor.invokeExact(target));
+      } catch (Error e) {
+         throw e;
+      } catch (Throwable e) {
+         throw new IllegalStateException(
+               "Failed to create decorator " + decoratorClass.getName()
+                     + " for object " + target.getClass().getName(),
+               e
+         );
+      }
+   }
+
+   private static MethodHandle resolveConstructor(Class<?> targetClass, Class<?> decoratorClass) {
+      try {
+         return LOOKUP.unreflectConstructor(findConstructorAccepting(targetClass, decoratorClass))
+               .asType(DECORATOR_CONSTRUCTOR_TYPE);
+      } catch (ReflectiveOperationException e) {
+         throw new IllegalStateException(
+               "Failed to create decorator " + decoratorClass.getName()
+                     + " for object " + targetClass.getName(),
+               e
+         );
+      }
+   }
+
+   private static Constructor<?> findConstructorAccepting(Class<?> targetClass, Class<?> decoratorClass) {
+      try {
+         return decoratorClass.getDeclaredConstructor(targetClass);
       } catch (NoSuchMethodException e) {
          try {
-            decorator = decoratorClass
-                  .getDeclaredConstructor(target.getClass().getSuperclass())
-                  .newInstance(target);
-         } catch (ReflectiveOperationException e2) {
+            return decoratorClass.getDeclaredConstructor(targetClass.getSuperclass());
+         } catch (NoSuchMethodException e2) {
             throw new IllegalStateException(
                   "Failed to create decorator. "
                         + "No matching constructor found for " + decoratorClass.getName()
-                        + " with " + target.getClass().getName()
-                        + " or its superclass: " + target.getClass().getSuperclass().getName(),
+                        + " with " + targetClass.getName()
+                        + " or its superclass: " + targetClass.getSuperclass().getName(),
                   e2
             );
          }
-      } catch (ReflectiveOperationException e) {
-         throw new IllegalStateException(
-               "Failed to create decorator " + decoratorClass.getName()
-                     + " for object " + target.getClass().getName(),
-               e
-         );
       }
+   }
 
-      cache.put(target, decorator);
-      return decorator;
+   private void expungeCollectedTargets() {
+      Reference<?> collected;
+      while ((collected = collectedTargets.poll()) != null) {
+         cache.remove(collected);
+      }
    }
-}
\ No newline at end of file
+
+   /**
+    * Weak cache key comparing original objects by identity.
+    */
+   private static final class TargetKey extends WeakReference<Object> {
+
+      private final int hash;
+
+      private TargetKey(Object target, ReferenceQueue<Object> queue) {
+         super(target, queue);
+         this.hash = System.identityHashCode(target);
+      }
+
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object other) {
+         if (this == other) {
+            return true;
+         }
+         if (!(other instanceof TargetKey)) {
+            return false;
+         }
+         Object target = get();
+         return target != null && target == ((TargetKey) other).get();
+      }
+
+   }
+
+}
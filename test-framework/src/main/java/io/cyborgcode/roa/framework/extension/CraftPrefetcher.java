@@ -0,0 +1,121 @@
+package io.cyborgcode.roa.framework.extension;
+
+import io.cyborgcode.roa.framework.annotation.Craft;
+import io.cyborgcode.roa.framework.log.LogQuest;
+import io.cyborgcode.roa.framework.log.TestLogCapture;
+import io.cyborgcode.roa.framework.parallel.ParallelTasks;
+import io.cyborgcode.roa.framework.parameters.DataForge;
+import io.cyborgcode.roa.framework.parameters.Late;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
+import io.cyborgcode.roa.framework.util.AllureStepHelper;
+import io.cyborgcode.utilities.reflections.ReflectionUtil;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Starts creating {@code @Craft} arguments in the background before JUnit resolves the test method parameters.
+ *
+ * <p>Invoked before each test, while the quest, its rings and, for UI tests, the browser are not created yet.
+ * Eager arguments are prefetched when {@code craft.prefetch.enabled} is set; {@link Late} arguments only when
+ * their {@link Craft#prefetch()} attribute asks for it. Each argument is created on a bounded thread pool and
+ * parked in the extension store of the test until {@link Craftsman} resolves the parameter. The log context of
+ * the background work is tagged with the name and capture id of the test, which are not set on the calling thread
+ * yet.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class CraftPrefetcher {
+
+   private CraftPrefetcher() {
+   }
+
+   /**
+    * Starts creating the prefetchable {@code @Craft} arguments of the test method.
+    *
+    * @param extensionContext The context of the test about to run.
+    */
+   static void prefetch(ExtensionContext extensionContext) {
+      Method testMethod = extensionContext.getTestMethod().orElse(null);
+      if (testMethod == null) {
+         return;
+      }
+      boolean prefetchEager = getFrameworkConfig().craftPrefetchEnabled();
+      Parameter[] parameters = testMethod.getParameters();
+      Map<String, String> logContext = new HashMap<>(ThreadContext.getImmutableContext());
+      logContext.put("testName", AllureStepHelper.testName(extensionContext));
+      logContext.put(TestLogCapture.CAPTURE_ID_KEY, extensionContext.getUniqueId());
+
+      for (int index = 0; index < parameters.length; index++) {
+         Craft craft = parameters[index].getAnnotation(Craft.class);
+         if (craft == null) {
+            continue;
+         }
+         boolean isLate = parameters[index].getType().isAssignableFrom(Late.class);
+         if (isLate ? !craft.prefetch() : !prefetchEager) {
+            continue;
+         }
+
+         DataForge<?> dataForge = ReflectionUtil.findEnumImplementationsOfInterface(
+               DataForge.class, craft.model(), getFrameworkConfig().projectPackages());
+         Late<Object> creator = dataForge.dataCreator();
+         CompletableFuture<Object> argument = CompletableFuture.supplyAsync(() -> {
+            ThreadContext.putAll(logContext);
+            try (PhaseTimeline.Span span = PhaseTimeline.span("Craft prefetch: " + craft.model())) {
+               LogQuest.extended("Prefetching data for: {}", craft.model());
+               return creator.create();
+            } finally {
+               ThreadContext.clearMap();
+            }
+         }, ParallelTasks.daemonPool("craft", getFrameworkConfig()::craftPrefetchThreads));
+         store(extensionContext).put(index, argument);
+      }
+   }
+
+   /**
+    * Takes the prefetched argument of a test method parameter.
+    *
+    * @param extensionContext The context of the running test.
+    * @param index            The index of the test method parameter.
+    * @return The argument being created, or {@code null} if the parameter was not prefetched.
+    */
+   @SuppressWarnings("unchecked")
+   static CompletableFuture<Object> take(ExtensionContext extensionContext, int index) {
+      return store(extensionContext).remove(index, CompletableFuture.class);
+   }
+
+   /**
+    * Waits for a prefetched argument.
+    *
+    * @param argument The argument being created.
+    * @return The created argument.
+    * @throws RuntimeException The failure of the data creator, unwrapped.
+    */
+   static Object await(CompletableFuture<Object> argument) {
+      try {
+         return argument.join();
+      } catch (CompletionException e) {
+         Throwable cause = e.getCause();
+         if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+         }
+         if (cause instanceof Error error) {
+            throw error;
+         }
+         throw new IllegalStateException("Failed to create prefetched data", cause);
+      }
+   }
+
+   private static ExtensionContext.Store store(ExtensionContext extensionContext) {
+      return extensionContext.getStore(
+            ExtensionContext.Namespace.create(Craftsman.class, extensionContext.getUniqueId()));
+   }
+
+}
@@ -5,7 +5,11 @@ import io.cyborgcode.roa.framework.log.LogQuest;
 import io.cyborgcode.roa.framework.parameters.DataForge;
 import io.cyborgcode.roa.framework.parameters.Late;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
@@ -27,9 +31,24 @@ import static io.cyborgcode.roa.framework.util.TestContextManager.storeArgument;
  * The created objects are injected into the test method at runtime, allowing
  * seamless data provisioning for test cases.
  *
+ * <p>Arguments can also be created in the background before the parameters are resolved,
+ * see {@link CraftPrefetcher}. Prefetched arguments are stored exactly like synchronously created ones.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
-public class Craftsman implements ParameterResolver {
+public class Craftsman implements ParameterResolver, BeforeEachCallback {
+
+   /**
+    * Starts creating the prefetchable {@code @Craft} arguments of the test before its parameters are resolved.
+    *
+    * @param extensionContext The context of the test about to run.
+    */
+   @Override
+   public void beforeEach(final ExtensionContext extensionContext) {
+      try (PhaseTimeline.Span span = PhaseTimeline.span(extensionContext, "Craftsman: prefetch")) {
+         CraftPrefetcher.prefetch(extensionContext);
+      }
+   }
 
    /**
     * Determines whether the parameter is eligible for resolution by checking
@@ -67,7 +86,10 @@ public class Craftsman implements ParameterResolver {
       Class<?> parameterType = parameterContext.getParameter().getType();
       boolean isLateResolution = parameterType.isAssignableFrom(Late.class);
 
-      return resolveParameterInternal(parameterContext, extensionContext, isLateResolution);
+      try (PhaseTimeline.Span span = PhaseTimeline.span(extensionContext,
+            "Craftsman: " + parameterContext.getParameter().getName())) {
+         return resolveParameterInternal(parameterContext, extensionContext, isLateResolution);
+      }
    }
 
    private Object resolveParameterInternal(ParameterContext parameterContext,
@@ -80,7 +102,14 @@ public class Craftsman implements ParameterResolver {
 
          DataForge<?> dataForge = ReflectionUtil.findEnumImplementationsOfInterface(
                DataForge.class, craft.model(), getFrameworkConfig().projectPackages());
-         Object argument = isLate ? dataForge.dataCreator() : dataForge.dataCreator().create();
+         CompletableFuture<Object> prefetched = takePrefetched(parameterContext, extensionContext);
+         Object argument;
+         if (prefetched != null) {
+            Late<Object> prefetchedLate = () -> CraftPrefetcher.await(prefetched);
+            argument = isLate ? prefetchedLate : prefetchedLate.create();
+         } else {
+            argument = isLate ? dataForge.dataCreator() : dataForge.dataCreator().create();
+         }
 
          storeArgument(superQuest, dataForge, argument, extensionContext);
 
@@ -91,4 +120,13 @@ public class Craftsman implements ParameterResolver {
       }
    }
 
+   private static CompletableFuture<Object> takePrefetched(ParameterContext parameterContext,
+                                                           ExtensionContext extensionContext) {
+      Method testMethod = extensionContext.getTestMethod().orElse(null);
+      if (testMethod == null || !testMethod.equals(parameterContext.getDeclaringExecutable())) {
+         return null;
+      }
+      return CraftPrefetcher.take(extensionContext, parameterContext.getIndex());
+   }
+
 }
\ No newline at end of file
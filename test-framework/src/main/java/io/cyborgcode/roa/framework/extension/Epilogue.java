@@ -1,8 +1,12 @@
 package io.cyborgcode.roa.framework.extension;
 
 import io.cyborgcode.roa.framework.allure.CustomAllureListener;
+import io.cyborgcode.roa.framework.log.TestLogCapture;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.shard.DurationHistory;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
+import io.cyborgcode.roa.framework.util.AllureStepHelper;
 import io.cyborgcode.roa.framework.util.ObjectFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import static io.cyborgcode.roa.framework.allure.StepType.TEAR_DOWN;
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
 import static io.cyborgcode.roa.framework.storage.StoreKeys.HTML;
 import static io.cyborgcode.roa.framework.storage.StoreKeys.START_TIME;
 import static io.cyborgcode.roa.framework.util.AllureStepHelper.attachFilteredLogsToAllure;
@@ -21,6 +26,7 @@ import static io.cyborgcode.roa.framework.util.AllureStepHelper.logTestOutcome;
 import static io.cyborgcode.roa.framework.util.AllureStepHelper.setDescription;
 import static io.cyborgcode.roa.framework.util.AllureStepHelper.setUpTestMetadata;
 import static io.cyborgcode.roa.framework.util.TestContextManager.getSuperQuest;
+import static io.cyborgcode.roa.framework.util.TestContextManager.releaseQuest;
 
 /**
  * JUnit 5 {@code AfterTestExecutionCallback} extension for logging test outcomes and attaching logs to Allure reports.
@@ -33,6 +39,14 @@ import static io.cyborgcode.roa.framework.util.TestContextManager.getSuperQuest;
  * If logs cannot be retrieved, a fallback message is added to Allure.
  * </p>
  *
+ * <p>The test duration is also recorded in the {@link DurationHistory}, which balances test shards
+ * across CI nodes.
+ * </p>
+ *
+ * <p>When {@code timeline.enabled} is set, the framework phase timeline of the test, including this
+ * reporting phase, is finished here and attached to the report, see {@link PhaseTimeline}.
+ * </p>
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Order(Integer.MAX_VALUE)
@@ -45,40 +59,67 @@ public class Epilogue implements AfterTestExecutionCallback {
     */
    @Override
    public void afterTestExecution(final ExtensionContext context) {
+      try (PhaseTimeline.Span span = PhaseTimeline.span(context, "Epilogue")) {
+         report(context);
+      }
+      PhaseTimeline.finish(context).ifPresent(AllureStepHelper::attachPhaseTimeline);
+   }
+
+   /**
+    * Logs the test outcome, attaches the test details and logs to Allure and releases the quest.
+    *
+    * @param context The test execution context.
+    */
+   private static void report(final ExtensionContext context) {
       ExtensionContext.Store globalStore = context.getStore(ExtensionContext.Namespace.GLOBAL);
       if (!Objects.equals(CustomAllureListener.getActiveStepName(), TEAR_DOWN.getDisplayName())) {
          CustomAllureListener.stopStep();
       }
-      setUpTestMetadata(context);
-      SuperQuest superQuest = getSuperQuest(context);
-      Map<Enum<?>, List<Object>> arguments = superQuest.getStorage().sub(StorageKeysTest.ARGUMENTS).getData();
-      String htmlContent = ObjectFormatter.generateHtmlContent(arguments);
-      List<String> htmlList = globalStore.get(HTML, List.class);
-
-      if (htmlList == null) {
-         htmlList = new ArrayList<>();
-      }
-      htmlList.add(htmlContent);
-      globalStore.put(HTML, htmlList);
-
       Throwable throwable = context.getExecutionException().orElse(null);
+      if (throwable != null || !getFrameworkConfig().reportDetailsOnFailureOnly()) {
+         addTestDetails(context, globalStore);
+      }
       String status = throwable == null ? "SUCCESS" : "FAILED";
 
       Long startTime = globalStore.get(START_TIME, Long.class);
-      long durationInSeconds = startTime == null
-            ? 0L
-            : (System.currentTimeMillis() - startTime) / 1000;
+      long durationInMillis = startTime == null ? 0L : System.currentTimeMillis() - startTime;
+      long durationInSeconds = durationInMillis / 1000;
+      if (startTime != null && getFrameworkConfig().durationHistoryEnabled()) {
+         DurationHistory.record(context.getUniqueId(), durationInMillis);
+      }
 
       logTestOutcome(context.getDisplayName(), status, durationInSeconds, throwable);
       if (!CustomAllureListener.isStepActive(TEAR_DOWN.getDisplayName())) {
          CustomAllureListener.stopStep();
          CustomAllureListener.startStep(TEAR_DOWN);
       }
-      attachFilteredLogsToAllure(ThreadContext.get("testName"));
+      attachFilteredLogsToAllure(ThreadContext.get("testName"), ThreadContext.get(TestLogCapture.CAPTURE_ID_KEY));
       ThreadContext.remove("testName");
+      ThreadContext.remove(TestLogCapture.CAPTURE_ID_KEY);
       setDescription(context);
       if (CustomAllureListener.isStepActive(TEAR_DOWN.getDisplayName())) {
          CustomAllureListener.stopStep();
       }
+      releaseQuest(context);
+   }
+
+   /**
+    * Adds the rendered test metadata and test data HTML to the list used for the Allure description.
+    *
+    * @param context     The test execution context.
+    * @param globalStore The global store holding the HTML list.
+    */
+   private static void addTestDetails(ExtensionContext context, ExtensionContext.Store globalStore) {
+      setUpTestMetadata(context);
+      SuperQuest superQuest = getSuperQuest(context);
+      Map<Enum<?>, List<Object>> arguments = superQuest.getStorage().sub(StorageKeysTest.ARGUMENTS).getData();
+      String htmlContent = ObjectFormatter.generateHtmlContent(arguments);
+      List<String> htmlList = globalStore.get(HTML, List.class);
+
+      if (htmlList == null) {
+         htmlList = new ArrayList<>();
+      }
+      htmlList.add(htmlContent);
+      globalStore.put(HTML, htmlList);
    }
 }
@@ -4,21 +4,28 @@ import io.cyborgcode.roa.framework.allure.CustomAllureListener;
 import io.cyborgcode.roa.framework.allure.StepType;
 import io.cyborgcode.roa.framework.annotation.Journey;
 import io.cyborgcode.roa.framework.annotation.JourneyData;
+import io.cyborgcode.roa.framework.annotation.JourneyScope;
 import io.cyborgcode.roa.framework.decorators.DecoratorsFactory;
 import io.cyborgcode.roa.framework.log.LogQuest;
 import io.cyborgcode.roa.framework.parameters.DataForge;
 import io.cyborgcode.roa.framework.parameters.PreQuestJourney;
 import io.cyborgcode.roa.framework.quest.Quest;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import io.cyborgcode.roa.framework.util.ObjectFormatter;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import io.qameta.allure.Allure;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
@@ -39,10 +46,20 @@ import static io.cyborgcode.roa.framework.storage.StoreKeys.QUEST;
  * into the test execution context.
  * </p>
  *
+ * <p>Journeys declared with a {@link JourneyScope#CLASS} or {@link JourneyScope#RUN} scope are executed only
+ * once per scope; later tests are seeded with the storage entries of that execution, see {@link JourneyMemo}.
+ * Journeys memoized per class are forgotten once the class finishes.
+ * </p>
+ *
+ * <p>With {@code journey.parallel.enabled}, journeys sharing the same {@code order} form a group whose journeys
+ * run concurrently against the same quest, see {@link JourneyGroupExecutor}. Groups run one after another in
+ * ascending order, each one waiting for the previous group to complete.
+ * </p>
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Order(Integer.MAX_VALUE)
-public class Initiator implements InvocationInterceptor {
+public class Initiator implements InvocationInterceptor, AfterAllCallback {
 
    /**
     * Intercepts test method execution to process {@code @PreQuest} preconditions.
@@ -72,7 +89,14 @@ public class Initiator implements InvocationInterceptor {
          if (!CustomAllureListener.isStepActive(StepType.PROCESSING_PRE_QUESTS.getDisplayName())) {
             CustomAllureListener.startStep(StepType.PROCESSING_PRE_QUESTS);
          }
-         sortedPreQuestAnnotations.forEach(preQuest -> processPreQuest(preQuest, superQuest));
+         Class<?> testClass = extensionContext.getTestClass().orElse(null);
+         try (PhaseTimeline.Span span = PhaseTimeline.span(extensionContext, "Initiator: journeys")) {
+            if (getFrameworkConfig().journeyParallelEnabled()) {
+               runJourneyGroups(sortedPreQuestAnnotations, superQuest, testClass);
+            } else {
+               sortedPreQuestAnnotations.forEach(preQuest -> runJourney(preQuest, superQuest, testClass));
+            }
+         }
          if (CustomAllureListener.isStepActive(StepType.PROCESSING_PRE_QUESTS.getDisplayName())) {
             CustomAllureListener.stopStep();
          }
@@ -83,6 +107,16 @@ public class Initiator implements InvocationInterceptor {
       invocation.proceed();
    }
 
+   /**
+    * Forgets the journeys memoized for the finished test class.
+    *
+    * @param extensionContext Context of the finished test class.
+    */
+   @Override
+   public void afterAll(ExtensionContext extensionContext) {
+      extensionContext.getTestClass().ifPresent(JourneyMemo::evict);
+   }
+
    /**
     * Retrieves and sorts {@code @Journey} annotations based on their execution order.
     *
@@ -96,12 +130,82 @@ public class Initiator implements InvocationInterceptor {
    }
 
    /**
-    * Processes a single {@code @Journey} annotation, resolving and executing its precondition logic.
+    * Runs the journeys group by group, running the journeys of one {@code order} concurrently.
+    *
+    * <p>Memoized journeys of a group run first on the test thread, so the storage values they record
+    * are not mixed with values stored by concurrent branches.
+    *
+    * @param sortedJourneys The journeys sorted by order.
+    * @param superQuest     The test execution context enriched with preconditions.
+    * @param testClass      The test class declaring the journeys.
+    */
+   private void runJourneyGroups(List<Journey> sortedJourneys, SuperQuest superQuest, Class<?> testClass) {
+      Map<Integer, List<Journey>> groups = sortedJourneys.stream()
+            .collect(Collectors.groupingBy(Journey::order, LinkedHashMap::new, Collectors.toList()));
+
+      for (List<Journey> group : groups.values()) {
+         List<Journey> branches = new ArrayList<>();
+         for (Journey journey : group) {
+            if (journey.scope() == JourneyScope.TEST) {
+               branches.add(journey);
+            } else {
+               runJourney(journey, superQuest, testClass);
+            }
+         }
+         if (branches.size() == 1) {
+            processPreQuest(branches.get(0), superQuest);
+         } else if (!branches.isEmpty()) {
+            JourneyGroupExecutor.runAll(branches,
+                  journey -> StepType.PRE_QUEST_BRANCH.getDisplayName() + ": " + journey.value(),
+                  journey -> processPreQuest(journey, superQuest));
+         }
+      }
+   }
+
+   /**
+    * Runs a single {@code @Journey}, or seeds the quest with its memoized outcome when its scope allows reuse.
+    *
+    * @param preQuest   The {@code @Journey} annotation representing the precondition.
+    * @param superQuest The test execution context enriched with preconditions.
+    * @param testClass  The test class declaring the journey.
+    */
+   private void runJourney(Journey preQuest, SuperQuest superQuest, Class<?> testClass) {
+      if (preQuest.scope() == JourneyScope.TEST) {
+         processPreQuest(preQuest, superQuest);
+         return;
+      }
+      boolean executed = JourneyMemo.runOnce(JourneyMemo.key(preQuest, testClass), superQuest.getStorage(),
+            () -> processPreQuest(preQuest, superQuest));
+      if (!executed) {
+         String stepName = StepType.PROCESSING_PRE_QUEST.getDisplayName() + ": " + preQuest.value()
+               + " (reused, scope " + preQuest.scope() + ")";
+         CustomAllureListener.startStep(stepName);
+         LogQuest.extended("Seeded storage from the memoized journey: {}", preQuest.value());
+         if (CustomAllureListener.isStepActive(stepName)) {
+            CustomAllureListener.stopStep();
+         }
+      }
+   }
+
+   /**
+    * Processes a single {@code @Journey} annotation, recording it as a phase of the test timeline.
     *
     * @param preQuest   The {@code @Journey} annotation representing the precondition.
     * @param superQuest The test execution context enriched with preconditions.
     */
    private void processPreQuest(Journey preQuest, SuperQuest superQuest) {
+      try (PhaseTimeline.Span span = PhaseTimeline.span("Journey: " + preQuest.value())) {
+         processPreQuestJourney(preQuest, superQuest);
+      }
+   }
+
+   /**
+    * Resolves and executes the precondition logic of a single {@code @Journey} annotation.
+    *
+    * @param preQuest   The {@code @Journey} annotation representing the precondition.
+    * @param superQuest The test execution context enriched with preconditions.
+    */
+   private void processPreQuestJourney(Journey preQuest, SuperQuest superQuest) {
       String journey = preQuest.value();
       JourneyData[] journeyData = preQuest.journeyData();
 
@@ -0,0 +1,76 @@
+package io.cyborgcode.roa.framework.extension;
+
+import io.cyborgcode.roa.framework.allure.CustomAllureListener;
+import io.cyborgcode.roa.framework.allure.CustomAllureListener.StepParent;
+import io.cyborgcode.roa.framework.parallel.ParallelTasks;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Runs a group of independent journeys concurrently on a bounded thread pool shared by all tests.
+ *
+ * <p>Every journey of the group runs as a branch on its own worker thread. The worker inherits the Log4j
+ * {@code ThreadContext} and the {@link QuestHolder} quest of the test thread, and reports its steps under a
+ * dedicated branch step nested in the step that was active on the test thread, so the Allure report keeps
+ * one subtree per branch.
+ *
+ * <p>Branches are run and awaited by {@link ParallelTasks}, so the group completes only once every branch
+ * finished and a failure of the branch declared first is the one thrown.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class JourneyGroupExecutor {
+
+   private JourneyGroupExecutor() {
+   }
+
+   /**
+    * Runs the action for every item concurrently on the shared journey thread pool and waits for all of them.
+    *
+    * @param items      The independent items to process, in declaration order.
+    * @param branchName The name of the Allure step wrapping the branch of an item.
+    * @param action     The action to run for each item.
+    * @param <T>        The type of the items.
+    */
+   static <T> void runAll(List<T> items, Function<T, String> branchName, Consumer<T> action) {
+      runAll(items, branchName, action,
+            ParallelTasks.daemonPool("journey", getFrameworkConfig()::journeyParallelThreads));
+   }
+
+   /**
+    * Runs the action for every item concurrently on the given executor and waits for all of them.
+    *
+    * @param items      The independent items to process, in declaration order.
+    * @param branchName The name of the Allure step wrapping the branch of an item.
+    * @param action     The action to run for each item.
+    * @param executor   The executor running the branches.
+    * @param <T>        The type of the items.
+    */
+   static <T> void runAll(List<T> items, Function<T, String> branchName, Consumer<T> action, Executor executor) {
+      SuperQuest quest = QuestHolder.get();
+      StepParent parent = CustomAllureListener.currentStepParent();
+      ParallelTasks.runAll(items, item -> runBranch(item, branchName.apply(item), action, quest, parent), executor,
+            "Journey branch failed");
+   }
+
+   private static <T> void runBranch(T item, String stepName, Consumer<T> action, SuperQuest quest,
+                                     StepParent parent) {
+      QuestHolder.set(quest);
+      CustomAllureListener.startStep(parent, stepName);
+      try {
+         action.accept(item);
+      } finally {
+         while (CustomAllureListener.getActiveStepName() != null) {
+            CustomAllureListener.stopStep();
+         }
+         QuestHolder.clear();
+      }
+   }
+
+}
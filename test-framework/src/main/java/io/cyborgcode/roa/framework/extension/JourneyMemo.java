@@ -0,0 +1,122 @@
+package io.cyborgcode.roa.framework.extension;
+
+import io.cyborgcode.roa.framework.annotation.Journey;
+import io.cyborgcode.roa.framework.annotation.JourneyData;
+import io.cyborgcode.roa.framework.annotation.JourneyScope;
+import io.cyborgcode.roa.framework.storage.Storage;
+import io.cyborgcode.roa.framework.storage.StorageDelta;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the storage entries produced by journeys with a {@link JourneyScope#CLASS} or
+ * {@link JourneyScope#RUN} scope.
+ *
+ * <p>The first test requesting a journey executes it and records the values it added to the quest storage.
+ * Tests requesting the same journey concurrently wait for that execution instead of starting their own,
+ * and every later test receives a copy of the recorded values. A failed execution is forgotten: waiting tests
+ * and later tests execute the journey again themselves.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class JourneyMemo {
+
+   private static final Map<Key, CompletableFuture<StorageDelta>> RESULTS = new ConcurrentHashMap<>();
+
+   private JourneyMemo() {
+   }
+
+   /**
+    * Builds the memoization key of a journey.
+    *
+    * @param journey   The journey annotation, with a scope other than {@link JourneyScope#TEST}.
+    * @param testClass The test class requesting the journey, used for {@link JourneyScope#CLASS}.
+    * @return The key identifying the journey within its scope.
+    */
+   static Key key(Journey journey, Class<?> testClass) {
+      String owner = journey.scope() == JourneyScope.CLASS && testClass != null ? testClass.getName() : "";
+      List<String> data = Arrays.stream(journey.journeyData())
+            .map(JourneyMemo::describe)
+            .toList();
+      return new Key(journey.scope(), owner, journey.value(), data);
+   }
+
+   /**
+    * Executes the journey for the first test requesting it and seeds the storage of every later test.
+    *
+    * @param key       The memoization key of the journey.
+    * @param storage   The storage of the current quest.
+    * @param execution The journey execution, storing its results into {@code storage}.
+    * @return {@code true} if the journey was executed, {@code false} if the storage was seeded from
+    *     a previous execution.
+    */
+   static boolean runOnce(Key key, Storage storage, Runnable execution) {
+      while (true) {
+         CompletableFuture<StorageDelta> created = new CompletableFuture<>();
+         CompletableFuture<StorageDelta> existing = RESULTS.putIfAbsent(key, created);
+         if (existing == null) {
+            execute(key, created, storage, execution);
+            return true;
+         }
+         StorageDelta delta = existing.join();
+         if (delta != null) {
+            delta.applyTo(storage);
+            return false;
+         }
+      }
+   }
+
+   /**
+    * Forgets all journeys memoized for the given test class.
+    *
+    * @param testClass The finished test class.
+    */
+   static void evict(Class<?> testClass) {
+      String owner = testClass.getName();
+      RESULTS.keySet().removeIf(key -> key.scope() == JourneyScope.CLASS && key.owner().equals(owner));
+   }
+
+   /**
+    * Forgets all memoized journeys.
+    */
+   static void clear() {
+      RESULTS.clear();
+   }
+
+   /**
+    * Executes the journey and publishes the storage values it added, or {@code null} when it failed.
+    */
+   private static void execute(Key key, CompletableFuture<StorageDelta> result, Storage storage,
+                               Runnable execution) {
+      StorageDelta delta = null;
+      try {
+         StorageDelta.Mark mark = StorageDelta.mark(storage);
+         execution.run();
+         delta = StorageDelta.since(mark, storage);
+      } finally {
+         if (delta == null) {
+            RESULTS.remove(key, result);
+         }
+         result.complete(delta);
+      }
+   }
+
+   private static String describe(JourneyData journeyData) {
+      return journeyData.late() ? journeyData.value() + " (late)" : journeyData.value();
+   }
+
+   /**
+    * Identifies a memoized journey.
+    *
+    * @param scope       The reuse scope of the journey.
+    * @param owner       The test class name for {@link JourneyScope#CLASS}, empty otherwise.
+    * @param journey     The journey name.
+    * @param journeyData The journey data the journey is executed with.
+    */
+   record Key(JourneyScope scope, String owner, String journey, List<String> journeyData) {
+   }
+
+}
@@ -10,6 +10,7 @@ import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.framework.storage.Storage;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
 import io.cyborgcode.roa.framework.storage.StoreKeys;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
@@ -73,6 +74,18 @@ public class Oracle implements ParameterResolver {
    @Override
    public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext)
          throws ParameterResolutionException {
+      try (PhaseTimeline.Span span = PhaseTimeline.span(extensionContext, "Oracle: quest creation")) {
+         return createQuest(extensionContext);
+      }
+   }
+
+   /**
+    * Creates and decorates the quest of a test, then hands it to the registered quest consumers.
+    *
+    * @param extensionContext The context of the test execution.
+    * @return The created {@code Quest} instance.
+    */
+   private static Quest createQuest(final ExtensionContext extensionContext) {
       ApplicationContext appCtx = SpringExtension.getApplicationContext(extensionContext);
       QuestFactory questFactory = appCtx.getBean(QuestFactory.class);
       DecoratorsFactory decoratorsFactory = appCtx.getBean(DecoratorsFactory.class);
@@ -89,8 +102,10 @@ public class Oracle implements ParameterResolver {
       @SuppressWarnings("unchecked")
       List<Consumer<SuperQuest>> consumers = (List<Consumer<SuperQuest>>) store.get(StoreKeys.QUEST_CONSUMERS);
       if (Objects.nonNull(consumers)) {
-         consumers.forEach(
-               questConsumer -> questConsumer.accept(decoratorsFactory.decorate(quest, SuperQuest.class)));
+         try (PhaseTimeline.Span span = PhaseTimeline.span(extensionContext, "Oracle: quest consumers")) {
+            consumers.forEach(
+                  questConsumer -> questConsumer.accept(decoratorsFactory.decorate(quest, SuperQuest.class)));
+         }
       }
       return quest;
    }
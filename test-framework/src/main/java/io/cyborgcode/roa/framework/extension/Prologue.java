@@ -1,10 +1,12 @@
 package io.cyborgcode.roa.framework.extension;
 
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import static io.cyborgcode.roa.framework.util.AllureStepHelper.initializeTestEnvironment;
+import static io.cyborgcode.roa.framework.util.AllureStepHelper.prepareTestMetadata;
 import static io.cyborgcode.roa.framework.util.AllureStepHelper.setupTestContext;
 
 /**
@@ -28,14 +30,18 @@ public class Prologue implements BeforeTestExecutionCallback {
     *     <li>Extracts and logs the test class and method names.</li>
     *     <li>Assigns a unique identifier to the test execution context.</li>
     *     <li>Stores the test start time for later use in reporting.</li>
+    *     <li>Starts rendering the test metadata for the report in the background.</li>
     * </ul>
     *
     * @param context The test execution context containing metadata about the test.
     */
    @Override
    public void beforeTestExecution(final ExtensionContext context) {
-      initializeTestEnvironment();
-      setupTestContext(context);
+      try (PhaseTimeline.Span span = PhaseTimeline.span(context, "Prologue")) {
+         initializeTestEnvironment();
+         setupTestContext(context);
+         prepareTestMetadata(context);
+      }
    }
 
 }
\ No newline at end of file
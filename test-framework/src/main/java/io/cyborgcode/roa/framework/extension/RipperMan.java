@@ -7,6 +7,7 @@ import io.cyborgcode.roa.framework.parameters.DataRipper;
 import io.cyborgcode.roa.framework.quest.Quest;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import java.util.Arrays;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -41,7 +42,9 @@ public class RipperMan implements AfterTestExecutionCallback {
       context.getTestMethod().ifPresent(method -> {
          Ripper annotation = method.getAnnotation(Ripper.class);
          if (annotation != null) {
-            executeRipperLogic(context, annotation.targets());
+            try (PhaseTimeline.Span span = PhaseTimeline.span(context, "RipperMan")) {
+               executeRipperLogic(context, annotation.targets());
+            }
          }
       });
    }
@@ -0,0 +1,76 @@
+package io.cyborgcode.roa.framework.hooks;
+
+import io.cyborgcode.roa.framework.parallel.ParallelTasks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Runs class-level hooks group by group, where a group is made of the hooks sharing the same order value.
+ *
+ * <p>Groups run one after the other in ascending order, each acting as a barrier for the next one. Hooks
+ * of the same group are independent by contract, so when {@code hooks.parallel.enabled} is set they run
+ * concurrently through {@link ParallelTasks} on a bounded thread pool shared by all test classes; otherwise, or
+ * when a group holds a single hook, they run one by one on the calling thread in declaration order.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class HookGroupRunner {
+
+   private HookGroupRunner() {
+   }
+
+   /**
+    * Runs the hooks group by group on the shared hook thread pool.
+    *
+    * @param hooks  The hooks to run, in declaration order.
+    * @param order  The order value of a hook.
+    * @param action The action executing a single hook.
+    * @param <T>    The type of the hooks.
+    */
+   public static <T> void run(List<T> hooks, ToIntFunction<T> order, Consumer<T> action) {
+      Map<Integer, List<T>> groups = group(hooks, order);
+      boolean parallel = groups.values().stream().anyMatch(group -> group.size() > 1)
+            && getFrameworkConfig().hooksParallelEnabled();
+      runGroups(groups, action,
+            parallel ? ParallelTasks.daemonPool("hook", getFrameworkConfig()::hooksParallelThreads) : null);
+   }
+
+   /**
+    * Runs the hooks group by group, executing the hooks of a group concurrently on the given executor.
+    *
+    * @param hooks    The hooks to run, in declaration order.
+    * @param order    The order value of a hook.
+    * @param action   The action executing a single hook.
+    * @param executor The executor running the hooks of a group, or {@code null} to run them one by one.
+    * @param <T>      The type of the hooks.
+    */
+   static <T> void run(List<T> hooks, ToIntFunction<T> order, Consumer<T> action, Executor executor) {
+      runGroups(group(hooks, order), action, executor);
+   }
+
+   private static <T> Map<Integer, List<T>> group(List<T> hooks, ToIntFunction<T> order) {
+      Map<Integer, List<T>> groups = new TreeMap<>();
+      for (T hook : hooks) {
+         groups.computeIfAbsent(order.applyAsInt(hook), key -> new ArrayList<>()).add(hook);
+      }
+      return groups;
+   }
+
+   private static <T> void runGroups(Map<Integer, List<T>> groups, Consumer<T> action, Executor executor) {
+      for (List<T> group : groups.values()) {
+         if (executor == null || group.size() == 1) {
+            group.forEach(action);
+         } else {
+            ParallelTasks.runAll(group, action, executor, "Hook execution failed");
+         }
+      }
+   }
+
+}
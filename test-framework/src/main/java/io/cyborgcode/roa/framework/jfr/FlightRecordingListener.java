@@ -0,0 +1,106 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Records the test run with Java Flight Recorder when {@code jfr.enabled} is set.
+ *
+ * <p>The recording combines the JDK {@code default} settings with every
+ * {@code META-INF/roa/flight-recorder.jfc} profile on the classpath. Each ROA library ships such a profile
+ * enabling its own events, so the recording contains the REST, database, UI and framework events of
+ * whichever libraries the project uses. The recording is written to {@code jfr.file} once the test plan
+ * finished.
+ *
+ * <p>Registered through {@code META-INF/services}, so the JUnit Platform launcher picks it up
+ * automatically. Failing to record never fails the test run; it is only logged.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class FlightRecordingListener implements TestExecutionListener {
+
+   /**
+    * Classpath location of the settings profiles shipped by the ROA libraries.
+    */
+   static final String PROFILE = "META-INF/roa/flight-recorder.jfc";
+
+   private Recording recording;
+
+   /**
+    * Starts the recording before any test is executed.
+    *
+    * @param testPlan The test plan about to be executed.
+    */
+   @Override
+   public void testPlanExecutionStarted(TestPlan testPlan) {
+      if (!getFrameworkConfig().jfrEnabled()) {
+         return;
+      }
+      Path file = Path.of(getFrameworkConfig().jfrFile()).toAbsolutePath();
+      try {
+         Files.createDirectories(file.getParent());
+         Recording started = new Recording(settings(FlightRecordingListener.class.getClassLoader()));
+         started.setName("roa");
+         started.setDestination(file);
+         started.start();
+         recording = started;
+      } catch (IOException | ParseException | IllegalStateException e) {
+         LogQuest.warn("Flight recording could not be started: {}", e.getMessage());
+      }
+   }
+
+   /**
+    * Stops the recording and writes it once all tests have been executed.
+    *
+    * @param testPlan The executed test plan.
+    */
+   @Override
+   public void testPlanExecutionFinished(TestPlan testPlan) {
+      if (recording == null) {
+         return;
+      }
+      try (Recording finished = recording) {
+         finished.stop();
+         LogQuest.info("Flight recording written to '{}'.", finished.getDestination());
+      } catch (IllegalStateException e) {
+         LogQuest.warn("Flight recording could not be saved: {}", e.getMessage());
+      } finally {
+         recording = null;
+      }
+   }
+
+   /**
+    * Combines the JDK {@code default} settings with the ROA profiles visible to a class loader.
+    *
+    * @param classLoader The class loader to look up the profiles with.
+    * @return The recording settings.
+    * @throws IOException    If a profile cannot be read.
+    * @throws ParseException If a profile is not a valid settings file.
+    */
+   static Map<String, String> settings(ClassLoader classLoader) throws IOException, ParseException {
+      Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+      for (URL profile : Collections.list(classLoader.getResources(PROFILE))) {
+         try (Reader reader = new InputStreamReader(profile.openStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+         }
+      }
+      return settings;
+   }
+
+}
@@ -0,0 +1,58 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * Java Flight Recorder event for a framework phase of a test, such as quest creation, data crafting, a journey
+ * or reporting.
+ *
+ * <p>Phases are the spans of the {@code PhaseTimeline}; they are recorded as events independently of
+ * {@code timeline.enabled}. The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(QuestPhaseEvent.NAME)
+@Label("Quest Phase")
+@Category({"Ring of Automation", "Framework"})
+@Description("A framework phase of a test")
+@Enabled(false)
+@StackTrace(false)
+public final class QuestPhaseEvent extends Event {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.framework.QuestPhase";
+
+   @Label("Test")
+   private String test;
+
+   @Label("Phase")
+   private String phase;
+
+   /**
+    * Starts a phase event of the test bound to the current thread.
+    *
+    * @param phase The name of the phase.
+    * @return The started event, or {@code null} if no recording wants the event.
+    */
+   public static QuestPhaseEvent start(String phase) {
+      QuestPhaseEvent event = new QuestPhaseEvent();
+      if (!event.isEnabled()) {
+         return null;
+      }
+      event.test = ThreadContext.get("testName");
+      event.phase = phase;
+      event.begin();
+      return event;
+   }
+
+}
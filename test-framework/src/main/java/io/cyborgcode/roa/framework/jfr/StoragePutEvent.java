@@ -0,0 +1,57 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a value stored in a {@code Storage}, recording how large the storage grows.
+ *
+ * <p>The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}. Its fields are only filled in once {@link #shouldCommit()}
+ * confirms a recording wants the event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(StoragePutEvent.NAME)
+@Label("Storage Put")
+@Category({"Ring of Automation", "Framework"})
+@Description("A value stored in the storage of a quest")
+@Enabled(false)
+@StackTrace(false)
+public final class StoragePutEvent extends Event {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.framework.StoragePut";
+
+   @Label("Key")
+   private String key;
+
+   @Label("Values For Key")
+   @Description("Values stored under the key, including the new one")
+   private int values;
+
+   @Label("Keys")
+   @Description("Keys held by the storage")
+   private int keys;
+
+   /**
+    * Describes the stored value.
+    *
+    * @param key    The key the value was stored under.
+    * @param values The number of values stored under the key.
+    * @param keys   The number of keys held by the storage.
+    */
+   public void describe(Enum<?> key, int values, int keys) {
+      this.key = key.getDeclaringClass().getSimpleName() + "." + key.name();
+      this.values = values;
+      this.keys = keys;
+   }
+
+}
@@ -1,6 +1,8 @@
 package io.cyborgcode.roa.framework.log;
 
 import io.cyborgcode.utilities.logging.LogCore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Provides structured logging utilities for test execution.
@@ -19,14 +21,29 @@ import io.cyborgcode.utilities.logging.LogCore;
  */
 public final class LogQuest extends LogCore {
 
-   private static LogQuest instance;
+   private static final String LOGGER_NAME = "ROA.TEST";
+
+   private static final Logger LEVEL_LOGGER = LogManager.getLogger(LOGGER_NAME);
+
+   private static volatile LogQuest instance;
 
    /**
     * Private constructor to enforce singleton pattern.
     * Initializes the logger with a predefined namespace.
     */
    private LogQuest() {
-      super("ROA.TEST", "QUEST");
+      super(LOGGER_NAME, "QUEST");
+   }
+
+   /**
+    * Checks whether informational messages are currently logged.
+    *
+    * <p>Allows callers to skip building log messages that would be discarded.
+    *
+    * @return {@code true} if the info level is enabled for the quest logger.
+    */
+   public static boolean isInfoEnabled() {
+      return LEVEL_LOGGER.isInfoEnabled();
    }
 
    /**
@@ -110,15 +127,23 @@ public final class LogQuest extends LogCore {
    }
 
    /**
-    * Retrieves the singleton instance of {@code LogQuest}.
+    * Retrieves the singleton instance of {@code LogQuest}, creating it once even when
+    * called concurrently from parallel test threads.
     *
     * @return The singleton instance of {@code LogQuest}.
     */
    private static LogQuest getInstance() {
-      if (instance == null) {
-         instance = new LogQuest();
+      LogQuest current = instance;
+      if (current == null) {
+         synchronized (LogQuest.class) {
+            current = instance;
+            if (current == null) {
+               current = new LogQuest();
+               instance = current;
+            }
+         }
       }
-      return instance;
+      return current;
    }
 
 }
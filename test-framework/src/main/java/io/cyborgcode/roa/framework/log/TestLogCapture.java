@@ -0,0 +1,177 @@
+package io.cyborgcode.roa.framework.log;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Log4j appender capturing the log events of each running test in memory.
+ *
+ * <p>Events are routed by the {@value #CAPTURE_ID_KEY} value of the Log4j {@code ThreadContext} into a bounded
+ * ring buffer that is opened when a test starts and released when its logs are attached to the report.
+ * The capture id is the unique id of the test invocation, so parameterized or repeated invocations of the same
+ * method running at the same time, and tests of equally named classes, never share a buffer. The
+ * {@code testName} value is for display only. This replaces scanning the whole log file after every test.
+ *
+ * <p>The appender is attached programmatically to the root logger and to every non-additive logger of the
+ * active Log4j configuration. It is re-attached automatically if the configuration is reloaded.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TestLogCapture extends AbstractAppender {
+
+   /**
+    * Name under which the appender is registered in the Log4j configuration.
+    */
+   public static final String APPENDER_NAME = "RoaTestLogCapture";
+
+   /**
+    * Log4j {@code ThreadContext} key holding the capture id of the running test invocation.
+    */
+   public static final String CAPTURE_ID_KEY = "testCaptureId";
+
+   private static final Map<String, EventBuffer> BUFFERS = new ConcurrentHashMap<>();
+
+   private TestLogCapture(PatternLayout layout) {
+      super(APPENDER_NAME, null, layout, true, Property.EMPTY_ARRAY);
+   }
+
+   /**
+    * Starts capturing the log events of the given test invocation.
+    *
+    * <p>Attaches the appender to the active Log4j configuration if it is not attached yet.
+    *
+    * @param captureId The {@value #CAPTURE_ID_KEY} thread context value of the test invocation.
+    * @param capacity The maximum number of events kept for the test; older events are dropped first.
+    * @param pattern  The layout pattern used to render captured events.
+    * @return {@code true} if capturing is active for the test, {@code false} if Log4j core is not in use.
+    */
+   public static boolean start(String captureId, int capacity, String pattern) {
+      if (captureId == null || capacity <= 0 || !install(pattern)) {
+         return false;
+      }
+      BUFFERS.put(captureId, new EventBuffer(capacity));
+      return true;
+   }
+
+   /**
+    * Stops capturing the log events of the given test invocation and returns what was captured.
+    *
+    * @param captureId The {@value #CAPTURE_ID_KEY} thread context value of the test invocation.
+    * @return The captured log lines, or an empty {@code Optional} if the test was not being captured.
+    */
+   public static Optional<String> release(String captureId) {
+      if (captureId == null) {
+         return Optional.empty();
+      }
+      return Optional.ofNullable(BUFFERS.remove(captureId)).map(EventBuffer::render);
+   }
+
+   /**
+    * Indicates whether log events of the given test invocation are currently being captured.
+    *
+    * @param captureId The {@value #CAPTURE_ID_KEY} thread context value of the test invocation.
+    * @return {@code true} if a capture buffer is open for the test invocation.
+    */
+   public static boolean isCapturing(String captureId) {
+      return captureId != null && BUFFERS.containsKey(captureId);
+   }
+
+   @Override
+   public void append(LogEvent event) {
+      String captureId = event.getContextData().getValue(CAPTURE_ID_KEY);
+      if (captureId == null) {
+         return;
+      }
+      EventBuffer buffer = BUFFERS.get(captureId);
+      if (buffer != null) {
+         buffer.add(String.valueOf(getLayout().toSerializable(event)));
+      }
+   }
+
+   private static synchronized boolean install(String pattern) {
+      if (!(LogManager.getContext(false) instanceof LoggerContext)) {
+         return false;
+      }
+      LoggerContext context = (LoggerContext) LogManager.getContext(false);
+      Configuration configuration = context.getConfiguration();
+      if (configuration.getAppender(APPENDER_NAME) != null) {
+         return true;
+      }
+
+      PatternLayout layout = PatternLayout.newBuilder()
+            .withPattern(pattern)
+            .withConfiguration(configuration)
+            .build();
+      TestLogCapture appender = new TestLogCapture(layout);
+      appender.start();
+      configuration.addAppender(appender);
+      configuration.getRootLogger().addAppender(appender, null, null);
+      for (LoggerConfig loggerConfig : configuration.getLoggers().values()) {
+         if (!loggerConfig.isAdditive() && loggerConfig != configuration.getRootLogger()) {
+            loggerConfig.addAppender(appender, null, null);
+         }
+      }
+      context.updateLoggers();
+      return true;
+   }
+
+   /**
+    * Bounded ring buffer of rendered log lines belonging to one test.
+    */
+   private static final class EventBuffer {
+
+      private final int capacity;
+
+      private final Deque<String> lines;
+
+      private long dropped;
+
+      private EventBuffer(int capacity) {
+         this.capacity = capacity;
+         this.lines = new ArrayDeque<>(Math.min(capacity, 256));
+      }
+
+      private synchronized void add(String line) {
+         if (lines.size() == capacity) {
+            lines.pollFirst();
+            dropped++;
+         }
+         lines.addLast(stripLineEnding(line));
+      }
+
+      private synchronized String render() {
+         StringBuilder builder = new StringBuilder(lines.size() * 128);
+         if (dropped > 0) {
+            builder.append("... ").append(dropped).append(" earlier log lines omitted ...");
+         }
+         for (String line : lines) {
+            if (builder.length() > 0) {
+               builder.append(System.lineSeparator());
+            }
+            builder.append(line);
+         }
+         return builder.toString();
+      }
+
+      private static String stripLineEnding(String line) {
+         int end = line.length();
+         while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) {
+            end--;
+         }
+         return end == line.length() ? line : line.substring(0, end);
+      }
+
+   }
+
+}
@@ -0,0 +1,48 @@
+package io.cyborgcode.roa.framework.parallel;
+
+/**
+ * Predefined sizing profiles for running quests in parallel.
+ *
+ * <p>A preset derives the number of concurrently running tests from the number of available processors,
+ * matching the kind of work the suite mostly performs. It is selected through the {@code parallel.preset}
+ * framework property and applied by {@link QuestParallelExecutionStrategy}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum ParallelPreset {
+
+   /**
+    * One test per available processor, for suites dominated by in-process work.
+    */
+   CPU_BOUND(1, 1),
+
+   /**
+    * Four tests per available processor, for API and database suites that mostly wait on remote systems.
+    */
+   IO_BOUND(4, 1),
+
+   /**
+    * One test per two available processors, for UI suites where every test drives its own browser.
+    */
+   UI(1, 2);
+
+   private final int multiplier;
+
+   private final int divisor;
+
+   ParallelPreset(int multiplier, int divisor) {
+      this.multiplier = multiplier;
+      this.divisor = divisor;
+   }
+
+   /**
+    * Calculates the parallelism of this preset.
+    *
+    * @param processors The number of available processors.
+    * @return The number of tests to run concurrently, at least one.
+    */
+   public int parallelism(int processors) {
+      return Math.max(1, processors * multiplier / divisor);
+   }
+
+}
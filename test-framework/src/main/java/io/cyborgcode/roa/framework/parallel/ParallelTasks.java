@@ -0,0 +1,105 @@
+package io.cyborgcode.roa.framework.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * Shared building blocks for framework work that runs on background threads: named pools of daemon threads and
+ * the concurrent execution of a group of independent tasks.
+ *
+ * <p>Pools are created on first use and live for the rest of the JVM. Their threads are daemons, so an idle pool
+ * never keeps the test JVM alive.
+ *
+ * <p>Tasks of a group inherit the Log4j {@code ThreadContext} of the calling thread. The group completes only
+ * once every task finished. When tasks fail, the failure of the task declared first is thrown, with the failures
+ * of later tasks attached as suppressed exceptions, so the reported failure does not depend on thread timing.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ParallelTasks {
+
+   private static final Map<String, ExecutorService> POOLS = new ConcurrentHashMap<>();
+
+   private ParallelTasks() {
+   }
+
+   /**
+    * Returns the pool of daemon threads registered under the given name, creating it on first use.
+    *
+    * <p>Threads are named {@code roa-<name>-<n>}. The size is read once, when the pool is created.
+    *
+    * @param name    The name of the pool.
+    * @param threads The number of threads of the pool; values below one create a single thread.
+    * @return The pool registered under the name.
+    */
+   public static ExecutorService daemonPool(String name, IntSupplier threads) {
+      return POOLS.computeIfAbsent(name, key -> {
+         AtomicInteger threadCounter = new AtomicInteger();
+         return Executors.newFixedThreadPool(Math.max(1, threads.getAsInt()), runnable -> {
+            Thread thread = new Thread(runnable, "roa-" + key + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         });
+      });
+   }
+
+   /**
+    * Runs the task for every item concurrently on the given executor and waits for all of them.
+    *
+    * @param items          The independent items to process, in declaration order.
+    * @param task           The task to run for each item.
+    * @param executor       The executor running the tasks.
+    * @param failureMessage The message wrapping a checked failure of a task.
+    * @param <T>            The type of the items.
+    */
+   public static <T> void runAll(List<T> items, Consumer<T> task, Executor executor, String failureMessage) {
+      Map<String, String> logContext = ThreadContext.getImmutableContext();
+
+      List<CompletableFuture<Void>> tasks = new ArrayList<>(items.size());
+      for (T item : items) {
+         tasks.add(CompletableFuture.runAsync(() -> {
+            ThreadContext.putAll(logContext);
+            try {
+               task.accept(item);
+            } finally {
+               ThreadContext.clearMap();
+            }
+         }, executor));
+      }
+
+      Throwable failure = null;
+      for (CompletableFuture<Void> pending : tasks) {
+         try {
+            pending.join();
+         } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (failure == null) {
+               failure = cause;
+            } else {
+               failure.addSuppressed(cause);
+            }
+         }
+      }
+      if (failure instanceof RuntimeException runtimeException) {
+         throw runtimeException;
+      }
+      if (failure instanceof Error error) {
+         throw error;
+      }
+      if (failure != null) {
+         throw new IllegalStateException(failureMessage, failure);
+      }
+   }
+
+}
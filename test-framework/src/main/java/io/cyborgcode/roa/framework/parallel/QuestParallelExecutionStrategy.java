@@ -0,0 +1,100 @@
+package io.cyborgcode.roa.framework.parallel;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * JUnit parallel execution strategy sizing the worker pool from the framework configuration.
+ *
+ * <p>Enabled with:
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=io.cyborgcode.roa.framework.parallel.QuestParallelExecutionStrategy
+ * </pre>
+ *
+ * <p>The parallelism comes from the {@code parallel.threads} property when it is positive, otherwise from the
+ * {@link ParallelPreset} named by {@code parallel.preset}. The pool never grows beyond that parallelism, so
+ * resources such as browsers or connections are not oversubscribed while tests block.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class QuestParallelExecutionStrategy implements ParallelExecutionConfigurationStrategy {
+
+   private static final int KEEP_ALIVE_SECONDS = 30;
+
+   /**
+    * Creates the parallel execution configuration for the current run.
+    *
+    * @param configurationParameters The JUnit configuration parameters (not used; sizing comes from the framework
+    *                                configuration).
+    * @return The parallel execution configuration.
+    */
+   @Override
+   public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+      return new FixedConfiguration(resolveParallelism(Runtime.getRuntime().availableProcessors()));
+   }
+
+   /**
+    * Resolves the number of tests to run concurrently.
+    *
+    * @param processors The number of available processors.
+    * @return The configured thread count, or the parallelism of the configured preset.
+    * @throws IllegalArgumentException If the configured preset does not exist.
+    */
+   static int resolveParallelism(int processors) {
+      int threads = getFrameworkConfig().parallelThreads();
+      if (threads > 0) {
+         return threads;
+      }
+      String preset = getFrameworkConfig().parallelPreset();
+      try {
+         return ParallelPreset.valueOf(preset.trim().toUpperCase(Locale.ROOT)).parallelism(processors);
+      } catch (IllegalArgumentException e) {
+         throw new IllegalArgumentException("Unknown parallel preset: " + preset, e);
+      }
+   }
+
+   /**
+    * Parallel execution configuration with a pool capped at its parallelism.
+    */
+   private record FixedConfiguration(int parallelism) implements ParallelExecutionConfiguration {
+
+      @Override
+      public int getParallelism() {
+         return parallelism;
+      }
+
+      @Override
+      public int getMinimumRunnable() {
+         return parallelism;
+      }
+
+      @Override
+      public int getMaxPoolSize() {
+         return parallelism;
+      }
+
+      @Override
+      public int getCorePoolSize() {
+         return parallelism;
+      }
+
+      @Override
+      public int getKeepAliveSeconds() {
+         return KEEP_ALIVE_SECONDS;
+      }
+
+      @Override
+      public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+         return pool -> true;
+      }
+
+   }
+
+}
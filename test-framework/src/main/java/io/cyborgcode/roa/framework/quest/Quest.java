@@ -4,12 +4,13 @@ package io.cyborgcode.roa.framework.quest;
 import io.cyborgcode.roa.framework.annotation.Ring;
 import io.cyborgcode.roa.framework.assertion.CustomSoftAssertion;
 import io.cyborgcode.roa.framework.chain.FluentService;
+import io.cyborgcode.roa.framework.chain.FluentServiceDecorator;
 import io.cyborgcode.roa.framework.log.LogQuest;
 import io.cyborgcode.roa.framework.storage.Storage;
-import java.util.HashMap;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.cyborgcode.utilities.reflections.ReflectionUtil.getFieldValues;
 
@@ -25,10 +26,46 @@ import static io.cyborgcode.utilities.reflections.ReflectionUtil.getFieldValues;
  */
 public class Quest {
 
+   /**
+    * Log message produced when a ring is used, computed once per ring class from its {@link Ring} annotation.
+    */
+   private static final ClassValue<String> RING_USAGE_MESSAGES = new ClassValue<>() {
+      @Override
+      protected String computeValue(Class<?> type) {
+         Ring ring = type.getAnnotation(Ring.class);
+         return "The quest has used the ring: '" + (ring == null ? type.getName() : ring.value()) + "'";
+      }
+   };
+
+   /**
+    * Name of the timeline phase started when a ring is used, computed once per ring class.
+    */
+   private static final ClassValue<String> RING_PHASES = new ClassValue<>() {
+      @Override
+      protected String computeValue(Class<?> type) {
+         Ring ring = type.getAnnotation(Ring.class);
+         return "Ring: " + (ring == null ? type.getSimpleName() : ring.value());
+      }
+   };
+
+   /**
+    * Timeline lane holding the ring the quest is currently using.
+    */
+   private static final String RING_LANE = "ring";
+
    /**
     * Stores registered test services, mapping their types to instances.
+    *
+    * <p>Concurrent, as journeys of the same order may use the quest from several threads at once.
+    */
+   private final Map<Class<? extends FluentService>, FluentService> rings = new ConcurrentHashMap<>();
+
+   /**
+    * Caches the registered ring type resolved for each requested class.
+    *
+    * <p>Invalidated whenever a ring is registered or removed.
     */
-   private final Map<Class<? extends FluentService>, FluentService> rings = new HashMap<>();
+   private final Map<Class<?>, Class<? extends FluentService>> resolvedRings = new ConcurrentHashMap<>();
 
    /**
     * Storage instance for temporarily holding test data within a test execution.
@@ -60,19 +97,12 @@ public class Quest {
     */
    @SuppressWarnings("unchecked")
    public <T extends FluentService> T use(Class<T> ring) {
-      Optional<Class<? extends FluentService>> match =
-            rings.keySet().stream().filter(ring::isAssignableFrom).findFirst();
-      if (match.isEmpty()) {
-         throw new IllegalArgumentException("Ring not initialized: " + ring.getName());
+      T service = (T) resolveRing(ring);
+      if (LogQuest.isInfoEnabled()) {
+         LogQuest.info(RING_USAGE_MESSAGES.get(ring));
       }
-      Ring ringName = ring.getAnnotation(Ring.class);
-
-      String message = ringName == null
-            ? "The quest has used the ring: '" + ring.getName() + "'"
-            : "The quest has used the ring: '" + ringName.value() + "'";
-
-      LogQuest.info(message);
-      return (T) rings.get(match.get());
+      PhaseTimeline.switchLane(RING_LANE, RING_PHASES.get(ring));
+      return service;
    }
 
    /**
@@ -85,12 +115,7 @@ public class Quest {
     */
    @SuppressWarnings("unchecked")
    protected <T extends FluentService> T cast(Class<T> ringType) {
-      Optional<Class<? extends FluentService>> match =
-            rings.keySet().stream().filter(ringType::isAssignableFrom).findFirst();
-      if (match.isEmpty()) {
-         throw new IllegalArgumentException("Ring not initialized: " + ringType.getName());
-      }
-      return (T) rings.get(match.get());
+      return (T) resolveRing(ringType);
    }
 
    /**
@@ -101,6 +126,7 @@ public class Quest {
     */
    public void complete() {
       LogQuest.info("The quest has reached his end");
+      PhaseTimeline.endLane(RING_LANE);
       QuestHolder.clear();
       softAssertions.assertAll();
    }
@@ -109,7 +135,8 @@ public class Quest {
     * Retrieves an artifact associated with a specific test service.
     *
     * <p>This method extracts an instance of the specified artifact type from the
-    * requested test service.
+    * requested test service. The service is asked to prepare artifacts of that type first, so artifacts it
+    * creates on first access are found as well.
     *
     * @param ringType    The class type of the test service.
     * @param artifactType The class type of the artifact to retrieve.
@@ -130,6 +157,7 @@ public class Quest {
                "Could not retrieve an instance of the specified ringType: " + ringType.getName());
       }
 
+      new FluentServiceDecorator(ring).prepareArtifact(artifactType);
       List<K> fieldValues = getFieldValues(ring, artifactType);
       if (fieldValues.size() > 1) {
          LogQuest.warn(
@@ -147,6 +175,7 @@ public class Quest {
     */
    protected void registerRing(Class<? extends FluentService> ringType, FluentService ring) {
       rings.put(ringType, ring);
+      resolvedRings.clear();
    }
 
    /**
@@ -156,6 +185,28 @@ public class Quest {
     */
    protected void removeRing(Class<? extends FluentService> ringType) {
       rings.remove(ringType);
+      resolvedRings.clear();
+   }
+
+   /**
+    * Resolves the registered ring assignable to the requested type.
+    *
+    * <p>The matching registered type is looked up once and cached until the set of rings changes.
+    *
+    * @param ringType The requested ring type.
+    * @return The registered service instance.
+    * @throws IllegalArgumentException If no registered ring matches the requested type.
+    */
+   private FluentService resolveRing(Class<? extends FluentService> ringType) {
+      Class<? extends FluentService> match = resolvedRings.get(ringType);
+      if (match == null) {
+         match = rings.keySet().stream()
+               .filter(ringType::isAssignableFrom)
+               .findFirst()
+               .orElseThrow(() -> new IllegalArgumentException("Ring not initialized: " + ringType.getName()));
+         resolvedRings.put(ringType, match);
+      }
+      return rings.get(match);
    }
 
    /**
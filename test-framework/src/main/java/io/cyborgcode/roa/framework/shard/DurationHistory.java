@@ -0,0 +1,175 @@
+package io.cyborgcode.roa.framework.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Records how long each test took and keeps the durations in a local history file.
+ *
+ * <p>Durations are recorded in memory by the {@code Epilogue} extension and written to the file once the
+ * test plan finished, see {@link DurationHistoryListener}. The history is read back by
+ * {@link DurationShardFilter} to balance test shards.
+ *
+ * <p>Each line of the file holds {@code <recordedAtMillis> <durationMillis> <testUniqueId>}. When a test
+ * appears more than once, the most recently recorded line wins, so history files written by several CI
+ * nodes can simply be concatenated.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class DurationHistory {
+
+   private static final Map<String, Entry> RECORDED = new ConcurrentHashMap<>();
+
+   private DurationHistory() {
+   }
+
+   /**
+    * Records the duration of a finished test.
+    *
+    * @param testId         The unique id of the test.
+    * @param durationMillis The test duration in milliseconds.
+    */
+   public static void record(String testId, long durationMillis) {
+      if (testId == null || durationMillis < 0) {
+         return;
+      }
+      RECORDED.put(testId, new Entry(System.currentTimeMillis(), durationMillis));
+   }
+
+   /**
+    * Returns the configured history file.
+    *
+    * @return The path of the duration history file.
+    */
+   public static Path historyFile() {
+      return Path.of(getFrameworkConfig().durationHistoryFile());
+   }
+
+   /**
+    * Reads the recorded durations from a history file.
+    *
+    * @param file The history file.
+    * @return The duration in milliseconds of every known test, keyed and sorted by test unique id;
+    *       empty if the file does not exist.
+    * @throws UncheckedIOException If the file exists but cannot be read.
+    */
+   public static NavigableMap<String, Long> load(Path file) {
+      NavigableMap<String, Long> durations = new TreeMap<>();
+      read(file).forEach((id, entry) -> durations.put(id, entry.durationMillis()));
+      return durations;
+   }
+
+   /**
+    * Merges the durations recorded by this run into the history file.
+    *
+    * <p>The merge is guarded by a lock file, so forked JVMs sharing the file do not lose each other's
+    * entries, and the file is replaced atomically where the file system supports it.
+    *
+    * @param file The history file.
+    * @throws UncheckedIOException If the file cannot be written.
+    */
+   public static void persist(Path file) {
+      if (RECORDED.isEmpty()) {
+         return;
+      }
+      Path absolute = file.toAbsolutePath();
+      try {
+         Files.createDirectories(absolute.getParent());
+         Path lockFile = absolute.resolveSibling(absolute.getFileName() + ".lock");
+         try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+              FileLock ignored = channel.lock()) {
+            Map<String, Entry> merged = read(absolute);
+            RECORDED.forEach((id, entry) -> merged.merge(id, entry, Entry::newest));
+            write(absolute, merged);
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to write test duration history to " + absolute, e);
+      }
+   }
+
+   /**
+    * Returns a snapshot of the durations recorded by this run.
+    *
+    * @return The recorded durations in milliseconds keyed by test unique id.
+    */
+   static Map<String, Long> recorded() {
+      Map<String, Long> snapshot = new TreeMap<>();
+      RECORDED.forEach((id, entry) -> snapshot.put(id, entry.durationMillis()));
+      return Collections.unmodifiableMap(snapshot);
+   }
+
+   /**
+    * Forgets the durations recorded by this run.
+    */
+   static void clear() {
+      RECORDED.clear();
+   }
+
+   private static Map<String, Entry> read(Path file) {
+      Map<String, Entry> entries = new TreeMap<>();
+      if (!Files.isRegularFile(file)) {
+         return entries;
+      }
+      try {
+         for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            parse(line, entries);
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to read test duration history from " + file, e);
+      }
+      return entries;
+   }
+
+   private static void parse(String line, Map<String, Entry> entries) {
+      String[] parts = line.trim().split(" ", 3);
+      if (parts.length < 3 || parts[2].isBlank()) {
+         return;
+      }
+      try {
+         Entry entry = new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+         entries.merge(parts[2], entry, Entry::newest);
+      } catch (NumberFormatException e) {
+         // Malformed lines are skipped, they are rewritten on the next merge
+      }
+   }
+
+   private static void write(Path file, Map<String, Entry> entries) throws IOException {
+      List<String> lines = new ArrayList<>(entries.size());
+      entries.forEach((id, entry) -> lines.add(entry.recordedAt() + " " + entry.durationMillis() + " " + id));
+      Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      Files.write(temp, lines, StandardCharsets.UTF_8);
+      try {
+         Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+         Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+   }
+
+   /**
+    * A recorded duration and the time it was recorded at.
+    */
+   private record Entry(long recordedAt, long durationMillis) {
+
+      private static Entry newest(Entry first, Entry second) {
+         return second.recordedAt() >= first.recordedAt() ? second : first;
+      }
+   }
+
+}
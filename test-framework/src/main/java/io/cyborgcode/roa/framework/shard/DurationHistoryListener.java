@@ -0,0 +1,39 @@
+package io.cyborgcode.roa.framework.shard;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Writes the test durations recorded during the run to the duration history file.
+ *
+ * <p>Registered through {@code META-INF/services}, so the JUnit Platform launcher picks it up
+ * automatically. Failing to write the history never fails the test run; it is only logged.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class DurationHistoryListener implements TestExecutionListener {
+
+   /**
+    * Persists the recorded durations once all tests have been executed.
+    *
+    * @param testPlan The executed test plan.
+    */
+   @Override
+   public void testPlanExecutionFinished(TestPlan testPlan) {
+      if (!getFrameworkConfig().durationHistoryEnabled()) {
+         return;
+      }
+      Path file = DurationHistory.historyFile();
+      try {
+         DurationHistory.persist(file);
+      } catch (UncheckedIOException e) {
+         LogQuest.warn("Test durations could not be saved to '{}': {}", file, e.getMessage());
+      }
+   }
+
+}
@@ -0,0 +1,74 @@
+package io.cyborgcode.roa.framework.shard;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * JUnit Platform filter keeping only the tests of the configured shard.
+ *
+ * <p>Enabled by setting {@code shard.total} to the number of CI nodes and {@code shard.index} to the
+ * zero-based index of the current node. Tests are balanced across shards using the durations recorded in
+ * the {@link DurationHistory} file, see {@link ShardPlanner}. With {@code shard.total} left at {@code 1}
+ * the filter includes everything.
+ *
+ * <p>Registered through {@code META-INF/services}, so the JUnit Platform launcher applies it
+ * automatically. All tests must be discovered in a single launcher request for the plan to be the same on
+ * every node, so forking per test class must be disabled when sharding.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class DurationShardFilter implements PostDiscoveryFilter {
+
+   private final Map<UniqueId, Set<UniqueId>> plans = new ConcurrentHashMap<>();
+
+   /**
+    * Decides whether a discovered descriptor belongs to the current shard.
+    *
+    * @param descriptor The discovered test or container.
+    * @return An included result for descriptors of this shard, excluded otherwise.
+    * @throws IllegalArgumentException If the shard configuration is invalid.
+    */
+   @Override
+   public FilterResult apply(TestDescriptor descriptor) {
+      int total = getFrameworkConfig().shardTotal();
+      if (total <= 1) {
+         return FilterResult.included("Sharding is disabled");
+      }
+      int index = getFrameworkConfig().shardIndex();
+      if (index < 0 || index >= total) {
+         throw new IllegalArgumentException(
+               "Invalid shard.index " + index + ", expected a value from 0 to " + (total - 1));
+      }
+
+      TestDescriptor root = root(descriptor);
+      Set<UniqueId> included = plans.computeIfAbsent(root.getUniqueId(), id -> plan(root, index, total));
+      return included.contains(descriptor.getUniqueId())
+            ? FilterResult.included("Assigned to shard " + index + " of " + total)
+            : FilterResult.excluded("Assigned to another shard than " + index + " of " + total);
+   }
+
+   private static Set<UniqueId> plan(TestDescriptor root, int index, int total) {
+      NavigableMap<String, Long> durations = DurationHistory.load(DurationHistory.historyFile());
+      Set<UniqueId> included = ShardPlanner.plan(root, durations, index, total);
+      LogQuest.info("Shard {} of {} planned from {} recorded test durations.", index, total, durations.size());
+      return included;
+   }
+
+   private static TestDescriptor root(TestDescriptor descriptor) {
+      TestDescriptor current = descriptor;
+      while (current.getParent().isPresent()) {
+         current = current.getParent().get();
+      }
+      return current;
+   }
+
+}
@@ -0,0 +1,159 @@
+package io.cyborgcode.roa.framework.shard;
+
+import io.cyborgcode.roa.framework.base.BaseQuestSequential;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+/**
+ * Splits a discovered test tree into balanced shards using recorded test durations.
+ *
+ * <p>The tree is first cut into scheduling units: every test method or test template of a class is a unit
+ * on its own, except for classes extending {@link BaseQuestSequential}, which are always kept whole because
+ * their tests depend on each other. Units are then assigned with the longest-processing-time rule: sorted by
+ * expected duration, longest first, each unit goes to the shard with the least total duration so far.
+ *
+ * <p>The expected duration of a unit is the sum of the recorded durations of its tests. Units without any
+ * history are expected to take the average duration of the known units. Ties are broken by unique id and
+ * shard index, so every CI node computes the same plan from the same history.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ShardPlanner {
+
+   /**
+    * Expected duration of a unit when no history is available at all.
+    */
+   private static final long DEFAULT_DURATION_MILLIS = 1_000L;
+
+   private ShardPlanner() {
+   }
+
+   /**
+    * Computes the unique ids of all descriptors that belong to the given shard.
+    *
+    * <p>The result contains the assigned units, all of their descendants and all of their ancestors,
+    * so containers stay in the tree whenever one of their tests runs on the shard.
+    *
+    * @param root       The root of the discovered test tree.
+    * @param durations  The recorded test durations in milliseconds keyed by unique id.
+    * @param shardIndex The zero-based index of the shard to compute.
+    * @param shardTotal The total number of shards.
+    * @return The unique ids of the descriptors to keep for the shard.
+    */
+   static Set<UniqueId> plan(TestDescriptor root, NavigableMap<String, Long> durations, int shardIndex,
+                             int shardTotal) {
+      List<Unit> units = new ArrayList<>();
+      collectUnits(root, units, durations);
+      fillUnknownDurations(units);
+
+      units.sort(Comparator.comparingLong(Unit::expectedMillis).reversed()
+            .thenComparing(unit -> unit.descriptor().getUniqueId().toString()));
+
+      long[] loads = new long[shardTotal];
+      Set<UniqueId> included = new HashSet<>();
+      for (Unit unit : units) {
+         int shard = leastLoaded(loads);
+         loads[shard] += unit.expectedMillis();
+         if (shard == shardIndex) {
+            include(unit.descriptor(), included);
+         }
+      }
+      return included;
+   }
+
+   private static void collectUnits(TestDescriptor descriptor, List<Unit> units, NavigableMap<String, Long> durations) {
+      Optional<Class<?>> testClass = testClass(descriptor);
+      if (testClass.isPresent()) {
+         if (BaseQuestSequential.class.isAssignableFrom(testClass.get()) || descriptor.getChildren().isEmpty()) {
+            units.add(unit(descriptor, durations));
+         } else {
+            descriptor.getChildren().forEach(child -> units.add(unit(child, durations)));
+         }
+      } else if (descriptor.isTest()) {
+         units.add(unit(descriptor, durations));
+      } else {
+         descriptor.getChildren().forEach(child -> collectUnits(child, units, durations));
+      }
+   }
+
+   private static Optional<Class<?>> testClass(TestDescriptor descriptor) {
+      Optional<TestSource> source = descriptor.getSource();
+      if (source.isPresent() && source.get() instanceof ClassSource classSource) {
+         try {
+            return Optional.of(classSource.getJavaClass());
+         } catch (RuntimeException e) {
+            return Optional.empty();
+         }
+      }
+      return Optional.empty();
+   }
+
+   private static Unit unit(TestDescriptor descriptor, NavigableMap<String, Long> durations) {
+      String id = descriptor.getUniqueId().toString();
+      long total = 0;
+      boolean known = false;
+      for (Map.Entry<String, Long> entry : durations.tailMap(id, true).entrySet()) {
+         String key = entry.getKey();
+         if (!key.startsWith(id)) {
+            break;
+         }
+         if (key.length() == id.length() || key.charAt(id.length()) == '/') {
+            total += entry.getValue();
+            known = true;
+         }
+      }
+      return new Unit(descriptor, known ? total : -1);
+   }
+
+   private static void fillUnknownDurations(List<Unit> units) {
+      long knownTotal = 0;
+      int knownCount = 0;
+      for (Unit unit : units) {
+         if (unit.expectedMillis() >= 0) {
+            knownTotal += unit.expectedMillis();
+            knownCount++;
+         }
+      }
+      long fallback = knownCount == 0 ? DEFAULT_DURATION_MILLIS : Math.max(1, knownTotal / knownCount);
+      units.replaceAll(unit -> unit.expectedMillis() >= 0 ? unit : new Unit(unit.descriptor(), fallback));
+   }
+
+   private static int leastLoaded(long[] loads) {
+      int least = 0;
+      for (int i = 1; i < loads.length; i++) {
+         if (loads[i] < loads[least]) {
+            least = i;
+         }
+      }
+      return least;
+   }
+
+   private static void include(TestDescriptor unit, Set<UniqueId> included) {
+      unit.accept(descriptor -> included.add(descriptor.getUniqueId()));
+      Optional<TestDescriptor> parent = unit.getParent();
+      while (parent.isPresent()) {
+         included.add(parent.get().getUniqueId());
+         parent = parent.get().getParent();
+      }
+   }
+
+   /**
+    * A part of the test tree always executed on a single shard.
+    *
+    * @param descriptor     The descriptor of the unit.
+    * @param expectedMillis The expected duration, negative while unknown.
+    */
+   private record Unit(TestDescriptor descriptor, long expectedMillis) {
+   }
+
+}
@@ -0,0 +1,113 @@
+package io.cyborgcode.roa.framework.spring;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * A Spring {@link ContextCustomizer} measuring how long each test application context takes to start.
+ *
+ * <p>The measurement starts when the context is customized, before component scanning and refresh, and ends when
+ * the context publishes its {@link ContextRefreshedEvent}. Every started context is logged together with the number
+ * of contexts started so far and their total startup time, which shows how often the suite pays the context
+ * startup cost.
+ *
+ * <p>All instances are equal, so the customizer never changes which test classes share a cached context.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ContextStartupTimingCustomizer implements ContextCustomizer {
+
+   private static final AtomicInteger STARTED_CONTEXTS = new AtomicInteger();
+
+   private static final AtomicLong TOTAL_STARTUP_NANOS = new AtomicLong();
+
+   /**
+    * Registers a listener reporting the startup time of the given context once it has been refreshed.
+    *
+    * @param context      The application context being prepared.
+    * @param mergedConfig The merged test context configuration.
+    */
+   @Override
+   public void customizeContext(@NonNull ConfigurableApplicationContext context,
+                                @NonNull MergedContextConfiguration mergedConfig) {
+      context.addApplicationListener(new StartupListener(context, mergedConfig.getTestClass(), System.nanoTime()));
+   }
+
+   /**
+    * Returns the number of test application contexts started in this JVM.
+    *
+    * @return The number of started contexts.
+    */
+   public static int startedContexts() {
+      return STARTED_CONTEXTS.get();
+   }
+
+   /**
+    * Returns the total time spent starting test application contexts in this JVM.
+    *
+    * @return The total startup time in milliseconds.
+    */
+   public static long totalStartupMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(TOTAL_STARTUP_NANOS.get());
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      return obj instanceof ContextStartupTimingCustomizer;
+   }
+
+   @Override
+   public int hashCode() {
+      return ContextStartupTimingCustomizer.class.hashCode();
+   }
+
+   @Override
+   public String toString() {
+      return "ContextStartupTimingCustomizer";
+   }
+
+   /**
+    * Records the startup time of one context when it has been refreshed.
+    */
+   private static final class StartupListener implements ApplicationListener<ContextRefreshedEvent> {
+
+      private final ApplicationContext context;
+
+      private final Class<?> testClass;
+
+      private final long startNanos;
+
+      private boolean reported;
+
+      private StartupListener(ApplicationContext context, Class<?> testClass, long startNanos) {
+         this.context = context;
+         this.testClass = testClass;
+         this.startNanos = startNanos;
+      }
+
+      @Override
+      public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+         if (reported || event.getApplicationContext() != context) {
+            return;
+         }
+         reported = true;
+         long elapsedNanos = System.nanoTime() - startNanos;
+         int started = STARTED_CONTEXTS.incrementAndGet();
+         long totalNanos = TOTAL_STARTUP_NANOS.addAndGet(elapsedNanos);
+         LogQuest.info("Spring test context #{} for '{}' started in {} ms ({} ms spent starting contexts so far).",
+               started, testClass.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+               TimeUnit.NANOSECONDS.toMillis(totalNanos));
+      }
+
+   }
+
+}
@@ -0,0 +1,31 @@
+package io.cyborgcode.roa.framework.spring;
+
+import java.util.List;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+
+/**
+ * A factory registering {@link ContextStartupTimingCustomizer} for every Spring test context.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ContextStartupTimingCustomizerFactory implements ContextCustomizerFactory {
+
+   /**
+    * Creates the startup timing customizer for the given test class.
+    *
+    * @param testClass        The test class being processed.
+    * @param configAttributes The context configuration attributes (not used).
+    * @return The startup timing customizer.
+    */
+   @Override
+   public ContextCustomizer createContextCustomizer(
+         @NonNull Class<?> testClass,
+         @Nullable List<ContextConfigurationAttributes> configAttributes) {
+      return new ContextStartupTimingCustomizer();
+   }
+
+}
@@ -1,16 +1,16 @@
 package io.cyborgcode.roa.framework.storage;
 
+import io.cyborgcode.roa.framework.jfr.StoragePutEvent;
 import io.cyborgcode.roa.framework.parameters.Late;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.springframework.core.ParameterizedTypeReference;
 
 import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
@@ -30,8 +30,21 @@ import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFramew
  */
 public class Storage {
 
-   private final Map<Enum<?>, LinkedList<Object>> data = new ConcurrentHashMap<>();
-   private static Enum<?> defaultStorageEnum;
+   /**
+    * Values per key, oldest first.
+    *
+    * <p>Values are only ever appended, and copy-on-write lists let readers iterate them while journeys running
+    * concurrently on the same quest keep storing values.
+    */
+   private final Map<Enum<?>, List<Object>> data = new ConcurrentHashMap<>();
+
+   /**
+    * Key of the default sub-storage, shared by every storage in the JVM.
+    *
+    * <p>Resolved from {@code getFrameworkConfig().defaultStorage()} the first time any storage creates a matching
+    * sub-storage, so the default sub-storage of every later quest resolves to the same key.
+    */
+   private static volatile Enum<?> defaultStorageEnum;
 
    /**
     * Stores a value under the specified key.
@@ -41,7 +54,17 @@ public class Storage {
     * @param <T>   The type of the data.
     */
    public <T> void put(Enum<?> key, T value) {
-      data.computeIfAbsent(key, k -> new LinkedList<>()).add(value);
+      StoragePutEvent event = new StoragePutEvent();
+      event.begin();
+      List<Object> stored = data.compute(key, (k, values) -> {
+         List<Object> target = values != null ? values : new CopyOnWriteArrayList<>();
+         target.add(value);
+         return target;
+      });
+      if (event.shouldCommit()) {
+         event.describe(key, stored.size(), data.size());
+         event.commit();
+      }
    }
 
    /**
@@ -179,29 +202,22 @@ public class Storage {
     * Retrieves a sub-storage instance associated with the given sub-key.
     *
     * <p>If no sub-storage exists for the given key, a new sub-storage is created and registered.
+    * Creation is atomic, so concurrent callers always receive the same sub-storage.
     *
     * @param subKey The enum key for the sub-storage.
     * @return The {@code Storage} instance corresponding to the sub-key.
     * @throws IllegalStateException if the key is already used for a non-storage value.
     */
-   @SuppressFBWarnings(
-         value = "ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD",
-         justification = "This write is intentional for initializing defaultStorageEnum under controlled conditions."
-   )
-   @SuppressWarnings("java:S2696")
    public Storage sub(Enum<?> subKey) {
-
       List<Object> values = data.get(subKey);
       if (values == null || values.isEmpty()) {
-         if (defaultStorageEnum == null) {
-            String defaultStorage = getFrameworkConfig().defaultStorage();
-            if (subKey.name().equals(defaultStorage)) {
-               defaultStorageEnum = subKey;
+         values = data.compute(subKey, (key, existing) -> {
+            if (existing != null && !existing.isEmpty()) {
+               return existing;
             }
-         }
-         Storage newSub = new Storage();
-         data.put(subKey, new LinkedList<>(Collections.singletonList(newSub)));
-         return newSub;
+            registerDefaultStorage(key);
+            return new CopyOnWriteArrayList<>(Collections.singletonList(new Storage()));
+         });
       }
 
       Object existingLatest = values.get(values.size() - 1);
@@ -226,13 +242,24 @@ public class Storage {
       return sub(defaultStorageEnum);
    }
 
+   /**
+    * Remembers the given key as the default sub-storage key if it matches the configured default storage.
+    *
+    * @param subKey The enum key of a newly created sub-storage.
+    */
+   private static void registerDefaultStorage(Enum<?> subKey) {
+      if (defaultStorageEnum == null && subKey.name().equals(getFrameworkConfig().defaultStorage())) {
+         defaultStorageEnum = subKey;
+      }
+   }
+
    /**
     * Resolves any stored deferred values (instances of {@link Late}) by replacing them
     * with their actual evaluated objects.
     */
    public void createLateArguments() {
       data.replaceAll((key, objects) -> {
-         LinkedList<Object> updatedObjects = new LinkedList<>();
+         List<Object> updatedObjects = new ArrayList<>();
          for (Object o : objects) {
             if (o instanceof Late<?>) {
                try {
@@ -244,7 +271,7 @@ public class Storage {
                updatedObjects.add(o);
             }
          }
-         return updatedObjects;
+         return new CopyOnWriteArrayList<>(updatedObjects);
       });
    }
 
@@ -279,7 +306,7 @@ public class Storage {
    @SuppressWarnings("java:S1452")
    public Map<Enum<?>, List<Object>> getData() {
       Map<Enum<?>, List<Object>> copy = new HashMap<>();
-      for (Map.Entry<Enum<?>, LinkedList<Object>> entry : data.entrySet()) {
+      for (Map.Entry<Enum<?>, List<Object>> entry : data.entrySet()) {
          copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
       }
       return copy;
@@ -0,0 +1,117 @@
+package io.cyborgcode.roa.framework.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values added to a {@link Storage} between two points in time.
+ *
+ * <p>A delta is computed from a {@link Mark} taken before an operation and the storage contents after it.
+ * Values stored in sub-storages are tracked per sub-storage, so the delta can later be replayed into another
+ * storage with {@link #applyTo(Storage)}, recreating the same sub-storage structure. Values are copied by
+ * reference; the stored objects themselves are shared.
+ *
+ * <p>Storage only ever appends values, so the delta assumes that no values were removed in between and
+ * that no other thread writes to the storage while the operation runs.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class StorageDelta {
+
+   private static final Mark EMPTY_MARK = new Mark(Map.of(), Map.of());
+
+   private final Map<Enum<?>, List<Object>> added;
+   private final Map<Enum<?>, StorageDelta> nested;
+
+   private StorageDelta(Map<Enum<?>, List<Object>> added, Map<Enum<?>, StorageDelta> nested) {
+      this.added = added;
+      this.nested = nested;
+   }
+
+   /**
+    * Records the current number of values per key of the given storage and of all its sub-storages.
+    *
+    * @param storage The storage to mark.
+    * @return The mark to compute a delta from.
+    */
+   public static Mark mark(Storage storage) {
+      Map<Enum<?>, Integer> sizes = new LinkedHashMap<>();
+      Map<Storage, Mark> subStorages = new IdentityHashMap<>();
+      for (Map.Entry<Enum<?>, List<Object>> entry : storage.getData().entrySet()) {
+         sizes.put(entry.getKey(), entry.getValue().size());
+         for (Object value : entry.getValue()) {
+            if (value instanceof Storage subStorage) {
+               subStorages.put(subStorage, mark(subStorage));
+            }
+         }
+      }
+      return new Mark(sizes, subStorages);
+   }
+
+   /**
+    * Collects the values added to the given storage since the mark was taken.
+    *
+    * @param mark    The mark taken from the same storage before the operation.
+    * @param storage The storage after the operation.
+    * @return The values added in between, grouped by key and sub-storage.
+    */
+   public static StorageDelta since(Mark mark, Storage storage) {
+      Map<Enum<?>, List<Object>> added = new LinkedHashMap<>();
+      Map<Enum<?>, StorageDelta> nested = new LinkedHashMap<>();
+      for (Map.Entry<Enum<?>, List<Object>> entry : storage.getData().entrySet()) {
+         Enum<?> key = entry.getKey();
+         List<Object> values = entry.getValue();
+         int previousSize = mark.sizes().getOrDefault(key, 0);
+         for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof Storage subStorage) {
+               Mark subMark = i < previousSize ? mark.subStorages().getOrDefault(subStorage, EMPTY_MARK) : EMPTY_MARK;
+               StorageDelta subDelta = since(subMark, subStorage);
+               if (!subDelta.isEmpty()) {
+                  nested.put(key, subDelta);
+               }
+            } else if (i >= previousSize) {
+               added.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+            }
+         }
+      }
+      return new StorageDelta(Collections.unmodifiableMap(added), Collections.unmodifiableMap(nested));
+   }
+
+   /**
+    * Stores all values of this delta into the given storage.
+    *
+    * <p>Values of sub-storages are stored into the sub-storage with the same key of the target,
+    * which is created when missing.
+    *
+    * @param target The storage to seed.
+    * @throws IllegalStateException if a sub-storage key of the delta holds a non-storage value in the target.
+    */
+   public void applyTo(Storage target) {
+      added.forEach((key, values) -> values.forEach(value -> target.put(key, value)));
+      nested.forEach((key, delta) -> delta.applyTo(target.sub(key)));
+   }
+
+   /**
+    * Indicates whether no values were added.
+    *
+    * @return {@code true} if the delta holds no values.
+    */
+   public boolean isEmpty() {
+      return added.isEmpty() && nested.isEmpty();
+   }
+
+   /**
+    * The number of values per key of a storage at a point in time.
+    *
+    * @param sizes       The number of values per key.
+    * @param subStorages The marks of the sub-storages, by instance.
+    */
+   public record Mark(Map<Enum<?>, Integer> sizes, Map<Storage, Mark> subStorages) {
+   }
+
+}
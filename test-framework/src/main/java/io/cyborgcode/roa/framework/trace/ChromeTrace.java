@@ -0,0 +1,134 @@
+package io.cyborgcode.roa.framework.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Collects the phase timelines of all tests of the run and writes them as a Chrome trace-event file.
+ *
+ * <p>Each phase becomes a complete ({@code "ph": "X"}) event on the track of the thread that ran it, and
+ * every thread gets a {@code thread_name} metadata event, so the file can be loaded into
+ * {@code chrome://tracing} or Perfetto to see the framework overhead of a whole parallel run at once.
+ * The file is written once the test plan finished, see {@link PhaseTimelineListener}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ChromeTrace {
+
+   private static final Queue<PhaseSpan> SPANS = new ConcurrentLinkedQueue<>();
+
+   private ChromeTrace() {
+   }
+
+   /**
+    * Adds the spans of a finished test to the trace.
+    *
+    * @param spans The spans of the test.
+    */
+   public static void add(Collection<PhaseSpan> spans) {
+      SPANS.addAll(spans);
+   }
+
+   /**
+    * Returns the configured trace file.
+    *
+    * @return The path of the Chrome trace file.
+    */
+   public static Path traceFile() {
+      return Path.of(getFrameworkConfig().timelineTraceFile());
+   }
+
+   /**
+    * Writes the collected spans to a trace file, replacing it.
+    *
+    * @param file The trace file.
+    * @return {@code true} if the file was written, {@code false} if no spans were collected.
+    * @throws UncheckedIOException If the file cannot be written.
+    */
+   public static boolean write(Path file) {
+      if (SPANS.isEmpty()) {
+         return false;
+      }
+      Path absolute = file.toAbsolutePath();
+      try {
+         Files.createDirectories(absolute.getParent());
+         Files.writeString(absolute, render(new ArrayList<>(SPANS)), StandardCharsets.UTF_8);
+         return true;
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to write the framework trace to " + absolute, e);
+      }
+   }
+
+   /**
+    * Renders spans as a Chrome trace-event JSON document.
+    *
+    * @param spans The spans to render.
+    * @return The JSON document.
+    */
+   static String render(List<PhaseSpan> spans) {
+      long pid = ProcessHandle.current().pid();
+      Map<Long, String> threads = new TreeMap<>();
+      StringBuilder json = new StringBuilder("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+      String separator = "\n";
+      for (PhaseSpan span : spans) {
+         threads.putIfAbsent(span.threadId(), span.thread());
+         json.append(separator)
+               .append("{\"name\":").append(quote(span.name()))
+               .append(",\"cat\":\"roa\",\"ph\":\"X\"")
+               .append(",\"ts\":").append(span.startMicros())
+               .append(",\"dur\":").append(span.durationMicros())
+               .append(",\"pid\":").append(pid)
+               .append(",\"tid\":").append(span.threadId())
+               .append(",\"args\":{\"test\":").append(quote(span.test())).append("}}");
+         separator = ",\n";
+      }
+      for (Map.Entry<Long, String> thread : threads.entrySet()) {
+         json.append(separator)
+               .append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(pid)
+               .append(",\"tid\":").append(thread.getKey())
+               .append(",\"args\":{\"name\":").append(quote(thread.getValue())).append("}}");
+      }
+      return json.append("\n]}\n").toString();
+   }
+
+   /**
+    * Forgets the collected spans.
+    */
+   static void clear() {
+      SPANS.clear();
+   }
+
+   private static String quote(String value) {
+      StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+      for (char c : value.toCharArray()) {
+         switch (c) {
+            case '"' -> quoted.append("\\\"");
+            case '\\' -> quoted.append("\\\\");
+            case '\n' -> quoted.append("\\n");
+            case '\r' -> quoted.append("\\r");
+            case '\t' -> quoted.append("\\t");
+            default -> {
+               if (c < 0x20) {
+                  quoted.append(String.format("\\u%04x", (int) c));
+               } else {
+                  quoted.append(c);
+               }
+            }
+         }
+      }
+      return quoted.append('"').toString();
+   }
+
+}
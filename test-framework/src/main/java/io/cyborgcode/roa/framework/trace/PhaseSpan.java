@@ -0,0 +1,20 @@
+package io.cyborgcode.roa.framework.trace;
+
+/**
+ * A finished framework phase of a test, as recorded by {@link PhaseTimeline}.
+ *
+ * <p>Start times are measured from a fixed origin shared by the whole run, so spans of tests running in
+ * parallel can be laid out on one time axis.
+ *
+ * @param test           The name of the test the phase belongs to.
+ * @param name           The name of the phase.
+ * @param thread         The name of the thread that ran the phase.
+ * @param threadId       The id of the thread that ran the phase.
+ * @param startMicros    The start of the phase, in microseconds since the run-wide origin.
+ * @param durationMicros The duration of the phase, in microseconds.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record PhaseSpan(String test, String name, String thread, long threadId, long startMicros,
+                        long durationMicros) {
+
+}
@@ -0,0 +1,263 @@
+package io.cyborgcode.roa.framework.trace;
+
+import io.cyborgcode.roa.framework.jfr.QuestPhaseEvent;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Records how long the framework phases of each test take, such as quest creation, data crafting,
+ * journeys, ring usage and reporting.
+ *
+ * <p>Phases are recorded as spans against the test they belong to. Extensions open spans with the
+ * {@link ExtensionContext} of the test; the first span of a test opens its timeline and binds the test to
+ * the {@code testId} value of the Log4j {@code ThreadContext}. Code without access to the context, such as
+ * journeys, rings or worker threads that inherit the {@code ThreadContext}, records against the bound test.
+ *
+ * <p>Recording is enabled by {@code timeline.enabled}. When disabled, no timeline is ever opened, so every
+ * call returns immediately and no state is kept. Finished timelines are attached to the Allure report by
+ * the {@code Epilogue} extension and collected for the suite-level Chrome trace, see {@link ChromeTrace}.
+ * Independently of the timeline, every span is also emitted as a {@link QuestPhaseEvent} while a flight
+ * recording wants that event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class PhaseTimeline {
+
+   /**
+    * The {@code ThreadContext} key binding a thread to the test it records phases for.
+    */
+   public static final String TEST_ID_KEY = "testId";
+
+   private static final long ORIGIN_NANOS = System.nanoTime();
+
+   private static final Map<String, Recording> RECORDINGS = new ConcurrentHashMap<>();
+
+   private static final Span NOOP = () -> {
+   };
+
+   private PhaseTimeline() {
+   }
+
+   /**
+    * Opens a span for a phase of the given test, opening the timeline of the test if needed.
+    *
+    * @param context The context of the test.
+    * @param phase   The name of the phase.
+    * @return The span to close once the phase finished.
+    */
+   public static Span span(ExtensionContext context, String phase) {
+      if (!getFrameworkConfig().timelineEnabled()) {
+         return withEvent(NOOP, phase);
+      }
+      String testId = context.getUniqueId();
+      Recording recording = RECORDINGS.computeIfAbsent(testId, id -> new Recording(testName(context)));
+      ThreadContext.put(TEST_ID_KEY, testId);
+      return withEvent(recording.open(phase), phase);
+   }
+
+   /**
+    * Opens a span for a phase of the test bound to the current thread.
+    *
+    * @param phase The name of the phase.
+    * @return The span to close once the phase finished; a no-op span if no test is bound.
+    */
+   public static Span span(String phase) {
+      Recording recording = current();
+      return withEvent(recording == null ? NOOP : recording.open(phase), phase);
+   }
+
+   /**
+    * Ends the running phase of a lane on the current thread and starts the next one.
+    *
+    * <p>Lanes model consecutive phases without an explicit end, such as the ring a quest is currently
+    * using. The last phase of a lane ends with {@link #endLane(String)} or when the timeline finishes.
+    *
+    * @param lane  The name of the lane.
+    * @param phase The name of the phase starting now.
+    */
+   public static void switchLane(String lane, String phase) {
+      Recording recording = current();
+      if (recording != null) {
+         recording.switchLane(lane, phase);
+      }
+   }
+
+   /**
+    * Ends the running phase of a lane on the current thread.
+    *
+    * @param lane The name of the lane.
+    */
+   public static void endLane(String lane) {
+      Recording recording = current();
+      if (recording != null) {
+         recording.endLane(lane);
+      }
+   }
+
+   /**
+    * Finishes the timeline of a test and hands its spans to the suite-level trace.
+    *
+    * <p>Lanes still running are ended, and the current thread is unbound from the test.
+    *
+    * @param context The context of the test.
+    * @return The spans of the test ordered by start time, or empty if nothing was recorded.
+    */
+   public static Optional<List<PhaseSpan>> finish(ExtensionContext context) {
+      if (!getFrameworkConfig().timelineEnabled()) {
+         return Optional.empty();
+      }
+      ThreadContext.remove(TEST_ID_KEY);
+      Recording recording = RECORDINGS.remove(context.getUniqueId());
+      if (recording == null) {
+         return Optional.empty();
+      }
+      List<PhaseSpan> spans = recording.close();
+      ChromeTrace.add(spans);
+      return Optional.of(spans);
+   }
+
+   /**
+    * Renders the spans of a test as a plain text table, with start offsets relative to the first span.
+    *
+    * @param spans The spans of the test ordered by start time.
+    * @return The rendered timeline.
+    */
+   public static String render(List<PhaseSpan> spans) {
+      StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%10s %10s  %-24s %s%n",
+            "start ms", "took ms", "thread", "phase"));
+      long origin = spans.isEmpty() ? 0L : spans.get(0).startMicros();
+      for (PhaseSpan span : spans) {
+         table.append(String.format(Locale.ROOT, "%10.1f %10.1f  %-24s %s%n",
+               (span.startMicros() - origin) / 1000.0, span.durationMicros() / 1000.0, span.thread(), span.name()));
+      }
+      return table.toString();
+   }
+
+   /**
+    * Forgets all open timelines.
+    */
+   static void clear() {
+      RECORDINGS.clear();
+   }
+
+   private static Span withEvent(Span span, String phase) {
+      QuestPhaseEvent event = QuestPhaseEvent.start(phase);
+      if (event == null) {
+         return span;
+      }
+      return () -> {
+         try {
+            span.close();
+         } finally {
+            event.commit();
+         }
+      };
+   }
+
+   private static Recording current() {
+      if (RECORDINGS.isEmpty()) {
+         return null;
+      }
+      String testId = ThreadContext.get(TEST_ID_KEY);
+      return testId == null ? null : RECORDINGS.get(testId);
+   }
+
+   private static String testName(ExtensionContext context) {
+      String className = context.getTestClass().map(Class::getSimpleName).orElse("UnknownClass");
+      String methodName = context.getTestMethod().map(Method::getName).orElse(context.getDisplayName());
+      return className + "." + methodName;
+   }
+
+   private static long nowMicros() {
+      return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - ORIGIN_NANOS);
+   }
+
+   /**
+    * A running phase; closing it records the phase.
+    */
+   @FunctionalInterface
+   public interface Span extends AutoCloseable {
+
+      /**
+       * Ends the phase.
+       */
+      @Override
+      void close();
+
+   }
+
+   /**
+    * The spans of a single test recorded so far.
+    */
+   private static final class Recording {
+
+      private final String test;
+
+      private final Queue<Recorded> spans = new ConcurrentLinkedQueue<>();
+
+      private final AtomicLong sequence = new AtomicLong();
+
+      private final Map<String, Span> lanes = new ConcurrentHashMap<>();
+
+      private Recording(String test) {
+         this.test = test;
+      }
+
+      private Span open(String phase) {
+         Thread thread = Thread.currentThread();
+         long order = sequence.getAndIncrement();
+         long start = nowMicros();
+         return () -> spans.add(new Recorded(order,
+               new PhaseSpan(test, phase, thread.getName(), thread.getId(), start, nowMicros() - start)));
+      }
+
+      private void switchLane(String lane, String phase) {
+         Span previous = lanes.put(laneKey(lane), open(phase));
+         if (previous != null) {
+            previous.close();
+         }
+      }
+
+      private void endLane(String lane) {
+         Span running = lanes.remove(laneKey(lane));
+         if (running != null) {
+            running.close();
+         }
+      }
+
+      private List<PhaseSpan> close() {
+         lanes.values().forEach(Span::close);
+         lanes.clear();
+         List<Recorded> ordered = new ArrayList<>(spans);
+         ordered.sort(Comparator.comparingLong((Recorded recorded) -> recorded.span().startMicros())
+               .thenComparingLong(Recorded::order));
+         return ordered.stream().map(Recorded::span).toList();
+      }
+
+      private static String laneKey(String lane) {
+         return lane + "@" + Thread.currentThread().getId();
+      }
+
+   }
+
+   /**
+    * A finished span and the order it was opened in, which breaks ties between spans starting together.
+    */
+   private record Recorded(long order, PhaseSpan span) {
+   }
+
+}
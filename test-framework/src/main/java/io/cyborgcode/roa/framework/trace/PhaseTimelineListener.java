@@ -0,0 +1,41 @@
+package io.cyborgcode.roa.framework.trace;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import static io.cyborgcode.roa.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
+/**
+ * Writes the framework phase timelines recorded during the run to the Chrome trace file.
+ *
+ * <p>Registered through {@code META-INF/services}, so the JUnit Platform launcher picks it up
+ * automatically. Failing to write the trace never fails the test run; it is only logged.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class PhaseTimelineListener implements TestExecutionListener {
+
+   /**
+    * Writes the trace once all tests have been executed.
+    *
+    * @param testPlan The executed test plan.
+    */
+   @Override
+   public void testPlanExecutionFinished(TestPlan testPlan) {
+      if (!getFrameworkConfig().timelineEnabled()) {
+         return;
+      }
+      Path file = ChromeTrace.traceFile();
+      try {
+         if (ChromeTrace.write(file)) {
+            LogQuest.info("Framework trace written to '{}'.", file.toAbsolutePath());
+         }
+      } catch (UncheckedIOException e) {
+         LogQuest.warn("Framework trace could not be saved to '{}': {}", file, e.getMessage());
+      }
+   }
+
+}
@@ -2,7 +2,11 @@ package io.cyborgcode.roa.framework.util;
 
 import io.cyborgcode.utilities.config.ConfigSource;
 import io.cyborgcode.utilities.config.PropertyConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
 import io.cyborgcode.roa.framework.log.LogQuest;
+import io.cyborgcode.roa.framework.log.TestLogCapture;
+import io.cyborgcode.roa.framework.trace.PhaseSpan;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import io.qameta.allure.Allure;
 import java.io.BufferedReader;
@@ -24,6 +28,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.aeonbits.owner.Config;
@@ -72,6 +80,8 @@ public class AllureStepHelper {
    private static final String CATEGORIES_JSON_PATH = "allure/json/categories.json";
    private static final String FRAMEWORK_PACKAGE = "io.cyborgcode.roa";
    private static final String CATEGORIES_JSON = "categories.json";
+   private static final String TEST_DETAILS_TEMPLATE = "allure/html/test-details.html";
+   private static final String TEST_METADATA = "testMetadata";
    private static final AtomicBoolean ENV_INITIALIZED = new AtomicBoolean(false);
 
    /**
@@ -103,17 +113,42 @@ public class AllureStepHelper {
    /**
     * Attaches filtered logs to Allure based on the test name.
     *
-    * <p>This method reads a system log file and filters for entries containing a test scenario identifier.
-    * If the test name is unavailable or if no matching log entries are found, a fallback message is attached.
+    * <p>The in-memory capture of the test invocation running on the current thread is looked up by the
+    * {@link TestLogCapture#CAPTURE_ID_KEY} value of the {@link ThreadContext}.
     *
     * @param testName The name of the test scenario to filter logs for.
+    * @see #attachFilteredLogsToAllure(String, String)
     */
    public static void attachFilteredLogsToAllure(String testName) {
+      attachFilteredLogsToAllure(testName, ThreadContext.get(TestLogCapture.CAPTURE_ID_KEY));
+   }
+
+   /**
+    * Attaches filtered logs to Allure based on the test name.
+    *
+    * <p>When the logs of the test invocation were captured in memory by {@link TestLogCapture}, the captured
+    * events are attached and the capture buffer is released. Otherwise this method reads a system log file and
+    * filters for entries containing a test scenario identifier.
+    * If the test name is unavailable or if no matching log entries are found, a fallback message is attached.
+    *
+    * @param testName  The name of the test scenario to filter logs for.
+    * @param captureId The capture id of the test invocation, or {@code null} if its logs were not captured.
+    */
+   public static void attachFilteredLogsToAllure(String testName, String captureId) {
       if (testName == null || testName.isEmpty()) {
          Allure.addAttachment("Filtered Logs", CONTENT_TYPE, "Test name is not available.", ".log");
          return;
       }
 
+      Optional<String> capturedLogs = TestLogCapture.release(captureId);
+      if (capturedLogs.isPresent()) {
+         String attachmentContent = capturedLogs.get().isEmpty()
+               ? "No logs found for test: " + testName
+               : capturedLogs.get();
+         Allure.addAttachment("Filtered Logs for Test: " + testName, CONTENT_TYPE, attachmentContent, ".log");
+         return;
+      }
+
       String logFilePath = System.getProperty("logFileName", "logs/cyborgLog.log");
       String testIdentifier = "[scenario=" + testName + "]";
 
@@ -134,6 +169,15 @@ public class AllureStepHelper {
       }
    }
 
+   /**
+    * Attaches the framework phase timeline of a test to Allure.
+    *
+    * @param spans The recorded phases of the test, ordered by start time.
+    */
+   public static void attachPhaseTimeline(List<PhaseSpan> spans) {
+      Allure.addAttachment("Framework Timeline", "text/plain", PhaseTimeline.render(spans), ".txt");
+   }
+
    /**
     * Logs the test outcome after execution.
     *
@@ -159,36 +203,78 @@ public class AllureStepHelper {
    /**
     * Sets up and formats test metadata for Allure reports.
     *
-    * <p>This method loads a predefined HTML template and dynamically populates it with:
+    * <p>This method renders a predefined HTML template and dynamically populates it with:
     * <ul>
     *     <li>Test name and class details.</li>
     *     <li>Annotations applied at the class and method levels.</li>
     *     <li>Test argument values.</li>
     * </ul>
-    * The formatted HTML is then stored under the {@code HTML} key in the global store of the
+    * If the metadata was already rendered in the background by {@link #prepareTestMetadata(ExtensionContext)},
+    * that result is used. The formatted HTML is then stored under the {@code HTML} key in the global store of the
     * provided {@link ExtensionContext} for later attachment to the Allure report.
     *
     * @param context The test execution context.
     */
    public static void setUpTestMetadata(ExtensionContext context) {
-      String htmlTemplate = ResourceLoader.loadResourceFile("allure/html/test-details.html");
-
-      Map<String, String> placeholders = Map.of(
-            "{{testName}}", escapeHtml(context.getRequiredTestMethod().getName()),
-            "{{className}}", escapeHtml(context.getRequiredTestClass().getSimpleName()),
-            "{{classAnnotations}}", formatAnnotationsToNewRows(escapeHtml(getClassAnnotations(context))),
-            "{{methodAnnotations}}", formatAnnotationsToNewRows(escapeHtml(getMethodAnnotations(context))),
-            "{{testArguments}}", formatLongText(escapeHtml(getTestArguments(context)))
-      );
-
-      String formattedHtml = placeholders.entrySet().stream()
-            .reduce(htmlTemplate, (html, entry) -> html.replace(entry.getKey(), entry.getValue()), (a, b) -> a);
-      List<String> htmlList = context.getStore(ExtensionContext.Namespace.GLOBAL).get(HTML, List.class);
+      ExtensionContext.Store store = context.getStore(ExtensionContext.Namespace.GLOBAL);
+      CompletableFuture<?> prepared = store.remove(TEST_METADATA, CompletableFuture.class);
+      String formattedHtml = prepared == null ? renderTestMetadata(context) : joinTestMetadata(prepared, context);
+
+      List<String> htmlList = store.get(HTML, List.class);
       if (htmlList == null) {
          htmlList = new ArrayList<>();
       }
       htmlList.add(formattedHtml);
-      context.getStore(ExtensionContext.Namespace.GLOBAL).put(HTML, htmlList);
+      store.put(HTML, htmlList);
+   }
+
+   /**
+    * Starts rendering the test metadata HTML in the background.
+    *
+    * <p>The metadata only depends on the test class and method, so it can be rendered while the test runs
+    * and picked up by {@link #setUpTestMetadata(ExtensionContext)} once it finishes. Nothing is prepared
+    * when details are only reported for failed tests, since the outcome is not known yet.
+    *
+    * @param context The test execution context.
+    */
+   public static void prepareTestMetadata(ExtensionContext context) {
+      if (context.getTestMethod().isEmpty() || getFrameworkConfig().reportDetailsOnFailureOnly()) {
+         return;
+      }
+      context.getStore(ExtensionContext.Namespace.GLOBAL)
+            .put(TEST_METADATA, CompletableFuture.supplyAsync(() -> renderTestMetadata(context)));
+   }
+
+   /**
+    * Renders the test metadata HTML from the precompiled test details template.
+    *
+    * @param context The test execution context.
+    * @return The rendered HTML.
+    */
+   private static String renderTestMetadata(ExtensionContext context) {
+      return HtmlTemplate.load(TEST_DETAILS_TEMPLATE).render(Map.of(
+            "testName", escapeHtml(context.getRequiredTestMethod().getName()),
+            "className", escapeHtml(context.getRequiredTestClass().getSimpleName()),
+            "classAnnotations", formatAnnotationsToNewRows(escapeHtml(getClassAnnotations(context))),
+            "methodAnnotations", formatAnnotationsToNewRows(escapeHtml(getMethodAnnotations(context))),
+            "testArguments", formatLongText(escapeHtml(getTestArguments(context)))
+      ));
+   }
+
+   /**
+    * Waits for metadata rendered in the background, rendering it in place if the background task failed.
+    *
+    * @param prepared The background rendering task.
+    * @param context  The test execution context.
+    * @return The rendered HTML.
+    */
+   private static String joinTestMetadata(CompletableFuture<?> prepared, ExtensionContext context) {
+      try {
+         return String.valueOf(prepared.join());
+      } catch (CompletionException | CancellationException e) {
+         LogQuest.debug("Background rendering of test metadata failed, rendering in place.", e);
+         return renderTestMetadata(context);
+      }
    }
 
    /**
@@ -350,20 +436,38 @@ public class AllureStepHelper {
     *
     * <p>This method extracts the simple names of the test class and method from the provided
     * {@link ExtensionContext} and stores them in the {@link ThreadContext} under the key "testName".
+    * The unique id of the test invocation is stored under {@link TestLogCapture#CAPTURE_ID_KEY} and, when
+    * enabled, in-memory capture of the test's log events is started under that id.
     * Additionally, it stores the current system time in milliseconds as the test start time in the global store.
     *
     * @param context The test execution context.
     */
    public static void setupTestContext(ExtensionContext context) {
+      String testName = testName(context);
+      String captureId = context.getUniqueId();
+      ThreadContext.put("testName", testName);
+      ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, captureId);
+      FrameworkConfig frameworkConfig = getFrameworkConfig();
+      if (frameworkConfig.logCaptureEnabled()) {
+         TestLogCapture.start(captureId, frameworkConfig.logCaptureMaxEvents(), frameworkConfig.logCapturePattern());
+      }
+      context.getStore(ExtensionContext.Namespace.GLOBAL).put(START_TIME, System.currentTimeMillis());
+   }
+
+   /**
+    * Builds the name under which the logs of a test are tagged, as {@code SimpleClassName.methodName}.
+    *
+    * @param context The test execution context.
+    * @return The test name stored as {@code testName} in the log context.
+    */
+   public static String testName(ExtensionContext context) {
       String className = context.getTestClass()
             .map(Class::getSimpleName)
             .orElse("UnknownClass");
       String methodName = context.getTestMethod()
             .map(Method::getName)
             .orElse("UnknownMethod");
-
-      ThreadContext.put("testName", className + "." + methodName);
-      context.getStore(ExtensionContext.Namespace.GLOBAL).put(START_TIME, System.currentTimeMillis());
+      return className + "." + methodName;
    }
 
 }
@@ -0,0 +1,150 @@
+package io.cyborgcode.roa.framework.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-class plan describing how the fields of an object are read when it is formatted.
+ *
+ * <p>Plans are built once per class and cached. Each declared field is made accessible once and
+ * turned into a {@link MethodHandle} getter, so formatting an object graph does not repeat
+ * reflective lookups, access checks and {@code setAccessible} calls for every instance.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class FieldAccessPlan {
+
+   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+   private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+   /**
+    * Cache of plans keyed by class.
+    */
+   private static final ClassValue<FieldAccessPlan> PLANS = new ClassValue<>() {
+      @Override
+      protected FieldAccessPlan computeValue(Class<?> type) {
+         return new FieldAccessPlan(type);
+      }
+   };
+
+   private final String header;
+
+   private final List<FieldAccessor> accessors;
+
+   private FieldAccessPlan(Class<?> type) {
+      this.header = type.getSimpleName() + " {\n";
+      this.accessors = Arrays.stream(type.getDeclaredFields())
+            .filter(field -> !field.isSynthetic())
+            .map(FieldAccessPlan::createAccessor)
+            .toList();
+   }
+
+   /**
+    * Returns the cached plan of the given class, building it on first use.
+    *
+    * @param type the class whose fields are formatted
+    * @return the field access plan of the class
+    */
+   static FieldAccessPlan of(Class<?> type) {
+      return PLANS.get(type);
+   }
+
+   /**
+    * Returns the opening line written before the fields of an instance.
+    *
+    * @return the simple class name followed by an opening brace
+    */
+   String header() {
+      return header;
+   }
+
+   /**
+    * Returns the accessors of the declared fields, in declaration order.
+    *
+    * @return the field accessors
+    */
+   List<FieldAccessor> accessors() {
+      return accessors;
+   }
+
+   @SuppressWarnings("java:S3011")
+   private static FieldAccessor createAccessor(Field field) {
+      if (!field.trySetAccessible()) {
+         return new FieldAccessor(field.getName(), null, false);
+      }
+      try {
+         MethodHandle getter = LOOKUP.unreflectGetter(field);
+         if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+         }
+         return new FieldAccessor(field.getName(), getter.asType(GETTER_TYPE), field.getType().isPrimitive());
+      } catch (IllegalAccessException e) {
+         return new FieldAccessor(field.getName(), null, false);
+      }
+   }
+
+   /**
+    * Reads the value of a single field.
+    */
+   static final class FieldAccessor {
+
+      private final String name;
+
+      private final MethodHandle getter;
+
+      private final boolean primitive;
+
+      private FieldAccessor(String name, MethodHandle getter, boolean primitive) {
+         this.name = name;
+         this.getter = getter;
+         this.primitive = primitive;
+      }
+
+      /**
+       * Returns the field name.
+       *
+       * @return the name of the field
+       */
+      String name() {
+         return name;
+      }
+
+      /**
+       * Indicates whether the field could be made accessible.
+       *
+       * @return {@code true} if the field value can be read
+       */
+      boolean isReadable() {
+         return getter != null;
+      }
+
+      /**
+       * Indicates whether the field has a primitive type, whose value needs no further formatting.
+       *
+       * @return {@code true} if the field type is primitive
+       */
+      boolean isPrimitive() {
+         return primitive;
+      }
+
+      /**
+       * Reads the field value from the given instance; static fields ignore the instance.
+       *
+       * @param target the instance to read from
+       * @return the field value, boxed for primitive fields
+       * @throws Throwable if the underlying getter fails
+       */
+      Object read(Object target) throws Throwable {
+         return (Object) getter.invokeExact(target);
+      }
+
+   }
+
+}
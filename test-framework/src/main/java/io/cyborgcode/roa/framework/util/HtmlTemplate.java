@@ -0,0 +1,113 @@
+package io.cyborgcode.roa.framework.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precompiled HTML template with {@code {{placeholder}}} markers.
+ *
+ * <p>Templates are loaded from the classpath once and split into literal and placeholder segments,
+ * so rendering a report section is a single pass into a presized {@link StringBuilder} instead of
+ * reloading the resource and applying one {@code String.replace} per placeholder.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class HtmlTemplate {
+
+   private static final String PLACEHOLDER_START = "{{";
+   private static final String PLACEHOLDER_END = "}}";
+
+   /**
+    * Cache of compiled templates keyed by classpath resource path.
+    */
+   private static final Map<String, HtmlTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+   /**
+    * Literal segments; the placeholder at index {@code i} is rendered between literals {@code i} and {@code i + 1}.
+    */
+   private final String[] literals;
+
+   private final String[] placeholders;
+
+   private final int literalLength;
+
+   private HtmlTemplate(List<String> literals, List<String> placeholders) {
+      this.literals = literals.toArray(String[]::new);
+      this.placeholders = placeholders.toArray(String[]::new);
+      this.literalLength = literals.stream().mapToInt(String::length).sum();
+   }
+
+   /**
+    * Loads and compiles the template stored at the given classpath location.
+    *
+    * <p>Each template is read and compiled only once; later calls return the cached instance.
+    * </p>
+    *
+    * @param resourcePath the path of the template within the classpath
+    * @return the compiled template
+    */
+   public static HtmlTemplate load(String resourcePath) {
+      return TEMPLATES.computeIfAbsent(resourcePath,
+            path -> compile(ResourceLoader.loadResourceFile(path)));
+   }
+
+   /**
+    * Compiles template text into literal and placeholder segments.
+    *
+    * @param template the template text
+    * @return the compiled template
+    */
+   public static HtmlTemplate compile(String template) {
+      List<String> literals = new ArrayList<>();
+      List<String> placeholders = new ArrayList<>();
+      int position = 0;
+      while (true) {
+         int start = template.indexOf(PLACEHOLDER_START, position);
+         int end = start < 0 ? -1 : template.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+         if (end < 0) {
+            literals.add(template.substring(position));
+            return new HtmlTemplate(literals, placeholders);
+         }
+         literals.add(template.substring(position, start));
+         placeholders.add(template.substring(start + PLACEHOLDER_START.length(), end));
+         position = end + PLACEHOLDER_END.length();
+      }
+   }
+
+   /**
+    * Renders the template, substituting each placeholder with its value.
+    *
+    * <p>Placeholders without a value are kept as they appear in the template.
+    * </p>
+    *
+    * @param values the placeholder values keyed by placeholder name (without braces)
+    * @return the rendered HTML
+    */
+   public String render(Map<String, String> values) {
+      String[] resolved = new String[placeholders.length];
+      int length = literalLength;
+      for (int i = 0; i < placeholders.length; i++) {
+         String value = values.get(placeholders[i]);
+         resolved[i] = value != null ? value : PLACEHOLDER_START + placeholders[i] + PLACEHOLDER_END;
+         length += resolved[i].length();
+      }
+
+      StringBuilder html = new StringBuilder(length);
+      html.append(literals[0]);
+      for (int i = 0; i < resolved.length; i++) {
+         html.append(resolved[i]).append(literals[i + 1]);
+      }
+      return html.toString();
+   }
+
+   /**
+    * Drops all cached templates so they are reloaded on next use.
+    */
+   static void clearCache() {
+      TEMPLATES.clear();
+   }
+
+}
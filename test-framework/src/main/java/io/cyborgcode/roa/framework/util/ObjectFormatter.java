@@ -6,21 +6,13 @@ import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
 import io.qameta.allure.internal.shadowed.jackson.databind.SerializationFeature;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 /**
@@ -35,9 +27,19 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 public final class ObjectFormatter {
 
    /**
-    * Cache for storing declared fields of classes.
+    * Maximum nesting depth of objects rendered field by field.
     */
-   private static final ConcurrentHashMap<Class<?>, Field[]> FIELDS_CACHE = new ConcurrentHashMap<>();
+   private static final int MAX_DEPTH = 8;
+
+   /**
+    * Maximum number of elements rendered per collection or array.
+    */
+   private static final int MAX_ELEMENTS = 100;
+
+   /**
+    * Output length after which rendering of an object graph stops.
+    */
+   private static final int MAX_OUTPUT_LENGTH = 64 * 1024;
 
    /**
     * ObjectMapper instance configured for JSON formatting.
@@ -64,127 +66,30 @@ public final class ObjectFormatter {
 
    /**
     * Formats the fields of the provided object into a string representation.
-    * Uses a set to detect circular references.
+    *
+    * <p>Fields are read through per-class {@link FieldAccessPlan}s. Circular references are reported instead of
+    * followed, and nesting depth, collection and array sizes, and total output length are bounded so that huge
+    * object graphs are truncated rather than rendered in full.
     *
     * @param obj the object whose fields will be formatted
     * @return a formatted string representing the object's fields
     */
    public static String formatObjectFields(Object obj) {
-      return formatObjectFields(obj, Collections.newSetFromMap(new IdentityHashMap<>()));
-   }
-
-
-   /**
-    * Recursively formats the fields of the provided object, tracking visited objects to avoid circular references.
-    *
-    * @param obj     the object to format
-    * @param visited a set of already visited objects to prevent infinite recursion
-    * @return a formatted string representation of the object's fields
-    */
-   @SuppressWarnings("java:S3011")
-   private static String formatObjectFields(Object obj, Set<Object> visited) {
-      if (obj == null) {
-         return "null";
-      }
-      if (visited.contains(obj)) {
-         return "[Circular Reference Detected]";
-      }
-      visited.add(obj);
-
-      Class<?> objClass = obj.getClass();
-      if (objClass.getPackageName().startsWith("java.") || objClass.isEnum()) {
-         visited.remove(obj);
-         return obj.toString();
-      }
-
-      StringBuilder result = new StringBuilder(objClass.getSimpleName()).append(" {\n");
-      try {
-         for (Field field : FIELDS_CACHE.computeIfAbsent(objClass, Class::getDeclaredFields)) {
-            boolean isStatic = Modifier.isStatic(field.getModifiers());
-            Object target = isStatic ? null : obj;
-            if (!field.canAccess(target)) {
-               try {
-                  field.setAccessible(true);
-               } catch (InaccessibleObjectException e) {
-                  result.append(field.getName()).append(": [Inaccessible Field]\n");
-                  continue;
-               }
-            }
-            result.append(field.getName()).append(": ")
-                  .append(formatArgumentValue(field.get(obj), visited))
-                  .append("\n");
-         }
-      } catch (IllegalAccessException e) {
-         result.append("[Error accessing fields]");
-      }
-      result.append("}");
-      visited.remove(obj);
-      return result.toString();
-   }
-
-
-   /**
-    * Formats a single argument value, handling primitive types, collections, arrays, or objects.
-    *
-    * @param argument the argument value to format
-    * @param visited  a set of visited objects for circular reference detection
-    * @return a string representation of the argument value
-    */
-   private static String formatArgumentValue(Object argument, Set<Object> visited) {
-      if (argument == null) {
-         return "null";
-      }
-      if (argument instanceof String || argument instanceof Number || argument instanceof Boolean) {
-         return argument.toString();
-      }
-      if (argument instanceof Collection<?>) {
-         return formatCollection((Collection<?>) argument, visited);
-      }
-      if (argument.getClass().isArray()) {
-         return formatArray(argument, visited);
-      }
-      return formatObjectFields(argument, visited);
-   }
-
-
-   /**
-    * Formats a collection of objects into a comma-separated string representation.
-    *
-    * @param collection the collection to format
-    * @param visited    a set of visited objects for circular reference detection
-    * @return a string representation of the collection elements
-    */
-   private static String formatCollection(Collection<?> collection, Set<Object> visited) {
-      return collection.stream()
-            .map(element -> formatArgumentValue(element, visited))
-            .collect(Collectors.joining(", "));
-   }
-
-
-   /**
-    * Formats an array of objects into a comma-separated string representation.
-    *
-    * @param array   the array to format
-    * @param visited a set of visited objects for circular reference detection
-    * @return a formatted string representation of the array elements
-    */
-   private static String formatArray(Object array, Set<Object> visited) {
-      int length = Array.getLength(array);
-      return IntStream.range(0, length)
-            .mapToObj(i -> formatArgumentValue(Array.get(array, i), visited))
-            .collect(Collectors.joining(", ", "[", "]"));
+      GraphRenderer renderer = new GraphRenderer();
+      renderer.appendObject(obj);
+      return renderer.toString();
    }
 
 
    /**
-    * Generates HTML content by loading an HTML template and replacing placeholders with formatted argument rows.
+    * Generates HTML content by rendering the precompiled test data template with formatted argument rows.
     *
     * @param arguments a map of Enum keys to LinkedList of objects representing arguments
     * @return a string containing the generated HTML content
     */
    public static String generateHtmlContent(Map<Enum<?>, List<Object>> arguments) {
-      String htmlTemplate = ResourceLoader.loadResourceFile("allure/html/test-data.html");
-      return htmlTemplate.replace("{{argumentRows}}", buildRowsFromMap("", arguments));
+      return HtmlTemplate.load("allure/html/test-data.html")
+            .render(Map.of("argumentRows", buildRowsFromMap("", arguments)));
    }
 
 
@@ -552,4 +457,177 @@ public final class ObjectFormatter {
       }
    }
 
+   /**
+    * Renders an object graph into a single buffer while enforcing the depth, size and length budgets.
+    */
+   private static final class GraphRenderer {
+
+      private static final String CIRCULAR_REFERENCE = "[Circular Reference Detected]";
+      private static final String INACCESSIBLE_FIELD = "[Inaccessible Field]";
+      private static final String ERROR_ACCESSING_FIELD = "[Error accessing field]";
+      private static final String OUTPUT_TRUNCATED = "[Output Truncated]";
+
+      private final StringBuilder out = new StringBuilder(256);
+
+      /**
+       * Objects currently being rendered, from the root down to the innermost one.
+       */
+      private final Object[] path = new Object[MAX_DEPTH];
+
+      private int depth;
+
+      private boolean truncated;
+
+      private void appendObject(Object obj) {
+         if (obj == null) {
+            out.append("null");
+            return;
+         }
+         if (isOnPath(obj)) {
+            out.append(CIRCULAR_REFERENCE);
+            return;
+         }
+
+         Class<?> objClass = obj.getClass();
+         if (objClass.getPackageName().startsWith("java.") || objClass.isEnum()) {
+            out.append(obj);
+            return;
+         }
+         if (depth == MAX_DEPTH) {
+            out.append(objClass.getSimpleName()).append(" {...}");
+            return;
+         }
+
+         FieldAccessPlan plan = FieldAccessPlan.of(objClass);
+         path[depth++] = obj;
+         out.append(plan.header());
+         for (FieldAccessPlan.FieldAccessor accessor : plan.accessors()) {
+            if (isExhausted()) {
+               break;
+            }
+            out.append(accessor.name()).append(": ");
+            appendField(accessor, obj);
+            out.append('\n');
+         }
+         path[--depth] = null;
+         out.append('}');
+      }
+
+      @SuppressWarnings("java:S1181")
+      private void appendField(FieldAccessPlan.FieldAccessor accessor, Object obj) {
+         if (!accessor.isReadable()) {
+            out.append(INACCESSIBLE_FIELD);
+            return;
+         }
+         Object value;
+         try {
+            value = accessor.read(obj);
+         } catch (Throwable e) {
+            out.append(ERROR_ACCESSING_FIELD);
+            return;
+         }
+         if (accessor.isPrimitive()) {
+            out.append(value);
+         } else {
+            appendValue(value);
+         }
+      }
+
+      private void appendValue(Object value) {
+         if (value == null) {
+            out.append("null");
+         } else if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+         } else if (value instanceof Collection<?>) {
+            appendCollection((Collection<?>) value);
+         } else if (value.getClass().isArray()) {
+            appendArray(value);
+         } else {
+            appendObject(value);
+         }
+      }
+
+      private void appendCollection(Collection<?> collection) {
+         int index = 0;
+         for (Object element : collection) {
+            if (index == MAX_ELEMENTS) {
+               appendRemaining(collection.size() - index);
+               return;
+            }
+            if (isExhausted()) {
+               return;
+            }
+            if (index++ > 0) {
+               out.append(", ");
+            }
+            appendValue(element);
+         }
+      }
+
+      private void appendArray(Object array) {
+         int length = Array.getLength(array);
+         int shown = Math.min(length, MAX_ELEMENTS);
+         out.append('[');
+         for (int i = 0; i < shown && !isExhausted(); i++) {
+            if (i > 0) {
+               out.append(", ");
+            }
+            appendArrayElement(array, i);
+         }
+         if (length > shown) {
+            appendRemaining(length - shown);
+         }
+         out.append(']');
+      }
+
+      private void appendArrayElement(Object array, int index) {
+         if (array instanceof Object[]) {
+            appendValue(((Object[]) array)[index]);
+         } else if (array instanceof int[]) {
+            out.append(((int[]) array)[index]);
+         } else if (array instanceof long[]) {
+            out.append(((long[]) array)[index]);
+         } else if (array instanceof double[]) {
+            out.append(((double[]) array)[index]);
+         } else if (array instanceof boolean[]) {
+            out.append(((boolean[]) array)[index]);
+         } else if (array instanceof char[]) {
+            out.append(((char[]) array)[index]);
+         } else {
+            out.append(Array.get(array, index));
+         }
+      }
+
+      private void appendRemaining(int remaining) {
+         out.append(", ... (").append(remaining).append(" more)");
+      }
+
+      private boolean isOnPath(Object obj) {
+         for (int i = 0; i < depth; i++) {
+            if (path[i] == obj) {
+               return true;
+            }
+         }
+         return false;
+      }
+
+      private boolean isExhausted() {
+         if (out.length() < MAX_OUTPUT_LENGTH) {
+            return false;
+         }
+         if (!truncated) {
+            out.append(OUTPUT_TRUNCATED);
+            truncated = true;
+         }
+         return true;
+      }
+
+      @Override
+      public String toString() {
+         return out.toString();
+      }
+
+   }
+
+
 }
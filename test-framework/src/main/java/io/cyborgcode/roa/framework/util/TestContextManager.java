@@ -56,6 +56,24 @@ public class TestContextManager {
       return decoratorsFactory.decorate(quest, SuperQuest.class);
    }
 
+   /**
+    * Releases the decorators cached for the {@link Quest} of the given test execution context.
+    *
+    * <p>Invoked once the quest has ended so that the {@link DecoratorsFactory} does not keep
+    * decorated instances of finished tests around.
+    *
+    * @param extensionContext the JUnit extension context
+    */
+   public static void releaseQuest(ExtensionContext extensionContext) {
+      Quest quest = (Quest) extensionContext.getStore(ExtensionContext.Namespace.GLOBAL).get(QUEST);
+      if (quest == null) {
+         return;
+      }
+
+      ApplicationContext appCtx = SpringExtension.getApplicationContext(extensionContext);
+      appCtx.getBean(DecoratorsFactory.class).release(quest);
+   }
+
    /**
     * Stores a test argument in both the {@link SuperQuest} storage and the global JUnit extension context.
     *
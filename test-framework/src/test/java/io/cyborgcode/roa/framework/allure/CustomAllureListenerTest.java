@@ -4,6 +4,7 @@ import io.qameta.allure.Allure;
 import io.qameta.allure.AllureLifecycle;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -73,6 +74,76 @@ class CustomAllureListenerTest {
                 "Expected step name to be '" + expectedStepName + "' but got '" + actualStepName + "'");
     }
 
+    @Test
+    @DisplayName("Should restore the enclosing step as active after a nested step stops")
+    void testStopStep_ShouldRestoreEnclosingStep() {
+        // Given
+        CustomAllureListener.startStep("Outer Step");
+        CustomAllureListener.startStep("Inner Step");
+
+        // When
+        CustomAllureListener.stopStep();
+
+        // Then
+        assertTrue(CustomAllureListener.isStepActive("Outer Step"));
+        CustomAllureListener.stopStep();
+        assertFalse(CustomAllureListener.isStepActive("Outer Step"));
+        verify(lifecycleMock, times(2)).stopStep();
+    }
+
+    @Test
+    @DisplayName("Should keep the active step separate per thread")
+    void testGetActiveStepName_ShouldBeThreadLocal() throws InterruptedException {
+        // Given
+        CustomAllureListener.startStep("Main Thread Step");
+        String[] otherThreadStep = new String[1];
+
+        // When
+        Thread other = new Thread(() -> otherThreadStep[0] = CustomAllureListener.getActiveStepName());
+        other.start();
+        other.join();
+
+        // Then
+        assertNull(otherThreadStep[0]);
+        assertEquals("Main Thread Step", CustomAllureListener.getActiveStepName());
+        CustomAllureListener.stopStep();
+    }
+
+    @Test
+    @DisplayName("Should start a step under a parent captured on another thread")
+    void testStartStepUnderCapturedParent() throws InterruptedException {
+        // Given
+        when(lifecycleMock.getCurrentTestCaseOrStep()).thenReturn(Optional.of("parent-step"));
+        when(lifecycleMock.getCurrentTestCase()).thenReturn(Optional.of("test-case"));
+        CustomAllureListener.StepParent parent = CustomAllureListener.currentStepParent();
+        String[] branchStep = new String[1];
+
+        // When
+        Thread branch = new Thread(() -> {
+            CustomAllureListener.startStep(parent, "Branch Step");
+            branchStep[0] = CustomAllureListener.getActiveStepName();
+            CustomAllureListener.stopStep();
+        });
+        branch.start();
+        branch.join();
+
+        // Then
+        assertEquals(new CustomAllureListener.StepParent("test-case", "parent-step"), parent);
+        assertEquals("Branch Step", branchStep[0]);
+        verify(lifecycleMock).setCurrentTestCase("test-case");
+        verify(lifecycleMock).startStep(eq("parent-step"), anyString(), any(StepResult.class));
+    }
+
+    @Test
+    @DisplayName("Should capture no parent when nothing is running")
+    void testCurrentStepParentWithoutRunningTest() {
+        // Given
+        when(lifecycleMock.getCurrentTestCaseOrStep()).thenReturn(Optional.empty());
+
+        // When / Then
+        assertNull(CustomAllureListener.currentStepParent());
+    }
+
     private Status getExpectedStatus(CustomAllureListener.StatusType inputType) {
         if (inputType == CustomAllureListener.StatusType.DEFAULT) {
             return null;
@@ -1,6 +1,8 @@
 package io.cyborgcode.roa.framework.base;
 
 import io.cyborgcode.roa.framework.base.mock.MockEnum;
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
 import io.cyborgcode.roa.framework.log.LogQuest;
 import io.cyborgcode.roa.framework.quest.QuestHolder;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
@@ -169,6 +171,25 @@ class BaseQuestUnitTest {
       verify(subStorage).get(extractor, Integer.class);
    }
 
+   @Test
+   @DisplayName("DefaultStorage.retrieve works on a new quest once any quest created the default storage")
+   void testRetrieve_ShouldResolveDefaultStorageOnNewQuest() {
+      try (MockedStatic<FrameworkConfigHolder> configHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+         // Given
+         FrameworkConfig config = mock(FrameworkConfig.class);
+         when(config.defaultStorage()).thenReturn(MockEnum.KEY2.name());
+         configHolderMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+         new Storage().sub(MockEnum.KEY2).put(MockEnum.KEY1, DEFAULT_VALUE);
+         when(superQuest.getStorage()).thenReturn(new Storage());
+
+         // When
+         String result = BaseQuest.DefaultStorage.retrieve(MockEnum.KEY1, String.class);
+
+         // Then
+         assertNull(result);
+      }
+   }
+
    @Test
    @DisplayName("retrieve returns null if storage returns null")
    void testRetrieve_ShouldReturnNullWhenStorageReturnsNull() {
@@ -12,7 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Scope;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -143,4 +145,15 @@ class ServicesTest {
         assertEquals(mockService, result); // should return the first one
         reflectionUtilMock.verify(() -> ReflectionUtil.getFieldValues(mockHook, MockService.class));
     }
+
+    @Test
+    @DisplayName("Should be prototype-scoped so each sequential test class gets its own cache")
+    void testServicesIsPrototypeScoped() {
+        // When
+        Scope scope = Services.class.getAnnotation(Scope.class);
+
+        // Then
+        assertNotNull(scope);
+        assertEquals(ConfigurableBeanFactory.SCOPE_PROTOTYPE, scope.value());
+    }
 }
\ No newline at end of file
@@ -70,6 +70,16 @@ class FluentServiceDecoratorTest {
         verify(mockFluentService).postQuestSetupInitialization();
     }
 
+    @Test
+    @DisplayName("prepareArtifact should delegate to decorated service")
+    void testPrepareArtifact() {
+        // When
+        decorator.prepareArtifact(String.class);
+
+        // Then
+        verify(mockFluentService).prepareArtifact(String.class);
+    }
+
     @Test
     @DisplayName("drop should delegate to decorated service")
     void testDrop() {
@@ -149,7 +149,7 @@ class DecoratorsFactoryTest {
             assertEquals(1, cache.size());
 
             // The cached value should be the last decorator
-            assertSame(decorator2, cache.get(target));
+            assertSame(decorator2, factory.decorate(target, AnotherMockDecorator.class));
 
             // Check that retrieving the first decorator type again creates a new instance
             MockDecorator decorator1Again = factory.decorate(target, MockDecorator.class);
@@ -160,6 +160,50 @@ class DecoratorsFactoryTest {
         }
     }
 
+    @Test
+    @DisplayName("release() should drop the cached decorator of the target")
+    void testReleaseDropsCachedDecorator() {
+        // Given
+        MockTarget target = new MockTarget();
+        MockDecorator first = factory.decorate(target, MockDecorator.class);
+
+        // When
+        factory.release(target);
+        MockDecorator second = factory.decorate(target, MockDecorator.class);
+
+        // Then
+        assertNotSame(first, second);
+        assertSame(target, second.target());
+    }
+
+    @Test
+    @DisplayName("release() should ignore null and unknown targets")
+    void testReleaseIgnoresUnknownTargets() {
+        // Given
+        MockTarget target = new MockTarget();
+        MockDecorator decorator = factory.decorate(target, MockDecorator.class);
+
+        // When
+        factory.release(null);
+        factory.release(new MockTarget());
+
+        // Then
+        assertSame(decorator, factory.decorate(target, MockDecorator.class));
+    }
+
+    @Test
+    @DisplayName("decorate() should keep failing for a decorator without matching constructor")
+    void testRepeatedFailureIsNotCached() {
+        // Given
+        MockTarget target = new MockTarget();
+
+        // When/Then
+        assertThrows(IllegalStateException.class,
+                () -> factory.decorate(target, MockDecoratorNoMatchingConstructor.class));
+        assertThrows(IllegalStateException.class,
+                () -> factory.decorate(target, MockDecoratorNoMatchingConstructor.class));
+    }
+
     // Test decorator types
     record MockDecorator(MockTarget target) {}
 
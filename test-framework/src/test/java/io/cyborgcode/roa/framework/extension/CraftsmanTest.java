@@ -16,7 +16,10 @@ import io.cyborgcode.roa.framework.util.TestContextManager;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.ThreadContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -37,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
@@ -269,10 +273,166 @@ class CraftsmanTest {
             testContextManagerMock.verify(
                   () -> TestContextManager.storeArgument(superQuest, dataForge, createdObject, extensionContext));
 
-            frameworkConfigHolderMock.verify(FrameworkConfigHolder::getFrameworkConfig);
+            frameworkConfigHolderMock.verify(FrameworkConfigHolder::getFrameworkConfig, atLeastOnce());
             reflectionUtilMock.verify(() -> ReflectionUtil.findEnumImplementationsOfInterface(
                   eq(DataForge.class), eq(DOG_PET), eq(COM_EXAMPLE)));
          }
       }
    }
-}
\ No newline at end of file
+
+   @Nested
+   @DisplayName("prefetch tests")
+   class PrefetchTests {
+
+      private final Map<Object, Object> prefetchStore = new ConcurrentHashMap<>();
+
+      private Method craftMethod;
+
+      @BeforeEach
+      void setup() throws NoSuchMethodException {
+         craftMethod = CraftsmanTest.class.getDeclaredMethod("craftMethod", String.class, Late.class, Late.class);
+         when(extensionContext.getTestMethod()).thenReturn(Optional.of(craftMethod));
+         when(parameterContext.getDeclaringExecutable()).thenReturn(craftMethod);
+         when(parameterContext.findAnnotation(Craft.class)).thenReturn(Optional.of(craft));
+         when(craft.model()).thenReturn(DOG_PET);
+         doAnswer(invocation -> prefetchStore.put(invocation.getArgument(0), invocation.getArgument(1)))
+               .when(parametersStore).put(any(), any());
+         doAnswer(invocation -> prefetchStore.remove(invocation.getArgument(0)))
+               .when(parametersStore).remove(any(), any());
+      }
+
+      @Test
+      @DisplayName("Should create eager arguments in the background when prefetching is enabled")
+      void shouldPrefetchEagerArguments() {
+         String[] creatingThread = new String[1];
+         when(late.create()).thenAnswer(invocation -> {
+            creatingThread[0] = Thread.currentThread().getName();
+            return "prefetched";
+         });
+         when(frameworkConfig.craftPrefetchEnabled()).thenReturn(true);
+         when(parameterContext.getIndex()).thenReturn(0);
+
+         try (MockedStatic<TestContextManager> testContextManagerMock = mockStatic(TestContextManager.class);
+              MockedStatic<ReflectionUtil> reflectionUtilMock = mockStatic(ReflectionUtil.class);
+              MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            stubStatics(testContextManagerMock, reflectionUtilMock, frameworkConfigHolderMock);
+
+            craftsman.beforeEach(extensionContext);
+            Object result = craftsman.resolveParameter(parameterContext, extensionContext);
+
+            assertThat(result).isEqualTo("prefetched");
+            assertThat(creatingThread[0]).startsWith("roa-craft-");
+            assertThat(prefetchStore).doesNotContainKey(0);
+            testContextManagerMock.verify(
+                  () -> TestContextManager.storeArgument(superQuest, dataForge, "prefetched", extensionContext));
+         }
+      }
+
+      @Test
+      @DisplayName("Should tag prefetch logs with the test about to run rather than the previous one")
+      void shouldTagPrefetchLogsWithCurrentTest() {
+         String[] loggedTest = new String[1];
+         when(late.create()).thenAnswer(invocation -> {
+            loggedTest[0] = ThreadContext.get("testName");
+            return "prefetched";
+         });
+         when(frameworkConfig.craftPrefetchEnabled()).thenReturn(true);
+         when(parameterContext.getIndex()).thenReturn(0);
+         doReturn(Optional.of(CraftsmanTest.class)).when(extensionContext).getTestClass();
+         ThreadContext.put("testName", "PreviousTest.previousMethod");
+
+         try (MockedStatic<TestContextManager> testContextManagerMock = mockStatic(TestContextManager.class);
+              MockedStatic<ReflectionUtil> reflectionUtilMock = mockStatic(ReflectionUtil.class);
+              MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            stubStatics(testContextManagerMock, reflectionUtilMock, frameworkConfigHolderMock);
+
+            craftsman.beforeEach(extensionContext);
+            craftsman.resolveParameter(parameterContext, extensionContext);
+
+            assertThat(loggedTest[0]).isEqualTo("CraftsmanTest.craftMethod");
+         } finally {
+            ThreadContext.remove("testName");
+         }
+      }
+
+      @Test
+      @DisplayName("Should hand prefetched Late arguments to the test as Late resolving to one object")
+      void shouldPrefetchLateArgumentsOnRequest() {
+         doReturn(Late.class).when(parameter).getType();
+         when(late.create()).thenAnswer(invocation -> new Object());
+         when(parameterContext.getIndex()).thenReturn(1);
+
+         try (MockedStatic<TestContextManager> testContextManagerMock = mockStatic(TestContextManager.class);
+              MockedStatic<ReflectionUtil> reflectionUtilMock = mockStatic(ReflectionUtil.class);
+              MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            stubStatics(testContextManagerMock, reflectionUtilMock, frameworkConfigHolderMock);
+
+            craftsman.beforeEach(extensionContext);
+            Object result = craftsman.resolveParameter(parameterContext, extensionContext);
+
+            assertThat(result).isInstanceOf(Late.class).isNotSameAs(late);
+            Object first = ((Late<?>) result).create();
+            assertThat(((Late<?>) result).create()).isSameAs(first);
+            verify(late).create();
+            assertThat(prefetchStore).doesNotContainKey(2);
+         }
+      }
+
+      @Test
+      @DisplayName("Should create arguments on resolution when prefetching is disabled")
+      void shouldNotPrefetchWhenDisabled() {
+         when(late.create()).thenReturn("created");
+         when(parameterContext.getIndex()).thenReturn(0);
+
+         try (MockedStatic<TestContextManager> testContextManagerMock = mockStatic(TestContextManager.class);
+              MockedStatic<ReflectionUtil> reflectionUtilMock = mockStatic(ReflectionUtil.class);
+              MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            stubStatics(testContextManagerMock, reflectionUtilMock, frameworkConfigHolderMock);
+
+            craftsman.beforeEach(extensionContext);
+
+            assertThat(prefetchStore).containsOnlyKeys(1);
+            assertThat(craftsman.resolveParameter(parameterContext, extensionContext)).isEqualTo("created");
+         }
+      }
+
+      @Test
+      @DisplayName("Should report the failure of a prefetched argument when resolving the parameter")
+      void shouldPropagatePrefetchFailure() {
+         when(late.create()).thenThrow(new IllegalStateException("generator down"));
+         when(frameworkConfig.craftPrefetchEnabled()).thenReturn(true);
+         when(parameterContext.getIndex()).thenReturn(0);
+         when(parameter.getName()).thenReturn("pet");
+
+         try (MockedStatic<TestContextManager> testContextManagerMock = mockStatic(TestContextManager.class);
+              MockedStatic<ReflectionUtil> reflectionUtilMock = mockStatic(ReflectionUtil.class);
+              MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            stubStatics(testContextManagerMock, reflectionUtilMock, frameworkConfigHolderMock);
+
+            craftsman.beforeEach(extensionContext);
+
+            assertThatThrownBy(() -> craftsman.resolveParameter(parameterContext, extensionContext))
+                  .isInstanceOf(ParameterResolutionException.class)
+                  .hasMessageContaining("Failed to resolve parameter: pet")
+                  .cause()
+                  .hasMessage("generator down");
+         }
+      }
+
+      private void stubStatics(MockedStatic<TestContextManager> testContextManagerMock,
+                               MockedStatic<ReflectionUtil> reflectionUtilMock,
+                               MockedStatic<FrameworkConfigHolder> frameworkConfigHolderMock) {
+         testContextManagerMock.when(() -> TestContextManager.getSuperQuest(extensionContext)).thenReturn(superQuest);
+         frameworkConfigHolderMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(frameworkConfig);
+         reflectionUtilMock.when(() ->
+               ReflectionUtil.findEnumImplementationsOfInterface(eq(DataForge.class), eq(DOG_PET), eq(COM_EXAMPLE))
+         ).thenReturn(dataForge);
+      }
+   }
+
+   // Test method declaring prefetchable and regular @Craft parameters
+   private void craftMethod(@Craft(model = DOG_PET) String pet,
+                            @Craft(model = DOG_PET, prefetch = true) Late<Object> prefetchedLate,
+                            @Craft(model = DOG_PET) Late<Object> regularLate) {
+   }
+}
@@ -3,6 +3,7 @@ package io.cyborgcode.roa.framework.extension;
 import io.cyborgcode.roa.framework.allure.CustomAllureListener;
 import io.cyborgcode.roa.framework.allure.StepType;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.shard.DurationHistory;
 import io.cyborgcode.roa.framework.storage.Storage;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
 import io.cyborgcode.roa.framework.util.AllureStepHelper;
@@ -179,4 +180,23 @@ class EpilogueTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should record the test duration in the duration history")
+    void shouldRecordDurationInHistory() {
+        try (MockedStatic<DurationHistory> durationHistoryMock = mockStatic(DurationHistory.class)) {
+            // Given
+            customAllureMock.when(CustomAllureListener::getActiveStepName)
+                  .thenReturn(StepType.TEAR_DOWN.getDisplayName());
+            when(mockStore.get(eq(HTML), eq(List.class))).thenReturn(new ArrayList<>());
+            when(mockContext.getUniqueId()).thenReturn("[engine:junit-jupiter]/[method:test()]");
+
+            // When
+            epilogue.afterTestExecution(mockContext);
+
+            // Then
+            durationHistoryMock.verify(() ->
+                  DurationHistory.record(eq("[engine:junit-jupiter]/[method:test()]"), anyLong()));
+        }
+    }
+}
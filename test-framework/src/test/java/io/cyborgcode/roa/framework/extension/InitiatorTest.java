@@ -134,6 +134,62 @@ class InitiatorTest {
         }
     }
 
+    @Test
+    @DisplayName("Should run a class scoped journey once and seed the storage of the next test")
+    void interceptTestMethod_WithMemoizedJourney_ReusesOutcome() throws Throwable {
+        // Given
+        Initiator initiator = new Initiator();
+        Method method = MockTest.class.getMethod("memoizedMethod");
+        ReflectiveInvocationContext<Method> invocationContext = mock(ReflectiveInvocationContext.class);
+        ExtensionContext extensionContext = mock(ExtensionContext.class);
+        when(extensionContext.getTestMethod()).thenReturn(Optional.of(method));
+        when(extensionContext.getTestClass()).thenReturn(Optional.of(MockTest.class));
+        ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+        when(extensionContext.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(store);
+        Quest quest = mock(Quest.class);
+        when(store.get(QUEST)).thenReturn(quest);
+        ApplicationContext appCtx = mock(ApplicationContext.class);
+        DecoratorsFactory decoratorsFactory = mock(DecoratorsFactory.class);
+        when(appCtx.getBean(DecoratorsFactory.class)).thenReturn(decoratorsFactory);
+        SuperQuest firstQuest = mock(SuperQuest.class);
+        SuperQuest secondQuest = mock(SuperQuest.class);
+        when(decoratorsFactory.decorate(quest, SuperQuest.class)).thenReturn(firstQuest, secondQuest);
+        Storage firstStorage = new Storage();
+        Storage secondStorage = new Storage();
+        when(firstQuest.getStorage()).thenReturn(firstStorage);
+        when(secondQuest.getStorage()).thenReturn(secondStorage);
+        MockPreQuestJourney firstJourney = new MockPreQuestJourney();
+        MockPreQuestJourney secondJourney = new MockPreQuestJourney();
+        MockConfig mockConfig = new MockConfig();
+        MockLate mockLate = new MockLate();
+
+        try (MockedStatic<SpringExtension> springExt = mockStatic(SpringExtension.class);
+             MockedStatic<FrameworkConfigHolder> configMock = mockStatic(FrameworkConfigHolder.class);
+             MockedStatic<ReflectionUtil> reflectionMock = mockStatic(ReflectionUtil.class)) {
+            springExt.when(() -> SpringExtension.getApplicationContext(extensionContext)).thenReturn(appCtx);
+            configMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(mockConfig);
+            reflectionMock.when(() -> ReflectionUtil.findEnumImplementationsOfInterface(
+                    eq(PreQuestJourney.class), eq("mockJourney"), eq(mockConfig.projectPackages())))
+                    .thenReturn(firstJourney, secondJourney);
+            reflectionMock.when(() -> ReflectionUtil.findEnumImplementationsOfInterface(
+                    eq(DataForge.class), eq("mockData"), eq(mockConfig.projectPackages())))
+                    .thenReturn(new MockDataForge(mockLate));
+
+            // When
+            initiator.interceptTestMethod(new MockInvocation(), invocationContext, extensionContext);
+            MockInvocation secondInvocation = new MockInvocation();
+            initiator.interceptTestMethod(secondInvocation, invocationContext, extensionContext);
+            initiator.afterAll(extensionContext);
+
+            // Then
+            assertTrue(firstJourney.invoked.get());
+            assertFalse(secondJourney.invoked.get());
+            assertTrue(secondInvocation.proceeded.get());
+            assertEquals(mockLate.create(),
+                    secondStorage.sub(StorageKeysTest.PRE_ARGUMENTS).get(MockEnum.VALUE, Object.class));
+        }
+    }
+
     @Test
     @DisplayName("Should process journey data when late is true")
     void processJourneyData_WhenLateIsTrue() throws Exception {
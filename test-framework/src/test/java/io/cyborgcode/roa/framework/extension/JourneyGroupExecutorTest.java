@@ -0,0 +1,164 @@
+package io.cyborgcode.roa.framework.extension;
+
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StepResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JourneyGroupExecutor Tests")
+class JourneyGroupExecutorTest {
+
+    private static final Function<String, String> BRANCH_NAME = item -> "Branch: " + item;
+
+    private ExecutorService executor;
+
+    private AllureLifecycle lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        lifecycle = mock(AllureLifecycle.class);
+        Allure.setLifecycle(lifecycle);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        QuestHolder.clear();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    @DisplayName("Should run the branches of a group at the same time")
+    void shouldRunBranchesConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        JourneyGroupExecutor.runAll(List.of("customer", "catalog"), BRANCH_NAME, item -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        }, executor);
+
+        // Then
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    @Test
+    @DisplayName("Should throw the failure of the first declared branch regardless of timing")
+    void shouldPropagateFirstDeclaredFailure() {
+        // Given
+        CountDownLatch secondFailed = new CountDownLatch(1);
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                JourneyGroupExecutor.runAll(List.of("first", "second"), BRANCH_NAME, item -> {
+                    if (item.equals("second")) {
+                        secondFailed.countDown();
+                        throw new IllegalArgumentException("second failed");
+                    }
+                    await(secondFailed);
+                    throw new IllegalStateException("first failed");
+                }, executor));
+
+        // Then
+        assertEquals("first failed", thrown.getMessage());
+        assertEquals(1, thrown.getSuppressed().length);
+        assertEquals("second failed", thrown.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    @DisplayName("Should wrap checked failures of a branch")
+    void shouldWrapCheckedFailures() {
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                JourneyGroupExecutor.runAll(List.of("only", "other"), BRANCH_NAME, item -> {
+                    if (item.equals("only")) {
+                        sneakyThrow(new Exception("checked"));
+                    }
+                }, executor));
+
+        // Then
+        assertEquals("checked", thrown.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should hand the quest and log context of the test thread to every branch")
+    void shouldPropagateTestThreadContext() {
+        // Given
+        SuperQuest quest = mock(SuperQuest.class);
+        QuestHolder.set(quest);
+        ThreadContext.put("testName", "scenario");
+        Map<String, Object> seen = new ConcurrentHashMap<>();
+
+        // When
+        JourneyGroupExecutor.runAll(List.of("a", "b"), BRANCH_NAME, item -> {
+            seen.put(item + "-quest", QuestHolder.get());
+            seen.put(item + "-testName", ThreadContext.get("testName"));
+        }, executor);
+
+        // Then
+        assertSame(quest, seen.get("a-quest"));
+        assertSame(quest, seen.get("b-quest"));
+        assertEquals("scenario", seen.get("a-testName"));
+        assertEquals("scenario", seen.get("b-testName"));
+    }
+
+    @Test
+    @DisplayName("Should nest every branch step under the step active on the test thread")
+    void shouldNestBranchStepsUnderActiveStep() {
+        // Given
+        when(lifecycle.getCurrentTestCaseOrStep()).thenReturn(Optional.of("pre-quests-step"));
+        when(lifecycle.getCurrentTestCase()).thenReturn(Optional.of("test-case"));
+
+        // When
+        JourneyGroupExecutor.runAll(List.of("a", "b"), BRANCH_NAME, item -> {
+        }, executor);
+
+        // Then
+        verify(lifecycle, times(2)).setCurrentTestCase("test-case");
+        verify(lifecycle, times(2)).startStep(eq("pre-quests-step"), anyString(), any(StepResult.class));
+        verify(lifecycle, times(2)).stopStep();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+}
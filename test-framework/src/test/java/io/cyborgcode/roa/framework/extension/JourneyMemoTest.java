@@ -0,0 +1,186 @@
+package io.cyborgcode.roa.framework.extension;
+
+import io.cyborgcode.roa.framework.annotation.Journey;
+import io.cyborgcode.roa.framework.annotation.JourneyData;
+import io.cyborgcode.roa.framework.annotation.JourneyScope;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import io.cyborgcode.roa.framework.extension.mock.MockConfig;
+import io.cyborgcode.roa.framework.extension.mock.MockEnum;
+import io.cyborgcode.roa.framework.storage.Storage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+@DisplayName("JourneyMemo Tests")
+class JourneyMemoTest {
+
+    private MockedStatic<FrameworkConfigHolder> holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = mockStatic(FrameworkConfigHolder.class);
+        holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(new MockConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        JourneyMemo.clear();
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("Should execute the journey once and seed later storages with its values")
+    void shouldExecuteOnceAndSeedLaterStorages() throws Exception {
+        // Given
+        JourneyMemo.Key key = JourneyMemo.key(journey("runScoped"), JourneyMemoTest.class);
+        AtomicInteger executions = new AtomicInteger();
+        Storage first = new Storage();
+        Storage second = new Storage();
+
+        // When
+        boolean firstExecuted = JourneyMemo.runOnce(key, first, () -> {
+            executions.incrementAndGet();
+            first.put(MockEnum.VALUE, "created");
+        });
+        boolean secondExecuted = JourneyMemo.runOnce(key, second, () -> executions.incrementAndGet());
+
+        // Then
+        assertTrue(firstExecuted);
+        assertFalse(secondExecuted);
+        assertEquals(1, executions.get());
+        assertEquals("created", second.get(MockEnum.VALUE, String.class));
+    }
+
+    @Test
+    @DisplayName("Should execute the journey again after a failed execution")
+    void shouldForgetFailedExecution() throws Exception {
+        // Given
+        JourneyMemo.Key key = JourneyMemo.key(journey("runScoped"), JourneyMemoTest.class);
+        Storage storage = new Storage();
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> JourneyMemo.runOnce(key, new Storage(), () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("journey failed");
+        }));
+        boolean executed = JourneyMemo.runOnce(key, storage, () -> {
+            executions.incrementAndGet();
+            storage.put(MockEnum.VALUE, "recovered");
+        });
+
+        // Then
+        assertTrue(executed);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should key class scoped journeys by test class and forget them when the class finishes")
+    void shouldScopeByTestClass() throws Exception {
+        // Given
+        Journey journey = journey("classScoped");
+        JourneyMemo.Key own = JourneyMemo.key(journey, JourneyMemoTest.class);
+        JourneyMemo.Key other = JourneyMemo.key(journey, InitiatorTest.class);
+        JourneyMemo.runOnce(own, new Storage(), () -> { });
+
+        // When
+        JourneyMemo.evict(JourneyMemoTest.class);
+        boolean executedAgain = JourneyMemo.runOnce(own, new Storage(), () -> { });
+
+        // Then
+        assertNotEquals(own, other);
+        assertTrue(executedAgain);
+    }
+
+    @Test
+    @DisplayName("Should share run scoped journeys across test classes and distinguish journey data")
+    void shouldKeyRunScopedJourneysByData() throws Exception {
+        // When
+        JourneyMemo.Key own = JourneyMemo.key(journey("runScoped"), JourneyMemoTest.class);
+        JourneyMemo.Key other = JourneyMemo.key(journey("runScoped"), InitiatorTest.class);
+        JourneyMemo.Key otherData = JourneyMemo.key(journey("runScopedOtherData"), JourneyMemoTest.class);
+
+        // Then
+        assertEquals(own, other);
+        assertNotEquals(own, otherData);
+    }
+
+    @Test
+    @DisplayName("Should execute the journey only once for concurrent requests")
+    void shouldExecuteOnceForConcurrentRequests() throws Exception {
+        // Given
+        JourneyMemo.Key key = JourneyMemo.key(journey("runScoped"), JourneyMemoTest.class);
+        int threads = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Storage>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    Storage storage = new Storage();
+                    start.await();
+                    JourneyMemo.runOnce(key, storage, () -> {
+                        executions.incrementAndGet();
+                        sleep();
+                        storage.put(MockEnum.VALUE, "created");
+                    });
+                    return storage;
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<Storage> result : results) {
+                assertEquals("created", result.get(10, TimeUnit.SECONDS).get(MockEnum.VALUE, String.class));
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Journey journey(String method) throws NoSuchMethodException {
+        return JourneyMemoTest.class.getDeclaredMethod(method).getAnnotation(Journey.class);
+    }
+
+    @Journey(value = "mockJourney", journeyData = {@JourneyData("mockData")}, scope = JourneyScope.RUN)
+    void runScoped() {
+    }
+
+    @Journey(value = "mockJourney", journeyData = {@JourneyData("otherData")}, scope = JourneyScope.RUN)
+    void runScopedOtherData() {
+    }
+
+    @Journey(value = "mockJourney", scope = JourneyScope.CLASS)
+    void classScoped() {
+    }
+
+}
@@ -18,4 +18,104 @@ public class MockConfig implements FrameworkConfig {
    public String testEnv() {
       return "dummyTestEnv";
    }
+
+   @Override
+   public boolean logCaptureEnabled() {
+      return true;
+   }
+
+   @Override
+   public int logCaptureMaxEvents() {
+      return 5000;
+   }
+
+   @Override
+   public String logCapturePattern() {
+      return "%msg";
+   }
+
+   @Override
+   public boolean reportDetailsOnFailureOnly() {
+      return false;
+   }
+
+   @Override
+   public String parallelPreset() {
+      return "CPU_BOUND";
+   }
+
+   @Override
+   public int parallelThreads() {
+      return 0;
+   }
+
+   @Override
+   public boolean durationHistoryEnabled() {
+      return false;
+   }
+
+   @Override
+   public String durationHistoryFile() {
+      return "target/test-durations.txt";
+   }
+
+   @Override
+   public int shardIndex() {
+      return 0;
+   }
+
+   @Override
+   public int shardTotal() {
+      return 1;
+   }
+
+   @Override
+   public boolean journeyParallelEnabled() {
+      return false;
+   }
+
+   @Override
+   public int journeyParallelThreads() {
+      return 4;
+   }
+
+   @Override
+   public boolean craftPrefetchEnabled() {
+      return false;
+   }
+
+   @Override
+   public int craftPrefetchThreads() {
+      return 4;
+   }
+
+   @Override
+   public boolean hooksParallelEnabled() {
+      return false;
+   }
+
+   @Override
+   public int hooksParallelThreads() {
+      return 4;
+   }
+
+   @Override
+   public boolean timelineEnabled() {
+      return false;
+   }
+
+   @Override
+   public String timelineTraceFile() {
+      return "target/roa-trace.json";
+   }
+
+   @Override
+   public boolean jfrEnabled() {
+      return false;
+   }
+
+   @Override
+   public String jfrFile() {
+      return "target/roa.jfr";
+   }
 }
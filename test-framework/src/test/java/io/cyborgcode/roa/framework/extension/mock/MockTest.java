@@ -2,6 +2,7 @@ package io.cyborgcode.roa.framework.extension.mock;
 
 import io.cyborgcode.roa.framework.annotation.Journey;
 import io.cyborgcode.roa.framework.annotation.JourneyData;
+import io.cyborgcode.roa.framework.annotation.JourneyScope;
 import io.cyborgcode.roa.framework.annotation.PreQuest;
 
 public class MockTest {
@@ -12,6 +13,10 @@ public class MockTest {
    public void annotatedMethod() {
    }
 
+   @Journey(value = "mockJourney", journeyData = {@JourneyData("mockData")}, scope = JourneyScope.CLASS)
+   public void memoizedMethod() {
+   }
+
    public void nonAnnotatedMethod() {
    }
 }
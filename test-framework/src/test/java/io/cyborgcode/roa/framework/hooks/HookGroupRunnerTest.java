@@ -0,0 +1,168 @@
+package io.cyborgcode.roa.framework.hooks;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import io.cyborgcode.roa.framework.extension.mock.MockConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+@DisplayName("HookGroupRunner Tests")
+class HookGroupRunnerTest {
+
+    private static final ToIntFunction<String> ORDER = hook -> Integer.parseInt(hook.substring(0, 1));
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    @DisplayName("Should run the hooks of the same order at the same time")
+    void shouldRunSameOrderHooksConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        HookGroupRunner.run(List.of("1-users", "1-orders"), ORDER, hook -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        }, executor);
+
+        // Then
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    @Test
+    @DisplayName("Should finish a group before starting the group of the next order")
+    void shouldRunGroupsInOrder() {
+        // Given
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        // When
+        HookGroupRunner.run(List.of("2-cleanup", "1-users", "1-orders", "0-seed"), ORDER, hook -> {
+            if (hook.equals("1-users")) {
+                sleep();
+            }
+            executed.add(hook);
+        }, executor);
+
+        // Then
+        assertEquals("0-seed", executed.get(0));
+        assertTrue(executed.subList(1, 3).containsAll(List.of("1-users", "1-orders")));
+        assertEquals("2-cleanup", executed.get(3));
+    }
+
+    @Test
+    @DisplayName("Should run the hooks one by one in declaration order without an executor")
+    void shouldRunSequentiallyWithoutExecutor() {
+        // Given
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        // When
+        HookGroupRunner.run(List.of("1-users", "0-seed", "1-orders"), ORDER, executed::add, null);
+
+        // Then
+        assertEquals(List.of("0-seed", "1-users", "1-orders"), executed);
+    }
+
+    @Test
+    @DisplayName("Should throw the failure of the first declared hook regardless of timing")
+    void shouldPropagateFirstDeclaredFailure() {
+        // Given
+        CountDownLatch secondFailed = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                HookGroupRunner.run(List.of("1-first", "1-second", "2-next"), ORDER, hook -> {
+                    executed.add(hook);
+                    if (hook.equals("1-second")) {
+                        secondFailed.countDown();
+                        throw new IllegalArgumentException("second failed");
+                    }
+                    await(secondFailed);
+                    throw new IllegalStateException("first failed");
+                }, executor));
+
+        // Then
+        assertEquals("first failed", thrown.getMessage());
+        assertEquals(1, thrown.getSuppressed().length);
+        assertEquals("second failed", thrown.getSuppressed()[0].getMessage());
+        assertFalse(executed.contains("2-next"));
+    }
+
+    @Test
+    @DisplayName("Should hand the log context of the calling thread to every hook")
+    void shouldPropagateLogContext() {
+        // Given
+        ThreadContext.put("testName", "suite");
+        Map<String, String> seen = new ConcurrentHashMap<>();
+
+        // When
+        HookGroupRunner.run(List.of("1-a", "1-b"), ORDER,
+                hook -> seen.put(hook, ThreadContext.get("testName")), executor);
+
+        // Then
+        assertEquals(Map.of("1-a", "suite", "1-b", "suite"), seen);
+    }
+
+    @Test
+    @DisplayName("Should run the hooks one by one when parallel hooks are disabled")
+    void shouldFollowConfiguration() {
+        // Given
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // When
+        try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class)) {
+            holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(new MockConfig());
+            HookGroupRunner.run(List.of("1-a", "1-b"), ORDER, hook -> threads.add(Thread.currentThread().getName()));
+        }
+
+        // Then
+        String caller = Thread.currentThread().getName();
+        assertEquals(List.of(caller, caller), threads);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
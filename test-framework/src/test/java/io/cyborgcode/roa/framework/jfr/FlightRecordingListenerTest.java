@@ -0,0 +1,92 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.TestPlan;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FlightRecordingListener Tests")
+class FlightRecordingListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockedStatic<FrameworkConfigHolder> holder;
+
+    private FrameworkConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = mock(FrameworkConfig.class);
+        holder = mockStatic(FrameworkConfigHolder.class);
+        holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("Should combine the JDK default settings with the shipped ROA profiles")
+    void shouldCombineDefaultSettingsWithProfiles() throws Exception {
+        // When
+        Map<String, String> settings = FlightRecordingListener.settings(getClass().getClassLoader());
+
+        // Then
+        assertEquals("true", settings.get(QuestPhaseEvent.NAME + "#enabled"));
+        assertEquals("true", settings.get(StoragePutEvent.NAME + "#enabled"));
+        assertTrue(settings.keySet().stream().anyMatch(setting -> setting.startsWith("jdk.")));
+    }
+
+    @Test
+    @DisplayName("Should record the test run to the configured file")
+    void shouldRecordTestRun() {
+        // Given
+        Path file = tempDir.resolve("nested/run.jfr");
+        when(config.jfrEnabled()).thenReturn(true);
+        when(config.jfrFile()).thenReturn(file.toString());
+        FlightRecordingListener listener = new FlightRecordingListener();
+        TestPlan testPlan = mock(TestPlan.class);
+
+        // When
+        listener.testPlanExecutionStarted(testPlan);
+        listener.testPlanExecutionFinished(testPlan);
+
+        // Then
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    @DisplayName("Should not record when flight recording is disabled")
+    void shouldNotRecordWhenDisabled() {
+        // Given
+        Path file = tempDir.resolve("run.jfr");
+        when(config.jfrEnabled()).thenReturn(false);
+        FlightRecordingListener listener = new FlightRecordingListener();
+        TestPlan testPlan = mock(TestPlan.class);
+
+        // When
+        listener.testPlanExecutionStarted(testPlan);
+        listener.testPlanExecutionFinished(testPlan);
+
+        // Then
+        assertFalse(Files.exists(file));
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("QuestPhaseEvent Tests")
+class QuestPhaseEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    @DisplayName("Should not start an event while no recording wants it")
+    void shouldNotStartWithoutRecording() {
+        // When
+        QuestPhaseEvent event = QuestPhaseEvent.start("Prologue");
+
+        // Then
+        assertNull(event);
+    }
+
+    @Test
+    @DisplayName("Should record timeline spans as events even when the timeline is disabled")
+    void shouldRecordTimelineSpans() throws IOException {
+        // Given
+        FrameworkConfig config = mock(FrameworkConfig.class);
+        when(config.timelineEnabled()).thenReturn(false);
+        ThreadContext.put("testName", "SampleTest.run");
+        Path file = tempDir.resolve("phases.jfr");
+
+        // When
+        try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class);
+             Recording recording = new Recording()) {
+            holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+            recording.enable(QuestPhaseEvent.NAME);
+            recording.start();
+            PhaseTimeline.span(mock(ExtensionContext.class), "Oracle: quest creation").close();
+            PhaseTimeline.span("Journey: login").close();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(QuestPhaseEvent.NAME))
+                .toList();
+        assertEquals(List.of("Oracle: quest creation", "Journey: login"),
+                events.stream().map(event -> event.getString("phase")).toList());
+        assertEquals("SampleTest.run", events.get(0).getString("test"));
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.cyborgcode.roa.framework.jfr;
+
+import io.cyborgcode.roa.framework.storage.Storage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("StoragePutEvent Tests")
+class StoragePutEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should record the key and size of the storage on every put")
+    void shouldRecordStorageSize() throws IOException {
+        // Given
+        Storage storage = new Storage();
+        Path file = tempDir.resolve("storage.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(StoragePutEvent.NAME);
+            recording.start();
+            storage.put(Key.USER, "first");
+            storage.put(Key.USER, "second");
+            storage.put(Key.ORDER, "order");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(StoragePutEvent.NAME))
+                .toList();
+        assertEquals(3, events.size());
+        RecordedEvent last = events.get(2);
+        assertEquals("Key.ORDER", last.getString("key"));
+        assertEquals(1, last.getInt("values"));
+        assertEquals(2, last.getInt("keys"));
+        assertEquals(2, events.get(1).getInt("values"));
+    }
+
+    private enum Key {
+        USER,
+        ORDER
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.cyborgcode.roa.framework.log;
+
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TestLogCapture Tests")
+class TestLogCaptureTest {
+
+    private static final String PATTERN = "%msg";
+    private static final String TEST_NAME = "TestLogCaptureTest.capture";
+    private static final String CAPTURE_ID = "[engine:junit-jupiter]/[class:TestLogCaptureTest]/[method:capture()]";
+    private static final String INVOCATION = "[engine:junit-jupiter]/[class:TestLogCaptureTest]"
+            + "/[test-template:capture(int)]/[test-template-invocation:#";
+    private static final Logger LOGGER = LogManager.getLogger(TestLogCaptureTest.class);
+
+    @AfterEach
+    void tearDown() {
+        TestLogCapture.release(CAPTURE_ID);
+        TestLogCapture.release(INVOCATION + "1]");
+        TestLogCapture.release(INVOCATION + "2]");
+        ThreadContext.remove("testName");
+        ThreadContext.remove(TestLogCapture.CAPTURE_ID_KEY);
+    }
+
+    @Test
+    @DisplayName("Should capture events logged under the capture id")
+    void shouldCaptureEventsOfRunningTest() {
+        // Given
+        assertTrue(TestLogCapture.start(CAPTURE_ID, 100, PATTERN));
+        ThreadContext.put("testName", TEST_NAME);
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, CAPTURE_ID);
+
+        // When
+        LOGGER.error("first line");
+        LOGGER.error("second line");
+        Optional<String> captured = TestLogCapture.release(CAPTURE_ID);
+
+        // Then
+        assertEquals(Optional.of("first line" + System.lineSeparator() + "second line"), captured);
+        assertFalse(TestLogCapture.isCapturing(CAPTURE_ID));
+    }
+
+    @Test
+    @DisplayName("Should ignore events of other tests")
+    void shouldIgnoreEventsOfOtherTests() {
+        // Given
+        TestLogCapture.start(CAPTURE_ID, 100, PATTERN);
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, "[engine:junit-jupiter]/[class:OtherTest]");
+
+        // When
+        LOGGER.error("unrelated line");
+
+        // Then
+        assertEquals(Optional.of(""), TestLogCapture.release(CAPTURE_ID));
+    }
+
+    @Test
+    @DisplayName("Should ignore events tagged only with the test name")
+    void shouldIgnoreEventsWithoutCaptureId() {
+        // Given
+        TestLogCapture.start(CAPTURE_ID, 100, PATTERN);
+        ThreadContext.put("testName", CAPTURE_ID);
+
+        // When
+        LOGGER.error("display only line");
+
+        // Then
+        assertEquals(Optional.of(""), TestLogCapture.release(CAPTURE_ID));
+    }
+
+    @Test
+    @DisplayName("Should keep overlapping invocations of the same test method apart")
+    void shouldSeparateOverlappingInvocationsOfSameMethod() {
+        // Given
+        String first = INVOCATION + "1]";
+        String second = INVOCATION + "2]";
+        ThreadContext.put("testName", TEST_NAME);
+        assertTrue(TestLogCapture.start(first, 100, PATTERN));
+        assertTrue(TestLogCapture.start(second, 100, PATTERN));
+
+        // When
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, first);
+        LOGGER.error("first invocation");
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, second);
+        LOGGER.error("second invocation");
+        Optional<String> capturedFirst = TestLogCapture.release(first);
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, second);
+        LOGGER.error("second invocation after first released");
+
+        // Then
+        assertEquals(Optional.of("first invocation"), capturedFirst);
+        assertEquals(Optional.of("second invocation" + System.lineSeparator()
+                + "second invocation after first released"), TestLogCapture.release(second));
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent events when the buffer is full")
+    void shouldDropOldestEventsWhenFull() {
+        // Given
+        TestLogCapture.start(CAPTURE_ID, 2, PATTERN);
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, CAPTURE_ID);
+
+        // When
+        LOGGER.error("line 1");
+        LOGGER.error("line 2");
+        LOGGER.error("line 3");
+        String captured = TestLogCapture.release(CAPTURE_ID).orElseThrow();
+
+        // Then
+        assertEquals("... 1 earlier log lines omitted ..." + System.lineSeparator()
+                + "line 2" + System.lineSeparator() + "line 3", captured);
+    }
+
+    @Test
+    @DisplayName("Should return empty when the test was not captured")
+    void shouldReturnEmptyForUnknownTest() {
+        assertEquals(Optional.empty(), TestLogCapture.release("[engine:junit-jupiter]/[class:Unknown]"));
+        assertEquals(Optional.empty(), TestLogCapture.release(null));
+        assertFalse(TestLogCapture.start(null, 10, PATTERN));
+    }
+}
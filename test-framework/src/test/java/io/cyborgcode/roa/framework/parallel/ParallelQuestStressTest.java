@@ -0,0 +1,121 @@
+package io.cyborgcode.roa.framework.parallel;
+
+import io.cyborgcode.roa.framework.allure.CustomAllureListener;
+import io.cyborgcode.roa.framework.decorators.DecoratorsFactory;
+import io.cyborgcode.roa.framework.log.TestLogCapture;
+import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.storage.Storage;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Parallel quest execution stress test")
+class ParallelQuestStressTest {
+
+    private static final int QUESTS = 400;
+    private static final int THREADS = 16;
+    private static final String LOG_PATTERN = "%msg";
+    private static final Logger LOGGER = LogManager.getLogger(ParallelQuestStressTest.class);
+
+    private ExecutorService executor;
+
+    private enum Key {
+        VALUE,
+        SUB
+    }
+
+    @BeforeEach
+    void setUp() {
+        Allure.setLifecycle(mock(AllureLifecycle.class));
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should keep storage, steps and captured logs isolated per quest")
+    void shouldIsolateConcurrentQuests() throws Exception {
+        // Given
+        DecoratorsFactory decoratorsFactory = new DecoratorsFactory();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < QUESTS; i++) {
+            int questIndex = i;
+            results.add(executor.submit(() -> {
+                startGate.await();
+                return runQuest(questIndex, decoratorsFactory);
+            }));
+        }
+
+        // When
+        startGate.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("OK", result.get(60, TimeUnit.SECONDS));
+        }
+    }
+
+    private static String runQuest(int questIndex, DecoratorsFactory decoratorsFactory) {
+        String testName = "ParallelQuestStressTest.quest-" + questIndex;
+        String captureId = "[class:ParallelQuestStressTest]/[quest:" + questIndex + "]";
+        ThreadContext.put("testName", testName);
+        ThreadContext.put(TestLogCapture.CAPTURE_ID_KEY, captureId);
+        try {
+            assertTrue(TestLogCapture.start(captureId, 100, LOG_PATTERN));
+            Quest original = new Quest();
+            SuperQuest quest = decoratorsFactory.decorate(original, SuperQuest.class);
+
+            Storage storage = quest.getStorage();
+            storage.put(Key.VALUE, questIndex);
+            storage.sub(Key.SUB).put(Key.VALUE, testName);
+
+            CustomAllureListener.startStep(testName);
+            CustomAllureListener.startStep(testName + " nested");
+            LOGGER.error(testName);
+            Thread.yield();
+            CustomAllureListener.stopStep();
+            String activeAfterNested = CustomAllureListener.getActiveStepName();
+            CustomAllureListener.stopStep();
+
+            assertSame(quest, decoratorsFactory.decorate(original, SuperQuest.class));
+            assertEquals(questIndex, storage.get(Key.VALUE, Integer.class));
+            assertEquals(1, storage.getAllByClass(Key.VALUE, Integer.class).size());
+            assertEquals(testName, storage.sub(Key.SUB).get(Key.VALUE, String.class));
+            assertEquals(testName, activeAfterNested);
+            assertNull(CustomAllureListener.getActiveStepName());
+            assertEquals(Optional.of(testName), TestLogCapture.release(captureId));
+            decoratorsFactory.release(original);
+            return "OK";
+        } finally {
+            ThreadContext.remove("testName");
+            ThreadContext.remove(TestLogCapture.CAPTURE_ID_KEY);
+        }
+    }
+
+}
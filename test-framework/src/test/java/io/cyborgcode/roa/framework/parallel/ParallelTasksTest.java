@@ -0,0 +1,62 @@
+package io.cyborgcode.roa.framework.parallel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ParallelTasks Tests")
+class ParallelTasksTest {
+
+    @AfterEach
+    void tearDown() {
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    @DisplayName("Should create one pool of named daemon threads per name")
+    void shouldShareDaemonPoolPerName() throws Exception {
+        // Given
+        ExecutorService pool = ParallelTasks.daemonPool("tasks-test", () -> 2);
+
+        // When
+        Future<Thread> worker = pool.submit(Thread::currentThread);
+
+        // Then
+        assertSame(pool, ParallelTasks.daemonPool("tasks-test", () -> 8));
+        assertTrue(worker.get().isDaemon());
+        assertTrue(worker.get().getName().startsWith("roa-tasks-test-"));
+    }
+
+    @Test
+    @DisplayName("Should run tasks with the log context of the caller and throw the first declared failure")
+    void shouldPropagateLogContextAndFirstFailure() {
+        // Given
+        ThreadContext.put("testName", "ParallelTasksTest.run");
+        Map<String, String> seen = new ConcurrentHashMap<>();
+        ExecutorService pool = ParallelTasks.daemonPool("tasks-test", () -> 2);
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                ParallelTasks.runAll(List.of("first", "second"), item -> {
+                    seen.put(item, ThreadContext.get("testName"));
+                    throw new IllegalStateException(item + " failed");
+                }, pool, "Task failed"));
+
+        // Then
+        assertEquals(Map.of("first", "ParallelTasksTest.run", "second", "ParallelTasksTest.run"), seen);
+        assertEquals("first failed", thrown.getMessage());
+        assertEquals("second failed", thrown.getSuppressed()[0].getMessage());
+    }
+
+}
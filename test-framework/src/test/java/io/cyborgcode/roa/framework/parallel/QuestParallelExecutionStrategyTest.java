@@ -0,0 +1,124 @@
+package io.cyborgcode.roa.framework.parallel;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("QuestParallelExecutionStrategy Tests")
+class QuestParallelExecutionStrategyTest {
+
+    @Nested
+    @DisplayName("ParallelPreset tests")
+    class ParallelPresetTests {
+
+        @Test
+        @DisplayName("Should derive parallelism from the number of processors")
+        void shouldDeriveParallelismFromProcessors() {
+            assertEquals(16, ParallelPreset.CPU_BOUND.parallelism(16));
+            assertEquals(64, ParallelPreset.IO_BOUND.parallelism(16));
+            assertEquals(8, ParallelPreset.UI.parallelism(16));
+        }
+
+        @Test
+        @DisplayName("Should never go below one thread")
+        void shouldKeepAtLeastOneThread() {
+            assertEquals(1, ParallelPreset.UI.parallelism(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallelism resolution tests")
+    class ResolveParallelismTests {
+
+        @Test
+        @DisplayName("Should use the configured preset")
+        void shouldUseConfiguredPreset() {
+            // Given
+            FrameworkConfig config = mock(FrameworkConfig.class);
+            when(config.parallelThreads()).thenReturn(0);
+            when(config.parallelPreset()).thenReturn("io_bound");
+
+            try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class)) {
+                holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+
+                // When
+                int parallelism = QuestParallelExecutionStrategy.resolveParallelism(4);
+
+                // Then
+                assertEquals(16, parallelism);
+            }
+        }
+
+        @Test
+        @DisplayName("Should prefer an explicit thread count over the preset")
+        void shouldPreferExplicitThreadCount() {
+            // Given
+            FrameworkConfig config = mock(FrameworkConfig.class);
+            when(config.parallelThreads()).thenReturn(3);
+
+            try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class)) {
+                holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+
+                // When
+                int parallelism = QuestParallelExecutionStrategy.resolveParallelism(16);
+
+                // Then
+                assertEquals(3, parallelism);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown preset")
+        void shouldRejectUnknownPreset() {
+            // Given
+            FrameworkConfig config = mock(FrameworkConfig.class);
+            when(config.parallelThreads()).thenReturn(0);
+            when(config.parallelPreset()).thenReturn("TURBO");
+
+            try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class)) {
+                holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+
+                // When / Then
+                IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                        () -> QuestParallelExecutionStrategy.resolveParallelism(4));
+                assertEquals("Unknown parallel preset: TURBO", ex.getMessage());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap the worker pool at the resolved parallelism")
+    void shouldCapPoolAtParallelism() {
+        // Given
+        FrameworkConfig config = mock(FrameworkConfig.class);
+        when(config.parallelThreads()).thenReturn(6);
+
+        try (MockedStatic<FrameworkConfigHolder> holder = mockStatic(FrameworkConfigHolder.class)) {
+            holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+
+            // When
+            ParallelExecutionConfiguration configuration = new QuestParallelExecutionStrategy()
+                    .createConfiguration(mock(ConfigurationParameters.class));
+
+            // Then
+            assertEquals(6, configuration.getParallelism());
+            assertEquals(6, configuration.getCorePoolSize());
+            assertEquals(6, configuration.getMaxPoolSize());
+            assertEquals(6, configuration.getMinimumRunnable());
+            assertTrue(configuration.getSaturatePredicate().test(null));
+        }
+    }
+
+}
@@ -46,6 +46,8 @@ class QuestTest {
         @DisplayName("Should successfully enter existing ring")
         void testUseSuccess() {
             try (MockedStatic<LogQuest> logMock = mockStatic(LogQuest.class)) {
+                logMock.when(LogQuest::isInfoEnabled).thenReturn(true);
+
                 // When
                 MockFluentService result = quest.use(MockFluentService.class);
 
@@ -84,6 +86,7 @@ class QuestTest {
 
             // When/Then
             try (MockedStatic<LogQuest> logMock = mockStatic(LogQuest.class)) {
+                logMock.when(LogQuest::isInfoEnabled).thenReturn(true);
                 NoAnnotationService result = quest.use(NoAnnotationService.class);
 
                 assertNotNull(result);
@@ -93,6 +96,46 @@ class QuestTest {
                 ));
             }
         }
+
+        @Test
+        @DisplayName("Should not log ring usage when info level is disabled")
+        void testUseSkipsLogWhenDisabled() {
+            try (MockedStatic<LogQuest> logMock = mockStatic(LogQuest.class)) {
+                logMock.when(LogQuest::isInfoEnabled).thenReturn(false);
+
+                // When
+                MockFluentService result = quest.use(MockFluentService.class);
+
+                // Then
+                assertSame(mockFluentService, result);
+                logMock.verify(() -> LogQuest.info(anyString()), never());
+            }
+        }
+
+        @Test
+        @DisplayName("Should resolve requested supertype to registered ring")
+        void testUseResolvesSupertype() {
+            // When
+            FluentService result = quest.use(FluentService.class);
+
+            // Then
+            assertSame(mockFluentService, result);
+        }
+
+        @Test
+        @DisplayName("Should refresh cached resolution when ring is re-registered")
+        void testUseAfterReRegistration() {
+            // Given
+            MockFluentService replacement = new MockFluentService();
+            assertSame(mockFluentService, quest.use(MockFluentService.class));
+
+            // When
+            quest.exposeRemoveRing(MockFluentService.class);
+            quest.exposeRegisterRing(MockFluentService.class, replacement);
+
+            // Then
+            assertSame(replacement, quest.use(MockFluentService.class));
+        }
     }
 
     @Nested
@@ -449,6 +492,29 @@ class QuestTest {
                 () -> quest.exposeArtifact(EmptyService.class, String.class));
     }
 
+    @Test
+    @DisplayName("Should retrieve an artifact the service creates on first access")
+    void testArtifactCreatedOnFirstAccess() {
+        // Given
+        class LazyService extends FluentService {
+            private StringBuilder lazyField;
+
+            @Override
+            protected void prepareArtifact(Class<?> artifactType) {
+                if (artifactType.isAssignableFrom(StringBuilder.class) && lazyField == null) {
+                    lazyField = new StringBuilder("lazyValue");
+                }
+            }
+        }
+        quest.exposeRegisterRing(LazyService.class, new LazyService());
+
+        // When
+        StringBuilder value = quest.exposeArtifact(LazyService.class, StringBuilder.class);
+
+        // Then
+        assertEquals("lazyValue", value.toString());
+    }
+
     @Test
     @DisplayName("Should log warning when multiple artifacts found")
     void testArtifactMultipleFoundWarning() {
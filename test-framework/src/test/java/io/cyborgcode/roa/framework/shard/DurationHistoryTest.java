@@ -0,0 +1,124 @@
+package io.cyborgcode.roa.framework.shard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DurationHistory Tests")
+class DurationHistoryTest {
+
+    private static final String TEST_ID =
+            "[engine:junit-jupiter]/[class:a.SampleTest]/[method:run(java.lang.String, int)]";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        DurationHistory.clear();
+    }
+
+    @Test
+    @DisplayName("Should write recorded durations and read them back")
+    void shouldPersistAndLoadRecordedDurations() {
+        // Given
+        Path file = tempDir.resolve("history/test-durations.txt");
+        DurationHistory.record(TEST_ID, 1500);
+
+        // When
+        DurationHistory.persist(file);
+
+        // Then
+        assertEquals(Map.of(TEST_ID, 1500L), DurationHistory.load(file));
+    }
+
+    @Test
+    @DisplayName("Should keep durations of tests not executed by this run")
+    void shouldMergeWithExistingHistory() throws IOException {
+        // Given
+        Path file = tempDir.resolve("test-durations.txt");
+        Files.write(file, List.of("100 700 [engine:junit-jupiter]/[class:a.OtherTest]"), StandardCharsets.UTF_8);
+        DurationHistory.record(TEST_ID, 200);
+
+        // When
+        DurationHistory.persist(file);
+
+        // Then
+        Map<String, Long> durations = DurationHistory.load(file);
+        assertEquals(700L, durations.get("[engine:junit-jupiter]/[class:a.OtherTest]"));
+        assertEquals(200L, durations.get(TEST_ID));
+    }
+
+    @Test
+    @DisplayName("Should use the most recently recorded duration of concatenated history files")
+    void shouldPreferNewestDuration() throws IOException {
+        // Given
+        Path file = tempDir.resolve("test-durations.txt");
+        Files.write(file, List.of(
+                "300 30 " + TEST_ID,
+                "100 10 " + TEST_ID,
+                "200 20 " + TEST_ID), StandardCharsets.UTF_8);
+
+        // When
+        Map<String, Long> durations = DurationHistory.load(file);
+
+        // Then
+        assertEquals(30L, durations.get(TEST_ID));
+    }
+
+    @Test
+    @DisplayName("Should skip malformed lines")
+    void shouldSkipMalformedLines() throws IOException {
+        // Given
+        Path file = tempDir.resolve("test-durations.txt");
+        Files.write(file, List.of("", "not a line", "x 10 " + TEST_ID, "100 10"), StandardCharsets.UTF_8);
+
+        // When
+        Map<String, Long> durations = DurationHistory.load(file);
+
+        // Then
+        assertTrue(durations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return an empty history when the file does not exist")
+    void shouldReturnEmptyHistoryForMissingFile() {
+        assertTrue(DurationHistory.load(tempDir.resolve("missing.txt")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore tests without id or with a negative duration")
+    void shouldIgnoreInvalidRecords() {
+        // When
+        DurationHistory.record(null, 10);
+        DurationHistory.record(TEST_ID, -1);
+
+        // Then
+        assertTrue(DurationHistory.recorded().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not create the history file when nothing was recorded")
+    void shouldNotWriteEmptyHistory() {
+        // Given
+        Path file = tempDir.resolve("test-durations.txt");
+
+        // When
+        DurationHistory.persist(file);
+
+        // Then
+        assertFalse(Files.exists(file));
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.cyborgcode.roa.framework.shard;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DurationShardFilter Tests")
+class DurationShardFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FrameworkConfig config;
+
+    private MockedStatic<FrameworkConfigHolder> holder;
+
+    private final EngineDescriptor engine = new EngineDescriptor(UniqueId.forEngine("junit-jupiter"), "JUnit");
+
+    @BeforeEach
+    void setUp() {
+        config = mock(FrameworkConfig.class);
+        when(config.durationHistoryFile()).thenReturn(tempDir.resolve("test-durations.txt").toString());
+        holder = mockStatic(FrameworkConfigHolder.class);
+        holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("Should include everything when sharding is disabled")
+    void shouldIncludeEverythingWhenDisabled() {
+        // Given
+        when(config.shardTotal()).thenReturn(1);
+
+        // When / Then
+        assertTrue(new DurationShardFilter().apply(test("a")).included());
+    }
+
+    @Test
+    @DisplayName("Should reject a shard index outside of the shard total")
+    void shouldRejectInvalidShardIndex() {
+        // Given
+        when(config.shardTotal()).thenReturn(2);
+        when(config.shardIndex()).thenReturn(2);
+
+        // When / Then
+        DurationShardFilter filter = new DurationShardFilter();
+        TestDescriptor test = test("a");
+        assertThrows(IllegalArgumentException.class, () -> filter.apply(test));
+    }
+
+    @Test
+    @DisplayName("Should include each test in exactly one shard")
+    void shouldSplitTestsAcrossShards() {
+        // Given
+        TestDescriptor first = test("a");
+        TestDescriptor second = test("b");
+        when(config.shardTotal()).thenReturn(2);
+
+        // When
+        when(config.shardIndex()).thenReturn(0);
+        DurationShardFilter shard0 = new DurationShardFilter();
+        boolean firstOnShard0 = shard0.apply(first).included();
+        boolean secondOnShard0 = shard0.apply(second).included();
+        when(config.shardIndex()).thenReturn(1);
+        DurationShardFilter shard1 = new DurationShardFilter();
+        boolean firstOnShard1 = shard1.apply(first).included();
+        boolean secondOnShard1 = shard1.apply(second).included();
+
+        // Then
+        assertTrue(firstOnShard0 ^ firstOnShard1);
+        assertTrue(secondOnShard0 ^ secondOnShard1);
+        assertEquals(firstOnShard0, secondOnShard1);
+        assertTrue(shard0.apply(engine).included());
+    }
+
+    private TestDescriptor test(String name) {
+        TestDescriptor test = new AbstractTestDescriptor(engine.getUniqueId().append("method", name), name) {
+            @Override
+            public Type getType() {
+                return Type.TEST;
+            }
+        };
+        engine.addChild(test);
+        return test;
+    }
+
+}
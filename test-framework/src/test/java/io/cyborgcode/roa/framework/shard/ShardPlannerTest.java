@@ -0,0 +1,176 @@
+package io.cyborgcode.roa.framework.shard;
+
+import io.cyborgcode.roa.framework.base.BaseQuestSequential;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ShardPlanner Tests")
+class ShardPlannerTest {
+
+    private final EngineDescriptor engine = new EngineDescriptor(UniqueId.forEngine("junit-jupiter"), "JUnit");
+
+    @Test
+    @DisplayName("Should balance tests with the longest-processing-time rule")
+    void shouldBalanceByLongestProcessingTime() {
+        // Given
+        TestDescriptor testClass = container(engine, "class", PlainTests.class);
+        TestDescriptor a = test(testClass, "a");
+        TestDescriptor b = test(testClass, "b");
+        TestDescriptor c = test(testClass, "c");
+        TestDescriptor d = test(testClass, "d");
+        TestDescriptor e = test(testClass, "e");
+        NavigableMap<String, Long> durations = durations(a, 5, b, 4, c, 3, d, 3, e, 3);
+
+        // When
+        Set<UniqueId> first = ShardPlanner.plan(engine, durations, 0, 2);
+        Set<UniqueId> second = ShardPlanner.plan(engine, durations, 1, 2);
+
+        // Then
+        assertEquals(Set.of(a.getUniqueId(), d.getUniqueId()), tests(first, a, b, c, d, e));
+        assertEquals(Set.of(b.getUniqueId(), c.getUniqueId(), e.getUniqueId()), tests(second, a, b, c, d, e));
+        assertTrue(first.contains(testClass.getUniqueId()));
+        assertTrue(second.contains(engine.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("Should never split a sequential quest class")
+    void shouldKeepSequentialClassOnOneShard() {
+        // Given
+        TestDescriptor sequential = container(engine, "class", SequentialQuests.class);
+        TestDescriptor first = test(sequential, "first");
+        TestDescriptor second = test(sequential, "second");
+        TestDescriptor plain = container(engine, "class", PlainTests.class);
+        TestDescriptor other = test(plain, "other");
+        NavigableMap<String, Long> durations = durations(first, 10, second, 10, other, 1);
+
+        // When
+        Set<UniqueId> shard0 = ShardPlanner.plan(engine, durations, 0, 2);
+        Set<UniqueId> shard1 = ShardPlanner.plan(engine, durations, 1, 2);
+
+        // Then
+        assertTrue(shard0.contains(first.getUniqueId()) && shard0.contains(second.getUniqueId()));
+        assertFalse(shard1.contains(first.getUniqueId()) || shard1.contains(second.getUniqueId()));
+        assertTrue(shard1.contains(other.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("Should assign every test to exactly one shard when no history exists")
+    void shouldAssignEveryTestOnceWithoutHistory() {
+        // Given
+        TestDescriptor testClass = container(engine, "class", PlainTests.class);
+        TestDescriptor[] tests = new TestDescriptor[7];
+        for (int i = 0; i < tests.length; i++) {
+            tests[i] = test(testClass, "test" + i);
+        }
+
+        // When
+        Set<UniqueId> seen = new HashSet<>();
+        int[] sizes = new int[3];
+        for (int shard = 0; shard < 3; shard++) {
+            Set<UniqueId> included = ShardPlanner.plan(engine, new TreeMap<>(), shard, 3);
+            for (TestDescriptor test : tests) {
+                if (included.contains(test.getUniqueId())) {
+                    assertTrue(seen.add(test.getUniqueId()), "Test assigned twice: " + test.getUniqueId());
+                    sizes[shard]++;
+                }
+            }
+        }
+
+        // Then
+        assertEquals(tests.length, seen.size());
+        assertEquals(3, sizes[0]);
+        assertEquals(2, sizes[1]);
+        assertEquals(2, sizes[2]);
+    }
+
+    @Test
+    @DisplayName("Should sum the recorded durations of dynamic invocations into their test template")
+    void shouldSumDurationsBelowUnit() {
+        // Given
+        TestDescriptor testClass = container(engine, "class", PlainTests.class);
+        TestDescriptor template = container(testClass, "test-template", null);
+        TestDescriptor single = test(testClass, "single");
+        TestDescriptor sibling = test(testClass, "single2");
+        NavigableMap<String, Long> durations = new TreeMap<>();
+        durations.put(template.getUniqueId().append("test-template-invocation", "#1").toString(), 6L);
+        durations.put(template.getUniqueId().append("test-template-invocation", "#2").toString(), 6L);
+        durations.put(single.getUniqueId().toString(), 10L);
+        durations.put(sibling.getUniqueId().toString(), 1L);
+
+        // When
+        Set<UniqueId> shard0 = ShardPlanner.plan(engine, durations, 0, 2);
+
+        // Then
+        assertTrue(shard0.contains(template.getUniqueId()));
+        assertFalse(shard0.contains(single.getUniqueId()));
+        assertFalse(shard0.contains(sibling.getUniqueId()));
+    }
+
+    private static Set<UniqueId> tests(Set<UniqueId> included, TestDescriptor... tests) {
+        Set<UniqueId> result = new HashSet<>();
+        for (TestDescriptor test : tests) {
+            if (included.contains(test.getUniqueId())) {
+                result.add(test.getUniqueId());
+            }
+        }
+        return result;
+    }
+
+    private static NavigableMap<String, Long> durations(Object... pairs) {
+        NavigableMap<String, Long> durations = new TreeMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            durations.put(((TestDescriptor) pairs[i]).getUniqueId().toString(), ((Integer) pairs[i + 1]).longValue());
+        }
+        return durations;
+    }
+
+    private static TestDescriptor container(TestDescriptor parent, String type, Class<?> testClass) {
+        String value = testClass != null ? testClass.getName() : "template()";
+        TestSource source = testClass != null ? ClassSource.from(testClass) : null;
+        Node node = new Node(parent.getUniqueId().append(type, value), source, TestDescriptor.Type.CONTAINER);
+        parent.addChild(node);
+        return node;
+    }
+
+    private static TestDescriptor test(TestDescriptor parent, String name) {
+        Node node = new Node(parent.getUniqueId().append("method", name + "()"), null, TestDescriptor.Type.TEST);
+        parent.addChild(node);
+        return node;
+    }
+
+    private static final class Node extends AbstractTestDescriptor {
+
+        private final Type type;
+
+        private Node(UniqueId uniqueId, TestSource source, Type type) {
+            super(uniqueId, uniqueId.getLastSegment().getValue(), source);
+            this.type = type;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+    }
+
+    static class PlainTests {
+    }
+
+    static class SequentialQuests extends BaseQuestSequential {
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.cyborgcode.roa.framework.spring;
+
+import io.cyborgcode.roa.framework.log.LogQuest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ContextStartupTimingCustomizer Tests")
+class ContextStartupTimingCustomizerTest {
+
+    @Test
+    @DisplayName("Should record and log the startup of a refreshed context once")
+    void shouldRecordContextStartup() {
+        // Given
+        MergedContextConfiguration mergedConfig = mock(MergedContextConfiguration.class);
+        when(mergedConfig.getTestClass()).thenAnswer(invocation -> ContextStartupTimingCustomizerTest.class);
+        int startedBefore = ContextStartupTimingCustomizer.startedContexts();
+
+        try (MockedStatic<LogQuest> logQuest = mockStatic(LogQuest.class);
+             GenericApplicationContext context = new GenericApplicationContext()) {
+            new ContextStartupTimingCustomizer().customizeContext(context, mergedConfig);
+
+            // When
+            context.refresh();
+            context.publishEvent(new ContextRefreshedEvent(context));
+
+            // Then
+            assertEquals(startedBefore + 1, ContextStartupTimingCustomizer.startedContexts());
+            assertTrue(ContextStartupTimingCustomizer.totalStartupMillis() >= 0);
+            logQuest.verify(() -> LogQuest.info(anyString(), any(), any(), any(), any()), times(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not affect context caching")
+    void shouldBeEqualAcrossInstances() {
+        // Given
+        ContextStartupTimingCustomizer first = new ContextStartupTimingCustomizer();
+        ContextStartupTimingCustomizer second = new ContextStartupTimingCustomizer();
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Factory should create the timing customizer for any test class")
+    void factoryShouldCreateCustomizer() {
+        // When
+        ContextCustomizer customizer = new ContextStartupTimingCustomizerFactory()
+                .createContextCustomizer(Object.class, null);
+
+        // Then
+        assertInstanceOf(ContextStartupTimingCustomizer.class, customizer);
+    }
+
+}
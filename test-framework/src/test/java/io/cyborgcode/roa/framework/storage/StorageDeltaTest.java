@@ -0,0 +1,134 @@
+package io.cyborgcode.roa.framework.storage;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import io.cyborgcode.roa.framework.storage.mock.MockEnum;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StorageDelta Tests")
+class StorageDeltaTest {
+
+   private MockedStatic<FrameworkConfigHolder> holder;
+
+   @BeforeEach
+   void setUp() {
+      FrameworkConfig config = mock(FrameworkConfig.class);
+      when(config.defaultStorage()).thenReturn("SUB");
+      holder = mockStatic(FrameworkConfigHolder.class);
+      holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+   }
+
+   @AfterEach
+   void tearDown() {
+      holder.close();
+   }
+
+   @Test
+   @DisplayName("Should collect only the values added after the mark")
+   void shouldCollectAddedValues() {
+      // Given
+      Storage source = new Storage();
+      source.put(MockEnum.KEY1, "before");
+      StorageDelta.Mark mark = StorageDelta.mark(source);
+      source.put(MockEnum.KEY1, "after");
+      source.put(MockEnum.KEY2, "new");
+
+      // When
+      Storage target = new Storage();
+      StorageDelta.since(mark, source).applyTo(target);
+
+      // Then
+      assertEquals(List.of("after"), target.getAllByClass(MockEnum.KEY1, String.class));
+      assertEquals("new", target.get(MockEnum.KEY2, String.class));
+   }
+
+   @Test
+   @DisplayName("Should replay values of existing and new sub-storages into the target sub-storages")
+   void shouldReplaySubStorageValues() {
+      // Given
+      Storage source = new Storage();
+      source.sub(MockEnum.SUB).put(MockEnum.KEY1, "existing");
+      StorageDelta.Mark mark = StorageDelta.mark(source);
+      source.sub(MockEnum.SUB).put(MockEnum.KEY1, "added");
+      source.sub(MockEnum.KEY3).put(MockEnum.KEY2, "nested");
+
+      // When
+      Storage target = new Storage();
+      target.sub(MockEnum.SUB).put(MockEnum.KEY1, "own");
+      StorageDelta.since(mark, source).applyTo(target);
+
+      // Then
+      assertEquals(List.of("own", "added"), target.sub(MockEnum.SUB).getAllByClass(MockEnum.KEY1, String.class));
+      assertEquals("nested", target.sub(MockEnum.KEY3).get(MockEnum.KEY2, String.class));
+      assertSame(target.sub(), target.sub(MockEnum.SUB));
+   }
+
+   @Test
+   @DisplayName("Should share the stored objects instead of copying them")
+   void shouldShareStoredObjects() {
+      // Given
+      Storage source = new Storage();
+      StorageDelta.Mark mark = StorageDelta.mark(source);
+      Object value = new Object();
+      source.put(MockEnum.KEY1, value);
+
+      // When
+      Storage target = new Storage();
+      StorageDelta.since(mark, source).applyTo(target);
+
+      // Then
+      assertSame(value, target.get(MockEnum.KEY1, Object.class));
+   }
+
+   @Test
+   @DisplayName("Should be empty when nothing was added")
+   void shouldBeEmptyWithoutChanges() {
+      // Given
+      Storage source = new Storage();
+      source.put(MockEnum.KEY1, "value");
+      source.sub(MockEnum.SUB).put(MockEnum.KEY2, "value");
+      StorageDelta.Mark mark = StorageDelta.mark(source);
+
+      // When
+      StorageDelta delta = StorageDelta.since(mark, source);
+
+      // Then
+      assertTrue(delta.isEmpty());
+      Storage target = new Storage();
+      delta.applyTo(target);
+      assertNull(target.get(MockEnum.KEY1, String.class));
+      assertTrue(target.getData().isEmpty());
+   }
+
+   @Test
+   @DisplayName("Should fail when the target holds a plain value under a sub-storage key")
+   void shouldRejectConflictingTargetKey() {
+      // Given
+      Storage source = new Storage();
+      StorageDelta.Mark mark = StorageDelta.mark(source);
+      source.sub(MockEnum.NON_STORAGE).put(MockEnum.KEY1, "value");
+      StorageDelta delta = StorageDelta.since(mark, source);
+      Storage target = new Storage();
+      target.put(MockEnum.NON_STORAGE, "plain");
+
+      // When / Then
+      assertFalse(delta.isEmpty());
+      assertThrows(IllegalStateException.class, () -> delta.applyTo(target));
+   }
+
+}
@@ -4,11 +4,18 @@ import io.cyborgcode.roa.framework.config.FrameworkConfig;
 import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
 import io.cyborgcode.roa.framework.storage.mock.DummyLate;
 import io.cyborgcode.roa.framework.storage.mock.MockEnum;
+import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +28,7 @@ import org.springframework.core.ParameterizedTypeReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -53,8 +61,11 @@ class StorageTest {
    private FrameworkConfig mockConfig;
 
    @BeforeEach
-   void setUp() {
+   void setUp() throws Exception {
       storage = new Storage();
+      Field defaultStorageEnum = Storage.class.getDeclaredField("defaultStorageEnum");
+      defaultStorageEnum.setAccessible(true);
+      defaultStorageEnum.set(null, null);
    }
 
    @Nested
@@ -96,24 +107,58 @@ class StorageTest {
             "Should return null for non-existent key");
       }
 
-//        @Test
-//        @DisplayName("Should handle concurrent put operations")
-//        void testConcurrentPuts() throws InterruptedException {
-//            int threadCount = 10;
-//            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
-//
-//            CountDownLatch latch = new CountDownLatch(threadCount);
-//            for (int i = 0; i < threadCount; i++) {
-//                final int value = i;
-//                executor.execute(() -> {
-//                    storage.put(MockEnum.KEY1, "value" + value);
-//                    latch.countDown();
-//                });
-//            }
-//
-//            latch.await();
-//            assertEquals(threadCount, storage.getAllByClass(MockEnum.KEY1, String.class).size());
-//        }
+      @Test
+      @DisplayName("Should handle concurrent put operations")
+      void testConcurrentPuts() throws InterruptedException {
+         int threadCount = 10;
+         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+         CountDownLatch latch = new CountDownLatch(threadCount);
+         for (int i = 0; i < threadCount; i++) {
+            final int value = i;
+            executor.execute(() -> {
+               storage.put(MockEnum.KEY1, "value" + value);
+               latch.countDown();
+            });
+         }
+
+         latch.await();
+         executor.shutdown();
+         assertEquals(threadCount, storage.getAllByClass(MockEnum.KEY1, String.class).size());
+      }
+
+      @Test
+      @DisplayName("Should read values while other threads keep storing values under the same key")
+      void testConcurrentReadsAndPuts() throws Exception {
+         // Given
+         int writes = 2_000;
+         ExecutorService executor = Executors.newFixedThreadPool(2);
+         storage.put(MockEnum.KEY1, VALUE);
+
+         try {
+            // When
+            Future<?> writer = executor.submit(() -> {
+               for (int i = 0; i < writes; i++) {
+                  storage.put(MockEnum.KEY1, VALUE + i);
+               }
+            });
+            Future<?> reader = executor.submit(() -> {
+               while (!writer.isDone()) {
+                  assertNotNull(storage.get(MockEnum.KEY1, String.class));
+                  storage.getAllByClass(MockEnum.KEY1, String.class);
+                  storage.getByClass(MockEnum.KEY1, String.class);
+                  storage.getData();
+               }
+            });
+            writer.get();
+            reader.get();
+
+            // Then
+            assertEquals(writes + 1, storage.getAllByClass(MockEnum.KEY1, String.class).size());
+         } finally {
+            executor.shutdownNow();
+         }
+      }
    }
 
    @Nested
@@ -467,6 +512,50 @@ class StorageTest {
          assertEquals("There is no default storage initialized", ex.getMessage(),
             "Exception message should indicate default storage not initialized");
       }
+
+      @Test
+      @DisplayName("Should share the default storage key between storage instances")
+      void testDefaultKeyIsShared() {
+         // Given
+         try (MockedStatic<FrameworkConfigHolder> configHolderMock = mockStatic(FrameworkConfigHolder.class)) {
+            when(mockConfig.defaultStorage()).thenReturn("SUB");
+            configHolderMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(mockConfig);
+            Storage sub = storage.sub(MockEnum.SUB);
+            Storage other = new Storage();
+
+            // When
+            Storage otherSub = other.sub();
+
+            // Then
+            assertSame(sub, storage.sub(), "Default substorage should be resolved for the initializing storage");
+            assertNotNull(otherSub, "Default substorage should be created for another storage");
+            assertNotSame(sub, otherSub, "Each storage should get its own default substorage");
+            assertSame(otherSub, other.sub(MockEnum.SUB), "Default substorage should use the shared key");
+         }
+      }
+
+      @Test
+      @DisplayName("Should create a single sub-storage under concurrent access")
+      void testConcurrentSubCreation() throws Exception {
+         // Given
+         ExecutorService executor = Executors.newFixedThreadPool(8);
+         try {
+            List<Callable<Storage>> calls = Collections.nCopies(64, () -> storage.sub(MockEnum.KEY1));
+
+            // When
+            List<Future<Storage>> results = executor.invokeAll(calls);
+
+            // Then
+            Storage expected = results.get(0).get();
+            for (Future<Storage> result : results) {
+               assertSame(expected, result.get(), "All callers should receive the same sub-storage");
+            }
+            assertEquals(1, storage.getData().get(MockEnum.KEY1).size(),
+               "Only one sub-storage should be registered");
+         } finally {
+            executor.shutdownNow();
+         }
+      }
    }
 
    @Nested
@@ -0,0 +1,93 @@
+package io.cyborgcode.roa.framework.trace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ChromeTrace Tests")
+class ChromeTraceTest {
+
+    private static final long PID = ProcessHandle.current().pid();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        ChromeTrace.clear();
+    }
+
+    @Test
+    @DisplayName("Should render every span as a complete event on the track of its thread")
+    void shouldRenderCompleteEvents() {
+        // Given
+        List<PhaseSpan> spans = List.of(new PhaseSpan("T.run", "Prologue", "main", 1, 5_000, 1_500));
+
+        // When
+        String json = ChromeTrace.render(spans);
+
+        // Then
+        assertTrue(json.contains("{\"name\":\"Prologue\",\"cat\":\"roa\",\"ph\":\"X\",\"ts\":5000,\"dur\":1500,"
+                + "\"pid\":" + PID + ",\"tid\":1,\"args\":{\"test\":\"T.run\"}}"));
+    }
+
+    @Test
+    @DisplayName("Should name every thread once")
+    void shouldRenderThreadNames() {
+        // Given
+        List<PhaseSpan> spans = List.of(
+                new PhaseSpan("T.run", "Prologue", "main", 1, 0, 10),
+                new PhaseSpan("T.run", "Journey: login", "roa-journey-1", 7, 10, 10),
+                new PhaseSpan("T.run", "Epilogue", "main", 1, 20, 10));
+
+        // When
+        String json = ChromeTrace.render(spans);
+
+        // Then
+        assertEquals(2, json.split("\"thread_name\"", -1).length - 1);
+        assertTrue(json.contains("\"tid\":7,\"args\":{\"name\":\"roa-journey-1\"}"));
+    }
+
+    @Test
+    @DisplayName("Should escape names that are not plain JSON strings")
+    void shouldEscapeNames() {
+        // Given
+        List<PhaseSpan> spans = List.of(new PhaseSpan("T.run[\"a\\b\"]", "Ring: \"API\"\n", "main", 1, 0, 1));
+
+        // When
+        String json = ChromeTrace.render(spans);
+
+        // Then
+        assertTrue(json.contains("\"name\":\"Ring: \\\"API\\\"\\n\""));
+        assertTrue(json.contains("\"test\":\"T.run[\\\"a\\\\b\\\"]\""));
+    }
+
+    @Test
+    @DisplayName("Should write the collected spans and skip writing when nothing was collected")
+    void shouldWriteCollectedSpans() throws IOException {
+        // Given
+        Path file = tempDir.resolve("nested/trace.json");
+
+        // When
+        boolean writtenEmpty = ChromeTrace.write(file);
+        ChromeTrace.add(List.of(new PhaseSpan("T.run", "Epilogue", "main", 1, 0, 1)));
+        boolean written = ChromeTrace.write(file);
+
+        // Then
+        assertFalse(writtenEmpty);
+        assertTrue(written);
+        String json = Files.readString(file);
+        assertTrue(json.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(json.contains("\"name\":\"Epilogue\""));
+    }
+
+}
@@ -0,0 +1,185 @@
+package io.cyborgcode.roa.framework.trace;
+
+import io.cyborgcode.roa.framework.config.FrameworkConfig;
+import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PhaseTimeline Tests")
+class PhaseTimelineTest {
+
+    private static final String TEST_ID = "[engine:junit-jupiter]/[class:a.SampleTest]/[method:run()]";
+
+    @TempDir
+    Path tempDir;
+
+    private MockedStatic<FrameworkConfigHolder> holder;
+
+    private FrameworkConfig config;
+
+    private ExtensionContext context;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        config = mock(FrameworkConfig.class);
+        when(config.timelineEnabled()).thenReturn(true);
+        holder = mockStatic(FrameworkConfigHolder.class);
+        holder.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(config);
+
+        context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn(TEST_ID);
+        when(context.getTestClass()).thenReturn(Optional.of(PhaseTimelineTest.class));
+        when(context.getTestMethod()).thenReturn(Optional.of(PhaseTimelineTest.class.getDeclaredMethod("setUp")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        PhaseTimeline.clear();
+        ChromeTrace.clear();
+        ThreadContext.clearMap();
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("Should record the phases of a test in start order")
+    void shouldRecordPhasesInStartOrder() {
+        // Given
+        try (PhaseTimeline.Span outer = PhaseTimeline.span(context, "Oracle: quest creation")) {
+            try (PhaseTimeline.Span inner = PhaseTimeline.span(context, "Oracle: quest consumers")) {
+                // nested phase
+            }
+        }
+
+        // When
+        List<PhaseSpan> spans = PhaseTimeline.finish(context).orElseThrow();
+
+        // Then
+        assertEquals(List.of("Oracle: quest creation", "Oracle: quest consumers"),
+                spans.stream().map(PhaseSpan::name).toList());
+        assertEquals("PhaseTimelineTest.setUp", spans.get(0).test());
+        assertTrue(spans.get(0).durationMicros() >= spans.get(1).durationMicros());
+        assertNull(ThreadContext.get(PhaseTimeline.TEST_ID_KEY));
+    }
+
+    @Test
+    @DisplayName("Should record phases of worker threads that inherit the log context of the test")
+    void shouldRecordPhasesOfWorkerThreads() {
+        // Given
+        PhaseTimeline.span(context, "Craftsman: prefetch").close();
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+
+        // When
+        CompletableFuture.runAsync(() -> {
+            ThreadContext.putAll(logContext);
+            try (PhaseTimeline.Span span = PhaseTimeline.span("Journey: worker")) {
+                // phase on a worker thread
+            } finally {
+                ThreadContext.clearMap();
+            }
+        }).join();
+        List<PhaseSpan> spans = PhaseTimeline.finish(context).orElseThrow();
+
+        // Then
+        assertEquals(2, spans.size());
+        assertEquals("Journey: worker", spans.get(1).name());
+        assertNotEquals(spans.get(0).threadId(), spans.get(1).threadId());
+    }
+
+    @Test
+    @DisplayName("Should end the running phase of a lane when switching and when the timeline finishes")
+    void shouldSwitchLanes() {
+        // Given
+        PhaseTimeline.span(context, "Prologue").close();
+
+        // When
+        PhaseTimeline.switchLane("ring", "Ring: API");
+        PhaseTimeline.switchLane("ring", "Ring: DB");
+        List<PhaseSpan> spans = PhaseTimeline.finish(context).orElseThrow();
+
+        // Then
+        assertEquals(List.of("Prologue", "Ring: API", "Ring: DB"), spans.stream().map(PhaseSpan::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should hand finished timelines to the suite trace")
+    void shouldAddFinishedTimelineToTrace() throws IOException {
+        // Given
+        PhaseTimeline.span(context, "Epilogue").close();
+        Path file = tempDir.resolve("trace.json");
+
+        // When
+        PhaseTimeline.finish(context);
+
+        // Then
+        assertTrue(ChromeTrace.write(file));
+        assertTrue(Files.readString(file).contains("\"name\":\"Epilogue\""));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when phase timelines are disabled")
+    void shouldRecordNothingWhenDisabled() {
+        // Given
+        when(config.timelineEnabled()).thenReturn(false);
+        ExtensionContext untouched = mock(ExtensionContext.class);
+
+        // When
+        PhaseTimeline.span(untouched, "Prologue").close();
+        PhaseTimeline.switchLane("ring", "Ring: API");
+
+        // Then
+        assertTrue(PhaseTimeline.finish(untouched).isEmpty());
+        assertNull(ThreadContext.get(PhaseTimeline.TEST_ID_KEY));
+        verifyNoInteractions(untouched);
+    }
+
+    @Test
+    @DisplayName("Should ignore phases of threads not bound to a test")
+    void shouldIgnoreUnboundThreads() {
+        // When
+        PhaseTimeline.span("Journey: orphan").close();
+
+        // Then
+        assertTrue(PhaseTimeline.finish(context).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should render offsets relative to the first phase")
+    void shouldRenderRelativeOffsets() {
+        // Given
+        List<PhaseSpan> spans = List.of(
+                new PhaseSpan("T.run", "Prologue", "main", 1, 5_000, 1_500),
+                new PhaseSpan("T.run", "Oracle: quest creation", "main", 1, 7_000, 20_000));
+
+        // When
+        String rendered = PhaseTimeline.render(spans);
+
+        // Then
+        String[] lines = rendered.split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].matches("\\s+0\\.0\\s+1\\.5\\s+main\\s+Prologue"));
+        assertTrue(lines[2].matches("\\s+2\\.0\\s+20\\.0\\s+main\\s+Oracle: quest creation"));
+    }
+
+}
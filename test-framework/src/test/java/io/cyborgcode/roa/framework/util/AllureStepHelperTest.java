@@ -3,6 +3,7 @@ package io.cyborgcode.roa.framework.util;
 import io.cyborgcode.roa.framework.config.FrameworkConfig;
 import io.cyborgcode.roa.framework.config.FrameworkConfigHolder;
 import io.cyborgcode.roa.framework.log.LogQuest;
+import io.cyborgcode.roa.framework.log.TestLogCapture;
 import io.cyborgcode.utilities.config.ConfigSource;
 import io.cyborgcode.utilities.config.PropertyConfig;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
@@ -64,6 +65,11 @@ public class AllureStepHelperTest {
     @Mock
     private ExtensionContext.Store mockStore;
 
+    @BeforeEach
+    void resetTemplateCache() {
+        HtmlTemplate.clearCache();
+    }
+
     @BeforeEach
     void resetEnvironmentInitializationFlag() throws Exception {
         Field field = AllureStepHelper.class.getDeclaredField("ENV_INITIALIZED");
@@ -280,6 +286,30 @@ public class AllureStepHelperTest {
         }
     }
 
+    @Test
+    @DisplayName("Should attach captured in-memory logs and release them")
+    void shouldAttachCapturedLogsWhenAvailable() {
+        String testName = "capturedScenario";
+        String captureId = "[engine:junit-jupiter]/[class:CapturedTest]/[method:capturedScenario()]";
+
+        try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class);
+             MockedStatic<TestLogCapture> mockedCapture = mockStatic(TestLogCapture.class)) {
+            mockedCapture.when(() -> TestLogCapture.release(captureId)).thenReturn(Optional.of("captured line"));
+
+            AllureStepHelper.attachFilteredLogsToAllure(testName, captureId);
+
+            mockedAllure.verify(() ->
+                  Allure.addAttachment(
+                        eq("Filtered Logs for Test: " + testName),
+                        eq("text/plain"),
+                        eq("captured line"),
+                        eq(".log")
+                  )
+            );
+            mockedCapture.verify(() -> TestLogCapture.release(captureId), times(1));
+        }
+    }
+
     @Test
     @DisplayName("Should log SUCCESS outcome without exception")
     void shouldLogSuccessOutcomeWithoutException() {
@@ -396,6 +426,7 @@ public class AllureStepHelperTest {
         when(mockContext.getTestMethod())
               .thenReturn(Optional.of(AllureStepHelperTest.class.getDeclaredMethod("shouldSetAllureHtmlDescriptionFromContext")));
         when(mockContext.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(mockStore);
+        when(mockContext.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:AllureStepHelperTest]");
 
         try (MockedStatic<ThreadContext> mockedThreadContext = mockStatic(ThreadContext.class)) {
             AllureStepHelper.setupTestContext(mockContext);
@@ -404,6 +435,11 @@ public class AllureStepHelperTest {
                         ThreadContext.put(eq("testName"), eq("AllureStepHelperTest.shouldSetAllureHtmlDescriptionFromContext")),
                   times(1)
             );
+            mockedThreadContext.verify(() ->
+                        ThreadContext.put(eq(TestLogCapture.CAPTURE_ID_KEY),
+                              eq("[engine:junit-jupiter]/[class:AllureStepHelperTest]")),
+                  times(1)
+            );
         }
     }
 
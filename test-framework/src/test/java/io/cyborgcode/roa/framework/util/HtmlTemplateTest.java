@@ -0,0 +1,63 @@
+package io.cyborgcode.roa.framework.util;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+
+@DisplayName("HtmlTemplate Tests")
+class HtmlTemplateTest {
+
+    @BeforeEach
+    void setUp() {
+        HtmlTemplate.clearCache();
+    }
+
+    @Test
+    @DisplayName("Should substitute every placeholder in a single pass")
+    void shouldRenderPlaceholders() {
+        HtmlTemplate template = HtmlTemplate.compile("<td>{{first}}</td><td>{{second}}</td>{{first}}");
+
+        String html = template.render(Map.of("first", "A", "second", "B"));
+
+        assertEquals("<td>A</td><td>B</td>A", html);
+    }
+
+    @Test
+    @DisplayName("Should keep placeholders without value and unterminated markers")
+    void shouldKeepUnknownPlaceholders() {
+        HtmlTemplate template = HtmlTemplate.compile("<p>{{known}} {{unknown}} {{broken</p>");
+
+        String html = template.render(Map.of("known", "value"));
+
+        assertEquals("<p>value {{unknown}} {{broken</p>", html);
+    }
+
+    @Test
+    @DisplayName("Should render template without placeholders unchanged")
+    void shouldRenderPlainTemplate() {
+        assertEquals("<html></html>", HtmlTemplate.compile("<html></html>").render(Map.of()));
+        assertEquals("", HtmlTemplate.compile("").render(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should load each classpath template only once")
+    void shouldCacheLoadedTemplates() {
+        try (MockedStatic<ResourceLoader> mocked = mockStatic(ResourceLoader.class)) {
+            mocked.when(() -> ResourceLoader.loadResourceFile("template.html")).thenReturn("<b>{{name}}</b>");
+
+            HtmlTemplate first = HtmlTemplate.load("template.html");
+            HtmlTemplate second = HtmlTemplate.load("template.html");
+
+            assertSame(first, second);
+            assertEquals("<b>quest</b>", second.render(Map.of("name", "quest")));
+            mocked.verify(() -> ResourceLoader.loadResourceFile("template.html"), times(1));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.cyborgcode.roa.framework.util;
 
 import io.cyborgcode.roa.framework.annotation.JourneyData;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,11 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class ObjectFormatterTest {
 
+    @BeforeEach
+    void resetTemplateCache() {
+        HtmlTemplate.clearCache();
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.TYPE)
     @interface ClassAnnotationWithDefaultValue {
@@ -258,6 +264,77 @@ public class ObjectFormatterTest {
             assertTrue(result.contains("bool: true"));
         }
 
+        @Test
+        @DisplayName("Should truncate large collections and arrays")
+        void shouldTruncateLargeCollectionsAndArrays() {
+            // Given
+            class LargeHolder {
+                final List<Integer> values = new ArrayList<>(Collections.nCopies(150, 7));
+                final long[] ids = new long[120];
+            }
+
+            LargeHolder input = new LargeHolder();
+
+            // When
+            String result = ObjectFormatter.formatObjectFields(input);
+
+            // Then
+            assertTrue(result.contains(", ... (50 more)"));
+            assertTrue(result.contains(", ... (20 more)]"));
+        }
+
+        @Test
+        @DisplayName("Should stop descending into deeply nested objects")
+        void shouldLimitNestingDepth() {
+            // Given
+            class Link {
+                Link next;
+            }
+
+            Link head = new Link();
+            Link current = head;
+            for (int i = 0; i < 20; i++) {
+                current.next = new Link();
+                current = current.next;
+            }
+
+            // When
+            String result = ObjectFormatter.formatObjectFields(head);
+
+            // Then
+            assertTrue(result.contains("Link {...}"));
+            assertFalse(result.contains("[Circular Reference Detected]"));
+        }
+
+        @Test
+        @DisplayName("Should truncate output of very large object graphs")
+        void shouldTruncateVeryLargeOutput() {
+            // Given
+            class TextHolder {
+                final List<String> chunks = new ArrayList<>(Collections.nCopies(80, "x".repeat(2_000)));
+            }
+
+            TextHolder input = new TextHolder();
+
+            // When
+            String result = ObjectFormatter.formatObjectFields(input);
+
+            // Then
+            assertTrue(result.contains("[Output Truncated]"));
+            assertTrue(result.length() < 80 * 2_000);
+        }
+
+        @Test
+        @DisplayName("Should reuse the field access plan of a class")
+        void shouldReuseFieldAccessPlan() {
+            // When
+            FieldAccessPlan first = FieldAccessPlan.of(String.class);
+            FieldAccessPlan second = FieldAccessPlan.of(String.class);
+
+            // Then
+            assertSame(first, second);
+        }
+
         @Test
         @DisplayName("Should return empty string when input list is null")
         void shouldReturnEmptyStringWhenListIsNull() {
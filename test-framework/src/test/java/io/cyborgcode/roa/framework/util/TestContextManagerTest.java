@@ -120,6 +120,45 @@ class TestContextManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("releaseQuest Tests")
+    class ReleaseQuestTests {
+
+        @Test
+        @DisplayName("Should release decorators of the Quest present in store")
+        void shouldReleaseDecoratorsOfQuest() {
+            // Given
+            when(extensionContext.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(globalStore);
+            when(globalStore.get(QUEST)).thenReturn(quest);
+
+            try (MockedStatic<SpringExtension> springExtensionMock = mockStatic(SpringExtension.class)) {
+                springExtensionMock.when(() -> SpringExtension.getApplicationContext(extensionContext))
+                        .thenReturn(applicationContext);
+                when(applicationContext.getBean(DecoratorsFactory.class)).thenReturn(decoratorsFactory);
+
+                // When
+                TestContextManager.releaseQuest(extensionContext);
+
+                // Then
+                verify(decoratorsFactory).release(quest);
+            }
+        }
+
+        @Test
+        @DisplayName("Should do nothing when Quest is not present in store")
+        void shouldSkipWhenQuestIsNotPresent() {
+            // Given
+            when(extensionContext.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(globalStore);
+            when(globalStore.get(QUEST)).thenReturn(null);
+
+            // When
+            TestContextManager.releaseQuest(extensionContext);
+
+            // Then
+            verifyNoInteractions(decoratorsFactory);
+        }
+    }
+
     @Nested
     @DisplayName("storeArgument Tests")
     class StoreArgumentTests {
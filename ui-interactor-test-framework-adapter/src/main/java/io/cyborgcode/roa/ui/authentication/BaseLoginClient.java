@@ -72,6 +72,14 @@ public abstract class BaseLoginClient implements LoginClient {
     */
    private static final Map<LoginKey, String> urlAfterLoggingMap = new ConcurrentHashMap<>();
 
+   /**
+    * Locks guarding cached logins, one per login key.
+    *
+    * <p>Only callers logging in with the same credentials wait for each other; logins of different
+    * users proceed in parallel.
+    */
+   private static final Map<LoginKey, Object> loginLocks = new ConcurrentHashMap<>();
+
 
    /**
     * Logs in the user and optionally caches session data for reuse.
@@ -82,7 +90,6 @@ public abstract class BaseLoginClient implements LoginClient {
     * @param cache     Whether to cache the session for future reuse.
     */
    @Override
-   @SuppressFBWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
    public void login(final SuperUiServiceFluent<?> uiService, final String username, final String password,
                      final boolean cache) {
       LoginKey loginKey = new LoginKey(username, password, this.getClass());
@@ -90,13 +97,17 @@ public abstract class BaseLoginClient implements LoginClient {
       if (!cache) {
          performLoginAndCache(uiService, loginKey, username, password);
       } else {
-         synchronized (userLoginMap) {
-            if (userLoginMap.get(loginKey) == null) {
-               performLoginAndCache(uiService, loginKey, username, password);
-            } else {
-               restoreSession(uiService, userLoginMap.get(loginKey), urlAfterLoggingMap.get(loginKey));
+         SessionInfo sessionInfo = userLoginMap.get(loginKey);
+         if (sessionInfo == null) {
+            synchronized (loginLocks.computeIfAbsent(loginKey, key -> new Object())) {
+               sessionInfo = userLoginMap.get(loginKey);
+               if (sessionInfo == null) {
+                  performLoginAndCache(uiService, loginKey, username, password);
+                  return;
+               }
             }
          }
+         restoreSession(uiService, sessionInfo, urlAfterLoggingMap.get(loginKey));
       }
    }
 
@@ -1,11 +1,16 @@
 package io.cyborgcode.roa.ui.config;
 
+import io.cyborgcode.roa.framework.trace.PhaseTimeline;
 import io.cyborgcode.roa.ui.drivers.config.WebDriverConfig;
 import io.cyborgcode.roa.ui.drivers.factory.WebDriverFactory;
+import io.cyborgcode.roa.ui.drivers.pool.BrowserPrewarmer;
+import io.cyborgcode.roa.ui.drivers.pool.SessionKey;
+import io.cyborgcode.roa.ui.drivers.pool.WebDriverPool;
 import io.cyborgcode.roa.ui.selenium.listeners.WebDriverEventListener;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
 import io.cyborgcode.roa.ui.validator.UiTableValidator;
 import io.cyborgcode.roa.ui.validator.UiTableValidatorImpl;
+import java.util.function.Supplier;
 import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +26,10 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
  * for Selenium-based UI interactions and validation functionalities.
  *
  * <p>The configuration follows a lazy initialization strategy to optimize resource usage.
- * WebDriver instances are created with a "prototype" scope, ensuring each test receives a fresh instance.
+ * WebDriver instances are created with a "prototype" scope, ensuring each test receives its own instance;
+ * with {@code driver.pool.enabled} the instance is checked out of the shared {@link WebDriverPool} instead of
+ * launching a new browser for every test, and with {@code driver.prewarm.sessions} new browsers are started in
+ * the background by the {@link BrowserPrewarmer}.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -33,25 +41,28 @@ public class UiInteractionAutoConfiguration {
     *
     * <p>This method creates a WebDriver instance based on the UI framework configuration.
     * It supports remote and local execution and applies an event-firing decorator to enhance logging and debugging.
+    * When driver pooling is enabled, an idle browser session with the same configuration is reused if available,
+    * and when pre-warming is enabled, new browsers are taken from those started in the background. The time
+    * spent obtaining the driver is recorded as the {@code UI: browser} phase of the test.
     *
-    * @return A new instance of {@link SmartWebDriver}.
+    * @return A {@link SmartWebDriver} owned by the requesting test.
     */
    @Bean
    @Lazy
    @Scope("prototype")
    public SmartWebDriver webDriver() {
-      return new SmartWebDriver(
-            WebDriverFactory.createDriver(
-                  getUiConfig().browserType(),
-                  WebDriverConfig.builder()
-                        .version(getUiConfig().browserVersion())
-                        .headless(getUiConfig().headless())
-                        .remote(getUiConfig().remoteDriverUrl() != null && !getUiConfig().remoteDriverUrl().isEmpty())
-                        .remoteUrl(getUiConfig().remoteDriverUrl())
-                        .eventFiringDecorator(new EventFiringDecorator<>(new WebDriverEventListener()))
-                        .build()
-            )
-      );
+      String browserType = getUiConfig().browserType();
+      WebDriverConfig<?> config = driverConfig();
+      SessionKey key = getUiConfig().driverPoolEnabled() || getUiConfig().driverPrewarmSessions() > 0
+            ? SessionKey.of(browserType, config)
+            : null;
+      Supplier<SmartWebDriver> launch = () -> new SmartWebDriver(WebDriverFactory.createDriver(browserType, config));
+      Supplier<SmartWebDriver> factory = getUiConfig().driverPrewarmSessions() > 0
+            ? () -> BrowserPrewarmer.shared().take(key, launch)
+            : launch;
+      try (PhaseTimeline.Span span = PhaseTimeline.span("UI: browser")) {
+         return getUiConfig().driverPoolEnabled() ? WebDriverPool.shared().checkout(key, factory) : factory.get();
+      }
    }
 
    /**
@@ -68,4 +79,14 @@ public class UiInteractionAutoConfiguration {
       return new UiTableValidatorImpl();
    }
 
+   private static WebDriverConfig<?> driverConfig() {
+      return WebDriverConfig.builder()
+            .version(getUiConfig().browserVersion())
+            .headless(getUiConfig().headless())
+            .remote(getUiConfig().remoteDriverUrl() != null && !getUiConfig().remoteDriverUrl().isEmpty())
+            .remoteUrl(getUiConfig().remoteDriverUrl())
+            .eventFiringDecorator(new EventFiringDecorator<>(new WebDriverEventListener()))
+            .build();
+   }
+
 }
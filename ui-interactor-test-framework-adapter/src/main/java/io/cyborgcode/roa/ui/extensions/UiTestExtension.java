@@ -14,6 +14,8 @@ import io.cyborgcode.roa.ui.annotations.InterceptRequests;
 import io.cyborgcode.roa.ui.authentication.BaseLoginClient;
 import io.cyborgcode.roa.ui.authentication.LoginCredentials;
 import io.cyborgcode.roa.ui.components.interceptor.ApiResponse;
+import io.cyborgcode.roa.ui.drivers.pool.BrowserPrewarmer;
+import io.cyborgcode.roa.ui.drivers.pool.WebDriverPool;
 import io.cyborgcode.roa.ui.exceptions.AuthenticationUiException;
 import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.parameters.DataIntercept;
@@ -194,6 +196,7 @@ public class UiTestExtension implements BeforeTestExecutionCallback, AfterTestEx
       if (driver instanceof ChromeDriver chromeDriver) {
          DevTools chromeDevTools = chromeDriver.getDevTools();
          chromeDevTools.createSession();
+         artifact.setDevToolsSession(chromeDevTools);
          chromeDevTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(),
             Optional.empty(), Optional.empty()));
 
@@ -290,7 +293,8 @@ public class UiTestExtension implements BeforeTestExecutionCallback, AfterTestEx
     * Executes actions after the test completes, such as:
     * <ul>
     *     <li>Taking screenshots if enabled.</li>
-    *     <li>Cleaning up the WebDriver session.</li>
+    *     <li>Cleaning up the WebDriver session, or returning it to the {@link WebDriverPool} when pooling
+    *     is enabled; sessions of failed tests are discarded by the pool.</li>
     * </ul>
     *
     * @param context The current test execution context.
@@ -311,6 +315,10 @@ public class UiTestExtension implements BeforeTestExecutionCallback, AfterTestEx
          Allure.addAttachment("Intercepted Requests", "text/html",
             new ByteArrayInputStream(formattedResponses.getBytes(StandardCharsets.UTF_8)), ".html");
       }
+      if (getUiConfig().driverPoolEnabled()
+            && WebDriverPool.shared().checkin(smartWebDriver, context.getExecutionException().isEmpty())) {
+         return;
+      }
       if (!smartWebDriver.isKeepDriverForSession()) {
          driver.quit();
          LogUi.info("WebDriver closed successfully.");
@@ -336,7 +344,7 @@ public class UiTestExtension implements BeforeTestExecutionCallback, AfterTestEx
       SmartWebDriver smartWebDriver = getSmartWebDriver(decoratorsFactory, context);
       WebDriver driver = unwrapDriver(smartWebDriver);
       takeScreenshot(driver, context.getDisplayName());
-      if (!smartWebDriver.isKeepDriverForSession()) {
+      if (!smartWebDriver.isKeepDriverForSession() && !getUiConfig().driverPoolEnabled()) {
          driver.quit();
       }
       throw throwable;
@@ -349,7 +357,12 @@ public class UiTestExtension implements BeforeTestExecutionCallback, AfterTestEx
          WebDriver driver = unwrapDriver(smartWebDriver);
          driver.quit();
       });
-
+      if (getUiConfig().driverPoolEnabled()) {
+         WebDriverPool.shared().shutdown();
+      }
+      if (getUiConfig().driverPrewarmSessions() > 0) {
+         BrowserPrewarmer.shared().shutdown();
+      }
    }
 
 
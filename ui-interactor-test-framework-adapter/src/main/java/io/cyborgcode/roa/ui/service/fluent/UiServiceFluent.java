@@ -37,8 +37,9 @@ import io.cyborgcode.roa.ui.validator.UiTableValidator;
 import io.cyborgcode.roa.ui.validator.UiTableValidatorImpl;
 import io.cyborgcode.roa.validator.core.AssertionResult;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
-import lombok.Getter;
+import java.util.function.Function;
 import org.assertj.core.api.SoftAssertions;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -50,12 +51,50 @@ import org.springframework.beans.factory.annotation.Autowired;
  * seamless interaction with UI components while maintaining fluent method chaining.
  * It extends {@link FluentService}, integrating common UI operations.
  *
+ * <p>Services are created on first access and reused for the rest of the quest, so a test only pays for the
+ * services it uses. The component services shared by several fluent services (input, button and link) are
+ * created once per instance and driver, and the table validator is shared by all instances. Looking up a service
+ * as a quest artifact creates it as well.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Ring("UI")
-@Getter
+@SuppressWarnings({"unchecked", "java:S3740"})
 public class UiServiceFluent<T extends UiServiceFluent<?>> extends FluentService {
 
+   /**
+    * Stateless validator shared by the table services of all instances.
+    */
+   private static final UiTableValidator TABLE_VALIDATOR = new UiTableValidatorImpl();
+
+   /**
+    * Getters creating the lazy services, keyed by the type of the field each of them fills.
+    */
+   private static final Map<Class<?>, Function<UiServiceFluent<?>, Object>> LAZY_ARTIFACTS = Map.ofEntries(
+         Map.entry(InputServiceFluent.class, UiServiceFluent::getInputField),
+         Map.entry(ButtonServiceFluent.class, UiServiceFluent::getButtonField),
+         Map.entry(RadioServiceFluent.class, UiServiceFluent::getRadioField),
+         Map.entry(CheckboxServiceFluent.class, UiServiceFluent::getCheckboxField),
+         Map.entry(SelectServiceFluent.class, UiServiceFluent::getSelectField),
+         Map.entry(ListServiceFluent.class, UiServiceFluent::getListField),
+         Map.entry(LoaderServiceFluent.class, UiServiceFluent::getLoaderField),
+         Map.entry(LinkServiceFluent.class, UiServiceFluent::getLinkField),
+         Map.entry(AlertServiceFluent.class, UiServiceFluent::getAlertField),
+         Map.entry(TabServiceFluent.class, UiServiceFluent::getTabField),
+         Map.entry(ToggleServiceFluent.class, UiServiceFluent::getToggleField),
+         Map.entry(ModalServiceFluent.class, UiServiceFluent::getModalField),
+         Map.entry(AccordionServiceFluent.class, UiServiceFluent::getAccordionField),
+         Map.entry(TableServiceFluent.class, UiServiceFluent::getTable),
+         Map.entry(ValidationServiceFluent.class, UiServiceFluent::getValidation),
+         Map.entry(NavigationServiceFluent.class, UiServiceFluent::getNavigation),
+         Map.entry(InterceptorServiceFluent.class, UiServiceFluent::getInterceptor),
+         Map.entry(InsertionServiceRegistry.class, UiServiceFluent::getServiceRegistry),
+         Map.entry(TableServiceRegistry.class, UiServiceFluent::getTableServiceRegistry),
+         Map.entry(InsertionServiceFluent.class, UiServiceFluent::getInsertionService),
+         Map.entry(InputService.class, UiServiceFluent::inputService),
+         Map.entry(ButtonService.class, UiServiceFluent::buttonService),
+         Map.entry(LinkService.class, UiServiceFluent::linkService));
+
    private InputServiceFluent<T> inputField;
    private ButtonServiceFluent<T> buttonField;
    private RadioServiceFluent<T> radioField;
@@ -77,6 +116,9 @@ public class UiServiceFluent<T extends UiServiceFluent<?>> extends FluentService
    private InsertionServiceRegistry serviceRegistry;
    private TableServiceRegistry tableServiceRegistry;
    private InsertionServiceFluent<T> insertionService;
+   private InputService inputService;
+   private ButtonService buttonService;
+   private LinkService linkService;
 
    /**
     * Constructs a new {@code UiServiceFluent} instance with the specified WebDriver.
@@ -111,43 +153,295 @@ public class UiServiceFluent<T extends UiServiceFluent<?>> extends FluentService
    }
 
    /**
-    * Initializes the necessary UI services and registers them for UI interactions.
+    * Prepares the UI services for the current quest.
     * This method is automatically called after setup.
+    *
+    * <p>No service is created here. Services bound to a previous quest's storage are dropped, and every
+    * service is created by its getter on first access.
     */
    @Override
-   @SuppressWarnings("java:S3740")
    protected void postQuestSetupInitialization() {
-      ButtonServiceImpl buttonService = new ButtonServiceImpl(driver);
-      LinkServiceImpl linkService = new LinkServiceImpl(driver);
-      buttonField = new ButtonServiceFluent(this, quest.getStorage(), buttonService, driver);
-      linkField = new LinkServiceFluent(this, quest.getStorage(), linkService, driver);
-      radioField = new RadioServiceFluent(this, quest.getStorage(), new RadioServiceImpl(driver), driver);
-      checkboxField = new CheckboxServiceFluent(this, quest.getStorage(), new CheckboxServiceImpl(driver), driver);
-      selectField = new SelectServiceFluent(this, quest.getStorage(), new SelectServiceImpl(driver), driver);
-      listField = new ListServiceFluent(this, quest.getStorage(), new ItemListServiceImpl(driver), driver);
-      loaderField = new LoaderServiceFluent(this, quest.getStorage(), new LoaderServiceImpl(driver), driver);
-      alertField = new AlertServiceFluent(this, quest.getStorage(), new AlertServiceImpl(driver), driver);
-      tabField = new TabServiceFluent(this, quest.getStorage(), new TabServiceImpl(driver), driver);
-      toggleField = new ToggleServiceFluent(this, quest.getStorage(), new ToggleServiceImpl(driver), driver);
-      modalField = new ModalServiceFluent(this, quest.getStorage(), new ModalServiceImpl(driver), driver);
-      accordionField = new AccordionServiceFluent(this, quest.getStorage(), new AccordionServiceImpl(driver), driver);
-      validation = new ValidationServiceFluent(this, driver);
-      navigation = new NavigationServiceFluent(this, driver);
-      interceptor = new InterceptorServiceFluent(this, quest.getStorage());
-      InputService inputService = new InputServiceImpl(driver);
-      inputField = new InputServiceFluent(this, quest.getStorage(), inputService, driver);
-      serviceRegistry = new InsertionServiceRegistry();
-      registerInsertionServices(inputService);
-      tableServiceRegistry = new TableServiceRegistry();
-      registerTableServices(inputService, buttonService, linkService);
-      UiTableValidator uiTableValidator = new UiTableValidatorImpl();
-      table =
-            new TableServiceFluent(this, quest.getStorage(),
-                  new TableServiceImpl(driver, tableServiceRegistry, uiTableValidator),
-                  driver);
-      insertionService = new InsertionServiceFluent(
-            new InsertionServiceElementImpl(serviceRegistry, driver), this,
-            quest.getStorage());
+      inputField = null;
+      buttonField = null;
+      radioField = null;
+      checkboxField = null;
+      selectField = null;
+      listField = null;
+      loaderField = null;
+      linkField = null;
+      alertField = null;
+      tabField = null;
+      toggleField = null;
+      modalField = null;
+      accordionField = null;
+      table = null;
+      interceptor = null;
+      serviceRegistry = null;
+      insertionService = null;
+   }
+
+   /**
+    * Creates the lazy services that fill fields of the requested artifact type, so that they are found when the
+    * quest reads the fields of this service.
+    *
+    * @param artifactType The class type of the requested artifact.
+    */
+   @Override
+   protected void prepareArtifact(Class<?> artifactType) {
+      LAZY_ARTIFACTS.forEach((fieldType, getter) -> {
+         if (artifactType.isAssignableFrom(fieldType)) {
+            getter.apply(this);
+         }
+      });
+   }
+
+   /**
+    * Returns the fluent input service, creating it on first access.
+    *
+    * @return The {@link InputServiceFluent} of this quest.
+    */
+   public InputServiceFluent<T> getInputField() {
+      if (inputField == null) {
+         inputField = new InputServiceFluent(this, quest.getStorage(), inputService(), driver);
+      }
+      return inputField;
+   }
+
+   /**
+    * Returns the fluent button service, creating it on first access.
+    *
+    * @return The {@link ButtonServiceFluent} of this quest.
+    */
+   public ButtonServiceFluent<T> getButtonField() {
+      if (buttonField == null) {
+         buttonField = new ButtonServiceFluent(this, quest.getStorage(), buttonService(), driver);
+      }
+      return buttonField;
+   }
+
+   /**
+    * Returns the fluent radio service, creating it on first access.
+    *
+    * @return The {@link RadioServiceFluent} of this quest.
+    */
+   public RadioServiceFluent<T> getRadioField() {
+      if (radioField == null) {
+         radioField = new RadioServiceFluent(this, quest.getStorage(), new RadioServiceImpl(driver), driver);
+      }
+      return radioField;
+   }
+
+   /**
+    * Returns the fluent checkbox service, creating it on first access.
+    *
+    * @return The {@link CheckboxServiceFluent} of this quest.
+    */
+   public CheckboxServiceFluent<T> getCheckboxField() {
+      if (checkboxField == null) {
+         checkboxField =
+               new CheckboxServiceFluent(this, quest.getStorage(), new CheckboxServiceImpl(driver), driver);
+      }
+      return checkboxField;
+   }
+
+   /**
+    * Returns the fluent select service, creating it on first access.
+    *
+    * @return The {@link SelectServiceFluent} of this quest.
+    */
+   public SelectServiceFluent<T> getSelectField() {
+      if (selectField == null) {
+         selectField = new SelectServiceFluent(this, quest.getStorage(), new SelectServiceImpl(driver), driver);
+      }
+      return selectField;
+   }
+
+   /**
+    * Returns the fluent item list service, creating it on first access.
+    *
+    * @return The {@link ListServiceFluent} of this quest.
+    */
+   public ListServiceFluent<T> getListField() {
+      if (listField == null) {
+         listField = new ListServiceFluent(this, quest.getStorage(), new ItemListServiceImpl(driver), driver);
+      }
+      return listField;
+   }
+
+   /**
+    * Returns the fluent loader service, creating it on first access.
+    *
+    * @return The {@link LoaderServiceFluent} of this quest.
+    */
+   public LoaderServiceFluent<T> getLoaderField() {
+      if (loaderField == null) {
+         loaderField = new LoaderServiceFluent(this, quest.getStorage(), new LoaderServiceImpl(driver), driver);
+      }
+      return loaderField;
+   }
+
+   /**
+    * Returns the fluent link service, creating it on first access.
+    *
+    * @return The {@link LinkServiceFluent} of this quest.
+    */
+   public LinkServiceFluent<T> getLinkField() {
+      if (linkField == null) {
+         linkField = new LinkServiceFluent(this, quest.getStorage(), linkService(), driver);
+      }
+      return linkField;
+   }
+
+   /**
+    * Returns the fluent alert service, creating it on first access.
+    *
+    * @return The {@link AlertServiceFluent} of this quest.
+    */
+   public AlertServiceFluent<T> getAlertField() {
+      if (alertField == null) {
+         alertField = new AlertServiceFluent(this, quest.getStorage(), new AlertServiceImpl(driver), driver);
+      }
+      return alertField;
+   }
+
+   /**
+    * Returns the fluent tab service, creating it on first access.
+    *
+    * @return The {@link TabServiceFluent} of this quest.
+    */
+   public TabServiceFluent<T> getTabField() {
+      if (tabField == null) {
+         tabField = new TabServiceFluent(this, quest.getStorage(), new TabServiceImpl(driver), driver);
+      }
+      return tabField;
+   }
+
+   /**
+    * Returns the fluent toggle service, creating it on first access.
+    *
+    * @return The {@link ToggleServiceFluent} of this quest.
+    */
+   public ToggleServiceFluent<T> getToggleField() {
+      if (toggleField == null) {
+         toggleField = new ToggleServiceFluent(this, quest.getStorage(), new ToggleServiceImpl(driver), driver);
+      }
+      return toggleField;
+   }
+
+   /**
+    * Returns the fluent modal service, creating it on first access.
+    *
+    * @return The {@link ModalServiceFluent} of this quest.
+    */
+   public ModalServiceFluent<T> getModalField() {
+      if (modalField == null) {
+         modalField = new ModalServiceFluent(this, quest.getStorage(), new ModalServiceImpl(driver), driver);
+      }
+      return modalField;
+   }
+
+   /**
+    * Returns the fluent accordion service, creating it on first access.
+    *
+    * @return The {@link AccordionServiceFluent} of this quest.
+    */
+   public AccordionServiceFluent<T> getAccordionField() {
+      if (accordionField == null) {
+         accordionField =
+               new AccordionServiceFluent(this, quest.getStorage(), new AccordionServiceImpl(driver), driver);
+      }
+      return accordionField;
+   }
+
+   /**
+    * Returns the fluent table service, creating it on first access.
+    *
+    * @return The {@link TableServiceFluent} of this quest.
+    */
+   public TableServiceFluent<T> getTable() {
+      if (table == null) {
+         table =
+               new TableServiceFluent(this, quest.getStorage(),
+                     new TableServiceImpl(driver, getTableServiceRegistry(), TABLE_VALIDATOR),
+                     driver);
+      }
+      return table;
+   }
+
+   /**
+    * Returns the fluent validation service, creating it on first access.
+    *
+    * @return The {@link ValidationServiceFluent} of this instance.
+    */
+   public ValidationServiceFluent<T> getValidation() {
+      if (validation == null) {
+         validation = new ValidationServiceFluent(this, driver);
+      }
+      return validation;
+   }
+
+   /**
+    * Returns the fluent navigation service, creating it on first access.
+    *
+    * @return The {@link NavigationServiceFluent} of this instance.
+    */
+   public NavigationServiceFluent<T> getNavigation() {
+      if (navigation == null) {
+         navigation = new NavigationServiceFluent(this, driver);
+      }
+      return navigation;
+   }
+
+   /**
+    * Returns the fluent interceptor service, creating it on first access.
+    *
+    * @return The {@link InterceptorServiceFluent} of this quest.
+    */
+   public InterceptorServiceFluent<T> getInterceptor() {
+      if (interceptor == null) {
+         interceptor = new InterceptorServiceFluent(this, quest.getStorage());
+      }
+      return interceptor;
+   }
+
+   /**
+    * Returns the registry of insertion services, creating and filling it on first access.
+    *
+    * @return The {@link InsertionServiceRegistry} of this quest.
+    */
+   public InsertionServiceRegistry getServiceRegistry() {
+      if (serviceRegistry == null) {
+         serviceRegistry = new InsertionServiceRegistry();
+         registerInsertionServices(inputService());
+      }
+      return serviceRegistry;
+   }
+
+   /**
+    * Returns the registry of table services, creating and filling it on first access.
+    *
+    * @return The {@link TableServiceRegistry} of this instance.
+    */
+   public TableServiceRegistry getTableServiceRegistry() {
+      if (tableServiceRegistry == null) {
+         tableServiceRegistry = new TableServiceRegistry();
+         registerTableServices(inputService(), buttonService(), linkService());
+      }
+      return tableServiceRegistry;
+   }
+
+   /**
+    * Returns the fluent insertion service, creating it on first access.
+    *
+    * @return The {@link InsertionServiceFluent} of this quest.
+    */
+   public InsertionServiceFluent<T> getInsertionService() {
+      if (insertionService == null) {
+         insertionService = new InsertionServiceFluent(
+               new InsertionServiceElementImpl(getServiceRegistry(), driver), this,
+               quest.getStorage());
+      }
+      return insertionService;
    }
 
    /**
@@ -156,10 +450,10 @@ public class UiServiceFluent<T extends UiServiceFluent<?>> extends FluentService
     * @param inputService The input service to register.
     */
    private void registerInsertionServices(InputService inputService) {
-      serviceRegistry.registerService(RadioComponentType.class, radioField);
-      serviceRegistry.registerService(CheckboxComponentType.class, checkboxField);
-      serviceRegistry.registerService(SelectComponentType.class, selectField);
-      serviceRegistry.registerService(ItemListComponentType.class, listField);
+      serviceRegistry.registerService(RadioComponentType.class, getRadioField());
+      serviceRegistry.registerService(CheckboxComponentType.class, getCheckboxField());
+      serviceRegistry.registerService(SelectComponentType.class, getSelectField());
+      serviceRegistry.registerService(ItemListComponentType.class, getListField());
       serviceRegistry.registerService(InputComponentType.class, inputService);
    }
 
@@ -178,6 +472,27 @@ public class UiServiceFluent<T extends UiServiceFluent<?>> extends FluentService
       tableServiceRegistry.registerService(LinkComponentType.class, linkService);
    }
 
+   private InputService inputService() {
+      if (inputService == null) {
+         inputService = new InputServiceImpl(driver);
+      }
+      return inputService;
+   }
+
+   private ButtonService buttonService() {
+      if (buttonService == null) {
+         buttonService = new ButtonServiceImpl(driver);
+      }
+      return buttonService;
+   }
+
+   private LinkService linkService() {
+      if (linkService == null) {
+         linkService = new LinkServiceImpl(driver);
+      }
+      return linkService;
+   }
+
    /**
     * Retrieves the {@link SmartWebDriver} instance used for UI interactions.
     *
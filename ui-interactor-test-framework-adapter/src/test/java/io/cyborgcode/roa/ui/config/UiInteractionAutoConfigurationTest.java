@@ -2,11 +2,16 @@ package io.cyborgcode.roa.ui.config;
 
 import io.cyborgcode.roa.ui.drivers.config.WebDriverConfig;
 import io.cyborgcode.roa.ui.drivers.factory.WebDriverFactory;
+import io.cyborgcode.roa.ui.drivers.pool.BrowserPrewarmer;
+import io.cyborgcode.roa.ui.drivers.pool.SessionKey;
+import io.cyborgcode.roa.ui.drivers.pool.WebDriverPool;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
 import io.cyborgcode.roa.ui.validator.UiTableValidator;
 import io.cyborgcode.roa.ui.validator.UiTableValidatorImpl;
 import io.cyborgcode.roa.ui.config.UiInteractionAutoConfiguration;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
@@ -27,8 +33,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -184,4 +193,74 @@ class UiInteractionAutoConfigurationTest {
          assertSame(mockDriver, result.getOriginal());
       }
    }
-}
\ No newline at end of file
+
+   @Test
+   @SuppressWarnings("unchecked")
+   void webDriver_ShouldCheckOutPooledDriverWhenPoolingIsEnabled() {
+      try (MockedStatic<UiConfigHolder> uiConfigMock = mockStatic(UiConfigHolder.class);
+           MockedStatic<WebDriverFactory> factoryMock = mockStatic(WebDriverFactory.class);
+           MockedStatic<WebDriverPool> poolMock = mockStatic(WebDriverPool.class)) {
+
+         // Given
+         when(mockUiConfig.browserType()).thenReturn("chrome");
+         when(mockUiConfig.browserVersion()).thenReturn("latest");
+         when(mockUiConfig.headless()).thenReturn(true);
+         when(mockUiConfig.driverPoolEnabled()).thenReturn(true);
+         uiConfigMock.when(UiConfigHolder::getUiConfig).thenReturn(mockUiConfig);
+         factoryMock.when(() -> WebDriverFactory.createDriver(eq("chrome"), any(WebDriverConfig.class)))
+               .thenReturn(mockDriver);
+         factoryMock.when(() -> WebDriverFactory.createOptions(eq("chrome"), any(WebDriverConfig.class)))
+               .thenReturn(new MutableCapabilities());
+
+         WebDriverPool pool = mock(WebDriverPool.class);
+         poolMock.when(WebDriverPool::shared).thenReturn(pool);
+         ArgumentCaptor<Supplier<SmartWebDriver>> factory = ArgumentCaptor.forClass(Supplier.class);
+         SmartWebDriver pooled = new SmartWebDriver(mockDriver);
+         when(pool.checkout(eq(new SessionKey("CHROME", "latest", true, "", Map.of())), factory.capture()))
+               .thenReturn(pooled);
+
+         // When
+         SmartWebDriver result = configuration.webDriver();
+
+         // Then
+         assertSame(pooled, result);
+         factoryMock.verify(() -> WebDriverFactory.createDriver(anyString(), any(WebDriverConfig.class)), never());
+         assertSame(mockDriver, factory.getValue().get().getOriginal(), "Factory should create a new driver");
+      }
+   }
+
+   @Test
+   @SuppressWarnings("unchecked")
+   void webDriver_ShouldTakePrewarmedDriverWhenPrewarmingIsEnabled() {
+      try (MockedStatic<UiConfigHolder> uiConfigMock = mockStatic(UiConfigHolder.class);
+           MockedStatic<WebDriverFactory> factoryMock = mockStatic(WebDriverFactory.class);
+           MockedStatic<BrowserPrewarmer> prewarmerMock = mockStatic(BrowserPrewarmer.class)) {
+
+         // Given
+         when(mockUiConfig.browserType()).thenReturn("edge");
+         when(mockUiConfig.browserVersion()).thenReturn("");
+         when(mockUiConfig.headless()).thenReturn(false);
+         when(mockUiConfig.driverPrewarmSessions()).thenReturn(1);
+         uiConfigMock.when(UiConfigHolder::getUiConfig).thenReturn(mockUiConfig);
+         factoryMock.when(() -> WebDriverFactory.createDriver(eq("edge"), any(WebDriverConfig.class)))
+               .thenReturn(mockDriver);
+         factoryMock.when(() -> WebDriverFactory.createOptions(eq("edge"), any(WebDriverConfig.class)))
+               .thenReturn(new MutableCapabilities());
+
+         BrowserPrewarmer prewarmer = mock(BrowserPrewarmer.class);
+         prewarmerMock.when(BrowserPrewarmer::shared).thenReturn(prewarmer);
+         ArgumentCaptor<Supplier<SmartWebDriver>> launch = ArgumentCaptor.forClass(Supplier.class);
+         SmartWebDriver warm = new SmartWebDriver(mockDriver);
+         when(prewarmer.take(eq(new SessionKey("EDGE", "", false, "", Map.of())), launch.capture())).thenReturn(warm);
+
+         // When
+         SmartWebDriver result = configuration.webDriver();
+
+         // Then
+         assertSame(warm, result);
+         factoryMock.verify(() -> WebDriverFactory.createDriver(anyString(), any(WebDriverConfig.class)), never());
+         assertSame(mockDriver, launch.getValue().get().getOriginal(), "Launcher should start a new browser");
+      }
+   }
+
+}
@@ -16,6 +16,9 @@ import io.cyborgcode.roa.ui.annotations.InterceptRequests;
 import io.cyborgcode.roa.ui.authentication.BaseLoginClient;
 import io.cyborgcode.roa.ui.authentication.LoginCredentials;
 import io.cyborgcode.roa.ui.components.interceptor.ApiResponse;
+import io.cyborgcode.roa.ui.drivers.pool.WebDriverPool;
+import io.cyborgcode.roa.ui.config.UiConfig;
+import io.cyborgcode.roa.ui.config.UiConfigHolder;
 import io.cyborgcode.roa.ui.config.UiFrameworkConfig;
 import io.cyborgcode.roa.ui.config.UiFrameworkConfigHolder;
 import io.cyborgcode.roa.ui.exceptions.AuthenticationUiException;
@@ -682,6 +685,7 @@ class UiTestExtensionTest extends BaseUnitUITest {
          assertDoesNotThrow(() ->
             helper.invoke(null, quest, new String[] {"foo", "bar"})
          );
+         verify(smart).setDevToolsSession(devTools);
       }
 
       @Test
@@ -1545,6 +1549,42 @@ class UiTestExtensionTest extends BaseUnitUITest {
          verify(originalDriver, never()).close();
          verify(originalDriver, never()).quit();
       }
+
+      @Test
+      @DisplayName("when driver pooling is enabled → check the driver in instead of quitting it")
+      void afterTestExecutionWithPoolingChecksDriverIn() {
+         // Given
+         when(context.getExecutionException()).thenReturn(Optional.of(new RuntimeException("boom")));
+         Storage root = mock(Storage.class), uiSub = mock(Storage.class);
+         when(superQuest.getStorage()).thenReturn(root);
+         when(root.sub(UI)).thenReturn(uiSub);
+         when(uiSub.getAllByClass(RESPONSES, ApiResponse.class)).thenReturn(List.of());
+         WebDriverPool pool = mock(WebDriverPool.class);
+         when(pool.checkin(smartWebDriver, false)).thenReturn(true);
+
+         try (var spring = mockStatic(SpringExtension.class);
+              var cfgHolder = mockStatic(UiFrameworkConfigHolder.class);
+              var uiCfgHolder = mockStatic(UiConfigHolder.class);
+              var poolHolder = mockStatic(WebDriverPool.class)) {
+
+            spring.when(() -> SpringExtension.getApplicationContext(context))
+               .thenReturn(appCtx);
+            when(appCtx.getBean(DecoratorsFactory.class)).thenReturn(decoratorsFactory);
+            cfgHolder.when(UiFrameworkConfigHolder::getUiFrameworkConfig)
+               .thenReturn(mock(UiFrameworkConfig.class));
+            UiConfig uiConfig = mock(UiConfig.class);
+            when(uiConfig.driverPoolEnabled()).thenReturn(true);
+            uiCfgHolder.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            poolHolder.when(WebDriverPool::shared).thenReturn(pool);
+
+            // When
+            new UiTestExtension().afterTestExecution(context);
+         }
+
+         // Then
+         verify(pool).checkin(smartWebDriver, false);
+         verify(originalDriver, never()).quit();
+      }
    }
 
    @Nested
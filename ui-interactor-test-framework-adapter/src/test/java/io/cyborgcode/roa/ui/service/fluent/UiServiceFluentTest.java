@@ -15,9 +15,12 @@ import io.cyborgcode.roa.ui.components.link.LinkServiceImpl;
 import io.cyborgcode.roa.ui.components.list.ItemListComponentType;
 import io.cyborgcode.roa.ui.components.radio.RadioComponentType;
 import io.cyborgcode.roa.ui.components.select.SelectComponentType;
+import io.cyborgcode.roa.ui.components.table.insertion.TableInsertion;
 import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
+import io.cyborgcode.roa.ui.insertion.Insertion;
 import io.cyborgcode.roa.ui.insertion.InsertionServiceRegistry;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.service.tables.TableServiceFluent;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.function.Consumer;
@@ -182,6 +185,74 @@ class UiServiceFluentTest extends BaseUnitUITest {
       assertThat(testInstance.getInsertionService()).isNotNull();
    }
 
+   @Test
+   @DisplayName("Services should be created on first access and reused within the quest")
+   void servicesShouldBeCreatedLazilyAndMemoized() throws Exception {
+      // Given
+      sut.postQuestSetupInitialization();
+      assertThat(getPrivateField(sut, "buttonField")).isNull();
+      assertThat(getPrivateField(sut, "table")).isNull();
+
+      // When
+      ButtonServiceFluent<?> buttonField = sut.getButtonField();
+
+      // Then
+      assertThat(buttonField).isNotNull();
+      assertThat(sut.getButtonField()).isSameAs(buttonField);
+      assertThat(getPrivateField(sut, "inputField")).isNull();
+      assertThat(getPrivateField(sut, "table")).isNull();
+      assertThat(getPrivateField(sut, "serviceRegistry")).isNull();
+   }
+
+   @Test
+   @DisplayName("Preparing an artifact should create only the services of the requested type")
+   void prepareArtifactShouldCreateRequestedServices() throws Exception {
+      // Given
+      sut.postQuestSetupInitialization();
+
+      // When
+      sut.prepareArtifact(TableServiceFluent.class);
+
+      // Then
+      assertThat(getPrivateField(sut, "table")).isNotNull();
+      assertThat(getPrivateField(sut, "buttonField")).isNull();
+      assertThat(getPrivateField(sut, "serviceRegistry")).isNull();
+   }
+
+   @Test
+   @DisplayName("Insertion and table registries should share one input service")
+   void registriesShouldShareInputService() {
+      // When
+      Insertion insertionInput = sut.getServiceRegistry().getService(InputComponentType.class);
+      TableInsertion tableInput = sut.getTableServiceRegistry().getTableService(InputComponentType.class);
+
+      // Then
+      assertThat(insertionInput).isNotNull();
+      assertThat((Object) tableInput).isSameAs(insertionInput);
+      assertThat(sut.getServiceRegistry().getService(RadioComponentType.class)).isSameAs(sut.getRadioField());
+      assertThat(sut.getTable()).isSameAs(sut.getTable());
+      assertThat(sut.getInsertionService()).isSameAs(sut.getInsertionService());
+   }
+
+   @Test
+   @DisplayName("A new quest should get new quest-bound services and keep the driver-bound ones")
+   void postQuestSetupInitializationShouldDropQuestBoundServices() {
+      // Given
+      InputServiceFluent<?> inputField = sut.getInputField();
+      InsertionServiceRegistry serviceRegistry = sut.getServiceRegistry();
+      TableServiceRegistry tableServiceRegistry = sut.getTableServiceRegistry();
+      ValidationServiceFluent<?> validation = sut.getValidation();
+
+      // When
+      sut.postQuestSetupInitialization();
+
+      // Then
+      assertThat(sut.getInputField()).isNotSameAs(inputField);
+      assertThat(sut.getServiceRegistry()).isNotSameAs(serviceRegistry);
+      assertThat(sut.getTableServiceRegistry()).isSameAs(tableServiceRegistry);
+      assertThat(sut.getValidation()).isSameAs(validation);
+   }
+
    @Test
    void registerInsertionServicesTest() throws Exception {
       // Create a spy of the SUT
@@ -256,6 +327,13 @@ class UiServiceFluentTest extends BaseUnitUITest {
       }
    }
 
+   // Helper method to read private fields using reflection
+   private Object getPrivateField(Object target, String fieldName) throws Exception {
+      Field field = UiServiceFluent.class.getDeclaredField(fieldName);
+      field.setAccessible(true);
+      return field.get(target);
+   }
+
    // Helper method to set private fields using reflection
    private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
       Field field = UiServiceFluent.class.getDeclaredField(fieldName);
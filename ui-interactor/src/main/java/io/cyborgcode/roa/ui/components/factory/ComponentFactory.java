@@ -32,10 +32,7 @@ import io.cyborgcode.roa.ui.components.toggle.Toggle;
 import io.cyborgcode.roa.ui.components.toggle.ToggleComponentType;
 import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
-import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import java.lang.reflect.InvocationTargetException;
-import java.util.List;
-import java.util.Optional;
 
 import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
 
@@ -44,7 +41,8 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
  *
  * <p>This class retrieves component instances based on their type using reflection.
  * It scans the project package and framework package for implementations of UI components
- * that are annotated with {@link ImplementationOfType}.
+ * that are annotated with {@link ImplementationOfType}. Scan results and constructors are kept in a JVM-wide
+ * {@link ComponentRegistry}, so only the first lookup of each component interface scans the classpath.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -218,9 +216,9 @@ public class ComponentFactory {
    /**
     * Discovers and retrieves a component implementation matching the specified interface and type.
     *
-    * <p>The method scans both the user's project package and the framework package
-    * for classes that implement the given interface and are annotated
-    * with {@link ImplementationOfType} matching the provided {@code componentType}.
+    * <p>The implementation is looked up in the {@link ComponentRegistry}, which scans both the user's project
+    * package and the framework package for classes that implement the given interface and are annotated with
+    * {@link ImplementationOfType}. The scan runs once per interface; later lookups reuse its result.
     *
     * @param interfaceType  The class object representing the component interface (e.g. {@code Input.class}).
     * @param componentType  The enum-based type identifying the component variant.
@@ -232,58 +230,32 @@ public class ComponentFactory {
     */
    private static <T> T getComponent(Class<T> interfaceType, ComponentType componentType, String[] projectPackages,
                                      SmartWebDriver smartWebDriver) {
-      List<Class<? extends T>> implementations = ReflectionUtil.findImplementationsOfInterface(interfaceType,
-            projectPackages);
-      LogUi.debug("Found {} classes implementing {} in package {}.",
-            implementations.size(),
-            interfaceType.getSimpleName(),
-            projectPackages);
-      implementations.addAll(ReflectionUtil.findImplementationsOfInterface(interfaceType,
-            FRAMEWORK_PACKAGE));
-
-
-      Optional<Class<? extends T>> implementation = implementations.stream()
-            .filter(
-                  implClass -> isMatchingImplementation(implClass, componentType))
-            .findFirst();
-
-      return implementation.map(implClass -> createInstance(implClass, smartWebDriver))
-            .orElseThrow(() -> new ComponentNotFoundException(
-                  "No implementation found for type: " + componentType.getType().name()));
-   }
-
-   /**
-    * Checks whether the provided class is annotated with {@link ImplementationOfType}
-    * matching the given component type enum name.
-    *
-    * @param implClass     The class to check.
-    * @param componentType The component type (enum value).
-    * @param <T>           The component interface type.
-    * @return {@code true} if the class annotation value matches the enum's name; {@code false} otherwise.
-    */
-   private static <T> boolean isMatchingImplementation(Class<? extends T> implClass, ComponentType componentType) {
-      return Optional.ofNullable(implClass.getAnnotation(ImplementationOfType.class))
-            .map(ImplementationOfType::value)
-            .filter(value -> value.equals(componentType.getType().name()))
-            .isPresent();
+      ComponentRegistry.Implementation<T> implementation = ComponentRegistry.find(interfaceType,
+            componentType.getType().name(), projectPackages, FRAMEWORK_PACKAGE);
+      if (implementation == null) {
+         throw new ComponentNotFoundException("No implementation found for type: " + componentType.getType().name());
+      }
+      return createInstance(implementation, smartWebDriver);
    }
 
    /**
     * Instantiates a component class by invoking its constructor that accepts a {@link SmartWebDriver}.
     *
-    * @param implClass      The concrete implementation class.
+    * @param implementation The registered implementation and its cached constructor.
     * @param smartWebDriver The WebDriver for UI interactions.
     * @param <T>            The component interface type.
     * @return A new instance of the specified class.
     * @throws ComponentCreationException If reflection-based instantiation fails.
     */
-   private static <T> T createInstance(Class<? extends T> implClass, SmartWebDriver smartWebDriver) {
+   private static <T> T createInstance(ComponentRegistry.Implementation<T> implementation,
+                                       SmartWebDriver smartWebDriver) {
       try {
-         return implClass.getDeclaredConstructor(SmartWebDriver.class).newInstance(smartWebDriver);
+         return implementation.newInstance(smartWebDriver);
       } catch (InstantiationException | IllegalAccessException | InvocationTargetException
                | NoSuchMethodException e) {
-         LogUi.error("Failed to create instance of " + implClass.getName(), e);
-         throw new ComponentCreationException("Failed to create instance of " + implClass.getName(), e);
+         String implClass = implementation.type().getName();
+         LogUi.error("Failed to create instance of " + implClass, e);
+         throw new ComponentCreationException("Failed to create instance of " + implClass, e);
       }
    }
 
@@ -0,0 +1,119 @@
+package io.cyborgcode.roa.ui.components.factory;
+
+import io.cyborgcode.roa.ui.annotations.ImplementationOfType;
+import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.utilities.reflections.ReflectionUtil;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide registry of the component implementations annotated with {@link ImplementationOfType}.
+ *
+ * <p>The classpath is scanned once per component interface and set of project packages. The scan result maps
+ * every {@link ImplementationOfType} value to its implementation and the implementation's
+ * {@link SmartWebDriver} constructor, so later lookups are a map access followed by a constructor call.
+ * Implementations in the project packages take precedence over framework implementations of the same type.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ComponentRegistry {
+
+   private static final Map<Scan, Map<String, Implementation<?>>> IMPLEMENTATIONS = new ConcurrentHashMap<>();
+
+   private ComponentRegistry() {
+   }
+
+   /**
+    * Returns the implementation of a component interface registered for a component type name.
+    *
+    * @param interfaceType    The component interface.
+    * @param typeName         The {@link ImplementationOfType} value to look up.
+    * @param projectPackages  The project packages scanned before the framework package.
+    * @param frameworkPackage The framework package scanned after the project packages.
+    * @param <T>              The component interface type.
+    * @return The registered implementation, or {@code null} if there is none.
+    */
+   @SuppressWarnings("unchecked")
+   static <T> Implementation<T> find(Class<T> interfaceType, String typeName, String[] projectPackages,
+                                     String frameworkPackage) {
+      Scan scan = new Scan(interfaceType, List.of(projectPackages), frameworkPackage);
+      return (Implementation<T>) IMPLEMENTATIONS.computeIfAbsent(scan, ComponentRegistry::scan).get(typeName);
+   }
+
+   /**
+    * Drops every scan result, so the next lookup scans the classpath again.
+    */
+   static void clear() {
+      IMPLEMENTATIONS.clear();
+   }
+
+   private static Map<String, Implementation<?>> scan(Scan scan) {
+      String[] projectPackages = scan.projectPackages().toArray(String[]::new);
+      List<Class<?>> implementations =
+            new ArrayList<>(ReflectionUtil.findImplementationsOfInterface(scan.interfaceType(), projectPackages));
+      LogUi.debug("Found {} classes implementing {} in package {}.",
+            implementations.size(),
+            scan.interfaceType().getSimpleName(),
+            Arrays.toString(projectPackages));
+      implementations.addAll(ReflectionUtil.findImplementationsOfInterface(scan.interfaceType(),
+            scan.frameworkPackage()));
+
+      Map<String, Implementation<?>> byType = new LinkedHashMap<>();
+      for (Class<?> implementation : implementations) {
+         ImplementationOfType annotation = implementation.getAnnotation(ImplementationOfType.class);
+         if (annotation != null) {
+            byType.putIfAbsent(annotation.value(), Implementation.of(implementation));
+         }
+      }
+      return Collections.unmodifiableMap(byType);
+   }
+
+   private record Scan(Class<?> interfaceType, List<String> projectPackages, String frameworkPackage) {
+   }
+
+   /**
+    * A component implementation together with its {@link SmartWebDriver} constructor.
+    *
+    * @param type        The implementation class.
+    * @param constructor The constructor taking a {@link SmartWebDriver}, or {@code null} if the class has none.
+    * @param <T>         The component interface type.
+    */
+   record Implementation<T>(Class<? extends T> type, Constructor<? extends T> constructor) {
+
+      private static <T> Implementation<T> of(Class<? extends T> type) {
+         try {
+            return new Implementation<>(type, type.getDeclaredConstructor(SmartWebDriver.class));
+         } catch (NoSuchMethodException e) {
+            return new Implementation<>(type, null);
+         }
+      }
+
+      /**
+       * Creates a new instance of the implementation.
+       *
+       * @param smartWebDriver The driver passed to the constructor.
+       * @return The new component instance.
+       * @throws NoSuchMethodException     If the implementation has no {@link SmartWebDriver} constructor.
+       * @throws InstantiationException    If the implementation is abstract.
+       * @throws IllegalAccessException    If the constructor is not accessible.
+       * @throws InvocationTargetException If the constructor throws.
+       */
+      T newInstance(SmartWebDriver smartWebDriver) throws NoSuchMethodException, InstantiationException,
+                                                         IllegalAccessException, InvocationTargetException {
+         if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>(" + SmartWebDriver.class.getName() + ")");
+         }
+         return constructor.newInstance(smartWebDriver);
+      }
+
+   }
+
+}
@@ -1,7 +1,8 @@
 package io.cyborgcode.roa.ui.components.table.model;
 
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
-import lombok.AllArgsConstructor;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,11 +13,13 @@ import lombok.Setter;
  * <p>This class is used for handling table cell interactions in the test automation framework.
  * It provides access to the {@link SmartWebElement} representing the cell and its extracted text.
  *
+ * <p>Cells read from a table snapshot carry only their text; their element is located the first time
+ * {@link #getElement()} is called, so only cells that are interacted with cost a WebDriver call.
+ *
  * <p>Used in table processing and data validation operations.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
-@AllArgsConstructor
 @Getter
 @Setter
 public class TableCell {
@@ -31,6 +34,24 @@ public class TableCell {
     */
    private String text;
 
+   /**
+    * Locates the element of a cell read from a snapshot; {@code null} once located.
+    */
+   @Getter(AccessLevel.NONE)
+   @Setter(AccessLevel.NONE)
+   private Supplier<SmartWebElement> elementLocator;
+
+   /**
+    * Constructs a {@code TableCell} with its element and text value.
+    *
+    * @param element The element of the cell.
+    * @param text    The text content of the cell.
+    */
+   public TableCell(final SmartWebElement element, final String text) {
+      this.element = element;
+      this.text = text;
+   }
+
    /**
     * Constructs a {@code TableCell} with only a text value.
     * This is useful when the actual element reference is not required.
@@ -40,4 +61,29 @@ public class TableCell {
    public TableCell(final String value) {
       this.text = value;
    }
+
+   /**
+    * Constructs a {@code TableCell} whose element is located on first access.
+    *
+    * @param text           The text content of the cell.
+    * @param elementLocator Locates the element of the cell.
+    */
+   public TableCell(final String text, final Supplier<SmartWebElement> elementLocator) {
+      this.text = text;
+      this.elementLocator = elementLocator;
+   }
+
+   /**
+    * Returns the element of the cell, locating it first if the cell was read from a snapshot.
+    *
+    * @return The element of the cell, or {@code null} for text-only cells.
+    */
+   public SmartWebElement getElement() {
+      if (element == null && elementLocator != null) {
+         element = elementLocator.get();
+         elementLocator = null;
+      }
+      return element;
+   }
+
 }
@@ -0,0 +1,45 @@
+package io.cyborgcode.roa.ui.components.table.paging;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import java.util.List;
+import org.openqa.selenium.By;
+
+/**
+ * {@link PagingStrategy} for paginated tables that clicks the next page button.
+ *
+ * <p>The button is treated as unavailable when it is missing, hidden, disabled or marked with
+ * {@code aria-disabled="true"}. After a click the strategy waits until the table container shows other rows.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class NextButtonPaging implements PagingStrategy {
+
+   private final By nextButtonLocator;
+
+   NextButtonPaging(final By nextButtonLocator) {
+      this.nextButtonLocator = nextButtonLocator;
+   }
+
+   @Override
+   public boolean next(final SmartWebDriver driver, final SmartWebElement tableContainer) {
+      final List<SmartWebElement> buttons = driver.findSmartElements(nextButtonLocator);
+      if (buttons.isEmpty()) {
+         return false;
+      }
+      final SmartWebElement button = buttons.get(0);
+      if (!button.isDisplayed() || !button.isEnabled() || "true".equals(button.getDomAttribute("aria-disabled"))) {
+         return false;
+      }
+
+      final String textBefore = tableContainer.getText();
+      button.click();
+      return PagingWaits.awaitTextChange(driver, tableContainer, textBefore);
+   }
+
+   @Override
+   public String toString() {
+      return "nextButton(" + nextButtonLocator + ")";
+   }
+
+}
@@ -0,0 +1,72 @@
+package io.cyborgcode.roa.ui.components.table.paging;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import org.openqa.selenium.By;
+
+/**
+ * Defines how a table brings its next rows into the DOM when it is streamed.
+ *
+ * <p>Tables backed by pagination or virtual scrolling only render part of their rows. When a table is streamed,
+ * the rows currently in the DOM are read first and the paging strategy is then asked to move the table forward,
+ * page by page, until it reports that the last rows are shown.
+ *
+ * <p>This interface is primarily used by {@code Table#streamTable} and {@code Table#findRow}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@FunctionalInterface
+public interface PagingStrategy {
+
+   /**
+    * Moves the table to its next rows and waits until they are rendered.
+    *
+    * @param driver         The {@link SmartWebDriver} controlling the browser.
+    * @param tableContainer The {@link SmartWebElement} representing the table container.
+    * @return {@code true} if the table moved to further rows, {@code false} if the last rows are already shown.
+    */
+   boolean next(SmartWebDriver driver, SmartWebElement tableContainer);
+
+   /**
+    * Creates a strategy for tables that show all of their rows at once.
+    *
+    * @return A strategy that never moves the table.
+    */
+   static PagingStrategy singlePage() {
+      return (driver, tableContainer) -> false;
+   }
+
+   /**
+    * Creates a strategy for paginated tables that clicks the next page button.
+    *
+    * <p>The table is on its last page once the button is missing, hidden or disabled.
+    *
+    * @param nextButtonLocator The locator of the next page button, searched in the whole page.
+    * @return A strategy that moves the table to its next page.
+    */
+   static PagingStrategy nextButton(By nextButtonLocator) {
+      return new NextButtonPaging(nextButtonLocator);
+   }
+
+   /**
+    * Creates a strategy for virtual-scroll tables whose container is the scrolled element.
+    *
+    * @return A strategy that scrolls the table container by one visible height.
+    */
+   static PagingStrategy scroll() {
+      return new ScrollPaging(null);
+   }
+
+   /**
+    * Creates a strategy for virtual-scroll tables that scroll an element inside the table container.
+    *
+    * <p>The table shows its last rows once the element can not be scrolled any further.
+    *
+    * @param viewportLocator The locator of the scrolled element, searched within the table container.
+    * @return A strategy that scrolls the element by one visible height.
+    */
+   static PagingStrategy scroll(By viewportLocator) {
+      return new ScrollPaging(viewportLocator);
+   }
+
+}
@@ -0,0 +1,45 @@
+package io.cyborgcode.roa.ui.components.table.paging;
+
+import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Waits shared by the {@link PagingStrategy} implementations.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class PagingWaits {
+
+   private PagingWaits() {
+   }
+
+   /**
+    * Waits until the text of the table container differs from the text it had before the table was moved.
+    *
+    * <p>A container that was replaced while rendering the next rows counts as changed.
+    *
+    * @param driver         The {@link SmartWebDriver} providing the wait.
+    * @param tableContainer The table container.
+    * @param textBefore     The text of the table container before the table was moved.
+    * @return {@code true} if the text changed within the wait timeout, otherwise {@code false}.
+    */
+   static boolean awaitTextChange(final SmartWebDriver driver, final SmartWebElement tableContainer,
+                                  final String textBefore) {
+      try {
+         return driver.getWait().until(webDriver -> {
+            try {
+               return !textBefore.equals(tableContainer.getText());
+            } catch (StaleElementReferenceException e) {
+               return true;
+            }
+         });
+      } catch (TimeoutException e) {
+         LogUi.debug("Table rows did not change after moving the table.");
+         return false;
+      }
+   }
+
+}
@@ -0,0 +1,52 @@
+package io.cyborgcode.roa.ui.components.table.paging;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+/**
+ * {@link PagingStrategy} for virtual-scroll tables that scrolls the table by one visible height.
+ *
+ * <p>The scroll position is moved with a single script call that also reports whether the element could still
+ * scroll. After a scroll the strategy waits until the table container shows other rows.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ScrollPaging implements PagingStrategy {
+
+   static final String SCROLL_JS =
+         "const viewport = arguments[0];"
+               + "const before = viewport.scrollTop;"
+               + "viewport.scrollTop = before + viewport.clientHeight;"
+               + "return viewport.scrollTop > before;";
+
+   private final By viewportLocator;
+
+   ScrollPaging(final By viewportLocator) {
+      this.viewportLocator = viewportLocator;
+   }
+
+   @Override
+   public boolean next(final SmartWebDriver driver, final SmartWebElement tableContainer) {
+      if (!(driver.getOriginal() instanceof JavascriptExecutor executor)) {
+         throw new IllegalStateException("Scrolling a table requires a driver that can execute JavaScript.");
+      }
+      final SmartWebElement viewport = (viewportLocator == null)
+            ? tableContainer
+            : tableContainer.findSmartElement(viewportLocator);
+
+      final String textBefore = tableContainer.getText();
+      if (!Boolean.TRUE.equals(executor.executeScript(SCROLL_JS, viewport.getOriginal()))) {
+         return false;
+      }
+      PagingWaits.awaitTextChange(driver, tableContainer, textBefore);
+      return true;
+   }
+
+   @Override
+   public String toString() {
+      return viewportLocator == null ? "scroll()" : "scroll(" + viewportLocator + ")";
+   }
+
+}
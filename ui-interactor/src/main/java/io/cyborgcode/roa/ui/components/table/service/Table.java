@@ -2,8 +2,10 @@ package io.cyborgcode.roa.ui.components.table.service;
 
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Defines the core operations for interacting with table components.
@@ -102,6 +104,44 @@ public interface Table {
     */
    <T> T readRow(List<String> searchCriteria, Class<T> clazz, TableField<T>... fields);
 
+   /**
+    * Streams the rows of a paginated or virtual-scroll table, moving through it only as far as the stream is consumed.
+    *
+    * <p>The rows currently shown are read first. Once they are consumed, the paging strategy moves the table to its
+    * next rows. Rows whose text was already shown on the previous page are skipped, and the stream ends when the
+    * table can not move further or shows no new rows.
+    *
+    * <p>Implementations that do not support paged reading, such as those written before it was introduced, throw
+    * an {@link UnsupportedOperationException}.
+    *
+    * @param clazz          The class type representing a table row.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The specific table fields to be read. If not provided, all fields are read.
+    * @param <T>            The type of the row representation.
+    * @return A lazily populated stream of the table rows.
+    * @throws UnsupportedOperationException if the implementation does not support paged reading.
+    */
+   default <T> Stream<T> streamTable(Class<T> clazz, PagingStrategy pagingStrategy, TableField<T>... fields) {
+      throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support paged reading");
+   }
+
+   /**
+    * Finds the first row that matches the given search criteria, moving through a paginated or virtual-scroll table
+    * until the row is shown.
+    *
+    * @param searchCriteria A list of string values to match in the row.
+    * @param clazz          The class type representing a table row.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The specific table fields to be read. If not provided, all fields are read.
+    * @param <T>            The type of the row representation.
+    * @return The first matching row as an object of type {@code T}.
+    * @throws UnsupportedOperationException if the implementation does not support paged reading.
+    */
+   default <T> T findRow(List<String> searchCriteria, Class<T> clazz, PagingStrategy pagingStrategy,
+                         TableField<T>... fields) {
+      throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support paged reading");
+   }
+
    /**
     * Inserts a full object as a row into the table at the specified row index.
     *
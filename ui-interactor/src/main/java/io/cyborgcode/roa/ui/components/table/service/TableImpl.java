@@ -2,12 +2,8 @@ package io.cyborgcode.roa.ui.components.table.service;
 
 import io.cyborgcode.roa.ui.components.base.BaseComponent;
 import io.cyborgcode.roa.ui.components.base.ComponentType;
-import io.cyborgcode.roa.ui.components.table.annotations.CellFilter;
 import io.cyborgcode.roa.ui.components.table.annotations.CellInsertion;
-import io.cyborgcode.roa.ui.components.table.annotations.CustomCellFilter;
 import io.cyborgcode.roa.ui.components.table.annotations.CustomCellInsertion;
-import io.cyborgcode.roa.ui.components.table.annotations.TableCellLocator;
-import io.cyborgcode.roa.ui.components.table.annotations.TableInfo;
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.exceptions.TableException;
 import io.cyborgcode.roa.ui.components.table.filters.CellFilterComponent;
@@ -20,35 +16,48 @@ import io.cyborgcode.roa.ui.components.table.insertion.TableInsertion;
 import io.cyborgcode.roa.ui.components.table.model.CellLocator;
 import io.cyborgcode.roa.ui.components.table.model.TableCell;
 import io.cyborgcode.roa.ui.components.table.model.TableLocators;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
 import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import io.cyborgcode.roa.ui.util.table.TableRowBinding;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Setter;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NotFoundException;
-import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
@@ -76,6 +85,9 @@ public abstract class TableImpl extends BaseComponent implements Table {
    private static final String READING_ROW_CRITERIA = "Reading row matching criteria %s as class '%s'";
    private static final String READING_ROW_CRITERIA_WITH_FIELDS =
          "Reading row matching criteria %s as class '%s' with fields %s";
+   private static final String STREAMING = "Streaming table as class '%s' with fields %s";
+   private static final String FINDING_ROW_CRITERIA =
+         "Finding row matching criteria %s as class '%s' with fields %s across table pages";
    private static final String INSERT_CELL_ROW_CRITERIA =
          "Inserting cell value in row matching criteria %s for class '%s', field '%s', cell index %d";
    private static final String INSERT_CELL_ROW =
@@ -91,6 +103,25 @@ public abstract class TableImpl extends BaseComponent implements Table {
          "Filtering table for class '%s' on column '%s' using strategy '%s' with values %s";
    private static final String SORTING = "Sorting table for class '%s' on column '%s' using sorting strategy '%s'";
    private static final String INVALID_FIELD_TYPE = "Some fields are not TableCell or List<TableCell>.";
+   /**
+    * Whether a table class locates its rows with the default {@link #getRows(SmartWebElement, By, String)}, which
+    * the snapshot script mirrors.
+    */
+   private static final ClassValue<Boolean> DEFAULT_ROWS = new ClassValue<>() {
+      @Override
+      protected Boolean computeValue(final Class<?> type) {
+         for (Class<?> current = type; current != null && current != TableImpl.class;
+              current = current.getSuperclass()) {
+            try {
+               current.getDeclaredMethod("getRows", SmartWebElement.class, By.class, String.class);
+               return false;
+            } catch (NoSuchMethodException e) {
+               // not overridden at this level
+            }
+         }
+         return true;
+      }
+   };
    private final List<Object> acceptedValues;
    @Setter
    protected TableServiceRegistry serviceRegistry;
@@ -261,6 +292,61 @@ public abstract class TableImpl extends BaseComponent implements Table {
       return readRowInternal(searchCriteria, clazz, fields);
    }
 
+   /**
+    * Streams the rows of the table, moving through its pages or scroll positions only as far as the stream is
+    * consumed.
+    *
+    * <p>Every page is read like {@link #readTable(Class, TableField[])} reads the whole table, one snapshot per
+    * table section when possible. The next page is only requested once all rows of the current page were consumed,
+    * so short-circuiting operations such as {@code findFirst} or {@code limit} stop moving through the table. Rows
+    * whose text was already shown on the previous page are skipped, which drops the rows repeated by overlapping
+    * scroll positions. The stream ends when the paging strategy can not move the table further, or when a move
+    * shows no new rows.
+    *
+    * <p>Only the rows of the current page and the texts of the previous page are kept in memory, however long the
+    * table is. Cell elements of a streamed row are only valid while the page of the row is shown.
+    *
+    * @param clazz          The class type representing the table rows.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The fields to be extracted from the table. If not provided, all fields are retrieved.
+    * @param <T>            The type of the row representation.
+    * @return A lazily populated stream of the table rows.
+    */
+   @Override
+   @SafeVarargs
+   public final <T> Stream<T> streamTable(final Class<T> clazz, final PagingStrategy pagingStrategy,
+                                          final TableField<T>... fields) {
+      LogUi.step(String.format(STREAMING, clazz.getSimpleName(), Arrays.toString(fields)));
+      return streamPagedRows(clazz, pagingStrategy, fields).map(PagedRow::read);
+   }
+
+   /**
+    * Finds the first row that matches the provided search criteria, moving through the pages or scroll positions
+    * of the table until the row is shown.
+    *
+    * <p>The criteria are matched against the row texts like {@link #readRow(List, Class, TableField[])} does, and
+    * only the matching row is mapped to an object. No further pages are requested once the row is found.
+    *
+    * @param searchCriteria A list of strings representing the criteria that must be matched within the row.
+    * @param clazz          The class type representing the table row structure.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The specific fields to be extracted from the matched row.
+    * @param <T>            The type representing the table row.
+    * @return An object representing the matching row with the selected fields.
+    * @throws NotFoundException if no row on any page matches the search criteria.
+    */
+   @Override
+   @SafeVarargs
+   public final <T> T findRow(final List<String> searchCriteria, final Class<T> clazz,
+                              final PagingStrategy pagingStrategy, final TableField<T>... fields) {
+      LogUi.step(String.format(FINDING_ROW_CRITERIA, searchCriteria, clazz.getSimpleName(), Arrays.toString(fields)));
+      return streamPagedRows(clazz, pagingStrategy, fields)
+            .filter(row -> containsAll(row.text(), searchCriteria))
+            .findFirst()
+            .map(PagedRow::read)
+            .orElseThrow(() -> new NotFoundException("No row found containing all criteria: " + searchCriteria));
+   }
+
    /**
     * Inserts a value into a specific cell in the table row that matches the given search criteria.
     *
@@ -519,6 +605,16 @@ public abstract class TableImpl extends BaseComponent implements Table {
       final Map<String, List<CellLocator>> tableSectionLocatorsMap =
             getTableSectionLocatorsMap(rowClass, fields);
 
+      final Optional<List<T>> snapshotRows = readSnapshots(tableLocators, tableContainer, tableSectionLocatorsMap)
+            .map(snapshots -> snapshots.entrySet().stream()
+                  .collect(Collectors.toMap(Map.Entry::getKey, entry -> inRange(entry.getValue(), start, end))))
+            .filter(rowsMap -> rowsMap.values().stream().flatMap(List::stream).allMatch(TableSnapshot.Row::complete))
+            .map(rowsMap -> mergeRowsAcrossSections(rowsMap, (section, row) ->
+                  readSnapshotRow(rowClass, tableSectionLocatorsMap.get(section), row, tableLocators)));
+      if (snapshotRows.isPresent()) {
+         return snapshotRows.get();
+      }
+
       final Map<String, List<SmartWebElement>> rowsMap =
             tableSectionLocatorsMap.keySet().stream()
                   .collect(Collectors.toMap(
@@ -527,7 +623,8 @@ public abstract class TableImpl extends BaseComponent implements Table {
                               start, end)
                   ));
 
-      return mergeRowsAcrossSections(rowsMap, tableSectionLocatorsMap, rowClass);
+      return mergeRowsAcrossSections(rowsMap, (section, rowElement) ->
+            readSingleRow(rowClass, tableSectionLocatorsMap.get(section), rowElement));
    }
 
 
@@ -535,8 +632,11 @@ public abstract class TableImpl extends BaseComponent implements Table {
                                                  final String tableSection,
                                                  final Integer start,
                                                  final Integer end) {
-      final List<SmartWebElement> allRows = getRows(tableContainer, tableRowsLocator, tableSection);
+      return inRange(getRows(tableContainer, tableRowsLocator, tableSection), start, end);
+   }
 
+
+   private static <R> List<R> inRange(final List<R> allRows, final Integer start, final Integer end) {
       if (start != null && end != null) {
          final int fromIndex = Math.max(0, start - 1);
          final int toIndex = Math.min(allRows.size(), end);
@@ -550,28 +650,81 @@ public abstract class TableImpl extends BaseComponent implements Table {
    }
 
 
-   private <T> List<T> mergeRowsAcrossSections(final Map<String, List<SmartWebElement>> rowsPerSection,
-                                               final Map<String, List<CellLocator>> locatorsMap,
-                                               final Class<T> rowClass) {
+   private <T, R> List<T> mergeRowsAcrossSections(final Map<String, List<R>> rowsPerSection,
+                                                  final BiFunction<String, R, T> rowReader) {
       final List<T> results = new ArrayList<>();
 
       rowsPerSection.values().stream().findFirst().ifPresent(rows -> {
          for (int i = 0; i < rows.size(); i++) {
-            T mergedRow = null;
-            for (Map.Entry<String, List<SmartWebElement>> entry : rowsPerSection.entrySet()) {
-               final String section = entry.getKey();
-               final SmartWebElement rowElement = entry.getValue().get(i);
-
-               final T partialRow = readSingleRow(rowClass, locatorsMap.get(section), rowElement);
-               mergedRow = mergeObjects(mergedRow, partialRow);
-            }
-            results.add(mergedRow);
+            results.add(mergeRowAcrossSections(rowsPerSection, i, rowReader));
          }
       });
       return results;
    }
 
 
+   private <T, R> T mergeRowAcrossSections(final Map<String, List<R>> rowsPerSection, final int index,
+                                           final BiFunction<String, R, T> rowReader) {
+      T mergedRow = null;
+      for (Map.Entry<String, List<R>> entry : rowsPerSection.entrySet()) {
+         final T partialRow = rowReader.apply(entry.getKey(), entry.getValue().get(index));
+         mergedRow = mergeObjects(mergedRow, partialRow);
+      }
+      return mergedRow;
+   }
+
+
+   @SafeVarargs
+   private <T> Stream<PagedRow<T>> streamPagedRows(final Class<T> rowClass, final PagingStrategy pagingStrategy,
+                                                   final TableField<T>... fields) {
+      final List<TableField<T>> fieldList = (fields == null) ? null : List.of(fields);
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+            new PagedRows<>(rowClass, fieldList, pagingStrategy), Spliterator.ORDERED | Spliterator.NONNULL), false);
+   }
+
+
+   /**
+    * Reads the rows currently shown by the table, keeping the text of every row and mapping a row to an object only
+    * when it is {@linkplain PagedRow#read() read}.
+    */
+   private <T> List<PagedRow<T>> readPage(final Class<T> rowClass, final List<TableField<T>> fields) {
+      TableLocators tableLocators = getTableLocators(rowClass);
+      SmartWebElement tableContainer = getTableContainer(tableLocators.getTableContainerLocator());
+      final Map<String, List<CellLocator>> locatorsMap = getTableSectionLocatorsMap(rowClass, fields);
+
+      final Optional<Map<String, List<TableSnapshot.Row>>> snapshots =
+            readSnapshots(tableLocators, tableContainer, locatorsMap)
+                  .filter(rowsMap -> rowsMap.values().stream().flatMap(List::stream)
+                        .allMatch(TableSnapshot.Row::complete));
+      if (snapshots.isPresent()) {
+         return pageRows(snapshots.get(), TableSnapshot.Row::text, (section, row) ->
+               readSnapshotRow(rowClass, locatorsMap.get(section), row, tableLocators));
+      }
+
+      final Map<String, List<SmartWebElement>> rowsMap = locatorsMap.keySet().stream()
+            .collect(Collectors.toMap(
+                  Function.identity(),
+                  section -> getRows(tableContainer, tableLocators.getTableRowsLocator(), section)
+            ));
+      return pageRows(rowsMap, SmartWebElement::getText, (section, rowElement) ->
+            readSingleRow(rowClass, locatorsMap.get(section), rowElement));
+   }
+
+
+   private <T, R> List<PagedRow<T>> pageRows(final Map<String, List<R>> rowsPerSection,
+                                             final Function<R, String> rowText,
+                                             final BiFunction<String, R, T> rowReader) {
+      final List<R> rows = rowsPerSection.values().stream().findFirst().orElse(List.of());
+      final List<PagedRow<T>> page = new ArrayList<>(rows.size());
+      for (int i = 0; i < rows.size(); i++) {
+         final int index = i;
+         page.add(new PagedRow<>(Optional.ofNullable(rowText.apply(rows.get(i))).orElse(""),
+               () -> mergeRowAcrossSections(rowsPerSection, index, rowReader)));
+      }
+      return page;
+   }
+
+
    private <T> T readRowInternal(final Object rowIdentifier,
                                  final Class<T> rowClass,
                                  final TableField<T>[] fields) {
@@ -580,6 +733,24 @@ public abstract class TableImpl extends BaseComponent implements Table {
       final Map<String, List<CellLocator>> locatorsMap =
             getTableSectionLocatorsMap(rowClass, (fields == null) ? null : Arrays.asList(fields));
 
+      final Optional<Map<String, TableSnapshot.Row>> snapshotRowMap =
+            readSnapshots(tableLocators, tableContainer, locatorsMap)
+                  .map(snapshots -> snapshots.entrySet().stream()
+                        .collect(Collectors.toMap(
+                              Map.Entry::getKey,
+                              entry -> findRow(entry.getValue(), rowIdentifier, TableSnapshot.Row::text)
+                        )))
+                  .filter(rowMap -> rowMap.values().stream().allMatch(TableSnapshot.Row::complete));
+      if (snapshotRowMap.isPresent()) {
+         T mergedRow = null;
+         for (Map.Entry<String, TableSnapshot.Row> entry : snapshotRowMap.get().entrySet()) {
+            final T partialRow =
+                  readSnapshotRow(rowClass, locatorsMap.get(entry.getKey()), entry.getValue(), tableLocators);
+            mergedRow = mergeObjects(mergedRow, partialRow);
+         }
+         return mergedRow;
+      }
+
       final Map<String, SmartWebElement> rowElementMap = locatorsMap.keySet()
             .stream()
             .collect(Collectors.toMap(
@@ -602,8 +773,11 @@ public abstract class TableImpl extends BaseComponent implements Table {
    private SmartWebElement findRowElement(SmartWebElement tableContainer, By tableRowsLocator,
                                           final Object rowIdentifier,
                                           final String section) {
-      final List<SmartWebElement> rows = getRows(tableContainer, tableRowsLocator, section);
+      return findRow(getRows(tableContainer, tableRowsLocator, section), rowIdentifier, SmartWebElement::getText);
+   }
+
 
+   private static <R> R findRow(final List<R> rows, final Object rowIdentifier, final Function<R, String> rowText) {
       if (rowIdentifier instanceof Integer rowIndex) {
          if (rowIndex < 0 || rowIndex >= rows.size()) {
             throw new IndexOutOfBoundsException(String.format(
@@ -612,20 +786,17 @@ public abstract class TableImpl extends BaseComponent implements Table {
          }
          return rows.get(rowIndex);
       } else if (rowIdentifier instanceof List<?> criteria) {
-         return findRowByCriteria(criteria, rows);
+         return findRowByCriteria(criteria, rows, rowText);
       } else {
          throw new IllegalArgumentException("Unsupported row identifier type: " + rowIdentifier);
       }
    }
 
 
-   private SmartWebElement findRowByCriteria(final List<?> searchCriteria, final List<SmartWebElement> rows) {
+   private static <R> R findRowByCriteria(final List<?> searchCriteria, final List<R> rows,
+                                          final Function<R, String> rowText) {
       return rows.stream()
-            .filter(row -> searchCriteria.stream().allMatch(
-                  criterion -> Optional.ofNullable(row.getText())
-                        .orElse("")
-                        .contains(String.valueOf(criterion))
-            ))
+            .filter(row -> containsAll(rowText.apply(row), searchCriteria))
             .findFirst()
             .orElseThrow(() -> new NotFoundException(
                   "No row found containing all criteria: " + searchCriteria
@@ -633,6 +804,79 @@ public abstract class TableImpl extends BaseComponent implements Table {
    }
 
 
+   private static boolean containsAll(final String rowText, final List<?> searchCriteria) {
+      return searchCriteria.stream().allMatch(
+            criterion -> Optional.ofNullable(rowText).orElse("").contains(String.valueOf(criterion)));
+   }
+
+
+   /**
+    * Reads the rows of every table section with one {@link TableSnapshot} each.
+    *
+    * <p>Snapshots are only taken when enabled by {@code table.snapshot.enabled}, the rows are located by the default
+    * {@link #getRows(SmartWebElement, By, String)}, the table is not read through shadow roots, the driver can run
+    * scripts and every locator is {@linkplain TableSnapshot#supports(By, List) supported}. Like
+    * {@code getRows}, the snapshot is retaken until all rows are visible.
+    *
+    * @return The rows per section, or empty if the table has to be read element by element.
+    */
+   private Optional<Map<String, List<TableSnapshot.Row>>> readSnapshots(
+         final TableLocators tableLocators,
+         final SmartWebElement tableContainer,
+         final Map<String, List<CellLocator>> locatorsMap) {
+      final By rowsLocator = tableLocators.getTableRowsLocator();
+      if (!DEFAULT_ROWS.get(getClass())
+            || !getUiConfig().tableSnapshotEnabled()
+            || getUiConfig().useShadowRoot()
+            || !(driver.getOriginal() instanceof JavascriptExecutor executor)
+            || !locatorsMap.values().stream().allMatch(cells -> TableSnapshot.supports(rowsLocator, cells))) {
+         return Optional.empty();
+      }
+
+      final Map<String, List<TableSnapshot.Row>> snapshots = new LinkedHashMap<>();
+      locatorsMap.forEach((section, cellLocators) -> snapshots.put(section, driver.getWait().until(webDriver -> {
+         final List<TableSnapshot.Row> rows =
+               TableSnapshot.read(executor, tableContainer.getOriginal(), rowsLocator, cellLocators);
+         return !rows.isEmpty() && rows.stream().allMatch(TableSnapshot.Row::visible) ? rows : null;
+      })));
+      return Optional.of(snapshots);
+   }
+
+
+   private <T> T readSnapshotRow(final Class<T> rowClass,
+                                 final List<CellLocator> cellLocators,
+                                 final TableSnapshot.Row row,
+                                 final TableLocators tableLocators) {
+      final T rowInstance = createInstance(rowClass);
+      final Supplier<SmartWebElement> rowElement = () ->
+            getTableContainer(tableLocators.getTableContainerLocator())
+                  .findSmartElements(tableLocators.getTableRowsLocator())
+                  .get(row.index());
+
+      for (int i = 0; i < cellLocators.size(); i++) {
+         final CellLocator cellLocator = cellLocators.get(i);
+         final By locator = cellLocator.getLocator();
+         final Object cell = row.cells().get(i);
+
+         if (!cellLocator.isCollection()) {
+            final TableCell singleCell =
+                  new TableCell((String) cell, () -> rowElement.get().findSmartElement(locator));
+            invokeSetter(rowInstance, cellLocator.getFieldName(), singleCell);
+         } else {
+            final List<?> texts = (List<?>) cell;
+            final List<TableCell> tableCells = new ArrayList<>(texts.size());
+            for (int j = 0; j < texts.size(); j++) {
+               final int position = j;
+               tableCells.add(new TableCell((String) texts.get(j),
+                     () -> rowElement.get().findSmartElements(locator).get(position)));
+            }
+            invokeSetter(rowInstance, cellLocator.getFieldName(), tableCells);
+         }
+      }
+      return rowInstance;
+   }
+
+
    private <T> T readSingleRow(final Class<T> rowClass,
                                final List<CellLocator> cellLocators,
                                final SmartWebElement rowElement) {
@@ -679,7 +923,7 @@ public abstract class TableImpl extends BaseComponent implements Table {
 
    private <T> T createInstance(final Class<T> clazz) {
       try {
-         return clazz.getDeclaredConstructor().newInstance();
+         return clazz.cast(TableRowBinding.of(clazz).newRow());
       } catch (ReflectiveOperationException e) {
          final String message = "Could not create a new instance of class: " + clazz.getName();
          LogUi.error(message, e);
@@ -696,21 +940,10 @@ public abstract class TableImpl extends BaseComponent implements Table {
          return t1;
       }
 
-      final Field[] fields = t1.getClass().getDeclaredFields();
-      for (Field field : fields) {
-         field.setAccessible(true);
-         try {
-            final Object value1 = field.get(t1);
-            if (value1 == null) {
-               final Object value2 = field.get(t2);
-               if (value2 != null) {
-                  field.set(t1, value2);
-               }
-            }
-         } catch (IllegalAccessException e) {
-            final String message = "Cannot access field: " + field.getName();
-            LogUi.error(message, e);
-         }
+      try {
+         TableRowBinding.of(t1.getClass()).merge(t1, t2);
+      } catch (IllegalStateException e) {
+         LogUi.error(e.getMessage(), e);
       }
       return t1;
    }
@@ -729,8 +962,8 @@ public abstract class TableImpl extends BaseComponent implements Table {
       final String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
 
       try {
-         final Method setter = targetObject.getClass().getDeclaredMethod(setterName, paramType);
-         setter.invoke(targetObject, value);
+         final MethodHandle setter = TableRowBinding.of(targetObject.getClass()).setter(setterName, paramType);
+         setter.invokeExact(targetObject, value);
       } catch (NoSuchMethodException e) {
          final String message = String.format(
                "Setter not found: %s(%s) in class %s",
@@ -739,7 +972,9 @@ public abstract class TableImpl extends BaseComponent implements Table {
                targetObject.getClass().getName()
          );
          LogUi.error(message, e);
-      } catch (IllegalAccessException | InvocationTargetException e) {
+      } catch (Error e) {
+         throw e;
+      } catch (Throwable e) {
          final String message = String.format(
                "Failed to invoke setter: %s on %s",
                setterName,
@@ -752,14 +987,12 @@ public abstract class TableImpl extends BaseComponent implements Table {
 
    private <T> Map<String, List<CellLocator>> getTableSectionLocatorsMap(final Class<T> rowClass,
                                                                          final List<TableField<T>> fields) {
-      final List<CellLocator> cellLocators;
       if (fields == null || fields.isEmpty()) {
-         cellLocators = extractAnnotatedFields(rowClass, Collections.emptyList());
-      } else {
-         cellLocators = extractAnnotatedFields(rowClass, fields);
+         extractAnnotatedFields(rowClass, Collections.emptyList());
+         return TableRowBinding.of(rowClass).sectionLocators();
       }
 
-      return cellLocators.stream()
+      return extractAnnotatedFields(rowClass, fields).stream()
             .collect(Collectors.groupingBy(CellLocator::getTableSection));
    }
 
@@ -772,43 +1005,33 @@ public abstract class TableImpl extends BaseComponent implements Table {
          validateFieldInvokers(rowInstance, fields);
       }
 
-      final Field[] declaredFields = clazz.getDeclaredFields();
-      final List<Field> validFields;
+      final TableRowBinding binding = TableRowBinding.of(clazz);
+      final List<TableRowBinding.FieldBinding> validFields;
       if (fields.isEmpty()) {
-         validFields = Arrays.stream(declaredFields)
-               .filter(f -> f.isAnnotationPresent(TableCellLocator.class))
-               .toList();
+         validFields = binding.locatedFields();
       } else {
-         validFields = Arrays.stream(declaredFields)
+         validFields = binding.fields().stream()
                .filter(f -> {
-                  boolean hasValue = false;
-                  try {
-                     f.setAccessible(true);
-                     hasValue = (f.get(rowInstance) != null);
-                     if (hasValue && !f.isAnnotationPresent(TableCellLocator.class)) {
-                        throw new IllegalArgumentException(
-                              "Field " + f.getName()
-                                    + " is missing a @TableCellLocator annotation."
-                        );
-                     }
-                  } catch (IllegalAccessException ex) {
-                     LogUi.error("Cannot access field: {}", f.getName(), ex);
+                  final boolean hasValue = (f.get(rowInstance) != null);
+                  if (hasValue && !f.isLocated()) {
+                     throw new IllegalArgumentException(
+                           "Field " + f.name()
+                                 + " is missing a @TableCellLocator annotation."
+                     );
                   }
                   return hasValue;
                })
                .toList();
       }
 
-      final boolean validSyntax = validFields.stream()
-            .allMatch(
-                  f -> isListOfTableCell(f) || TableCell.class.isAssignableFrom(f.getType()));
+      final boolean validSyntax = validFields.stream().allMatch(TableRowBinding.FieldBinding::isCell);
       if (!validSyntax) {
          LogUi.error(INVALID_FIELD_TYPE);
          throw new TableException("Invalid field type for table cell usage.");
       }
 
       return validFields.stream()
-            .map(this::mapToCellLocator)
+            .map(TableRowBinding.FieldBinding::cellLocator)
             .toList();
    }
 
@@ -826,50 +1049,6 @@ public abstract class TableImpl extends BaseComponent implements Table {
    }
 
 
-   private CellLocator mapToCellLocator(final Field field) {
-      final TableCellLocator annotation = field.getAnnotation(TableCellLocator.class);
-      final FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
-
-      final By cellBy = builder.buildIt(annotation.cellLocator(), null);
-      final By cellTextBy = builder.buildIt(annotation.cellTextLocator(), null);
-      final By cellHeaderBy = builder.buildIt(annotation.headerCellLocator(), null);
-
-      final CellInsertionComponent cellInsertionComponent = Optional.ofNullable(
-                  field.getAnnotation(CellInsertion.class)
-            ).map(ci -> new CellInsertionComponent(ci.type(), ci.componentType(), ci.order()))
-            .orElse(null);
-
-      final Class<? extends CellInsertionFunction> customCellInsertion = Optional.ofNullable(
-            field.getAnnotation(CustomCellInsertion.class)
-      ).map(CustomCellInsertion::insertionFunction).orElse(null);
-
-
-      final CellFilterComponent cellFilterComponent = Optional.ofNullable(
-                  field.getAnnotation(CellFilter.class)
-            ).map(ci -> new CellFilterComponent(ci.type(), ci.componentType()))
-            .orElse(null);
-
-      final Class<? extends CellFilterFunction> customCellFilter = Optional.ofNullable(
-            field.getAnnotation(CustomCellFilter.class)
-      ).map(CustomCellFilter::cellFilterFunction).orElse(null);
-
-      final boolean isCollection = Collection.class.isAssignableFrom(field.getType());
-
-      return new CellLocator(
-            field.getName(),
-            cellBy,
-            cellTextBy,
-            cellHeaderBy,
-            isCollection,
-            annotation.tableSection(),
-            cellInsertionComponent,
-            customCellInsertion,
-            cellFilterComponent,
-            customCellFilter
-      );
-   }
-
-
    private <T> void validateFieldInvokers(final T instance, final List<TableField<T>> fields) {
       for (TableField<T> setter : fields) {
          boolean success = false;
@@ -912,7 +1091,7 @@ public abstract class TableImpl extends BaseComponent implements Table {
       final SmartWebElement rowElement;
       if (rowIdentifier instanceof List<?> criteria) {
          rowElement = findRowByCriteria(criteria,
-               getRows(tableContainer, tableLocators.getTableRowsLocator(), tableSection));
+               getRows(tableContainer, tableLocators.getTableRowsLocator(), tableSection), SmartWebElement::getText);
       } else if (rowIdentifier instanceof Integer rowIndex) {
          final List<SmartWebElement> rows = getRows(tableContainer, tableLocators.getTableRowsLocator(),
                tableSection);
@@ -1115,16 +1294,75 @@ public abstract class TableImpl extends BaseComponent implements Table {
    }
 
    private TableLocators getTableLocators(Class<?> clazz) {
-      TableInfo annotation = clazz.getAnnotation(TableInfo.class);
-      if (annotation == null) {
-         throw new IllegalArgumentException(
-               "Your class: " + clazz.getSimpleName() + "is missing @TableInfo annotation for the table container");
+      return TableRowBinding.of(clazz).tableLocators();
+   }
+
+   /**
+    * A row of the current page, identified by its text and mapped to an object only when read.
+    */
+   private record PagedRow<T>(String text, Supplier<T> reader) {
+
+      T read() {
+         return reader.get();
       }
-      final FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
-      By tableContainerLocator = builder.buildIt(annotation.tableContainerLocator(), null);
-      By tableRowsLocator = builder.buildIt(annotation.rowsLocator(), null);
-      By headerRowLocator = builder.buildIt(annotation.headerRowLocator(), null);
-      return new TableLocators(tableContainerLocator, tableRowsLocator, headerRowLocator);
+
+   }
+
+   /**
+    * Iterates over the rows of a table page by page, skipping the rows already shown on the previous page.
+    */
+   private final class PagedRows<T> implements Iterator<PagedRow<T>> {
+
+      private final Class<T> rowClass;
+      private final List<TableField<T>> fields;
+      private final PagingStrategy pagingStrategy;
+      private Set<String> previousTexts = Set.of();
+      private final Deque<PagedRow<T>> pending = new ArrayDeque<>();
+      private boolean started;
+      private boolean exhausted;
+
+      private PagedRows(final Class<T> rowClass, final List<TableField<T>> fields,
+                        final PagingStrategy pagingStrategy) {
+         this.rowClass = rowClass;
+         this.fields = fields;
+         this.pagingStrategy = pagingStrategy;
+      }
+
+      @Override
+      public boolean hasNext() {
+         while (pending.isEmpty() && !exhausted) {
+            if (started && !pagingStrategy.next(driver,
+                  getTableContainer(getTableLocators(rowClass).getTableContainerLocator()))) {
+               exhausted = true;
+               break;
+            }
+            started = true;
+
+            final List<PagedRow<T>> page = readPage(rowClass, fields);
+            final Set<String> pageTexts = new HashSet<>(page.size() * 2);
+            for (PagedRow<T> row : page) {
+               if (!previousTexts.contains(row.text())) {
+                  pending.add(row);
+               }
+               pageTexts.add(row.text());
+            }
+            previousTexts = pageTexts;
+            if (pending.isEmpty()) {
+               LogUi.debug("Table page shows no new rows. Stopping.");
+               exhausted = true;
+            }
+         }
+         return !pending.isEmpty();
+      }
+
+      @Override
+      public PagedRow<T> next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         return pending.poll();
+      }
+
    }
 
    private record OrderedFieldInvokerAndValues<T>(
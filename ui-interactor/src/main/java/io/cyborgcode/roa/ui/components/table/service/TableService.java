@@ -3,12 +3,14 @@ package io.cyborgcode.roa.ui.components.table.service;
 import io.cyborgcode.roa.ui.components.table.base.TableComponentType;
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import io.cyborgcode.utilities.reflections.exceptions.ReflectionException;
 import io.cyborgcode.roa.validator.core.Assertion;
 import io.cyborgcode.roa.validator.core.AssertionResult;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
 
@@ -254,6 +256,71 @@ public interface TableService {
    <T> T readRow(TableComponentType tableComponentType, List<String> searchCriteria, Class<T> clazz,
                  TableField<T>... fields);
 
+   /**
+    * Streams the rows of a paginated or virtual-scroll table, moving through it only as far as the stream is consumed.
+    *
+    * <p>Rows already shown on the previous page are skipped, and the stream ends when the table can not move further.
+    *
+    * @param clazz          The class type representing the table rows.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The fields to extract from the table. If not provided, all fields are retrieved.
+    * @param <T>            The type of the row representation.
+    * @return A lazily populated stream of the table rows.
+    */
+   default <T> Stream<T> streamTable(Class<T> clazz, PagingStrategy pagingStrategy, TableField<T>... fields) {
+      return streamTable(DEFAULT_TYPE, clazz, pagingStrategy, fields);
+   }
+
+   /**
+    * Streams the rows of a paginated or virtual-scroll table using a specified table component type.
+    *
+    * @param tableComponentType The type of the table component.
+    * @param clazz              The class type representing the table rows.
+    * @param pagingStrategy     The strategy that brings the next rows into the table.
+    * @param fields             The fields to extract from the table. If not provided, all fields are retrieved.
+    * @param <T>                The type of the row representation.
+    * @return A lazily populated stream of the table rows.
+    * @throws UnsupportedOperationException if the implementation does not support paged reading.
+    */
+   default <T> Stream<T> streamTable(TableComponentType tableComponentType, Class<T> clazz,
+                                     PagingStrategy pagingStrategy, TableField<T>... fields) {
+      throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support paged reading");
+   }
+
+   /**
+    * Finds the first row matching the search criteria, moving through the pages of a paginated or virtual-scroll
+    * table until the row is shown.
+    *
+    * @param searchCriteria A list of string values used to identify the row.
+    * @param clazz          The class type representing the table row.
+    * @param pagingStrategy The strategy that brings the next rows into the table.
+    * @param fields         The fields to extract from the row. If not provided, all fields are retrieved.
+    * @param <T>            The type of the row representation.
+    * @return An object representing the row matching the search criteria with chosen fields.
+    */
+   default <T> T findRow(List<String> searchCriteria, Class<T> clazz, PagingStrategy pagingStrategy,
+                         TableField<T>... fields) {
+      return findRow(DEFAULT_TYPE, searchCriteria, clazz, pagingStrategy, fields);
+   }
+
+   /**
+    * Finds the first row matching the search criteria using a specified table component type, moving through the
+    * pages of the table until the row is shown.
+    *
+    * @param tableComponentType The type of the table component.
+    * @param searchCriteria     A list of string values used to identify the row.
+    * @param clazz              The class type representing the table row.
+    * @param pagingStrategy     The strategy that brings the next rows into the table.
+    * @param fields             The fields to extract from the row. If not provided, all fields are retrieved.
+    * @param <T>                The type of the row representation.
+    * @return An object representing the row matching the search criteria with chosen fields.
+    * @throws UnsupportedOperationException if the implementation does not support paged reading.
+    */
+   default <T> T findRow(TableComponentType tableComponentType, List<String> searchCriteria, Class<T> clazz,
+                         PagingStrategy pagingStrategy, TableField<T>... fields) {
+      throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support paged reading");
+   }
+
    /**
     * Inserts values into a specific row in the table.
     *
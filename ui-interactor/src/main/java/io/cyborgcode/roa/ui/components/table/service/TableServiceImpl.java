@@ -5,6 +5,7 @@ import io.cyborgcode.roa.ui.components.factory.ComponentFactory;
 import io.cyborgcode.roa.ui.components.table.base.TableComponentType;
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
@@ -12,6 +13,7 @@ import io.cyborgcode.roa.ui.validator.UiTableValidator;
 import io.cyborgcode.roa.validator.core.Assertion;
 import io.cyborgcode.roa.validator.core.AssertionResult;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link TableService} interface, providing concrete logic
@@ -186,6 +188,43 @@ public class TableServiceImpl extends AbstractComponentService<TableComponentTyp
       return getOrCreateComponent(tableComponentType).readRow(searchCriteria, clazz, fields);
    }
 
+   /**
+    * Streams the rows of a paginated or virtual-scroll table, moving through it only as far as the stream is consumed.
+    *
+    * @param tableComponentType The type of table component being used.
+    * @param clazz              The class type representing the table rows.
+    * @param pagingStrategy     The strategy that brings the next rows into the table.
+    * @param fields             The fields to be extracted from the table. If not provided, all fields are retrieved.
+    * @param <T>                The type of the row representation.
+    * @return A lazily populated stream of the table rows.
+    */
+   @Override
+   @SafeVarargs
+   public final <T> Stream<T> streamTable(final TableComponentType tableComponentType, final Class<T> clazz,
+                                          final PagingStrategy pagingStrategy, final TableField<T>... fields) {
+      return getOrCreateComponent(tableComponentType).streamTable(clazz, pagingStrategy, fields);
+   }
+
+   /**
+    * Finds the first row matching the search criteria, moving through the pages of the table until it is shown.
+    *
+    * @param tableComponentType The type of table component being used.
+    * @param searchCriteria     A list of string values used to locate the row.
+    * @param clazz              The class type representing the row structure.
+    * @param pagingStrategy     The strategy that brings the next rows into the table.
+    * @param fields             The specific fields to retrieve from the row. If not provided, all fields will be
+    *                           retrieved.
+    * @param <T>                The type of the row representation.
+    * @return An object representing the matched row with the specified fields.
+    */
+   @Override
+   @SafeVarargs
+   public final <T> T findRow(final TableComponentType tableComponentType, final List<String> searchCriteria,
+                              final Class<T> clazz, final PagingStrategy pagingStrategy,
+                              final TableField<T>... fields) {
+      return getOrCreateComponent(tableComponentType).findRow(searchCriteria, clazz, pagingStrategy, fields);
+   }
+
    /**
     * Inserts a value into a specific cell in a table row identified by its row index.
     *
@@ -0,0 +1,161 @@
+package io.cyborgcode.roa.ui.components.table.service;
+
+import io.cyborgcode.roa.ui.components.table.model.CellLocator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Reads the text of every row and cell of a table section with a single JavaScript call.
+ *
+ * <p>Reading a table element by element costs a WebDriver round trip for every row, cell and text lookup.
+ * The snapshot instead evaluates the {@code @TableInfo} rows locator and the {@code @TableCellLocator} cell and
+ * text locators in the browser and returns the texts of all rows at once. Only locators the browser can evaluate
+ * itself are supported, that is CSS selectors, XPath expressions and the locators Selenium translates to CSS
+ * (id, class name, name and tag name); see {@link #selector(By)}.
+ *
+ * <p>Texts are read from {@code innerText}, with non-breaking spaces and tabs replaced and surrounding whitespace
+ * trimmed, which matches {@code WebElement#getText()} for visible elements.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class TableSnapshot {
+
+   private static final String CSS = "css";
+
+   private static final String XPATH = "xpath";
+
+   private static final String READ_TABLE_JS = """
+         const container = arguments[0], rowsSelector = arguments[1], cells = arguments[2];
+         function all(root, selector) {
+           if (selector[0] === 'xpath') {
+             const found = document.evaluate(selector[1], root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+             const elements = [];
+             for (let i = 0; i < found.snapshotLength; i++) {
+               if (found.snapshotItem(i).nodeType === Node.ELEMENT_NODE) {
+                 elements.push(found.snapshotItem(i));
+               }
+             }
+             return elements;
+           }
+           return Array.from(root.querySelectorAll(selector[1]));
+         }
+         function one(root, selector) {
+           const found = all(root, selector);
+           return found.length ? found[0] : null;
+         }
+         function text(element) {
+           return element ? (element.innerText || '').replace(/[\\u00a0\\t]/g, ' ').trim() : null;
+         }
+         function visible(element) {
+           const style = window.getComputedStyle(element);
+           return element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.display !== 'none';
+         }
+         return all(container, rowsSelector).map((row, index) => [
+           index,
+           visible(row),
+           text(row),
+           cells.map(cell => cell.many
+             ? all(row, cell.cell).map(element => text(one(element, cell.text)))
+             : (found => found ? text(one(found, cell.text)) : null)(one(row, cell.cell)))
+         ]);
+         """;
+
+   private TableSnapshot() {
+   }
+
+   /**
+    * Translates a locator into a selector the snapshot script can evaluate.
+    *
+    * @param by The locator.
+    * @return The selector type ({@code css} or {@code xpath}) and expression, or empty if the locator is not
+    *       supported.
+    */
+   static Optional<List<String>> selector(By by) {
+      if (!(by instanceof By.Remotable remotable)) {
+         return Optional.empty();
+      }
+      By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+      String value = String.valueOf(parameters.value());
+      return switch (parameters.using()) {
+         case "css selector", "tag name" -> Optional.of(List.of(CSS, value));
+         case "xpath" -> Optional.of(List.of(XPATH, value));
+         default -> Optional.empty();
+      };
+   }
+
+   /**
+    * Checks whether the rows and all cells of a table section can be read with a snapshot.
+    *
+    * @param rowsLocator  The locator of the rows.
+    * @param cellLocators The locators of the cells to read.
+    * @return {@code true} if every locator is supported by {@link #selector(By)}.
+    */
+   static boolean supports(By rowsLocator, List<CellLocator> cellLocators) {
+      return selector(rowsLocator).isPresent()
+            && cellLocators.stream().allMatch(cell ->
+            selector(cell.getLocator()).isPresent() && selector(cell.getCellTextLocator()).isPresent());
+   }
+
+   /**
+    * Reads the rows of a table section.
+    *
+    * @param executor     Runs the snapshot script.
+    * @param container    The table container the rows are located from.
+    * @param rowsLocator  The locator of the rows; must be {@linkplain #supports(By, List) supported}.
+    * @param cellLocators The locators of the cells to read; must be {@linkplain #supports(By, List) supported}.
+    * @return The rows in document order.
+    */
+   static List<Row> read(JavascriptExecutor executor, WebElement container, By rowsLocator,
+                         List<CellLocator> cellLocators) {
+      List<Map<String, Object>> cells = cellLocators.stream()
+            .map(cell -> {
+               Map<String, Object> spec = new LinkedHashMap<>();
+               spec.put("cell", selector(cell.getLocator()).orElseThrow());
+               spec.put("text", selector(cell.getCellTextLocator()).orElseThrow());
+               spec.put("many", cell.isCollection());
+               return spec;
+            })
+            .toList();
+      Object result = executor.executeScript(READ_TABLE_JS, container, selector(rowsLocator).orElseThrow(), cells);
+
+      List<Row> rows = new ArrayList<>();
+      if (result instanceof List<?> rawRows) {
+         for (Object rawRow : rawRows) {
+            List<?> row = (List<?>) rawRow;
+            rows.add(new Row(((Number) row.get(0)).intValue(), Boolean.TRUE.equals(row.get(1)), (String) row.get(2),
+                  (List<?>) row.get(3)));
+         }
+      }
+      return rows;
+   }
+
+   /**
+    * A row of a snapshot.
+    *
+    * @param index   The position of the row among all rows of the section, starting at 0.
+    * @param visible Whether the row is displayed.
+    * @param text    The text of the whole row.
+    * @param cells   The cell texts, one entry per cell locator: the text for single cells, the list of texts for
+    *                collections, or {@code null} for a cell that was not found.
+    */
+   record Row(int index, boolean visible, String text, List<?> cells) {
+
+      /**
+       * Checks whether every cell of the row, and every text within a cell, was found.
+       *
+       * @return {@code true} if the row can be mapped without locating elements.
+       */
+      boolean complete() {
+         return cells.stream().allMatch(cell -> cell != null
+               && (!(cell instanceof List<?> texts) || texts.stream().allMatch(text -> text != null)));
+      }
+
+   }
+
+}
@@ -206,6 +206,19 @@ public interface UiConfig extends PropertyConfig {
    @Key("table.default.type")
    String tableDefaultType();
 
+   /**
+    * Determines whether tables are read with a single JavaScript snapshot per table section instead of one
+    * WebDriver call per cell.
+    *
+    * <p>Tables whose rows or cells cannot be located by CSS or XPath, tables searched through shadow roots and
+    * table implementations overriding {@code getRows} are always read element by element. Default: true
+    *
+    * @return {@code true} if table snapshots are used, otherwise {@code false}.
+    */
+   @DefaultValue("true")
+   @Key("table.snapshot.enabled")
+   boolean tableSnapshotEnabled();
+
    /**
     * Determines whether wrapped Selenium functions should be used.
     *
@@ -228,4 +241,90 @@ public interface UiConfig extends PropertyConfig {
    @Key("use.shadow.root")
    boolean useShadowRoot();
 
+   /**
+    * Determines whether elements found by {@code SmartWebDriver.findSmartElement} are cached per page.
+    *
+    * <p>Cached elements are returned without presence waits or shadow root fallbacks. The cache is cleared when
+    * the URL changes, and stale elements are resolved again through the stale element handling. Default: false
+    *
+    * @return {@code true} if resolved elements are cached, otherwise {@code false}.
+    */
+   @DefaultValue("false")
+   @Key("element.cache.enabled")
+   boolean elementCacheEnabled();
+
+   /**
+    * Determines whether wrapped element actions are attempted before waiting for the element.
+    *
+    * <p>WebDriver checks that an element is interactable as part of {@code click}, {@code sendKeys} and
+    * {@code clear}, so a ready element needs a single command. The wait for the element to become clickable runs
+    * only when the command reports the element as not interactable. Clicks on disabled controls are not reported
+    * by WebDriver and are therefore not retried. Default: false
+    *
+    * @return {@code true} if actions are attempted first, otherwise {@code false}.
+    */
+   @DefaultValue("false")
+   @Key("element.actions.optimistic")
+   boolean optimisticElementActions();
+
+   /**
+    * Determines whether browser sessions are pooled and reused across tests.
+    *
+    * <p>Pooled drivers are reset (cookies, storage, extra windows) and returned to the pool after each test
+    * instead of being quit.
+    *
+    * <p>Default: false
+    *
+    * @return {@code true} if the WebDriver session pool is used, otherwise {@code false}.
+    */
+   @DefaultValue("false")
+   @Key("driver.pool.enabled")
+   boolean driverPoolEnabled();
+
+   /**
+    * Retrieves the maximum number of browser sessions the pool keeps open at once.
+    *
+    * <p>Should be at least the number of UI tests running in parallel. Default: 4
+    *
+    * @return The maximum number of pooled sessions.
+    */
+   @DefaultValue("4")
+   @Key("driver.pool.max.size")
+   int driverPoolMaxSize();
+
+   /**
+    * Retrieves how many tests may use a pooled browser session before it is replaced by a fresh one.
+    *
+    * <p>Default: 50
+    *
+    * @return The maximum number of uses of a pooled session.
+    */
+   @DefaultValue("50")
+   @Key("driver.pool.max.uses")
+   int driverPoolMaxUses();
+
+   /**
+    * Retrieves how long a test waits for a pooled browser session when all sessions are in use.
+    *
+    * <p>Default: 120
+    *
+    * @return The checkout timeout in seconds.
+    */
+   @DefaultValue("120")
+   @Key("driver.pool.checkout.timeout.seconds")
+   int driverPoolCheckoutTimeout();
+
+   /**
+    * Retrieves how many browser sessions per browser type are started in the background, ahead of the tests
+    * that will use them.
+    *
+    * <p>Whenever a test takes a pre-warmed session, a replacement starts while the test runs. Default: 0, which
+    * starts every browser on demand.
+    *
+    * @return The number of pre-warmed sessions per browser type.
+    */
+   @DefaultValue("0")
+   @Key("driver.prewarm.sessions")
+   int driverPrewarmSessions();
+
 }
@@ -1,13 +1,15 @@
 package io.cyborgcode.roa.ui.drivers.base;
 
+import io.cyborgcode.roa.ui.log.LogUi;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.openqa.selenium.remote.AbstractDriverOptions;
 
 /**
  * Abstract base class for managing WebDriver setup and configuration.
  *
- * <p>This class provides a mechanism to ensure that WebDriver binaries are downloaded only once per driver type,
- * avoiding redundant downloads across multiple test sessions.
+ * <p>This class provides a mechanism to ensure that WebDriver binaries are resolved only once per JVM for each
+ * driver type and version, avoiding redundant downloads and browser version lookups across test sessions.
  *
  * <p>It utilizes a thread-safe {@link ConcurrentHashMap} to track which drivers have been downloaded.
  *
@@ -21,7 +23,7 @@ public abstract class BaseDriverProvider<T extends AbstractDriverOptions<?>> imp
    /**
     * Thread-safe map tracking the download status of different WebDriver binaries.
     *
-    * <p>The keys represent the driver types (e.g., Chrome, Firefox),
+    * <p>The keys represent the driver types and requested versions (e.g., {@code CHROME@latest}),
     * and the values indicate whether the corresponding driver binary has already been downloaded.
     */
    private static final ConcurrentHashMap<String, Boolean> DRIVER_DOWNLOAD_STATUS = new ConcurrentHashMap<>();
@@ -36,16 +38,21 @@ public abstract class BaseDriverProvider<T extends AbstractDriverOptions<?>> imp
    /**
     * Sets up the WebDriver by downloading the necessary driver binary if it has not already been downloaded.
     *
-    * <p>This method ensures that each driver type is downloaded only once by utilizing
+    * <p>This method ensures that each driver type and version is resolved only once by utilizing
     * {@link ConcurrentHashMap#computeIfAbsent(Object, java.util.function.Function)} to prevent duplicate downloads.
+    * The time the resolution took is logged, since it delays the first browser of the run.
     *
     * @param version The specific WebDriver version to download.
     */
    @Override
    public void setupDriver(final String version) {
       String driverType = getDriverType();
-      DRIVER_DOWNLOAD_STATUS.computeIfAbsent(driverType, key -> {
+      String requested = version == null || version.isEmpty() ? "latest" : version;
+      DRIVER_DOWNLOAD_STATUS.computeIfAbsent(driverType + "@" + requested, key -> {
+         long start = System.nanoTime();
          downloadDriver(version);
+         LogUi.info("Driver binary for {} resolved in {} ms.", key,
+               TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
          return true;
       });
    }
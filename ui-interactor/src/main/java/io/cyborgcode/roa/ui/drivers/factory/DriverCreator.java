@@ -40,15 +40,7 @@ public class DriverCreator<T extends AbstractDriverOptions<?>> {
             config.getRemoteUrl());
 
 
-      T options = provider.createOptions();
-      provider.applyDefaultArguments(options);
-
-      if (config.isHeadless()) {
-         provider.applyHeadlessArguments(options);
-      }
-
-      Optional.ofNullable(config.getOptionsCustomizer()).ifPresent(customizer -> customizer.accept(options));
-
+      T options = createOptions(config, provider);
       WebDriver driver;
 
       if (config.isRemote()) {
@@ -64,4 +56,23 @@ public class DriverCreator<T extends AbstractDriverOptions<?>> {
             .orElse(driver);
    }
 
+   /**
+    * Creates the browser options a driver is started with for the given configuration and driver provider.
+    *
+    * @param config   The configuration settings for the WebDriver instance.
+    * @param provider The driver provider responsible for creating and configuring WebDriver options.
+    * @return The configured browser options.
+    */
+   public T createOptions(WebDriverConfig<T> config, DriverProvider<T> provider) {
+      T options = provider.createOptions();
+      provider.applyDefaultArguments(options);
+
+      if (config.isHeadless()) {
+         provider.applyHeadlessArguments(options);
+      }
+
+      Optional.ofNullable(config.getOptionsCustomizer()).ifPresent(customizer -> customizer.accept(options));
+      return options;
+   }
+
 }
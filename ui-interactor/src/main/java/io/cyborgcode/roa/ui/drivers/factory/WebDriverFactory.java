@@ -4,9 +4,12 @@ import io.cyborgcode.roa.ui.drivers.base.DriverProvider;
 import io.cyborgcode.roa.ui.drivers.config.WebDriverConfig;
 import io.cyborgcode.roa.ui.drivers.providers.ChromeDriverProvider;
 import io.cyborgcode.roa.ui.drivers.providers.EdgeDriverProvider;
+import io.cyborgcode.roa.ui.log.LogUi;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.AbstractDriverOptions;
@@ -55,6 +58,9 @@ public class WebDriverFactory {
    /**
     * Creates a WebDriver instance for the specified browser type, using the provided configuration.
     *
+    * <p>The local driver binary is only resolved for local browsers, since a remote grid brings its own. The
+    * startup time of every browser is logged.
+    *
     * @param type   The browser type (e.g., "CHROME", "EDGE").
     * @param config The WebDriver configuration, specifying options such as version and headless mode.
     * @return A fully configured {@link WebDriver} instance.
@@ -63,17 +69,39 @@ public class WebDriverFactory {
     */
    @SuppressWarnings({"rawtypes", "unchecked"}) // Necessary for generic factory call
    public static WebDriver createDriver(String type, WebDriverConfig config) {
-      DriverProvider<?> provider = Optional.ofNullable(DRIVER_PROVIDERS.get(type.trim().toUpperCase()))
-            .orElseThrow(() -> new IllegalArgumentException("No driver registered for type: " + type));
+      DriverProvider<?> provider = provider(type);
 
-      provider.setupDriver(config.getVersion());
+      if (!config.isRemote()) {
+         provider.setupDriver(config.getVersion());
+      }
 
+      long start = System.nanoTime();
       try {
-         return new DriverCreator<>().createDriver(config,
+         WebDriver driver = new DriverCreator<>().createDriver(config,
                (DriverProvider<AbstractDriverOptions<?>>) provider);
+         LogUi.info("Browser {} started in {} ms.", type, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+         return driver;
       } catch (Exception e) {
          throw new WebDriverException("Failed to create WebDriver for type: " + type, e);
       }
    }
 
+   /**
+    * Creates the browser options a WebDriver of the specified browser type is started with, without starting it.
+    *
+    * @param type   The browser type (e.g., "CHROME", "EDGE").
+    * @param config The WebDriver configuration, specifying options such as version and headless mode.
+    * @return The capabilities requested from the browser.
+    * @throws IllegalArgumentException If no driver is registered for the specified type.
+    */
+   @SuppressWarnings({"rawtypes", "unchecked"}) // Necessary for generic factory call
+   public static Capabilities createOptions(String type, WebDriverConfig config) {
+      return new DriverCreator<>().createOptions(config, (DriverProvider<AbstractDriverOptions<?>>) provider(type));
+   }
+
+   private static DriverProvider<?> provider(String type) {
+      return Optional.ofNullable(DRIVER_PROVIDERS.get(type.trim().toUpperCase()))
+            .orElseThrow(() -> new IllegalArgumentException("No driver registered for type: " + type));
+   }
+
 }
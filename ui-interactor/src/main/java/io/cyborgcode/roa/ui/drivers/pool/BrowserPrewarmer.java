@@ -0,0 +1,177 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
+
+/**
+ * Starts browser sessions in the background, so that a test finds its browser already running.
+ *
+ * <p>For every {@link SessionKey}, up to {@code driver.prewarm.sessions} browsers are kept starting or ready.
+ * Whenever a test takes one, a replacement starts right away and overlaps with the running test instead of
+ * delaying the next one. The first test of each key still starts its browser on demand.
+ *
+ * <p>Every handover is logged with the background startup time and the time the test still had to wait, and a
+ * summary of the startup time hidden behind running tests is logged on {@link #shutdown()}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BrowserPrewarmer {
+
+   private final int warmSessions;
+   private final Executor executor;
+   private final Map<SessionKey, Deque<WarmSession>> sessions = new HashMap<>();
+   private boolean shutdown;
+
+   private final AtomicInteger handovers = new AtomicInteger();
+   private final AtomicLong startupNanos = new AtomicLong();
+   private final AtomicLong waitedNanos = new AtomicLong();
+
+   /**
+    * Creates a pre-warmer.
+    *
+    * @param warmSessions The number of sessions kept starting or ready per key.
+    * @param executor     Runs the background browser startups.
+    */
+   BrowserPrewarmer(int warmSessions, Executor executor) {
+      if (warmSessions < 1) {
+         throw new IllegalArgumentException("The number of pre-warmed browser sessions must be positive");
+      }
+      this.warmSessions = warmSessions;
+      this.executor = executor;
+   }
+
+   /**
+    * Returns the pre-warmer shared by all tests of the run, configured from {@code UiConfig}.
+    *
+    * @return The shared pre-warmer.
+    */
+   public static BrowserPrewarmer shared() {
+      return Shared.PREWARMER;
+   }
+
+   /**
+    * Hands a pre-warmed browser to a test and starts its replacement in the background.
+    *
+    * <p>If no browser of the key is starting yet, or the pre-warmed one failed to start, the browser is
+    * started on the calling thread.
+    *
+    * @param key           The key of the requested session.
+    * @param driverFactory Starts a new browser of the key; called on background threads as well.
+    * @return The driver of a running browser.
+    */
+   public SmartWebDriver take(SessionKey key, Supplier<SmartWebDriver> driverFactory) {
+      WarmSession warm;
+      synchronized (this) {
+         Deque<WarmSession> queue = sessions.computeIfAbsent(key, k -> new ArrayDeque<>());
+         warm = queue.poll();
+         while (!shutdown && queue.size() < warmSessions) {
+            queue.add(start(driverFactory));
+         }
+      }
+      if (warm == null) {
+         return driverFactory.get();
+      }
+
+      long waitStart = System.nanoTime();
+      SmartWebDriver driver;
+      try {
+         driver = warm.driver.join();
+      } catch (CompletionException e) {
+         LogUi.warn("Pre-warmed browser failed to start, starting one on demand: {}", e.getCause().getMessage());
+         return driverFactory.get();
+      }
+      long waited = System.nanoTime() - waitStart;
+      handovers.incrementAndGet();
+      startupNanos.addAndGet(warm.startupNanos);
+      waitedNanos.addAndGet(waited);
+      LogUi.info("Pre-warmed browser handed over after waiting {} ms (startup took {} ms).",
+            TimeUnit.NANOSECONDS.toMillis(waited), TimeUnit.NANOSECONDS.toMillis(warm.startupNanos));
+      return driver;
+   }
+
+   /**
+    * Stops pre-warming, quits every browser not handed to a test and logs the time saved.
+    *
+    * <p>Browsers still starting are quit as soon as they are up.
+    */
+   public void shutdown() {
+      List<WarmSession> unclaimed = new ArrayList<>();
+      synchronized (this) {
+         shutdown = true;
+         sessions.values().forEach(unclaimed::addAll);
+         sessions.clear();
+      }
+      unclaimed.forEach(warm -> warm.driver.thenAccept(BrowserPrewarmer::quit));
+      if (handovers.get() > 0) {
+         long startup = TimeUnit.NANOSECONDS.toMillis(startupNanos.get());
+         long waited = TimeUnit.NANOSECONDS.toMillis(waitedNanos.get());
+         LogUi.info("Pre-warmed {} browsers: {} ms of startup overlapped with running tests, {} ms still waited.",
+               handovers.get(), Math.max(0, startup - waited), waited);
+      }
+   }
+
+   private WarmSession start(Supplier<SmartWebDriver> driverFactory) {
+      WarmSession warm = new WarmSession();
+      warm.driver = CompletableFuture.supplyAsync(() -> {
+         long start = System.nanoTime();
+         SmartWebDriver driver = driverFactory.get();
+         warm.startupNanos = System.nanoTime() - start;
+         return driver;
+      }, executor);
+      return warm;
+   }
+
+   private static void quit(SmartWebDriver driver) {
+      try {
+         driver.quit();
+      } catch (RuntimeException e) {
+         LogUi.warn("Pre-warmed browser could not be quit: {}", e.getMessage());
+      }
+   }
+
+   /**
+    * A browser starting or running in the background.
+    */
+   private static final class WarmSession {
+
+      private CompletableFuture<SmartWebDriver> driver;
+      private volatile long startupNanos;
+
+   }
+
+   /**
+    * Holds the shared pre-warmer and its daemon threads, created on first use.
+    */
+   private static final class Shared {
+
+      private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+      private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+         Thread thread = new Thread(runnable, "roa-browser-" + THREAD_COUNTER.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+
+      private static final BrowserPrewarmer PREWARMER =
+            new BrowserPrewarmer(getUiConfig().driverPrewarmSessions(), EXECUTOR);
+
+   }
+
+}
@@ -0,0 +1,39 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.drivers.config.WebDriverConfig;
+import io.cyborgcode.roa.ui.drivers.factory.WebDriverFactory;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Identifies browser sessions that are interchangeable, so that a pooled session is only handed to a test
+ * requesting the same browser with the same capabilities.
+ *
+ * @param browserType  The browser type, such as {@code CHROME}.
+ * @param version      The requested browser version; empty for the latest.
+ * @param headless     Whether the browser runs headless.
+ * @param remoteUrl    The Selenium Grid URL; empty for a local browser.
+ * @param capabilities The capabilities the browser is started with, including its arguments and the changes of
+ *                     the options customizer.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record SessionKey(String browserType, String version, boolean headless, String remoteUrl,
+                         Map<String, Object> capabilities) {
+
+   /**
+    * Creates the key of the sessions created for a browser type and driver configuration.
+    *
+    * @param browserType The browser type, such as {@code CHROME}.
+    * @param config      The driver configuration.
+    * @return The session key.
+    */
+   public static SessionKey of(String browserType, WebDriverConfig<?> config) {
+      return new SessionKey(
+            browserType.trim().toUpperCase(Locale.ROOT),
+            config.getVersion() == null ? "" : config.getVersion(),
+            config.isHeadless(),
+            config.isRemote() && config.getRemoteUrl() != null ? config.getRemoteUrl() : "",
+            Map.copyOf(WebDriverFactory.createOptions(browserType, config).asMap()));
+   }
+
+}
@@ -0,0 +1,87 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.util.Map;
+import java.util.Set;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.DevTools;
+
+/**
+ * Returns a browser session to a clean state before it is handed to the next test.
+ *
+ * <p>The reset first closes the DevTools session registered on the driver together with its event listeners,
+ * so that listeners bound to the previous test, such as those storing intercepted responses in its quest, never
+ * see the traffic of the next one. It then closes every window except the first one, clears the
+ * {@code localStorage} and {@code sessionStorage} of the current page, deletes the cookies and navigates to
+ * {@code about:blank}.
+ * Chromium browsers delete the cookies of all domains through the DevTools protocol; other browsers only
+ * delete the cookies visible to the current page.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class SessionReset {
+
+   private static final String BLANK_PAGE = "about:blank";
+
+   private static final String CLEAR_STORAGE =
+         "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }";
+
+   private SessionReset() {
+   }
+
+   /**
+    * Resets the state of a browser session.
+    *
+    * @param smartWebDriver The driver of the session.
+    * @return {@code true} if the session is clean, {@code false} if it could not be reset and must be discarded.
+    */
+   static boolean reset(SmartWebDriver smartWebDriver) {
+      WebDriver driver = smartWebDriver.getOriginal();
+      try {
+         closeDevToolsSession(smartWebDriver);
+         closeExtraWindows(driver);
+         if (driver instanceof JavascriptExecutor javascriptExecutor) {
+            javascriptExecutor.executeScript(CLEAR_STORAGE);
+         }
+         if (driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+         } else {
+            driver.manage().deleteAllCookies();
+         }
+         driver.get(BLANK_PAGE);
+         return true;
+      } catch (WebDriverException e) {
+         LogUi.warn("Browser session could not be reset and will be discarded: {}", e.getMessage());
+         return false;
+      }
+   }
+
+   private static void closeDevToolsSession(SmartWebDriver smartWebDriver) {
+      DevTools devTools = smartWebDriver.getDevToolsSession();
+      if (devTools == null) {
+         return;
+      }
+      smartWebDriver.setDevToolsSession(null);
+      devTools.clearListeners();
+      devTools.disconnectSession();
+   }
+
+   private static void closeExtraWindows(WebDriver driver) {
+      Set<String> handles = driver.getWindowHandles();
+      if (handles.size() <= 1) {
+         return;
+      }
+      String first = handles.iterator().next();
+      for (String handle : handles) {
+         if (!handle.equals(first)) {
+            driver.switchTo().window(handle).close();
+         }
+      }
+      driver.switchTo().window(first);
+   }
+
+}
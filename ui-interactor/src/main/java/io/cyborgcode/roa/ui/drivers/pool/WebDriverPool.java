@@ -0,0 +1,260 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
+
+/**
+ * A bounded pool of browser sessions reused across tests.
+ *
+ * <p>Launching a browser takes seconds, so instead of quitting the driver after every test, drivers are
+ * checked out for a test and checked in afterwards. A checked-in session is reset (see {@link SessionReset})
+ * and kept idle for the next test requesting the same {@link SessionKey}. Sessions are discarded instead when
+ * the test failed, when the reset failed, or once they served the configured number of tests.
+ *
+ * <p>At most {@code driver.pool.max.size} sessions are open at once. When the limit is reached, an idle session
+ * of another key is discarded to make room; if every session is in use, the checkout waits until one is checked
+ * in or {@code driver.pool.checkout.timeout.seconds} passed. The pool is safe to use from tests running in
+ * parallel.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class WebDriverPool {
+
+   private final int maxSize;
+   private final int maxUses;
+   private final Duration checkoutTimeout;
+   private final UnaryOperator<SmartWebDriver> reset;
+
+   private final ReentrantLock lock = new ReentrantLock();
+   private final Condition released = lock.newCondition();
+   private final Map<SessionKey, Deque<PooledSession>> idle = new HashMap<>();
+   private final Map<SmartWebDriver, PooledSession> checkedOut = new IdentityHashMap<>();
+   private int open;
+
+   /**
+    * Creates a pool.
+    *
+    * @param maxSize         The maximum number of open sessions.
+    * @param maxUses         The number of tests a session serves before it is discarded.
+    * @param checkoutTimeout How long a checkout waits for a session when all sessions are in use.
+    * @param reset           Resets a checked-in session; returns {@code null} if the session must be discarded.
+    */
+   WebDriverPool(int maxSize, int maxUses, Duration checkoutTimeout, UnaryOperator<SmartWebDriver> reset) {
+      if (maxSize < 1 || maxUses < 1) {
+         throw new IllegalArgumentException("WebDriver pool size and uses must be positive");
+      }
+      this.maxSize = maxSize;
+      this.maxUses = maxUses;
+      this.checkoutTimeout = checkoutTimeout;
+      this.reset = reset;
+   }
+
+   /**
+    * Returns the pool shared by all tests of the run, configured from {@code UiConfig}.
+    *
+    * @return The shared pool.
+    */
+   public static WebDriverPool shared() {
+      return Shared.POOL;
+   }
+
+   /**
+    * Checks out a session for a test, reusing an idle session of the same key or creating a new one.
+    *
+    * @param key           The key of the requested session.
+    * @param driverFactory Creates a new session when no idle session can be reused.
+    * @return The driver of the session, to be returned with {@link #checkin(SmartWebDriver, boolean)}.
+    * @throws IllegalStateException If no session became available within the checkout timeout.
+    */
+   public SmartWebDriver checkout(SessionKey key, Supplier<SmartWebDriver> driverFactory) {
+      PooledSession evicted = null;
+      lock.lock();
+      try {
+         long remaining = checkoutTimeout.toNanos();
+         while (true) {
+            PooledSession reusable = poll(idle.get(key));
+            if (reusable != null) {
+               checkedOut.put(reusable.driver, reusable);
+               LogUi.info("Reusing pooled browser session ({} uses).", reusable.uses);
+               return reusable.driver;
+            }
+            if (open < maxSize) {
+               open++;
+               break;
+            }
+            evicted = pollAnyIdle();
+            if (evicted != null) {
+               break;
+            }
+            if (remaining <= 0) {
+               throw new IllegalStateException("No browser session became available within "
+                     + checkoutTimeout.toSeconds() + " seconds; all " + maxSize + " pooled sessions are in use");
+            }
+            remaining = released.awaitNanos(remaining);
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for a pooled browser session", e);
+      } finally {
+         lock.unlock();
+      }
+
+      if (evicted != null) {
+         quit(evicted.driver);
+      }
+      return create(key, driverFactory);
+   }
+
+   /**
+    * Returns a session to the pool after a test.
+    *
+    * <p>Healthy sessions are reset and kept for the next test unless they served their maximum number of uses;
+    * other sessions are quit. Sessions marked with {@code keepDriverForSession}, such as those caching a login,
+    * leave the pool without being quit, since their owner closes them at the end of the run.
+    *
+    * @param driver  The driver returned from {@link #checkout(SessionKey, Supplier)}.
+    * @param healthy Whether the test using the session succeeded.
+    * @return {@code true} if the driver belonged to the pool, {@code false} if the caller must close it.
+    */
+   public boolean checkin(SmartWebDriver driver, boolean healthy) {
+      PooledSession session;
+      lock.lock();
+      try {
+         session = checkedOut.remove(driver);
+      } finally {
+         lock.unlock();
+      }
+      if (session == null) {
+         return false;
+      }
+      if (driver.isKeepDriverForSession()) {
+         release();
+         return true;
+      }
+
+      session.uses++;
+      if (healthy && session.uses < maxUses && reset.apply(driver) != null) {
+         lock.lock();
+         try {
+            idle.computeIfAbsent(session.key, key -> new ArrayDeque<>()).push(session);
+            released.signalAll();
+         } finally {
+            lock.unlock();
+         }
+      } else {
+         quit(driver);
+         release();
+      }
+      return true;
+   }
+
+   /**
+    * Quits every idle session. Sessions still checked out are quit once they are checked in.
+    */
+   public void shutdown() {
+      List<PooledSession> sessions = new ArrayList<>();
+      lock.lock();
+      try {
+         idle.values().forEach(sessions::addAll);
+         idle.clear();
+         open -= sessions.size();
+         released.signalAll();
+      } finally {
+         lock.unlock();
+      }
+      sessions.forEach(session -> quit(session.driver));
+   }
+
+   private SmartWebDriver create(SessionKey key, Supplier<SmartWebDriver> driverFactory) {
+      SmartWebDriver driver;
+      try {
+         driver = driverFactory.get();
+      } catch (RuntimeException e) {
+         release();
+         throw e;
+      }
+      lock.lock();
+      try {
+         checkedOut.put(driver, new PooledSession(key, driver));
+      } finally {
+         lock.unlock();
+      }
+      return driver;
+   }
+
+   private void release() {
+      lock.lock();
+      try {
+         open--;
+         released.signalAll();
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   private PooledSession pollAnyIdle() {
+      for (Deque<PooledSession> sessions : idle.values()) {
+         PooledSession session = poll(sessions);
+         if (session != null) {
+            return session;
+         }
+      }
+      return null;
+   }
+
+   private static PooledSession poll(Deque<PooledSession> sessions) {
+      return sessions == null ? null : sessions.poll();
+   }
+
+   private static void quit(SmartWebDriver driver) {
+      try {
+         driver.quit();
+      } catch (RuntimeException e) {
+         LogUi.warn("Pooled browser session could not be quit: {}", e.getMessage());
+      }
+   }
+
+   /**
+    * A browser session owned by the pool.
+    */
+   private static final class PooledSession {
+
+      private final SessionKey key;
+      private final SmartWebDriver driver;
+      private int uses;
+
+      private PooledSession(SessionKey key, SmartWebDriver driver) {
+         this.key = key;
+         this.driver = driver;
+      }
+
+   }
+
+   /**
+    * Holds the shared pool, created on first use.
+    */
+   private static final class Shared {
+
+      private static final WebDriverPool POOL = new WebDriverPool(
+            getUiConfig().driverPoolMaxSize(),
+            getUiConfig().driverPoolMaxUses(),
+            Duration.ofSeconds(getUiConfig().driverPoolCheckoutTimeout()),
+            driver -> SessionReset.reset(driver) ? driver : null);
+
+   }
+
+}
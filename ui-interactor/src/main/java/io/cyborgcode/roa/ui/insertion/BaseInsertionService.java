@@ -8,6 +8,8 @@ import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.openqa.selenium.By;
 
 /**
@@ -19,10 +21,24 @@ import org.openqa.selenium.By;
  * <p>Implementing classes must define specific behaviors for extracting field annotations,
  * determining component types, building locators, and retrieving enum values.
  *
+ * <p>The annotated and sorted fields of a data class are resolved once per insertion service class and shared
+ * by all instances, so repeated insertions of the same data class skip the reflective scan.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public abstract class BaseInsertionService<A extends Annotation> implements InsertionService {
 
+   /**
+    * Annotated and sorted fields per data class, computed on the insertion service class so the plans go away
+    * together with the service class.
+    */
+   private static final ClassValue<Map<Class<?>, List<Field>>> FIELD_PLANS = new ClassValue<>() {
+      @Override
+      protected Map<Class<?>, List<Field>> computeValue(final Class<?> serviceClass) {
+         return new ConcurrentHashMap<>();
+      }
+   };
+
    /**
     * Registry that manages different insertion services.
     */
@@ -43,8 +59,8 @@ public abstract class BaseInsertionService<A extends Annotation> implements Inse
     *
     * <p>The method:
     * <ol>
-    *   <li>Retrieves all declared fields of the given object.</li>
-    *   <li>Filters and sorts the fields based on the implementation logic.</li>
+    *   <li>Retrieves the annotated fields of the given object, sorted by their order. The result is cached per
+    *   insertion service class and data class.</li>
     *   <li>For each field:
     *     <ul>
     *       <li>Retrieves the annotation (if present).</li>
@@ -62,16 +78,14 @@ public abstract class BaseInsertionService<A extends Annotation> implements Inse
     * @throws IllegalStateException If no insertion service is found for a component type.
     * @throws RuntimeException      If field access fails.
     */
-   @SuppressWarnings("java:S3011")
    @Override
    public void insertData(final Object data) {
-      final Field[] fields = data.getClass().getDeclaredFields();
-      final List<Field> targetedFields = filterAndSortFields(fields);
+      final List<Field> targetedFields = FIELD_PLANS.get(getClass())
+            .computeIfAbsent(data.getClass(), this::planFields);
 
       for (Field field : targetedFields) {
          final A annotation = field.getAnnotation(getAnnotationClass());
 
-         field.setAccessible(true);
          try {
             final Class<? extends ComponentType> enumClass = getComponentTypeEnumClass(annotation);
             final Class<? extends ComponentType> componentTypeClass = extractComponentTypeClass(enumClass);
@@ -182,6 +196,13 @@ public abstract class BaseInsertionService<A extends Annotation> implements Inse
             .toList();
    }
 
+   @SuppressWarnings("java:S3011")
+   private List<Field> planFields(final Class<?> dataClass) {
+      final List<Field> fields = filterAndSortFields(dataClass.getDeclaredFields());
+      fields.forEach(field -> field.setAccessible(true));
+      return fields;
+   }
+
    /**
     * Resolves the specific interface that implements {@link ComponentType} from a given enum class.
     *
@@ -0,0 +1,54 @@
+package io.cyborgcode.roa.ui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for an action performed on a {@code SmartWebElement}, such as a click.
+ *
+ * <p>The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}. Waits are only timed and the element is only rendered while a
+ * recording wants the event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(ElementActionEvent.NAME)
+@Label("Element Action")
+@Category({"Ring of Automation", "UI"})
+@Description("An action performed on a smart element")
+@Enabled(false)
+@StackTrace(false)
+public final class ElementActionEvent extends SmartWaitEvent {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.ui.ElementAction";
+
+   @Label("Action")
+   private String action;
+
+   @Label("Locator")
+   @Description("The element the action was performed on")
+   private String locator;
+
+   /**
+    * Ends the event and commits it if a recording wants it.
+    *
+    * @param actionName The name of the performed action.
+    * @param element    The element the action was performed on.
+    */
+   public void finish(String actionName, Object element) {
+      end();
+      if (shouldCommit()) {
+         action = actionName;
+         locator = String.valueOf(element);
+         commit();
+      }
+   }
+
+}
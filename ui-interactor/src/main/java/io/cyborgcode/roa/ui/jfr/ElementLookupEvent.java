@@ -0,0 +1,48 @@
+package io.cyborgcode.roa.ui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a smart element lookup of {@code SmartWebDriver}.
+ *
+ * <p>The event is disabled by default and enabled by the settings profile shipped in
+ * {@code META-INF/roa/flight-recorder.jfc}. Waits are only timed and the locator is only rendered while a
+ * recording wants the event.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Name(ElementLookupEvent.NAME)
+@Label("Element Lookup")
+@Category({"Ring of Automation", "UI"})
+@Description("A smart element located through the UI interactor")
+@Enabled(false)
+@StackTrace(false)
+public final class ElementLookupEvent extends SmartWaitEvent {
+
+   /**
+    * The name of the event type.
+    */
+   public static final String NAME = "io.cyborgcode.roa.ui.ElementLookup";
+
+   @Label("Locator")
+   private String locator;
+
+   /**
+    * Ends the event and commits it if a recording wants it.
+    *
+    * @param target The locator of the element.
+    */
+   public void finish(Object target) {
+      end();
+      if (shouldCommit()) {
+         locator = String.valueOf(target);
+         commit();
+      }
+   }
+
+}
@@ -0,0 +1,57 @@
+package io.cyborgcode.roa.ui.jfr;
+
+import java.util.function.Consumer;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Timespan;
+
+/**
+ * Base of the Java Flight Recorder events of smart element operations that wait for the element and may be
+ * recovered by the exception handling of the smart driver or element.
+ *
+ * <p>The fields are not private, because Flight Recorder only records fields of event superclasses that are
+ * visible to the subclass.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public abstract class SmartWaitEvent extends Event {
+
+   @Label("Wait Time")
+   @Description("Time spent waiting for the element")
+   @Timespan(Timespan.NANOSECONDS)
+   protected long waitTime;
+
+   @Label("Recovered")
+   @Description("Whether the exception handling recovered the operation after its first attempt failed")
+   protected boolean recovered;
+
+   /**
+    * Wraps a wait so that the time spent in it is added to the wait time of this event.
+    *
+    * @param wait The wait to time.
+    * @param <T>  The type of the condition waited for.
+    * @return The timed wait, or the wait itself if no recording wants this event.
+    */
+   public <T> Consumer<T> timed(Consumer<T> wait) {
+      if (!isEnabled()) {
+         return wait;
+      }
+      return condition -> {
+         long start = System.nanoTime();
+         try {
+            wait.accept(condition);
+         } finally {
+            waitTime += System.nanoTime() - start;
+         }
+      };
+   }
+
+   /**
+    * Marks the operation as recovered by the exception handling after its first attempt failed.
+    */
+   public void recovered() {
+      recovered = true;
+   }
+
+}
@@ -12,7 +12,7 @@ import io.cyborgcode.utilities.logging.LogCore;
  */
 public final class LogUi extends LogCore {
 
-   private static LogUi instance;
+   private static volatile LogUi instance;
 
    private LogUi() {
       super("ROA.UI", "UI");
@@ -99,15 +99,23 @@ public final class LogUi extends LogCore {
    }
 
    /**
-    * Retrieves the singleton instance of {@code LogUi}.
+    * Retrieves the singleton instance of {@code LogUi}, creating it once even when
+    * called concurrently from parallel test threads.
     *
     * @return The singleton instance of {@code LogUi}.
     */
    private static LogUi getInstance() {
-      if (instance == null) {
-         instance = new LogUi();
+      LogUi current = instance;
+      if (current == null) {
+         synchronized (LogUi.class) {
+            current = instance;
+            if (current == null) {
+               current = new LogUi();
+               instance = current;
+            }
+         }
       }
-      return instance;
+      return current;
    }
 
 }
@@ -34,12 +34,17 @@ public class LocatorParser {
    /**
     * Updates the WebElement reference by parsing locators from the element string representation.
     *
+    * <p>Elements resolved through an element cache are located again from their cached locator chain instead.
+    *
     * @param driver  The WebDriver instance.
     * @param element The SmartWebElement to relocate.
     * @return A newly located SmartWebElement.
     */
    public static SmartWebElement updateWebElement(WebDriver driver, SmartWebElement element) {
       LogUi.extended("Element: '{}' is being relocated.", element.toString());
+      if (element.getElementCache() != null) {
+         return element.getElementCache().refresh(element);
+      }
       List<By> locatorsList;
       locatorsList = parseLocators(element.toString());
       if (locatorsList.isEmpty()) {
@@ -1,11 +1,16 @@
 package io.cyborgcode.roa.ui.selenium.shadowroot;
 
+import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.selenium.exceptions.UiInteractionException;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -14,19 +19,19 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
 /**
  * Utility class for interacting with Shadow DOM elements using Selenium.
  * Provides methods to locate elements within Shadow Roots, including
- * support for waiting and polling mechanisms.
+ * support for waiting until they appear.
+ *
+ * <p>Lookups go through an index of the open shadow roots that is installed once per page and kept current by a
+ * {@code MutationObserver}. Waiting is done with asynchronous scripts that settle on DOM mutations instead of
+ * polling inside the browser.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public class ShadowDomUtils {
 
-   /**
-    * Default polling interval in milliseconds if not explicitly specified.
-    */
-   private static final long DEFAULT_POLL_INTERVAL_MS = 500;
    private static final String VALUE = "value";
    private static final String MAX_WAIT = "maxWait";
-   private static final String POLL_INTERVAL = "pollInterval";
+   private static final String MANY = "many";
 
    private ShadowDomUtils() {
    }
@@ -73,114 +78,302 @@ public class ShadowDomUtils {
    }
 
    // -------------------------------------------------------------------------------------------
-   // 1) SCRIPTS FOR FINDING A SINGLE ELEMENT (with optional in-JS waiting)
+   // 1) SHADOW ROOT INDEX
    // -------------------------------------------------------------------------------------------
 
    /**
-    * JavaScript function to locate a single shadow DOM element.
-    * The script searches for elements inside shadow roots and supports
-    * different locator strategies such as id, name, class, CSS, tag name,
-    * link text, and partial link text. XPath is not supported within shadow DOMs.
+    * JavaScript installing the shadow root index of the current page as {@code window.__roaShadowIndex}.
+    *
+    * <p>The index is installed once per document. It walks the page a single time to collect the open shadow
+    * roots and then keeps the collection current with a {@code MutationObserver} watching only the added and
+    * removed nodes of the document and of every indexed root. Roots whose host left the page are dropped. Elements
+    * that receive a shadow root after they were attached (for example custom elements upgraded in place) cause no
+    * such mutation, so a lookup that finds nothing walks the page again before reporting the miss.
+    *
+    * <p>Lookups query the document and the indexed roots instead of traversing every element. Waiting lookups
+    * return a promise that settles on the first mutation producing a match or when {@code maxWait} elapses, so
+    * nothing spins inside the browser. Attribute and text changes, which can make a locator match, and shadow roots
+    * attached through {@code attachShadow} are only observed while a lookup is waiting; the page pays nothing for
+    * them otherwise. Supports id, name, class, CSS, tag name, link text and partial link text
+    * locators. XPath is not supported within shadow DOMs.
     */
-   private static final String FIND_SHADOW_ELEMENT_JS = """
-         function findShadowElement(params) {
-           const type = params.type;
-           const value = params.value;
-           const maxWait = params.maxWait || 10000;
-           const pollInterval = params.pollInterval || 500;
-         
-           function findInRoot(root, type, value) {
-             switch (type) {
-               case 'id':
-                 return root.querySelector('#' + value);
-               case 'name':
-                 return root.querySelector('[name="' + value + '"]');
-               case 'className':
-                 var classes = value.trim().split(/\\s+/).join('.');
-                 return root.querySelector('.' + classes);
-               case 'css':
-                 return root.querySelector(value);
-               case 'tagName':
-                 return root.querySelector(value);
-               case 'xpath':
-                 return document.evaluate(
-                   value,
-                   root,
-                   null,
-                   XPathResult.FIRST_ORDERED_NODE_TYPE,
-                   null
-                 ).singleNodeValue;
-               case 'linkText':
-                 var anchors = root.querySelectorAll('a');
-                 for (var i = 0; i < anchors.length; i++) {
-                   if (anchors[i].textContent === value) {
-                     return anchors[i];
+   private static final String SHADOW_INDEX_JS = """
+         if (!window.__roaShadowIndex) {
+           window.__roaShadowIndex = (function () {
+             const roots = new Set();
+             const waiters = new Set();
+             const structure = { childList: true, subtree: true };
+             const content = { attributes: true, characterData: true, subtree: true };
+             const attachShadow = Element.prototype.attachShadow;
+
+             const observer = new MutationObserver(function (records) {
+               let removed = false;
+               records.forEach(function (record) {
+                 record.addedNodes.forEach(function (node) {
+                   if (node.nodeType === Node.ELEMENT_NODE) {
+                     index(node);
                    }
+                 });
+                 removed = removed || record.removedNodes.length > 0;
+               });
+               if (removed) {
+                 prune();
+               }
+               notify();
+             });
+
+             const contentObserver = new MutationObserver(function () {
+               notify();
+             });
+
+             function register(root) {
+               if (!roots.has(root)) {
+                 roots.add(root);
+                 observer.observe(root, structure);
+                 if (waiters.size > 0) {
+                   contentObserver.observe(root, content);
+                 }
+                 index(root);
+               }
+             }
+
+             function index(node) {
+               if (node.shadowRoot) {
+                 register(node.shadowRoot);
+               }
+               const walker = document.createTreeWalker(node, NodeFilter.SHOW_ELEMENT);
+               for (let element = walker.nextNode(); element; element = walker.nextNode()) {
+                 if (element.shadowRoot) {
+                   register(element.shadowRoot);
+                 }
+               }
+             }
+
+             function prune() {
+               roots.forEach(function (root) {
+                 if (!root.host.isConnected) {
+                   roots.delete(root);
                  }
-                 return null;
-               case 'partialLinkText':
-                 var anchors2 = root.querySelectorAll('a');
-                 for (var j = 0; j < anchors2.length; j++) {
-                   if (anchors2[j].textContent.includes(value)) {
-                     return anchors2[j];
+               });
+             }
+
+             function notify() {
+               waiters.forEach(function (waiter) {
+                 waiter();
+               });
+             }
+
+             function watchedAttachShadow() {
+               const root = attachShadow.apply(this, arguments);
+               if (root.mode === 'open') {
+                 queueMicrotask(function () {
+                   if (root.host.isConnected) {
+                     register(root);
+                     notify();
                    }
+                 });
+               }
+               return root;
+             }
+
+             function addWaiter(waiter) {
+               if (waiters.size === 0) {
+                 contentObserver.observe(document, content);
+                 roots.forEach(function (root) {
+                   contentObserver.observe(root, content);
+                 });
+                 Element.prototype.attachShadow = watchedAttachShadow;
+               }
+               waiters.add(waiter);
+             }
+
+             function removeWaiter(waiter) {
+               if (waiters.delete(waiter) && waiters.size === 0) {
+                 contentObserver.disconnect();
+                 if (Element.prototype.attachShadow === watchedAttachShadow) {
+                   Element.prototype.attachShadow = attachShadow;
+                 }
+               }
+             }
+
+             function rescan() {
+               const known = roots.size;
+               index(document.documentElement);
+               Array.from(roots).forEach(function (root) {
+                 index(root);
+               });
+               return roots.size > known;
+             }
+
+             function within(rootElem, host) {
+               for (let node = host; node; node = node.getRootNode().host) {
+                 if (rootElem.contains(node)) {
+                   return true;
+                 }
+               }
+               return false;
+             }
+
+             function scopes(rootElem) {
+               const result = rootElem ? [rootElem.shadowRoot, rootElem].filter(Boolean) : [document];
+               roots.forEach(function (root) {
+                 if (root.host.isConnected && root !== result[0] && (!rootElem || within(rootElem, root.host))) {
+                   result.push(root);
+                 }
+               });
+               return result;
+             }
+
+             function anchors(scope, params) {
+               return Array.from(scope.querySelectorAll('a')).filter(function (anchor) {
+                 return params.type === 'linkText'
+                   ? anchor.textContent === params.value
+                   : anchor.textContent.includes(params.value);
+               });
+             }
+
+             function query(scope, params) {
+               let selector;
+               switch (params.type) {
+                 case 'id':
+                   selector = '#' + CSS.escape(params.value);
+                   break;
+                 case 'name':
+                   selector = '[name="' + params.value + '"]';
+                   break;
+                 case 'className':
+                   selector = '.' + params.value.trim().split(/\\s+/).join('.');
+                   break;
+                 case 'css':
+                 case 'tagName':
+                   selector = params.value;
+                   break;
+                 case 'linkText':
+                 case 'partialLinkText': {
+                   const found = anchors(scope, params);
+                   return params.many ? found : (found[0] || null);
                  }
-                 return null;
-               default:
-                 return null;
+                 default:
+                   return params.many ? [] : null;
+               }
+               return params.many ? Array.from(scope.querySelectorAll(selector)) : scope.querySelector(selector);
              }
-           }
-         
-           function searchShadow(rootNodes, type, value) {
-             for (var i = 0; i < rootNodes.length; i++) {
-               var node = rootNodes[i];
-               if (node && node.shadowRoot) {
-                 var found = findInRoot(node.shadowRoot, type, value);
-                 if (found) {
-                   return found;
+
+             function search(rootElem, params) {
+               const found = [];
+               for (const scope of scopes(rootElem)) {
+                 const result = query(scope, params);
+                 if (!params.many && result) {
+                   return result;
                  }
-                 // Recurse deeper
-                 var deeper = searchShadow(node.shadowRoot.querySelectorAll('*'), type, value);
-                 if (deeper) {
-                   return deeper;
+                 if (params.many) {
+                   found.push(...result);
                  }
                }
+               return params.many ? found : null;
+             }
+
+             function matched(result, params) {
+               return params.many ? result.length > 0 : result !== null;
              }
-             return null;
-           }
-         
-           const startTime = performance.now();
-           while ((performance.now() - startTime) < maxWait) {
-             // 1) Try main document
-             var direct = findInRoot(document, type, value);
-             if (direct) {
-               return direct;
+
+             function find(rootElem, params) {
+               return new Promise(function (resolve) {
+                 let first = search(rootElem, params);
+                 if (!matched(first, params) && rescan()) {
+                   first = search(rootElem, params);
+                 }
+                 if (matched(first, params) || !(params.maxWait > 0)) {
+                   resolve(first);
+                   return;
+                 }
+                 let timer;
+                 const waiter = function () {
+                   const result = search(rootElem, params);
+                   if (matched(result, params)) {
+                     settle(result);
+                   }
+                 };
+                 const settle = function (result) {
+                   removeWaiter(waiter);
+                   clearTimeout(timer);
+                   resolve(result);
+                 };
+                 addWaiter(waiter);
+                 timer = setTimeout(function () {
+                   settle(search(rootElem, params));
+                 }, params.maxWait);
+               });
              }
-             // 2) Search shadow
-             var all = document.querySelectorAll('*');
-             var shadowFound = searchShadow(all, type, value);
-             if (shadowFound) {
-               return shadowFound;
+
+             function indexed(rootElem) {
+               if (!rootElem) {
+                 return roots.size > 0;
+               }
+               if (rootElem.shadowRoot) {
+                 return true;
+               }
+               for (const root of roots) {
+                 if (within(rootElem, root.host)) {
+                   return true;
+                 }
+               }
+               return false;
              }
-             // 3) Wait/poll
-             var now = performance.now();
-             while (performance.now() - now < pollInterval) {
-               // busy wait - will block the page
+
+             function hasShadowRoots(rootElem) {
+               prune();
+               return indexed(rootElem) || (rescan() && indexed(rootElem));
              }
-           }
-           return null; // not found
+
+             observer.observe(document, structure);
+             index(document.documentElement);
+             return { find: find, hasShadowRoots: hasShadowRoots };
+           })();
          }
-         return findShadowElement(arguments[0]);
          """;
 
+   /**
+    * Asynchronous script resolving a locator across the document and all indexed shadow roots.
+    */
+   private static final String FIND_SHADOW_JS = SHADOW_INDEX_JS + """
+         window.__roaShadowIndex.find(null, arguments[0]).then(arguments[arguments.length - 1]);
+         """;
+
+   /**
+    * Asynchronous script resolving a locator inside a root element, its shadow root and the shadow roots nested
+    * below it.
+    */
+   private static final String FIND_SHADOW_FROM_ELEMENT_JS = SHADOW_INDEX_JS + """
+         window.__roaShadowIndex.find(arguments[0], arguments[1]).then(arguments[arguments.length - 1]);
+         """;
+
+   /**
+    * Script answering from the index whether the document contains open shadow roots.
+    */
+   private static final String SHADOW_ROOTS_PRESENT_JS = SHADOW_INDEX_JS + """
+         return window.__roaShadowIndex.hasShadowRoots(null);
+         """;
+
+   /**
+    * Script answering from the index whether a root element has or contains open shadow roots.
+    */
+   private static final String SHADOW_ROOTS_PRESENT_FROM_ELEMENT_JS = SHADOW_INDEX_JS + """
+         return window.__roaShadowIndex.hasShadowRoots(arguments[0]);
+         """;
+
+   // -------------------------------------------------------------------------------------------
+   // 2) FINDING A SINGLE ELEMENT
+   // -------------------------------------------------------------------------------------------
 
    /**
     * Finds the first matching element across the entire document, including nested shadow roots.
-    * Waits up to the default timeout duration, polling at defined intervals.
+    * Waits up to the default timeout duration for the element to appear.
     *
     * @param driver The {@link SmartWebDriver} instance.
     * @param by     The {@link By} locator to use.
-    * @return The found {@link SmartWebElement}, or null if not found.
+    * @return The found {@link SmartWebElement}.
+    * @throws UiInteractionException if no element is found within the time limit.
     */
    public static SmartWebElement findElementInShadowRoots(SmartWebDriver driver, By by) {
       long wait = getUiConfig().waitDuration()
@@ -194,31 +387,28 @@ public class ShadowDomUtils {
     * @param driver       The {@link SmartWebDriver} instance.
     * @param by           The {@link By} locator.
     * @param waitInMillis Maximum wait time in milliseconds.
-    * @return The found {@link SmartWebElement}, or null if not found.
+    * @return The found {@link SmartWebElement}.
+    * @throws UiInteractionException if no element is found within the time limit.
     */
    public static SmartWebElement findElementInShadowRoots(SmartWebDriver driver, By by, long waitInMillis) {
       JavascriptExecutor js = (JavascriptExecutor) driver.getOriginal();
-      Map<String, Object> selector = parseBy(by);
 
-      selector = new java.util.HashMap<>(selector);
-      selector.put(MAX_WAIT, waitInMillis);
-      selector.put(POLL_INTERVAL, DEFAULT_POLL_INTERVAL_MS);
-
-      WebElement element = (WebElement) js.executeScript(FIND_SHADOW_ELEMENT_JS, selector);
-      if (element == null) {
+      Object element = executeAsync(js, FIND_SHADOW_JS, selector(by, waitInMillis, false));
+      if (!(element instanceof WebElement webElement)) {
          throw new UiInteractionException("Finding element in shadow root via java script failed");
       }
 
-      return new SmartWebElement(element, driver.getOriginal());
+      return new SmartWebElement(webElement, driver.getOriginal());
    }
 
    /**
     * Finds the first matching element in nested Shadow DOMs, starting from a given root element.
-    * Waits up to the configured maximum wait time, polling every {@code DEFAULT_POLL_INTERVAL_MS}.
+    * Waits up to the configured maximum wait time for the element to appear.
     *
     * @param root The root {@link SmartWebElement} to start the search from.
     * @param by   The {@link By} locator to use for finding the element.
-    * @return The found {@link SmartWebElement}, or {@code null} if no element is found within the time limit.
+    * @return The found {@link SmartWebElement}, or {@code null} if the root is {@code null}.
+    * @throws UiInteractionException if no element is found within the time limit.
     */
    public static SmartWebElement findElementInShadowRoots(SmartWebElement root, By by) {
       if (root == null) {
@@ -227,386 +417,72 @@ public class ShadowDomUtils {
       WebDriver driver = root.getDriver();
       JavascriptExecutor js = (JavascriptExecutor) driver;
 
-      Map<String, Object> selector = parseBy(by);
-      selector = new java.util.HashMap<>(selector);
       long wait = getUiConfig().waitDuration() * 1000L;
-      selector.put(MAX_WAIT, wait);
-      selector.put(POLL_INTERVAL, DEFAULT_POLL_INTERVAL_MS);
-
-      WebElement element = (WebElement) js.executeScript(FIND_SHADOW_ELEMENT_FROM_ELEMENT_JS, root.getOriginal(),
-            selector);
-      if (element == null) {
+      Object element = executeAsync(js, FIND_SHADOW_FROM_ELEMENT_JS, root.getOriginal(), selector(by, wait, false));
+      if (!(element instanceof WebElement webElement)) {
          throw new UiInteractionException("Finding element in shadow root via java script failed");
       }
 
-      return new SmartWebElement(element, driver);
+      return new SmartWebElement(webElement, driver);
    }
 
-   /**
-    * JavaScript function to locate a single shadow DOM element.
-    * The script searches for elements inside shadow roots and supports
-    * different locator strategies such as id, name, class, CSS, tag name,
-    * link text, and partial link text. XPath is not supported within shadow DOMs.
-    */
-   private static final String FIND_SHADOW_ELEMENT_FROM_ELEMENT_JS = """
-         function findShadowElementFromRoot(rootElem, params) {
-           const type = params.type;
-           const value = params.value;
-           const maxWait = params.maxWait || 10000;
-           const pollInterval = params.pollInterval || 500;
-         
-           function findInRoot(root, type, value) {
-             // same approach as above
-             switch (type) {
-               case 'id':
-                 return root.querySelector('#' + value);
-               case 'name':
-                 return root.querySelector('[name="' + value + '"]');
-               case 'className':
-                 var classes = value.trim().split(/\\s+/).join('.');
-                 return root.querySelector('.' + classes);
-               case 'css':
-                 return root.querySelector(value);
-               case 'tagName':
-                 return root.querySelector(value);
-               case 'xpath':
-                 return document.evaluate(value, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
-               case 'linkText':
-                 var anchors = root.querySelectorAll('a');
-                 for (var i = 0; i < anchors.length; i++) {
-                   if (anchors[i].textContent === value) {
-                     return anchors[i];
-                   }
-                 }
-                 return null;
-               case 'partialLinkText':
-                 var anchors2 = root.querySelectorAll('a');
-                 for (var j = 0; j < anchors2.length; j++) {
-                   if (anchors2[j].textContent.includes(value)) {
-                     return anchors2[j];
-                   }
-                 }
-                 return null;
-               default:
-                 return null;
-             }
-           }
-         
-           function searchShadow(rootNodes, type, value) {
-             for (var i = 0; i < rootNodes.length; i++) {
-               var node = rootNodes[i];
-               if (node && node.shadowRoot) {
-                 var found = findInRoot(node.shadowRoot, type, value);
-                 if (found) {
-                   return found;
-                 }
-                 var deeper = searchShadow(node.shadowRoot.querySelectorAll('*'), type, value);
-                 if (deeper) {
-                   return deeper;
-                 }
-               }
-             }
-             return null;
-           }
-         
-           const startTime = performance.now();
-           while ((performance.now() - startTime) < maxWait) {
-             // 1) if rootElem itself has a shadowRoot
-             if (rootElem.shadowRoot) {
-               var shadowDirect = findInRoot(rootElem.shadowRoot, type, value);
-               if (shadowDirect) {
-                 return shadowDirect;
-               }
-               var shadowDeep = searchShadow(rootElem.shadowRoot.querySelectorAll('*'), type, value);
-               if (shadowDeep) {
-                 return shadowDeep;
-               }
-             }
-         
-             // 2) check rootElem itself as a normal DOM container
-             var direct = findInRoot(rootElem, type, value);
-             if (direct) {
-               return direct;
-             }
-         
-             // 3) check children shadow roots
-             var children = rootElem.querySelectorAll('*');
-             var deeper = searchShadow(children, type, value);
-             if (deeper) {
-               return deeper;
-             }
-         
-             // 4) poll
-             var now = performance.now();
-             while (performance.now() - now < pollInterval) {
-               // busy wait
-             }
-           }
-           return null;
-         }
-         return findShadowElementFromRoot(arguments[0], arguments[1]);
-         """;
-
    // -------------------------------------------------------------------------------------------
-   // 2) SCRIPTS FOR FINDING MULTIPLE ELEMENTS + WAIT
+   // 3) FINDING MULTIPLE ELEMENTS
    // -------------------------------------------------------------------------------------------
 
-   /**
-    * JavaScript function to find all matching elements within Shadow DOMs.
-    * The script recursively searches the main document and any shadow roots
-    * for elements that match the given selector. The results are collected
-    * and returned as an array of matching elements.
-    */
-   private static final String FIND_SHADOW_ELEMENTS_JS = """
-         function findShadowElements(params) {
-           const type = params.type;
-           const value = params.value;
-           const maxWait = params.maxWait || 10000;
-           const pollInterval = params.pollInterval || 500;
-         
-           // We'll collect all matches in an array.
-           function collectInRoot(root, type, value) {
-             let nodeList = [];
-             switch (type) {
-               case 'id':
-                 let elById = root.querySelector('#' + value);
-                 if (elById) nodeList.push(elById);
-                 break;
-               case 'name':
-                 nodeList = root.querySelectorAll('[name="' + value + '"]');
-                 break;
-               case 'className':
-                 var classes = value.trim().split(/\\s+/).join('.');
-                 nodeList = root.querySelectorAll('.' + classes);
-                 break;
-               case 'css':
-                 nodeList = root.querySelectorAll(value);
-                 break;
-               case 'tagName':
-                 nodeList = root.querySelectorAll(value);
-                 break;
-               case 'xpath':
-                 let xresult = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
-                 for (let i = 0; i < xresult.snapshotLength; i++) {
-                   nodeList.push(xresult.snapshotItem(i));
-                 }
-                 break;
-               case 'linkText':
-                 let allAnchors = root.querySelectorAll('a');
-                 allAnchors.forEach(a => {
-                   if (a.textContent === value) nodeList.push(a);
-                 });
-                 break;
-               case 'partialLinkText':
-                 let anchors2 = root.querySelectorAll('a');
-                 anchors2.forEach(a => {
-                   if (a.textContent.includes(value)) nodeList.push(a);
-                 });
-                 break;
-             }
-             return Array.from(nodeList);
-           }
-         
-           function collectShadow(rootNodes, type, value, results) {
-             for (var i = 0; i < rootNodes.length; i++) {
-               var node = rootNodes[i];
-               if (node && node.shadowRoot) {
-                 // collect in this shadow root
-                 results.push(...collectInRoot(node.shadowRoot, type, value));
-                 // go deeper
-                 collectShadow(node.shadowRoot.querySelectorAll('*'), type, value, results);
-               }
-             }
-           }
-         
-           function doSearch() {
-             let found = [];
-             // 1) main document
-             found.push(...collectInRoot(document, type, value));
-             // 2) shadow
-             let all = document.querySelectorAll('*');
-             collectShadow(all, type, value, found);
-             return found;
-           }
-         
-           const startTime = performance.now();
-           while ((performance.now() - startTime) < maxWait) {
-             let result = doSearch();
-             if (result.length > 0) {
-               return result; // return array of elements
-             }
-             // poll
-             var now = performance.now();
-             while (performance.now() - now < pollInterval) {
-               // busy wait
-             }
-           }
-           return [];
-         }
-         return findShadowElements(arguments[0]);
-         """;
-
    /**
     * Finds all matching elements across the document and nested shadow roots.
-    * Waits up to the configured maximum wait time, polling every {@code DEFAULT_POLL_INTERVAL_MS}.
+    * Waits up to the configured maximum wait time for at least one element to appear.
     *
     * @param driver The {@link SmartWebDriver} instance.
     * @param by     The {@link By} locator to use for finding the elements.
     * @return A list of {@link SmartWebElement} containing all matching elements, or an empty list if no elements
     *       are found.
     */
-   public static java.util.List<SmartWebElement> findElementsInShadowRoots(SmartWebDriver driver, By by) {
+   public static List<SmartWebElement> findElementsInShadowRoots(SmartWebDriver driver, By by) {
       JavascriptExecutor js = (JavascriptExecutor) driver.getOriginal();
 
-      Map<String, Object> selector = parseBy(by);
-      selector = new java.util.HashMap<>(selector);
       long wait = getUiConfig().waitDuration() * 1000L;
-      selector.put(MAX_WAIT, wait);
-      selector.put(POLL_INTERVAL, DEFAULT_POLL_INTERVAL_MS);
-
-      Object result = js.executeScript(FIND_SHADOW_ELEMENTS_JS, selector);
-      // The returned object should be a List<RemoteWebElement> if found
-      if (result instanceof java.util.List) {
-         return ((java.util.List<WebElement>) result).stream()
-               .map(webElement -> new SmartWebElement(webElement, driver.getOriginal())).toList();
-      }
-      // otherwise return empty
-      return java.util.Collections.emptyList();
+      Object result = executeAsync(js, FIND_SHADOW_JS, selector(by, wait, true));
+      return toSmartWebElements(result, driver.getOriginal());
    }
 
    /**
     * Finds all matching elements within a given Shadow DOM root.
-    * Waits up to the configured maximum wait time, polling every {@code DEFAULT_POLL_INTERVAL_MS}.
+    * Waits up to the configured maximum wait time for at least one element to appear.
     *
     * @param root The root {@link SmartWebElement} to start the search from.
     * @param by   The {@link By} locator to use for finding the elements.
     * @return A list of {@link SmartWebElement} containing all matching elements, or an empty list if no elements
     *       are found.
     */
-   public static java.util.List<SmartWebElement> findElementsInShadowRoots(SmartWebElement root, By by) {
+   public static List<SmartWebElement> findElementsInShadowRoots(SmartWebElement root, By by) {
       if (root == null) {
-         return java.util.Collections.emptyList();
+         return Collections.emptyList();
       }
       WebDriver driver = root.getDriver();
       JavascriptExecutor js = (JavascriptExecutor) driver;
 
-      Map<String, Object> selector = parseBy(by);
-      selector = new java.util.HashMap<>(selector);
       long wait = getUiConfig().waitDuration() * 1000L;
-      selector.put(MAX_WAIT, wait);
-      selector.put(POLL_INTERVAL, DEFAULT_POLL_INTERVAL_MS);
-
-      Object result = js.executeScript(FIND_SHADOW_ELEMENTS_FROM_ELEMENT_JS, root.getOriginal(), selector);
-      if (result instanceof java.util.List) {
-         return ((java.util.List<WebElement>) result).stream()
-               .map(webElement -> new SmartWebElement(webElement, driver)).toList();
-      }
-      return java.util.Collections.emptyList();
+      Object result = executeAsync(js, FIND_SHADOW_FROM_ELEMENT_JS, root.getOriginal(), selector(by, wait, true));
+      return toSmartWebElements(result, driver);
    }
 
-   /**
-    * JavaScript function to find all matching elements starting from a given root element.
-    * The script searches within the specified root element and its shadow DOM,
-    * collecting all elements that match the given selector.
-    *
-    * <p>Supports standard Selenium locator types including ID, name, class, CSS selector,
-    * tag name, link text, and partial link text. XPath is not supported.
-    */
-   private static final String FIND_SHADOW_ELEMENTS_FROM_ELEMENT_JS = """
-         function findShadowElementsFromRoot(rootElem, params) {
-           const type = params.type;
-           const value = params.value;
-           const maxWait = params.maxWait || 10000;
-           const pollInterval = params.pollInterval || 500;
-         
-           function collectInRoot(root, type, value) {
-             let nodeList = [];
-             switch (type) {
-               case 'id':
-                 let elById = root.querySelector('#' + value);
-                 if (elById) nodeList.push(elById);
-                 break;
-               case 'name':
-                 nodeList = root.querySelectorAll('[name="' + value + '"]');
-                 break;
-               case 'className':
-                 var classes = value.trim().split(/\\s+/).join('.');
-                 nodeList = root.querySelectorAll('.' + classes);
-                 break;
-               case 'css':
-                 nodeList = root.querySelectorAll(value);
-                 break;
-               case 'tagName':
-                 nodeList = root.querySelectorAll(value);
-                 break;
-               case 'xpath':
-                 let xres = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
-                 for (let i = 0; i < xres.snapshotLength; i++) {
-                   nodeList.push(xres.snapshotItem(i));
-                 }
-                 break;
-               case 'linkText':
-                 let allAnchors = root.querySelectorAll('a');
-                 allAnchors.forEach(a => { if (a.textContent === value) nodeList.push(a); });
-                 break;
-               case 'partialLinkText':
-                 let anchors2 = root.querySelectorAll('a');
-                 anchors2.forEach(a => { if (a.textContent.includes(value)) nodeList.push(a); });
-                 break;
-             }
-             return Array.from(nodeList);
-           }
-         
-           function collectShadow(rootNodes, type, value, results) {
-             for (var i = 0; i < rootNodes.length; i++) {
-               var node = rootNodes[i];
-               if (node && node.shadowRoot) {
-                 results.push(...collectInRoot(node.shadowRoot, type, value));
-                 collectShadow(node.shadowRoot.querySelectorAll('*'), type, value, results);
-               }
-             }
-           }
-         
-           function doSearch() {
-             let found = [];
-             // Check rootElem's shadow root
-             if (rootElem.shadowRoot) {
-               found.push(...collectInRoot(rootElem.shadowRoot, type, value));
-               collectShadow(rootElem.shadowRoot.querySelectorAll('*'), type, value, found);
-             }
-             // Also treat rootElem as a normal DOM container
-             found.push(...collectInRoot(rootElem, type, value));
-             collectShadow(rootElem.querySelectorAll('*'), type, value, found);
-             return found;
-           }
-         
-           const startTime = performance.now();
-           while ((performance.now() - startTime) < maxWait) {
-             let result = doSearch();
-             if (result.length > 0) {
-               return result;
-             }
-             var now = performance.now();
-             while (performance.now() - now < pollInterval) {
-               // busy wait
-             }
-           }
-           return [];
-         }
-         return findShadowElementsFromRoot(arguments[0], arguments[1]);
-         """;
+   // -------------------------------------------------------------------------------------------
+   // 4) SHADOW ROOT PRESENCE
+   // -------------------------------------------------------------------------------------------
 
    /**
     * Checks whether there are elements with Shadow DOM in the current document.
     *
+    * <p>The answer comes from the shadow root index, so repeated checks do not traverse the page again.
+    *
     * @param driver The {@link SmartWebDriver} instance.
     * @return True if Shadow DOM elements are present, otherwise false.
     */
    public static boolean shadowRootElementsPresent(SmartWebDriver driver) {
       JavascriptExecutor js = (JavascriptExecutor) driver.getOriginal();
-      String script =
-            "return Array.from(document.querySelectorAll('*')).some(el => el.shadowRoot);";
-      Object rawResult = js.executeScript(script);
+      Object rawResult = js.executeScript(SHADOW_ROOTS_PRESENT_JS);
 
       if (rawResult instanceof Boolean result) {
          return result;
@@ -619,6 +495,8 @@ public class ShadowDomUtils {
    /**
     * Checks if there is at least one element that has a Shadow Root starting from a given WebElement.
     *
+    * <p>The answer comes from the shadow root index, so repeated checks do not traverse the page again.
+    *
     * @param root The root {@link SmartWebElement} to check.
     * @return True if the root element or any descendant has a Shadow Root, otherwise false.
     */
@@ -630,15 +508,7 @@ public class ShadowDomUtils {
       WebDriver driver = root.getDriver();
       JavascriptExecutor js = (JavascriptExecutor) driver;
 
-      // Check if the root itself has a shadowRoot or any of its descendants
-      String script =
-            "if (arguments[0].shadowRoot) { "
-                  + "  return true; "
-                  + "} else { "
-                  + "  return Array.from(arguments[0].querySelectorAll('*')).some(el => el.shadowRoot);"
-                  + "}";
-
-      Object rawResult = js.executeScript(script, root.getOriginal());
+      Object rawResult = js.executeScript(SHADOW_ROOTS_PRESENT_FROM_ELEMENT_JS, root.getOriginal());
 
       if (rawResult instanceof Boolean result) {
          return result;
@@ -647,4 +517,50 @@ public class ShadowDomUtils {
       return false;
    }
 
-}
\ No newline at end of file
+   /**
+    * Builds the script parameters for a lookup.
+    *
+    * @param by           The {@link By} locator.
+    * @param waitInMillis Maximum wait time in milliseconds.
+    * @param many         Whether all matching elements are collected instead of the first one.
+    * @return The locator type and value together with the wait and the result mode.
+    */
+   private static Map<String, Object> selector(By by, long waitInMillis, boolean many) {
+      Map<String, Object> selector = new HashMap<>(parseBy(by));
+      selector.put(MAX_WAIT, waitInMillis);
+      selector.put(MANY, many);
+      return selector;
+   }
+
+   /**
+    * Runs an asynchronous lookup script.
+    *
+    * <p>A lookup that outlives the driver's script timeout is treated as not found, the same as a lookup that
+    * timed out inside the page.
+    *
+    * @param js     The {@link JavascriptExecutor} to run the script with.
+    * @param script The asynchronous script.
+    * @param args   The script arguments.
+    * @return The script result, or {@code null} if the script timed out.
+    */
+   private static Object executeAsync(JavascriptExecutor js, String script, Object... args) {
+      try {
+         return js.executeAsyncScript(script, args);
+      } catch (ScriptTimeoutException e) {
+         LogUi.debug("Shadow root lookup exceeded the script timeout of the driver.");
+         return null;
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static List<SmartWebElement> toSmartWebElements(Object result, WebDriver driver) {
+      // The returned object should be a List<RemoteWebElement> if found
+      if (result instanceof List) {
+         return ((List<WebElement>) result).stream()
+               .map(webElement -> new SmartWebElement(webElement, driver)).toList();
+      }
+      // otherwise return empty
+      return Collections.emptyList();
+   }
+
+}
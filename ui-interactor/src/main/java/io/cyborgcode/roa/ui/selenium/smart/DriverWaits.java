@@ -0,0 +1,53 @@
+package io.cyborgcode.roa.ui.selenium.smart;
+
+import io.cyborgcode.roa.ui.selenium.decorators.WebDriverDecorator;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
+
+/**
+ * Default {@link WebDriverWait}s shared by every {@link SmartWebDriver} and {@link SmartWebElement} of a driver.
+ *
+ * <p>A wait only holds its driver and timeout, so one wait per driver is enough for all of its elements, and
+ * decorated drivers share the wait of the driver they wrap. Waits are created on first use with the configured
+ * {@code wait.duration.in.seconds} and created again if that duration changes. Drivers are held weakly and waits
+ * are only kept alive by the decorators using them, so the registry does not keep a closed session reachable.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class DriverWaits {
+
+   private static final Map<WebDriver, SharedWait> WAITS = new WeakHashMap<>();
+
+   private DriverWaits() {
+   }
+
+   /**
+    * Returns the default wait of a driver, creating it if needed.
+    *
+    * @param driver The driver to wait on.
+    * @return The wait shared by everything using this driver.
+    */
+   static WebDriverWait forDriver(WebDriver driver) {
+      WebDriver target = driver instanceof WebDriverDecorator decorator ? decorator.getOriginal() : driver;
+      int seconds = getUiConfig().waitDuration();
+      synchronized (WAITS) {
+         SharedWait shared = WAITS.get(target);
+         WebDriverWait wait = shared != null && shared.seconds() == seconds ? shared.wait().get() : null;
+         if (wait == null) {
+            wait = new WebDriverWait(target, Duration.ofSeconds(seconds));
+            WAITS.put(target, new SharedWait(seconds, new WeakReference<>(wait)));
+         }
+         return wait;
+      }
+   }
+
+   private record SharedWait(int seconds, WeakReference<WebDriverWait> wait) {
+   }
+
+}
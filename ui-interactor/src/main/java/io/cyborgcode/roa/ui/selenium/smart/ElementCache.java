@@ -0,0 +1,177 @@
+package io.cyborgcode.roa.ui.selenium.smart;
+
+import io.cyborgcode.roa.ui.log.LogUi;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.openqa.selenium.By;
+
+/**
+ * Per-page cache of the elements resolved by a {@link SmartWebDriver}.
+ *
+ * <p>Entries are keyed by their {@link LocatorChain}: the locator of the element together with the chain of the
+ * cached element it was searched from, so {@code driver.findSmartElement(form).findSmartElement(submit)} is
+ * cached as {@code form -> submit}. A cache hit returns the element without presence waits or shadow root
+ * fallbacks.
+ *
+ * <p>The cache belongs to one page. It is cleared when the driver navigates, and a lookup missing the cache
+ * clears it as well when the URL of the browser differs from the URL the entries were resolved on. A cache hit
+ * sends no command to the browser. A cached element that went stale, for example after a click loaded another
+ * page, is detected by the stale element handling of {@link SmartWebElement} actions, which calls
+ * {@link #refresh(SmartWebElement)} to resolve the same chain again.
+ *
+ * <p>The cache is used only when {@code element.cache.enabled} is set.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ElementCache {
+
+   private final SmartWebDriver driver;
+   private final Map<LocatorChain, SmartWebElement> elements = new ConcurrentHashMap<>();
+   private final AtomicLong hits = new AtomicLong();
+   private final AtomicLong misses = new AtomicLong();
+   private final AtomicLong stale = new AtomicLong();
+   private final AtomicLong invalidations = new AtomicLong();
+   private volatile String pageUrl;
+
+   ElementCache(SmartWebDriver driver) {
+      this.driver = driver;
+   }
+
+   /**
+    * Returns the cached element for a locator, or resolves and caches it.
+    *
+    * @param parent The cached element the locator is searched from, or {@code null} for a search from the page.
+    * @param by     The locator.
+    * @param lookup Resolves the element when it is not cached.
+    * @return The cached or freshly resolved element.
+    */
+   SmartWebElement find(SmartWebElement parent, By by, Supplier<SmartWebElement> lookup) {
+      LocatorChain chain = new LocatorChain(parent == null ? null : parent.getLocatorChain(), by);
+      SmartWebElement cached = elements.get(chain);
+      if (cached != null) {
+         hits.incrementAndGet();
+         return cached;
+      }
+
+      checkPage();
+      misses.incrementAndGet();
+      SmartWebElement found = lookup.get();
+      if (found != null) {
+         found.cacheAs(this, chain);
+         elements.put(chain, found);
+      }
+      return found;
+   }
+
+   /**
+    * Resolves a stale cached element again from its locator chain.
+    *
+    * <p>The stale entry and every entry searched from it are dropped before the chain is resolved again, so
+    * later lookups return the fresh element. If the chain was already resolved again, the fresh element is
+    * returned as it is.
+    *
+    * @param staleElement The cached element that is no longer attached to the page.
+    * @return The element located by the same chain.
+    */
+   public SmartWebElement refresh(SmartWebElement staleElement) {
+      LocatorChain chain = staleElement.getLocatorChain();
+      stale.incrementAndGet();
+      SmartWebElement current = elements.get(chain);
+      if (current != null && current != staleElement) {
+         return current;
+      }
+      elements.keySet().removeIf(key -> key.startsWith(chain));
+      LogUi.extended("Cached element '{}' went stale and is resolved again.", chain);
+      return resolve(chain);
+   }
+
+   /**
+    * Drops every cached element.
+    */
+   public void invalidate() {
+      if (!elements.isEmpty()) {
+         invalidations.incrementAndGet();
+      }
+      elements.clear();
+      pageUrl = null;
+   }
+
+   /**
+    * Returns the hit, miss and stale counts of this cache.
+    *
+    * @return A snapshot of the cache statistics.
+    */
+   public Stats getStats() {
+      return new Stats(hits.get(), misses.get(), stale.get(), invalidations.get(), elements.size());
+   }
+
+   private SmartWebElement resolve(LocatorChain chain) {
+      if (chain.parent() == null) {
+         return driver.findSmartElement(chain.by());
+      }
+      SmartWebElement parent = elements.get(chain.parent());
+      if (parent == null) {
+         parent = resolve(chain.parent());
+      }
+      return parent.findSmartElement(chain.by());
+   }
+
+   private void checkPage() {
+      String currentUrl = driver.getOriginal().getCurrentUrl();
+      if (!Objects.equals(currentUrl, pageUrl)) {
+         invalidate();
+         pageUrl = currentUrl;
+      }
+   }
+
+   /**
+    * The locator of a cached element together with the chain of the element it was searched from.
+    *
+    * @param parent The chain of the parent element, or {@code null} for elements searched from the page.
+    * @param by     The locator of the element.
+    */
+   public record LocatorChain(LocatorChain parent, By by) {
+
+      boolean startsWith(LocatorChain prefix) {
+         for (LocatorChain chain = this; chain != null; chain = chain.parent()) {
+            if (chain.equals(prefix)) {
+               return true;
+            }
+         }
+         return false;
+      }
+
+      @Override
+      public String toString() {
+         return parent == null ? String.valueOf(by) : parent + " -> " + by;
+      }
+
+   }
+
+   /**
+    * Statistics of an {@link ElementCache}.
+    *
+    * @param hits          Lookups answered from the cache.
+    * @param misses        Lookups resolved on the page and added to the cache.
+    * @param stale         Cached elements that went stale and were resolved again.
+    * @param invalidations Times a filled cache was cleared because the page changed.
+    * @param size          Elements currently cached.
+    */
+   public record Stats(long hits, long misses, long stale, long invalidations, int size) {
+
+      /**
+       * Returns the share of lookups answered from the cache.
+       *
+       * @return The hit ratio between 0 and 1, or 0 if nothing was looked up yet.
+       */
+      public double hitRatio() {
+         long lookups = hits + misses;
+         return lookups == 0 ? 0 : (double) hits / lookups;
+      }
+
+   }
+
+}
@@ -1,10 +1,12 @@
 package io.cyborgcode.roa.ui.selenium.smart;
 
 import io.cyborgcode.roa.ui.annotations.HandleUiException;
+import io.cyborgcode.roa.ui.jfr.ElementLookupEvent;
 import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.selenium.decorators.WebDriverDecorator;
 import io.cyborgcode.roa.ui.selenium.handling.ExceptionHandlingWebDriver;
 import io.cyborgcode.roa.ui.selenium.locating.SmartFinder;
+import java.net.URL;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +21,7 @@ import lombok.SneakyThrows;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -29,7 +32,10 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
  * adds exception management, and provides built-in support for Shadow DOM elements.
  *
  * <p>It integrates with Selenium functions while allowing configuration-based
- * handling of standard and shadow root elements.
+ * handling of standard and shadow root elements. With {@code element.cache.enabled} single element lookups
+ * go through a per-page {@link ElementCache}, whose statistics are available from {@link #getElementCache()}.
+ * A DevTools session opened on the browser, such as the one intercepting requests, is registered with
+ * {@link #setDevToolsSession(DevTools)} so that it is closed before the browser is reused by another test.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -37,8 +43,11 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
 public class SmartWebDriver extends WebDriverDecorator {
 
    private final WebDriverWait wait;
+   private final ElementCache elementCache;
    @Setter
    private boolean keepDriverForSession;
+   @Setter
+   private DevTools devToolsSession;
 
 
    private static final String SECONDS = " seconds";
@@ -51,7 +60,60 @@ public class SmartWebDriver extends WebDriverDecorator {
     */
    public SmartWebDriver(WebDriver original) {
       super(original);
-      this.wait = new WebDriverWait(original, Duration.ofSeconds(getUiConfig().waitDuration()));
+      this.wait = DriverWaits.forDriver(original);
+      this.elementCache = new ElementCache(this);
+   }
+
+   /**
+    * Loads a new web page and drops the elements cached for the previous one.
+    *
+    * @param url The URL to load.
+    */
+   @Override
+   public void get(String url) {
+      elementCache.invalidate();
+      original.get(url);
+   }
+
+   /**
+    * Returns the navigation of the browser, dropping the cached elements before every navigation.
+    *
+    * @return The navigation of the wrapped driver.
+    */
+   @Override
+   public Navigation navigate() {
+      Navigation navigation = original.navigate();
+      return new Navigation() {
+         @Override
+         public void back() {
+            elementCache.invalidate();
+            navigation.back();
+         }
+
+         @Override
+         public void forward() {
+            elementCache.invalidate();
+            navigation.forward();
+         }
+
+         @Override
+         public void to(String url) {
+            elementCache.invalidate();
+            navigation.to(url);
+         }
+
+         @Override
+         public void to(URL url) {
+            elementCache.invalidate();
+            navigation.to(url);
+         }
+
+         @Override
+         public void refresh() {
+            elementCache.invalidate();
+            navigation.refresh();
+         }
+      };
    }
 
    /**
@@ -62,6 +124,9 @@ public class SmartWebDriver extends WebDriverDecorator {
     */
    @HandleUiException
    public SmartWebElement findSmartElement(By by) {
+      if (getUiConfig().elementCacheEnabled()) {
+         return elementCache.find(null, by, () -> findSmartElementInternal(by, null));
+      }
       return findSmartElementInternal(by, null);
    }
 
@@ -73,6 +138,9 @@ public class SmartWebDriver extends WebDriverDecorator {
     * @return A {@link SmartWebElement} instance.
     */
    public SmartWebElement findSmartElement(By by, long waitInMillis) {
+      if (getUiConfig().elementCacheEnabled()) {
+         return elementCache.find(null, by, () -> findSmartElementInternal(by, waitInMillis));
+      }
       return findSmartElementInternal(by, waitInMillis);
    }
 
@@ -169,7 +237,9 @@ public class SmartWebDriver extends WebDriverDecorator {
          return SmartFinder.findElementNoWrap(getOriginal(), by);
       }
 
-      Consumer<Function<WebDriver, ?>> waitFn = (waitInMillis == null)
+      ElementLookupEvent event = new ElementLookupEvent();
+      event.begin();
+      Consumer<Function<WebDriver, ?>> untimedWaitFn = (waitInMillis == null)
             ? this::waitWithoutFailure
             : condition -> {
                try {
@@ -179,6 +249,7 @@ public class SmartWebDriver extends WebDriverDecorator {
                   //ignore failure from wait
                }
             };
+      Consumer<Function<WebDriver, ?>> waitFn = event.timed(untimedWaitFn);
 
       try {
          if (getUiConfig().useShadowRoot()) {
@@ -187,7 +258,11 @@ public class SmartWebDriver extends WebDriverDecorator {
             return SmartFinder.findElementNormally(getOriginal(), by, waitFn);
          }
       } catch (Exception e) {
-         return handleException("findElement", e, new Object[] {by});
+         SmartWebElement recovered = handleException("findElement", e, new Object[] {by});
+         event.recovered();
+         return recovered;
+      } finally {
+         event.finish(by);
       }
    }
 
@@ -1,7 +1,9 @@
 package io.cyborgcode.roa.ui.selenium.smart;
 
 import io.cyborgcode.roa.ui.annotations.HandleUiException;
+import io.cyborgcode.roa.ui.jfr.ElementActionEvent;
 import io.cyborgcode.roa.ui.log.LogUi;
+import io.cyborgcode.roa.ui.selenium.decorators.WebDriverDecorator;
 import io.cyborgcode.roa.ui.selenium.decorators.WebElementDecorator;
 import io.cyborgcode.roa.ui.selenium.enums.WebElementAction;
 import io.cyborgcode.roa.ui.selenium.handling.ExceptionHandlingWebElement;
@@ -15,10 +17,10 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -42,9 +44,21 @@ import static io.cyborgcode.roa.ui.config.UiConfigHolder.getUiConfig;
 public class SmartWebElement extends WebElementDecorator {
 
    @Getter
-   @Setter
    private WebDriver driver;
-   private final WebDriverWait wait;
+   /**
+    * The default wait of {@link #driver}, shared through {@link DriverWaits} and resolved on first use.
+    */
+   private WebDriverWait wait;
+   /**
+    * The cache this element was resolved through, or {@code null} if it was not cached.
+    */
+   @Getter
+   private ElementCache elementCache;
+   /**
+    * The locator chain this element is cached under, or {@code null} if it was not cached.
+    */
+   @Getter
+   private ElementCache.LocatorChain locatorChain;
 
    /**
     * Constructs a {@code SmartWebElement} wrapping the given {@link WebElement}.
@@ -58,7 +72,16 @@ public class SmartWebElement extends WebElementDecorator {
          throw new IllegalArgumentException("driver must not be null");
       }
       this.driver = driver;
-      this.wait = new WebDriverWait(driver, Duration.ofSeconds(getUiConfig().waitDuration()));
+   }
+
+   /**
+    * Replaces the driver of this element.
+    *
+    * @param driver The {@link WebDriver} instance.
+    */
+   public void setDriver(WebDriver driver) {
+      this.driver = driver;
+      this.wait = null;
    }
 
    /**
@@ -87,11 +110,31 @@ public class SmartWebElement extends WebElementDecorator {
    /**
     * Finds a single {@link SmartWebElement} using the given {@link By} locator.
     *
+    * <p>Elements resolved through an {@link ElementCache} search their children through the same cache.
+    *
     * @param by The {@link By} locator used to find the element.
     * @return The found {@link SmartWebElement}, or handles the exception if the element is not found.
     */
    @HandleUiException
    public SmartWebElement findSmartElement(By by) {
+      if (elementCache != null && getUiConfig().elementCacheEnabled()) {
+         return elementCache.find(this, by, () -> findSmartElementUncached(by));
+      }
+      return findSmartElementUncached(by);
+   }
+
+   /**
+    * Marks this element as resolved through the given cache.
+    *
+    * @param cache The cache holding this element.
+    * @param chain The locator chain this element is cached under.
+    */
+   void cacheAs(ElementCache cache, ElementCache.LocatorChain chain) {
+      this.elementCache = cache;
+      this.locatorChain = chain;
+   }
+
+   private SmartWebElement findSmartElementUncached(By by) {
       if (!getUiConfig().useWrappedSeleniumFunctions()) {
          return SmartFinder.findElementNoWrap(this, by);
       }
@@ -124,17 +167,11 @@ public class SmartWebElement extends WebElementDecorator {
     */
    @HandleUiException
    public void doubleClick() {
-      Actions actions = new Actions(driver);
       if (!getUiConfig().useWrappedSeleniumFunctions()) {
-         actions.doubleClick();
+         doubleClickOriginal();
          return;
       }
-      try {
-         waitWithoutFailure(ExpectedConditions.elementToBeClickable(this));
-         actions.doubleClick();
-      } catch (Exception e) {
-         handleException("doubleClick", e, new Object[0]);
-      }
+      performActionWithWait(element -> doubleClickOriginal(), "doubleClick");
    }
 
    /**
@@ -266,27 +303,78 @@ public class SmartWebElement extends WebElementDecorator {
     */
    private <T> void waitWithoutFailure(Function<WebDriver, T> expectedConditions) {
       try {
-         wait.until(expectedConditions);
+         wait().until(expectedConditions);
       } catch (Exception ignore) {
          //ignore wait failure
       }
    }
 
+   /**
+    * Returns the default wait of the driver, resolving it on first use.
+    *
+    * @return The shared {@link WebDriverWait} of the driver.
+    */
+   private WebDriverWait wait() {
+      if (wait == null) {
+         wait = DriverWaits.forDriver(driver);
+      }
+      return wait;
+   }
+
    /**
     * Performs an action on the element after waiting for it to become clickable.
     *
+    * <p>With {@code element.actions.optimistic} the action is attempted first. WebDriver checks that the
+    * element is interactable as part of the command, so a ready element costs a single command. Only when the
+    * element is not interactable yet does the action wait for it to become clickable and run again.
+    *
     * @param action     The action to perform.
     * @param actionName The name of the action being performed.
     */
    private void performActionWithWait(Consumer<SmartWebElement> action, String actionName) {
+      ElementActionEvent event = new ElementActionEvent();
+      event.begin();
       try {
-         waitWithoutFailure(ExpectedConditions.elementToBeClickable(this));
-         action.accept(this);
+         if (!getUiConfig().optimisticElementActions() || !attemptAction(action, actionName)) {
+            Consumer<Function<WebDriver, ?>> untimedWaitFn = this::waitWithoutFailure;
+            Consumer<Function<WebDriver, ?>> waitFn = event.timed(untimedWaitFn);
+            waitFn.accept(ExpectedConditions.elementToBeClickable(this));
+            action.accept(this);
+         }
       } catch (Exception e) {
          handleException(actionName, e, new Object[0]);
+         event.recovered();
+      } finally {
+         event.finish(actionName, this);
+      }
+   }
+
+   /**
+    * Attempts an action without waiting for the element first.
+    *
+    * @param action     The action to perform.
+    * @param actionName The name of the action being performed.
+    * @return {@code true} if the action was performed, {@code false} if the element was not interactable yet.
+    */
+   private boolean attemptAction(Consumer<SmartWebElement> action, String actionName) {
+      try {
+         action.accept(this);
+         return true;
+      } catch (InvalidElementStateException e) {
+         LogUi.debug("Element is not ready for '{}', waiting for it to become clickable: {}",
+               actionName, e.getClass().getSimpleName());
+         return false;
       }
    }
 
+   /**
+    * Double-clicks the original element through the {@link Actions} API of the underlying driver.
+    */
+   private void doubleClickOriginal() {
+      WebDriver actionsDriver = driver instanceof WebDriverDecorator decorator ? decorator.getOriginal() : driver;
+      new Actions(actionsDriver).doubleClick(original).perform();
+   }
+
    /**
     * Waits until an element's attribute value changes from its initial value.
     *
@@ -6,7 +6,6 @@ import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -14,7 +13,8 @@ import java.util.List;
  * Utility class for extracting data from UI table row objects using Java reflection.
  *
  * <p>Supports operations like retrieving text values and web elements from fields of type {@link TableCell}
- * or {@code List<TableCell>}. Also includes helpers for checking type compatibility and normalizing string lists.
+ * or {@code List<TableCell>}, read through the cached {@link TableRowBinding} of the row class. Also includes
+ * helpers for checking type compatibility and normalizing string lists.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -33,23 +33,17 @@ public final class TableReflectionUtil {
     * @return A list of strings representing the text content of the table cells in the row.
     */
    public static List<String> extractTextsFromRow(Object row) {
-      return Arrays.stream(row.getClass().getDeclaredFields())
-            .filter(field -> TableCell.class.isAssignableFrom(field.getType()) || isListOfTableCell(field))
+      return TableRowBinding.of(row.getClass()).cellFields().stream()
             .map(field -> {
-               field.setAccessible(true);
-               try {
-                  Object value = field.get(row);
-                  if (value instanceof TableCell cell) {
-                     return Collections.singletonList(cell.getText());
-                  } else if (value instanceof List<?> list) {
-                     return list.stream()
-                           .filter(TableCell.class::isInstance)
-                           .map(TableCell.class::cast)
-                           .map(TableCell::getText)
-                           .toList();
-                  }
-               } catch (IllegalAccessException e) {
-                  throw new TableException("Failed to access field value", e);
+               Object value = readField(field, row);
+               if (value instanceof TableCell cell) {
+                  return Collections.singletonList(cell.getText());
+               } else if (value instanceof List<?> list) {
+                  return list.stream()
+                        .filter(TableCell.class::isInstance)
+                        .map(TableCell.class::cast)
+                        .map(TableCell::getText)
+                        .toList();
                }
                return Collections.<String>emptyList();
             })
@@ -66,23 +60,17 @@ public final class TableReflectionUtil {
     * @return A list of {@link SmartWebElement} objects extracted from the row.
     */
    public static List<SmartWebElement> extractElementsFromRow(Object row) {
-      return Arrays.stream(row.getClass().getDeclaredFields())
-            .filter(field -> TableCell.class.isAssignableFrom(field.getType()) || isListOfTableCell(field))
+      return TableRowBinding.of(row.getClass()).cellFields().stream()
             .map(field -> {
-               field.setAccessible(true);
-               try {
-                  Object value = field.get(row);
-                  if (value instanceof TableCell cell) {
-                     return Collections.singletonList(cell.getElement());
-                  } else if (value instanceof List<?> list) {
-                     return list.stream()
-                           .filter(TableCell.class::isInstance)
-                           .map(TableCell.class::cast)
-                           .map(TableCell::getElement)
-                           .toList();
-                  }
-               } catch (IllegalAccessException e) {
-                  throw new TableException("Failed to access field value", e);
+               Object value = readField(field, row);
+               if (value instanceof TableCell cell) {
+                  return Collections.singletonList(cell.getElement());
+               } else if (value instanceof List<?> list) {
+                  return list.stream()
+                        .filter(TableCell.class::isInstance)
+                        .map(TableCell.class::cast)
+                        .map(TableCell::getElement)
+                        .toList();
                }
                return Collections.<SmartWebElement>emptyList();
             })
@@ -91,6 +79,15 @@ public final class TableReflectionUtil {
    }
 
 
+   private static Object readField(TableRowBinding.FieldBinding field, Object row) {
+      try {
+         return field.get(row);
+      } catch (IllegalStateException e) {
+         throw new TableException("Failed to access field value", e);
+      }
+   }
+
+
    /**
     * Checks whether a field is a {@code List<TableCell>} type.
     *
@@ -0,0 +1,437 @@
+package io.cyborgcode.roa.ui.util.table;
+
+import io.cyborgcode.roa.ui.components.table.annotations.CellFilter;
+import io.cyborgcode.roa.ui.components.table.annotations.CellInsertion;
+import io.cyborgcode.roa.ui.components.table.annotations.CustomCellFilter;
+import io.cyborgcode.roa.ui.components.table.annotations.CustomCellInsertion;
+import io.cyborgcode.roa.ui.components.table.annotations.TableCellLocator;
+import io.cyborgcode.roa.ui.components.table.annotations.TableInfo;
+import io.cyborgcode.roa.ui.components.table.filters.CellFilterComponent;
+import io.cyborgcode.roa.ui.components.table.filters.CellFilterFunction;
+import io.cyborgcode.roa.ui.components.table.insertion.CellInsertionComponent;
+import io.cyborgcode.roa.ui.components.table.insertion.CellInsertionFunction;
+import io.cyborgcode.roa.ui.components.table.model.CellLocator;
+import io.cyborgcode.roa.ui.components.table.model.TableCell;
+import io.cyborgcode.roa.ui.components.table.model.TableLocators;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * The binding plan of a table row class, computed once per class and shared by every table read and validation.
+ *
+ * <p>Reading a table used to look up the constructor, the declared fields and a setter per cell through
+ * reflection for every row. The plan resolves them once into {@link MethodHandle}s: the no-argument constructor,
+ * a getter and setter per instance field in declaration order, and setters by name and parameter type. The
+ * {@link TableInfo} locators, the {@link CellLocator} of every {@link TableCellLocator} field and the cell
+ * locators grouped by table section are built on first use and kept as well.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TableRowBinding {
+
+   private static final ClassValue<TableRowBinding> BINDINGS = new ClassValue<>() {
+      @Override
+      protected TableRowBinding computeValue(final Class<?> type) {
+         return new TableRowBinding(type);
+      }
+   };
+
+   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+   private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+   private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+   private final Class<?> rowClass;
+
+   private final MethodHandle constructor;
+
+   private final ReflectiveOperationException constructorFailure;
+
+   private final List<FieldBinding> fields;
+
+   private final List<FieldBinding> cellFields;
+
+   private final List<FieldBinding> locatedFields;
+
+   private final Map<SetterKey, Optional<MethodHandle>> setters = new ConcurrentHashMap<>();
+
+   private volatile TableLocators tableLocators;
+
+   private volatile Map<String, List<CellLocator>> sectionLocators;
+
+   private TableRowBinding(final Class<?> rowClass) {
+      this.rowClass = rowClass;
+
+      MethodHandle resolved = null;
+      ReflectiveOperationException failure = null;
+      try {
+         if (Modifier.isAbstract(rowClass.getModifiers())) {
+            throw new InstantiationException(rowClass.getName());
+         }
+         final Constructor<?> declared = rowClass.getDeclaredConstructor();
+         makeAccessible(declared);
+         resolved = LOOKUP.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+      } catch (ReflectiveOperationException e) {
+         failure = e;
+      }
+      this.constructor = resolved;
+      this.constructorFailure = failure;
+
+      final List<FieldBinding> bindings = new ArrayList<>();
+      for (Field field : rowClass.getDeclaredFields()) {
+         if (!Modifier.isStatic(field.getModifiers())) {
+            bindings.add(new FieldBinding(field));
+         }
+      }
+      this.fields = Collections.unmodifiableList(bindings);
+      this.cellFields = bindings.stream().filter(FieldBinding::isCell).toList();
+      this.locatedFields = bindings.stream().filter(FieldBinding::isLocated).toList();
+   }
+
+   /**
+    * Returns the binding plan of a row class, computing it on first use.
+    *
+    * @param rowClass The row class.
+    * @return The binding plan of the class.
+    */
+   public static TableRowBinding of(final Class<?> rowClass) {
+      return BINDINGS.get(rowClass);
+   }
+
+   /**
+    * Creates a row with the no-argument constructor of the row class.
+    *
+    * @return The new row.
+    * @throws ReflectiveOperationException If the class has no usable no-argument constructor, or the constructor
+    *                                      threw an exception.
+    */
+   public Object newRow() throws ReflectiveOperationException {
+      if (constructor == null) {
+         throw constructorFailure;
+      }
+      try {
+         return (Object) constructor.invokeExact();
+      } catch (Throwable e) {
+         throw new InvocationTargetException(e);
+      }
+   }
+
+   /**
+    * Returns the instance fields of the row class in declaration order.
+    *
+    * @return The field bindings.
+    */
+   public List<FieldBinding> fields() {
+      return fields;
+   }
+
+   /**
+    * Returns the fields of type {@link TableCell} or {@code List<TableCell>} in declaration order.
+    *
+    * @return The cell field bindings.
+    */
+   public List<FieldBinding> cellFields() {
+      return cellFields;
+   }
+
+   /**
+    * Returns the fields annotated with {@link TableCellLocator} in declaration order.
+    *
+    * @return The located field bindings.
+    */
+   public List<FieldBinding> locatedFields() {
+      return locatedFields;
+   }
+
+   /**
+    * Returns the container, rows and header row locators of the {@link TableInfo} annotation of the row class,
+    * building them on first use.
+    *
+    * @return The table locators.
+    * @throws IllegalArgumentException If the row class is not annotated with {@link TableInfo}.
+    */
+   public TableLocators tableLocators() {
+      TableLocators locators = tableLocators;
+      if (locators == null) {
+         final TableInfo annotation = rowClass.getAnnotation(TableInfo.class);
+         if (annotation == null) {
+            throw new IllegalArgumentException("Your class: " + rowClass.getSimpleName()
+                  + "is missing @TableInfo annotation for the table container");
+         }
+         final FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
+         locators = new TableLocators(
+               builder.buildIt(annotation.tableContainerLocator(), null),
+               builder.buildIt(annotation.rowsLocator(), null),
+               builder.buildIt(annotation.headerRowLocator(), null));
+         tableLocators = locators;
+      }
+      return locators;
+   }
+
+   /**
+    * Returns the cell locators of all {@link TableCellLocator} fields grouped by table section, in declaration order.
+    *
+    * @return The cell locators per table section.
+    */
+   public Map<String, List<CellLocator>> sectionLocators() {
+      Map<String, List<CellLocator>> locators = sectionLocators;
+      if (locators == null) {
+         final Map<String, List<CellLocator>> grouped = new LinkedHashMap<>();
+         for (FieldBinding field : locatedFields) {
+            grouped.computeIfAbsent(field.cellLocator().getTableSection(), section -> new ArrayList<>())
+                  .add(field.cellLocator());
+         }
+         grouped.replaceAll((section, sectionCells) -> List.copyOf(sectionCells));
+         locators = Collections.unmodifiableMap(grouped);
+         sectionLocators = locators;
+      }
+      return locators;
+   }
+
+   /**
+    * Resolves a setter declared by the row class.
+    *
+    * @param name          The name of the setter.
+    * @param parameterType The parameter type of the setter.
+    * @return The setter, taking the row and the value.
+    * @throws NoSuchMethodException If the row class declares no such setter.
+    */
+   public MethodHandle setter(final String name, final Class<?> parameterType) throws NoSuchMethodException {
+      final Optional<MethodHandle> setter =
+            setters.computeIfAbsent(new SetterKey(name, parameterType), key -> resolveSetter(name, parameterType));
+      if (setter.isEmpty()) {
+         throw new NoSuchMethodException(rowClass.getName() + "." + name + "(" + parameterType.getName() + ")");
+      }
+      return setter.get();
+   }
+
+   /**
+    * Copies every non-null field value of {@code source} into the fields of {@code target} that are still
+    * {@code null}.
+    *
+    * @param target The row receiving values; must be an instance of the row class.
+    * @param source The row providing values; must be an instance of the row class.
+    */
+   public void merge(final Object target, final Object source) {
+      for (FieldBinding field : fields) {
+         if (field.isWritable() && field.get(target) == null) {
+            final Object value = field.get(source);
+            if (value != null) {
+               field.set(target, value);
+            }
+         }
+      }
+   }
+
+   private Optional<MethodHandle> resolveSetter(final String name, final Class<?> parameterType) {
+      try {
+         final Method method = rowClass.getDeclaredMethod(name, parameterType);
+         makeAccessible(method);
+         return Optional.of(LOOKUP.unreflect(method).asType(SETTER));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+         return Optional.empty();
+      }
+   }
+
+   private static void makeAccessible(final AccessibleObject member) {
+      try {
+         member.setAccessible(true);
+      } catch (RuntimeException e) {
+         // left to the access check of the lookup
+      }
+   }
+
+   /**
+    * Maps a {@link TableCellLocator} field to its {@link CellLocator}.
+    *
+    * @param field The annotated field.
+    * @return The cell locator of the field.
+    */
+   public static CellLocator cellLocator(final Field field) {
+      final TableCellLocator annotation = field.getAnnotation(TableCellLocator.class);
+      final FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
+
+      final By cellBy = builder.buildIt(annotation.cellLocator(), null);
+      final By cellTextBy = builder.buildIt(annotation.cellTextLocator(), null);
+      final By cellHeaderBy = builder.buildIt(annotation.headerCellLocator(), null);
+
+      final CellInsertionComponent cellInsertionComponent = Optional.ofNullable(
+                  field.getAnnotation(CellInsertion.class)
+            ).map(ci -> new CellInsertionComponent(ci.type(), ci.componentType(), ci.order()))
+            .orElse(null);
+
+      final Class<? extends CellInsertionFunction> customCellInsertion = Optional.ofNullable(
+            field.getAnnotation(CustomCellInsertion.class)
+      ).map(CustomCellInsertion::insertionFunction).orElse(null);
+
+      final CellFilterComponent cellFilterComponent = Optional.ofNullable(
+                  field.getAnnotation(CellFilter.class)
+            ).map(ci -> new CellFilterComponent(ci.type(), ci.componentType()))
+            .orElse(null);
+
+      final Class<? extends CellFilterFunction> customCellFilter = Optional.ofNullable(
+            field.getAnnotation(CustomCellFilter.class)
+      ).map(CustomCellFilter::cellFilterFunction).orElse(null);
+
+      final boolean isCollection = Collection.class.isAssignableFrom(field.getType());
+
+      return new CellLocator(
+            field.getName(),
+            cellBy,
+            cellTextBy,
+            cellHeaderBy,
+            isCollection,
+            annotation.tableSection(),
+            cellInsertionComponent,
+            customCellInsertion,
+            cellFilterComponent,
+            customCellFilter
+      );
+   }
+
+   /**
+    * The binding of a single instance field of a row class.
+    */
+   public static final class FieldBinding {
+
+      private final Field field;
+
+      private final MethodHandle getter;
+
+      private final MethodHandle setter;
+
+      private final boolean cell;
+
+      private volatile CellLocator cellLocator;
+
+      private FieldBinding(final Field field) {
+         this.field = field;
+         makeAccessible(field);
+         this.getter = unreflect(() -> LOOKUP.unreflectGetter(field).asType(GETTER));
+         this.setter = unreflect(() -> LOOKUP.unreflectSetter(field).asType(SETTER));
+         this.cell = TableCell.class.isAssignableFrom(field.getType()) || TableReflectionUtil.isListOfTableCell(field);
+      }
+
+      /**
+       * Returns the bound field.
+       *
+       * @return The field.
+       */
+      public Field field() {
+         return field;
+      }
+
+      /**
+       * Returns the name of the bound field.
+       *
+       * @return The field name.
+       */
+      public String name() {
+         return field.getName();
+      }
+
+      /**
+       * Checks whether the field holds a {@link TableCell} or a {@code List<TableCell>}.
+       *
+       * @return {@code true} for cell fields.
+       */
+      public boolean isCell() {
+         return cell;
+      }
+
+      /**
+       * Checks whether the field is annotated with {@link TableCellLocator}.
+       *
+       * @return {@code true} for located fields.
+       */
+      public boolean isLocated() {
+         return field.isAnnotationPresent(TableCellLocator.class);
+      }
+
+      /**
+       * Returns the cell locator of a {@link TableCellLocator} field, mapping it on first use.
+       *
+       * @return The cell locator.
+       */
+      public CellLocator cellLocator() {
+         CellLocator locator = cellLocator;
+         if (locator == null) {
+            locator = TableRowBinding.cellLocator(field);
+            cellLocator = locator;
+         }
+         return locator;
+      }
+
+      /**
+       * Reads the field of a row.
+       *
+       * @param row The row.
+       * @return The field value.
+       * @throws IllegalStateException If the field cannot be read.
+       */
+      public Object get(final Object row) {
+         if (getter == null) {
+            throw new IllegalStateException("Cannot access field: " + field.getName());
+         }
+         try {
+            return (Object) getter.invokeExact(row);
+         } catch (RuntimeException | Error e) {
+            throw e;
+         } catch (Throwable e) {
+            throw new IllegalStateException("Cannot access field: " + field.getName(), e);
+         }
+      }
+
+      private boolean isWritable() {
+         return getter != null && setter != null;
+      }
+
+      private void set(final Object row, final Object value) {
+         try {
+            setter.invokeExact(row, value);
+         } catch (RuntimeException | Error e) {
+            throw e;
+         } catch (Throwable e) {
+            throw new IllegalStateException("Cannot access field: " + field.getName(), e);
+         }
+      }
+
+      private static MethodHandle unreflect(final HandleFactory factory) {
+         try {
+            return factory.create();
+         } catch (IllegalAccessException e) {
+            return null;
+         }
+      }
+
+   }
+
+   private record SetterKey(String name, Class<?> parameterType) {
+   }
+
+   @FunctionalInterface
+   private interface HandleFactory {
+
+      MethodHandle create() throws IllegalAccessException;
+
+   }
+
+}
@@ -63,6 +63,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +84,7 @@ class ComponentFactoryTest extends BaseUnitUITest {
    @BeforeEach
    void setUp() {
       MockitoAnnotations.openMocks(this);
+      ComponentRegistry.clear();
       smartWebDriver = new SmartWebDriver(webDriver);
       reflectionMock = mockStatic(ReflectionUtil.class);
       uiConfigHolderMock = mockStatic(UiConfigHolder.class);
@@ -170,6 +172,50 @@ class ComponentFactoryTest extends BaseUnitUITest {
       reflectionMock.verify(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(FRAMEWORK_PACKAGE)));
    }
 
+   @Test
+   @DisplayName("getComponent should scan the classpath once per component interface")
+   void getComponent_RepeatedLookups_ScansOnce() {
+      // Given
+      reflectionMock.when(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(TEST_PACKAGE)))
+         .thenReturn(new ArrayList<>(List.of(MockInputImpl.class, FailInputImpl.class)));
+      reflectionMock.when(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(FRAMEWORK_PACKAGE)))
+         .thenReturn(new ArrayList<>());
+
+      // When
+      var first = ComponentFactory.getInputComponent(MockInputComponentType.DUMMY, smartWebDriver);
+      var second = ComponentFactory.getInputComponent(MockInputComponentType.DUMMY, smartWebDriver);
+      var failed = catchThrowable(() ->
+         ComponentFactory.getInputComponent(MockInputComponentType.FAIL, smartWebDriver));
+
+      // Then
+      assertThat(first).isInstanceOf(MockInputImpl.class).isNotSameAs(second);
+      assertThat(failed).isInstanceOf(ComponentFactory.ComponentCreationException.class);
+      reflectionMock.verify(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(TEST_PACKAGE)),
+         times(1));
+      reflectionMock.verify(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(FRAMEWORK_PACKAGE)),
+         times(1));
+   }
+
+   @Test
+   @DisplayName("getComponent should scan again for other project packages")
+   void getComponent_OtherProjectPackages_ScansAgain() {
+      // Given
+      String otherPackage = "other.package";
+      reflectionMock.when(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), anyString()))
+         .thenReturn(new ArrayList<>());
+      reflectionMock.when(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(otherPackage)))
+         .thenReturn(new ArrayList<>(List.of(MockInputImpl.class)));
+      catchThrowable(() -> ComponentFactory.getInputComponent(MockInputComponentType.DUMMY, smartWebDriver));
+
+      // When
+      when(uiConfig.projectPackages()).thenReturn(new String[] {otherPackage});
+      var result = ComponentFactory.getInputComponent(MockInputComponentType.DUMMY, smartWebDriver);
+
+      // Then
+      assertThat(result).isInstanceOf(MockInputImpl.class);
+      reflectionMock.verify(() -> ReflectionUtil.findImplementationsOfInterface(eq(Input.class), eq(otherPackage)));
+   }
+
    @ParameterizedTest
    @MethodSource("provideAllComponentGetters")
    @DisplayName("All component getters should invoke the factory correctly")
@@ -0,0 +1,209 @@
+package io.cyborgcode.roa.ui.components.table.paging;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("PagingStrategy Tests")
+@SuppressWarnings("unchecked")
+class PagingStrategyTest {
+
+   private static final By NEXT_BUTTON = By.cssSelector(".pager .next");
+
+   private SmartWebDriver driver;
+   private WebDriver original;
+   private WebDriverWait wait;
+   private SmartWebElement container;
+
+   @BeforeEach
+   void setUp() {
+      driver = mock(SmartWebDriver.class);
+      original = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+      wait = mock(WebDriverWait.class);
+      container = mock(SmartWebElement.class);
+      when(driver.getOriginal()).thenReturn(original);
+      when(driver.getWait()).thenReturn(wait);
+      when(wait.until(any())).thenAnswer(invocation ->
+            ((Function<WebDriver, Object>) invocation.getArgument(0)).apply(original));
+   }
+
+   @Test
+   @DisplayName("Should never move a single page table")
+   void shouldNotMoveSinglePage() {
+      // Then
+      assertThat(PagingStrategy.singlePage().next(driver, container)).isFalse();
+      verifyNoInteractions(driver, container);
+   }
+
+   @Nested
+   @DisplayName("Next Button Tests")
+   class NextButtonTests {
+
+      private SmartWebElement button;
+
+      @BeforeEach
+      void setUpButton() {
+         button = mock(SmartWebElement.class);
+         when(button.isDisplayed()).thenReturn(true);
+         when(button.isEnabled()).thenReturn(true);
+         when(driver.findSmartElements(NEXT_BUTTON)).thenReturn(List.of(button));
+      }
+
+      @Test
+      @DisplayName("Should click the button and wait for the next page")
+      void shouldClickAndWaitForNextPage() {
+         // Given
+         when(container.getText()).thenReturn("page 1", "page 2");
+
+         // When
+         boolean moved = PagingStrategy.nextButton(NEXT_BUTTON).next(driver, container);
+
+         // Then
+         assertThat(moved).isTrue();
+         verify(button).click();
+      }
+
+      @Test
+      @DisplayName("Should treat a replaced table container as the next page")
+      void shouldTreatStaleContainerAsNextPage() {
+         // Given
+         when(container.getText()).thenReturn("page 1").thenThrow(new StaleElementReferenceException("replaced"));
+
+         // Then
+         assertThat(PagingStrategy.nextButton(NEXT_BUTTON).next(driver, container)).isTrue();
+      }
+
+      @Test
+      @DisplayName("Should report the last page when the rows do not change")
+      void shouldReportLastPageWhenRowsDoNotChange() {
+         // Given
+         when(container.getText()).thenReturn("page 1");
+         doThrow(new TimeoutException("unchanged")).when(wait).until(any());
+
+         // Then
+         assertThat(PagingStrategy.nextButton(NEXT_BUTTON).next(driver, container)).isFalse();
+      }
+
+      @Test
+      @DisplayName("Should report the last page when the button is missing, hidden or disabled")
+      void shouldReportLastPageForUnavailableButton() {
+         // Given
+         PagingStrategy paging = PagingStrategy.nextButton(NEXT_BUTTON);
+         SmartWebElement ariaDisabled = mock(SmartWebElement.class);
+         when(ariaDisabled.isDisplayed()).thenReturn(true);
+         when(ariaDisabled.isEnabled()).thenReturn(true);
+         when(ariaDisabled.getDomAttribute("aria-disabled")).thenReturn("true");
+
+         // When
+         when(driver.findSmartElements(NEXT_BUTTON)).thenReturn(List.of());
+         boolean missing = paging.next(driver, container);
+         when(driver.findSmartElements(NEXT_BUTTON)).thenReturn(List.of(button));
+         when(button.isEnabled()).thenReturn(false);
+         boolean disabled = paging.next(driver, container);
+         when(driver.findSmartElements(NEXT_BUTTON)).thenReturn(List.of(ariaDisabled));
+         boolean markedDisabled = paging.next(driver, container);
+
+         // Then
+         assertThat(missing).isFalse();
+         assertThat(disabled).isFalse();
+         assertThat(markedDisabled).isFalse();
+         verify(button, never()).click();
+         verify(ariaDisabled, never()).click();
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Scroll Tests")
+   class ScrollTests {
+
+      @Test
+      @DisplayName("Should scroll the table container and wait for the next rows")
+      void shouldScrollContainer() {
+         // Given
+         WebElement containerElement = mock(WebElement.class);
+         when(container.getOriginal()).thenReturn(containerElement);
+         when(container.getText()).thenReturn("rows 1-20", "rows 21-40");
+         when(((JavascriptExecutor) original).executeScript(ScrollPaging.SCROLL_JS, containerElement))
+               .thenReturn(true);
+
+         // When
+         boolean moved = PagingStrategy.scroll().next(driver, container);
+
+         // Then
+         assertThat(moved).isTrue();
+         verify(wait).until(any());
+      }
+
+      @Test
+      @DisplayName("Should scroll the viewport inside the table container")
+      void shouldScrollViewport() {
+         // Given
+         By viewportLocator = By.className("viewport");
+         SmartWebElement viewport = mock(SmartWebElement.class);
+         WebElement viewportElement = mock(WebElement.class);
+         when(container.findSmartElement(viewportLocator)).thenReturn(viewport);
+         when(viewport.getOriginal()).thenReturn(viewportElement);
+         when(container.getText()).thenReturn("rows 1-20", "rows 21-40");
+         when(((JavascriptExecutor) original).executeScript(ScrollPaging.SCROLL_JS, viewportElement))
+               .thenReturn(true);
+
+         // Then
+         assertThat(PagingStrategy.scroll(viewportLocator).next(driver, container)).isTrue();
+      }
+
+      @Test
+      @DisplayName("Should report the last rows when the table can not scroll further")
+      void shouldReportEndOfScroll() {
+         // Given
+         when(container.getOriginal()).thenReturn(mock(WebElement.class));
+         when(((JavascriptExecutor) original).executeScript(eq(ScrollPaging.SCROLL_JS), any()))
+               .thenReturn(false);
+
+         // When
+         boolean moved = PagingStrategy.scroll().next(driver, container);
+
+         // Then
+         assertThat(moved).isFalse();
+         verify(wait, never()).until(any());
+      }
+
+      @Test
+      @DisplayName("Should require a driver that can execute JavaScript")
+      void shouldRequireJavascriptDriver() {
+         // Given
+         when(driver.getOriginal()).thenReturn(mock(WebDriver.class));
+
+         // Then
+         assertThatThrownBy(() -> PagingStrategy.scroll().next(driver, container))
+               .isInstanceOf(IllegalStateException.class)
+               .hasMessageContaining("JavaScript");
+      }
+
+   }
+
+}
@@ -0,0 +1,233 @@
+package io.cyborgcode.roa.ui.components.table.service;
+
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
+import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
+import io.cyborgcode.roa.ui.config.UiConfig;
+import io.cyborgcode.roa.ui.config.UiConfigHolder;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("TableImpl Paging Tests")
+@SuppressWarnings("unchecked")
+class TableImplPagingTest extends BaseUnitUITest {
+
+   private static final By TABLE_LOCATOR = By.id("dummyTable");
+   private static final By ROWS_LOCATOR = By.className("dummyRow");
+   private static final By CELL_LOCATOR = By.className("dummyCell");
+   private static final By TEXT_LOCATOR = By.className("dummyText");
+
+   private SmartWebDriver driver;
+   private WebDriver original;
+   private SmartWebElement container;
+   private UiConfig uiConfig;
+   private MockedStatic<UiConfigHolder> uiConfigHolder;
+   private TableImpl table;
+   private AtomicInteger pageMoves;
+
+   @BeforeEach
+   void setUp() {
+      driver = mock(SmartWebDriver.class);
+      original = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+      container = mock(SmartWebElement.class);
+      WebDriverWait wait = mock(WebDriverWait.class);
+      when(driver.getOriginal()).thenReturn(original);
+      when(driver.getWait()).thenReturn(wait);
+      when(wait.until(any())).thenAnswer(invocation ->
+            ((Function<WebDriver, Object>) invocation.getArgument(0)).apply(original));
+      when(driver.findSmartElement(TABLE_LOCATOR)).thenReturn(container);
+      when(container.getOriginal()).thenReturn(mock(WebElement.class));
+
+      uiConfig = mock(UiConfig.class);
+      when(uiConfig.tableSnapshotEnabled()).thenReturn(true);
+      uiConfigHolder = mockStatic(UiConfigHolder.class);
+      uiConfigHolder.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+
+      table = new TableImplSnapshotTest.SnapshotTable(driver);
+      pageMoves = new AtomicInteger();
+   }
+
+   @AfterEach
+   void tearDown() {
+      uiConfigHolder.close();
+   }
+
+   private PagingStrategy pages(int count) {
+      return (webDriver, tableContainer) -> pageMoves.incrementAndGet() < count;
+   }
+
+   private static List<Object> row(int index, String text) {
+      return List.of((long) index, true, text, List.of(text));
+   }
+
+   private void snapshotPages(List<?> first, List<?>... next) {
+      when(((JavascriptExecutor) original).executeScript(anyString(), any(), any(), any()))
+            .thenReturn(first, (Object[]) next);
+   }
+
+   @Test
+   @DisplayName("Should stream the rows of every page and skip rows repeated from the previous page")
+   void shouldStreamAllPagesWithoutDuplicates() {
+      // Given
+      snapshotPages(
+            List.of(row(0, "Ann"), row(1, "Bob")),
+            List.of(row(0, "Bob"), row(1, "Cid")),
+            List.of(row(0, "Dan")));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.streamTable(TableImplTest.DummyRow.class, pages(3)).toList();
+
+      // Then
+      assertThat(rows).extracting(row -> row.getField1().getText()).containsExactly("Ann", "Bob", "Cid", "Dan");
+      assertThat(pageMoves).hasValue(3);
+      verify((JavascriptExecutor) original, times(3)).executeScript(anyString(), any(), any(), any());
+   }
+
+   @Test
+   @DisplayName("Should only compare the rows of a page with those of the previous page")
+   void shouldOnlySkipRowsOfPreviousPage() {
+      // Given
+      snapshotPages(
+            List.of(row(0, "Ann")),
+            List.of(row(0, "Bob")),
+            List.of(row(0, "Ann")));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.streamTable(TableImplTest.DummyRow.class, pages(3)).toList();
+
+      // Then
+      assertThat(rows).extracting(row -> row.getField1().getText()).containsExactly("Ann", "Bob", "Ann");
+   }
+
+   @Test
+   @DisplayName("Should keep identical rows shown on the same page")
+   void shouldKeepIdenticalRowsOfOnePage() {
+      // Given
+      snapshotPages(List.of(row(0, "Ann"), row(1, "Ann")));
+
+      // When
+      List<TableImplTest.DummyRow> rows =
+            table.streamTable(TableImplTest.DummyRow.class, PagingStrategy.singlePage()).toList();
+
+      // Then
+      assertThat(rows).hasSize(2);
+   }
+
+   @Test
+   @DisplayName("Should only move to the next page once the current page was consumed")
+   void shouldMoveLazily() {
+      // Given
+      snapshotPages(List.of(row(0, "Ann"), row(1, "Bob")), List.of(row(0, "Cid")));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.streamTable(TableImplTest.DummyRow.class, pages(5))
+            .limit(2)
+            .toList();
+
+      // Then
+      assertThat(rows).hasSize(2);
+      assertThat(pageMoves).hasValue(0);
+      verify((JavascriptExecutor) original, times(1)).executeScript(anyString(), any(), any(), any());
+   }
+
+   @Test
+   @DisplayName("Should stop when a page move shows no new rows")
+   void shouldStopWhenNoNewRowsAreShown() {
+      // Given
+      snapshotPages(List.of(row(0, "Ann")), List.of(row(0, "Ann")));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.streamTable(TableImplTest.DummyRow.class, pages(100)).toList();
+
+      // Then
+      assertThat(rows).hasSize(1);
+      assertThat(pageMoves).hasValue(1);
+   }
+
+   @Test
+   @DisplayName("Should find a row on a later page and stop moving through the table")
+   void shouldFindRowAcrossPages() {
+      // Given
+      snapshotPages(
+            List.of(row(0, "Ann Smith"), row(1, "Bob Jones")),
+            List.of(row(0, "Cid Brown"), row(1, "Dan Green")),
+            List.of(row(0, "Eve White")));
+
+      // When
+      TableImplTest.DummyRow found =
+            table.findRow(List.of("Dan", "Green"), TableImplTest.DummyRow.class, pages(10));
+
+      // Then
+      assertThat(found.getField1().getText()).isEqualTo("Dan Green");
+      assertThat(pageMoves).hasValue(1);
+   }
+
+   @Test
+   @DisplayName("Should report a row missing from every page")
+   void shouldReportRowMissingFromAllPages() {
+      // Given
+      snapshotPages(List.of(row(0, "Ann")), List.of(row(0, "Bob")));
+
+      // Then
+      assertThatThrownBy(() -> table.findRow(List.of("Zed"), TableImplTest.DummyRow.class, pages(2)))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("No row found containing all criteria: [Zed]");
+      assertThat(pageMoves).hasValue(2);
+   }
+
+   @Test
+   @DisplayName("Should stream pages element by element when snapshots are disabled")
+   void shouldStreamElementsWhenSnapshotsAreDisabled() {
+      // Given
+      when(uiConfig.tableSnapshotEnabled()).thenReturn(false);
+      SmartWebElement first = elementRow("Ann");
+      SmartWebElement repeated = elementRow("Ann");
+      SmartWebElement second = elementRow("Bob");
+      when(container.findElements(ROWS_LOCATOR)).thenReturn(List.of(first), List.of(repeated, second));
+      when(container.findSmartElements(ROWS_LOCATOR)).thenReturn(List.of(first), List.of(repeated, second));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.streamTable(TableImplTest.DummyRow.class, pages(2)).toList();
+
+      // Then
+      assertThat(rows).extracting(row -> row.getField1().getText()).containsExactly("Ann", "Bob");
+      verify(repeated, times(0)).findSmartElement(CELL_LOCATOR);
+   }
+
+   private SmartWebElement elementRow(String text) {
+      SmartWebElement row = mock(SmartWebElement.class);
+      SmartWebElement cell = mock(SmartWebElement.class);
+      when(row.isDisplayed()).thenReturn(true);
+      when(row.getText()).thenReturn(text);
+      when(row.findSmartElement(CELL_LOCATOR)).thenReturn(cell);
+      when(cell.findSmartElement(TEXT_LOCATOR)).thenReturn(cell);
+      when(cell.getText()).thenReturn(text);
+      return row;
+   }
+
+}
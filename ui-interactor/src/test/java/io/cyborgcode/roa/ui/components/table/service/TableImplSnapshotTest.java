@@ -0,0 +1,269 @@
+package io.cyborgcode.roa.ui.components.table.service;
+
+import io.cyborgcode.roa.ui.components.table.model.TableCell;
+import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
+import io.cyborgcode.roa.ui.config.UiConfig;
+import io.cyborgcode.roa.ui.config.UiConfigHolder;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("TableImpl Snapshot Tests")
+@SuppressWarnings("unchecked")
+class TableImplSnapshotTest extends BaseUnitUITest {
+
+   private static final By TABLE_LOCATOR = By.id("dummyTable");
+   private static final By ROWS_LOCATOR = By.className("dummyRow");
+   private static final By CELL_LOCATOR = By.className("dummyCell");
+   private static final By LIST_CELL_LOCATOR = By.className("listCell");
+
+   private SmartWebDriver driver;
+   private WebDriver original;
+   private SmartWebElement container;
+   private UiConfig uiConfig;
+   private MockedStatic<UiConfigHolder> uiConfigHolder;
+   private SnapshotTable table;
+
+   @BeforeEach
+   void setUp() {
+      driver = mock(SmartWebDriver.class);
+      original = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+      container = mock(SmartWebElement.class);
+      WebDriverWait wait = mock(WebDriverWait.class);
+      when(driver.getOriginal()).thenReturn(original);
+      when(driver.getWait()).thenReturn(wait);
+      when(wait.until(any())).thenAnswer(invocation ->
+            ((Function<WebDriver, Object>) invocation.getArgument(0)).apply(original));
+      when(driver.findSmartElement(TABLE_LOCATOR)).thenReturn(container);
+      when(container.getOriginal()).thenReturn(mock(WebElement.class));
+
+      uiConfig = mock(UiConfig.class);
+      when(uiConfig.tableSnapshotEnabled()).thenReturn(true);
+      uiConfigHolder = mockStatic(UiConfigHolder.class);
+      uiConfigHolder.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+
+      table = new SnapshotTable(driver);
+   }
+
+   @AfterEach
+   void tearDown() {
+      uiConfigHolder.close();
+   }
+
+   private SmartWebElement rowWithCell(SmartWebElement cell) {
+      SmartWebElement row = mock(SmartWebElement.class);
+      when(row.isDisplayed()).thenReturn(true);
+      when(row.findSmartElement(CELL_LOCATOR)).thenReturn(cell);
+      when(container.findElements(ROWS_LOCATOR)).thenReturn(List.of(row));
+      when(container.findSmartElements(ROWS_LOCATOR)).thenReturn(List.of(row));
+      return row;
+   }
+
+   private void snapshotReturns(Object rows) {
+      when(((JavascriptExecutor) original).executeScript(anyString(), any(), any(), any())).thenReturn(rows);
+   }
+
+   @Test
+   @DisplayName("Should read the whole table from one script call without locating cells")
+   void shouldReadTableFromSnapshot() {
+      // Given
+      snapshotReturns(List.of(
+            List.of(0L, true, "first", List.of("first")),
+            List.of(1L, true, "second", List.of("second"))));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.readTable(TableImplTest.DummyRow.class);
+
+      // Then
+      assertThat(rows).extracting(row -> row.getField1().getText()).containsExactly("first", "second");
+      verify((JavascriptExecutor) original, times(1)).executeScript(anyString(), any(), any(), any());
+      verify(container, never()).findSmartElements(any());
+   }
+
+   @Test
+   @DisplayName("Should apply the requested range to the snapshot rows")
+   void shouldReadRangeFromSnapshot() {
+      // Given
+      snapshotReturns(List.of(
+            List.of(0L, true, "r1", List.of("r1")),
+            List.of(1L, true, "r2", List.of("r2")),
+            List.of(2L, true, "r3", List.of("r3"))));
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.readTable(2, 3, TableImplTest.DummyRow.class);
+
+      // Then
+      assertThat(rows).extracting(row -> row.getField1().getText()).containsExactly("r2", "r3");
+   }
+
+   @Test
+   @DisplayName("Should locate the element of a snapshot cell only when it is accessed")
+   void shouldLocateCellElementLazily() {
+      // Given
+      snapshotReturns(List.of(
+            List.of(0L, true, "first", List.of("first")),
+            List.of(1L, true, "second", List.of("second"))));
+      SmartWebElement secondRow = mock(SmartWebElement.class);
+      SmartWebElement cell = mock(SmartWebElement.class);
+      when(container.findSmartElements(ROWS_LOCATOR)).thenReturn(List.of(mock(SmartWebElement.class), secondRow));
+      when(secondRow.findSmartElement(CELL_LOCATOR)).thenReturn(cell);
+      TableCell tableCell = table.readTable(TableImplTest.DummyRow.class).get(1).getField1();
+
+      // When
+      SmartWebElement element = tableCell.getElement();
+      SmartWebElement again = tableCell.getElement();
+
+      // Then
+      assertThat(element).isSameAs(cell).isSameAs(again);
+      verify(secondRow, times(1)).findSmartElement(CELL_LOCATOR);
+   }
+
+   @Test
+   @DisplayName("Should map collection cells from the snapshot")
+   void shouldReadCollectionCellsFromSnapshot() {
+      // Given
+      snapshotReturns(List.of(List.of(0L, true, "a b", List.of(List.of("a", "b")))));
+      SmartWebElement row = mock(SmartWebElement.class);
+      SmartWebElement second = mock(SmartWebElement.class);
+      when(container.findSmartElements(ROWS_LOCATOR)).thenReturn(List.of(row));
+      when(row.findSmartElements(LIST_CELL_LOCATOR)).thenReturn(List.of(mock(SmartWebElement.class), second));
+
+      // When
+      List<TableCell> cells = table.readTable(TableImplTest.ListFieldRow.class).get(0).getListField();
+
+      // Then
+      assertThat(cells).extracting(TableCell::getText).containsExactly("a", "b");
+      assertThat(cells.get(1).getElement()).isSameAs(second);
+   }
+
+   @Test
+   @DisplayName("Should find rows by index and by criteria in the snapshot")
+   void shouldReadRowFromSnapshot() {
+      // Given
+      snapshotReturns(List.of(
+            List.of(0L, true, "Ann Smith", List.of("Ann")),
+            List.of(1L, true, "Bob Jones", List.of("Bob"))));
+
+      // When
+      TableImplTest.DummyRow byIndex = table.readRow(1, TableImplTest.DummyRow.class);
+      TableImplTest.DummyRow byCriteria = table.readRow(List.of("Bob", "Jones"), TableImplTest.DummyRow.class);
+
+      // Then
+      assertThat(byIndex.getField1().getText()).isEqualTo("Ann");
+      assertThat(byCriteria.getField1().getText()).isEqualTo("Bob");
+   }
+
+   @Test
+   @DisplayName("Should report missing rows like the element path")
+   void shouldReportMissingRows() {
+      // Given
+      snapshotReturns(List.of(List.of(0L, true, "Ann", List.of("Ann"))));
+
+      // Then
+      assertThatThrownBy(() -> table.readRow(5, TableImplTest.DummyRow.class))
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Requested row index 5 is out of valid range [1..1]");
+      assertThatThrownBy(() -> table.readRow(List.of("Bob"), TableImplTest.DummyRow.class))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("No row found containing all criteria: [Bob]");
+   }
+
+   @Test
+   @DisplayName("Should fall back to reading elements when a cell is missing from the snapshot")
+   void shouldFallBackForIncompleteRows() {
+      // Given
+      snapshotReturns(List.of(Arrays.asList(0L, true, "", Arrays.asList((Object) null))));
+      SmartWebElement cell = mock(SmartWebElement.class);
+      rowWithCell(cell);
+      when(cell.findSmartElement(By.className("dummyText"))).thenReturn(cell);
+      when(cell.getText()).thenReturn("late");
+
+      // When
+      List<TableImplTest.DummyRow> rows = table.readTable(TableImplTest.DummyRow.class);
+
+      // Then
+      assertThat(rows.get(0).getField1().getText()).isEqualTo("late");
+      assertThat(rows.get(0).getField1().getElement()).isSameAs(cell);
+   }
+
+   @Test
+   @DisplayName("Should read elements when snapshots are disabled or the driver cannot run scripts")
+   void shouldSkipSnapshotWhenUnavailable() {
+      // Given
+      when(uiConfig.tableSnapshotEnabled()).thenReturn(false);
+      SmartWebElement cell = mock(SmartWebElement.class);
+      rowWithCell(cell);
+      when(cell.findSmartElement(By.className("dummyText"))).thenReturn(cell);
+      when(cell.getText()).thenReturn("element");
+
+      // When
+      String disabled = table.readTable(TableImplTest.DummyRow.class).get(0).getField1().getText();
+      when(uiConfig.tableSnapshotEnabled()).thenReturn(true);
+      when(driver.getOriginal()).thenReturn(null);
+      String noScripts = table.readTable(TableImplTest.DummyRow.class).get(0).getField1().getText();
+
+      // Then
+      assertThat(disabled).isEqualTo("element");
+      assertThat(noScripts).isEqualTo("element");
+      verify((JavascriptExecutor) original, never()).executeScript(anyString(), any(), any(), any());
+   }
+
+   @Test
+   @DisplayName("Should not take snapshots for tables that locate rows themselves")
+   void shouldSkipSnapshotForCustomRows() {
+      // Given
+      SmartWebElement cell = mock(SmartWebElement.class);
+      SmartWebElement row = rowWithCell(cell);
+      when(cell.findSmartElement(By.className("dummyText"))).thenReturn(cell);
+      when(cell.getText()).thenReturn("custom");
+      TableImpl customRows = new SnapshotTable(driver) {
+         @Override
+         protected List<SmartWebElement> getRows(SmartWebElement tableContainer, By tableRowsLocator,
+                                                 String section) {
+            return List.of(row);
+         }
+      };
+
+      // When
+      List<TableImplTest.DummyRow> rows = customRows.readTable(TableImplTest.DummyRow.class);
+
+      // Then
+      assertThat(rows.get(0).getField1().getText()).isEqualTo("custom");
+      verify((JavascriptExecutor) original, never()).executeScript(anyString(), any(), any(), any());
+   }
+
+   static class SnapshotTable extends TableImpl {
+
+      SnapshotTable(SmartWebDriver driver) {
+         super(driver, mock(TableServiceRegistry.class));
+      }
+
+   }
+
+}
@@ -23,6 +23,7 @@ import io.cyborgcode.roa.ui.config.UiConfigHolder;
 import io.cyborgcode.roa.ui.log.LogUi;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
 import io.cyborgcode.roa.ui.selenium.smart.SmartWebElement;
+import io.cyborgcode.roa.ui.util.table.TableRowBinding;
 import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
 import io.cyborgcode.utilities.reflections.ReflectionUtil;
 import io.cyborgcode.utilities.reflections.exceptions.ReflectionException;
@@ -388,6 +389,12 @@ class TableImplTest extends BaseUnitUITest {
       }
    }
 
+   static class ErrorSetter {
+      public void setField(String value) {
+         throw new StackOverflowError("Test error");
+      }
+   }
+
    static class BadSetterTableCell {
       public void setDummyField(TableCell value) throws CustomException {
          throw new CustomException("Custom setter exception");
@@ -1619,19 +1626,17 @@ class TableImplTest extends BaseUnitUITest {
       }
 
 
-      // --- Tests for mapToCellLocator ---
+      // --- Tests for TableRowBinding.cellLocator ---
       // Testing different annotation combinations
 
       @Test
-      @DisplayName("mapToCellLocator creates CellLocator for basic field")
-      void testMapToCellLocator_BasicField() throws Exception {
+      @DisplayName("cellLocator creates CellLocator for basic field")
+      void testCellLocator_BasicField() throws Exception {
          // Given
-         var mapMethod = TableImpl.class.getDeclaredMethod("mapToCellLocator", Field.class);
-         mapMethod.setAccessible(true);
          var field = DummyRow.class.getDeclaredField("field1");
 
          // When
-         var result = (CellLocator) mapMethod.invoke(tableImpl, field);
+         var result = TableRowBinding.cellLocator(field);
 
          // Then
          assertThat(result).isNotNull();
@@ -1648,15 +1653,13 @@ class TableImplTest extends BaseUnitUITest {
       }
 
       @Test
-      @DisplayName("mapToCellLocator handles cell insertion annotation")
-      void testMapToCellLocator_WithCellInsertion() throws Exception {
+      @DisplayName("cellLocator handles cell insertion annotation")
+      void testCellLocator_WithCellInsertion() throws Exception {
          // Given
-         var mapMethod = TableImpl.class.getDeclaredMethod("mapToCellLocator", Field.class);
-         mapMethod.setAccessible(true);
          var field = InsertionRow.class.getDeclaredField("insertionField");
 
          // When
-         var result = (CellLocator) mapMethod.invoke(tableImpl, field);
+         var result = TableRowBinding.cellLocator(field);
 
          // Then
          assertThat(result).isNotNull();
@@ -1669,15 +1672,13 @@ class TableImplTest extends BaseUnitUITest {
       }
 
       @Test
-      @DisplayName("mapToCellLocator handles custom cell insertion annotation")
-      void testMapToCellLocator_WithCustomCellInsertion() throws Exception {
+      @DisplayName("cellLocator handles custom cell insertion annotation")
+      void testCellLocator_WithCustomCellInsertion() throws Exception {
          // Given
-         var mapMethod = TableImpl.class.getDeclaredMethod("mapToCellLocator", Field.class);
-         mapMethod.setAccessible(true);
          var field = CustomInsertionRow.class.getDeclaredField("customInsertionField");
 
          // When
-         var result = (CellLocator) mapMethod.invoke(tableImpl, field);
+         var result = TableRowBinding.cellLocator(field);
 
          // Then
          assertThat(result).isNotNull();
@@ -1687,15 +1688,13 @@ class TableImplTest extends BaseUnitUITest {
       }
 
       @Test
-      @DisplayName("mapToCellLocator handles cell filter annotation")
-      void testMapToCellLocator_WithCellFilter() throws Exception {
+      @DisplayName("cellLocator handles cell filter annotation")
+      void testCellLocator_WithCellFilter() throws Exception {
          // Given
-         var mapMethod = TableImpl.class.getDeclaredMethod("mapToCellLocator", Field.class);
-         mapMethod.setAccessible(true);
          var field = FilterRow.class.getDeclaredField("filterField");
 
          // When
-         var result = (CellLocator) mapMethod.invoke(tableImpl, field);
+         var result = TableRowBinding.cellLocator(field);
 
          // Then
          assertThat(result).isNotNull();
@@ -1707,15 +1706,13 @@ class TableImplTest extends BaseUnitUITest {
       }
 
       @Test
-      @DisplayName("mapToCellLocator handles custom cell filter annotation")
-      void testMapToCellLocator_WithCustomCellFilter() throws Exception {
+      @DisplayName("cellLocator handles custom cell filter annotation")
+      void testCellLocator_WithCustomCellFilter() throws Exception {
          // Given
-         var mapMethod = TableImpl.class.getDeclaredMethod("mapToCellLocator", Field.class);
-         mapMethod.setAccessible(true);
          var field = CustomFilterRow.class.getDeclaredField("customFilterField");
 
          // When
-         var result = (CellLocator) mapMethod.invoke(tableImpl, field);
+         var result = TableRowBinding.cellLocator(field);
 
          // Then
          assertThat(result).isNotNull();
@@ -1945,8 +1942,30 @@ class TableImplTest extends BaseUnitUITest {
                // We expect an InvocationTargetException here, caused by CustomException
             }
 
-            // Verify error was logged
-            LogUiMock.verify(() -> LogUi.error(anyString(), any(InvocationTargetException.class)));
+            // Verify the setter's own exception was logged as the cause
+            LogUiMock.verify(() -> LogUi.error(anyString(), any(CustomException.class)));
+         }
+      }
+
+      @Test
+      @DisplayName("invokeSetter rethrows errors thrown by the setter")
+      void testInvokeSetter_ErrorIsRethrown() throws Exception {
+         // Given
+         Method invokeSetterMethod = TableImpl.class.getDeclaredMethod(
+               "invokeSetter", Object.class, String.class, Object.class);
+         invokeSetterMethod.setAccessible(true);
+
+         try (MockedStatic<LogUi> LogUiMock = mockStatic(LogUi.class)) {
+            // When
+            var thrown = catchThrowable(() ->
+                  invokeSetterMethod.invoke(tableImpl, new ErrorSetter(), "field", "value"));
+
+            // Then
+            assertThat(thrown)
+                  .isInstanceOf(InvocationTargetException.class)
+                  .cause()
+                  .isInstanceOf(StackOverflowError.class);
+            LogUiMock.verifyNoInteractions();
          }
       }
 
@@ -4,6 +4,7 @@ import io.cyborgcode.roa.ui.components.factory.ComponentFactory;
 import io.cyborgcode.roa.ui.components.table.base.TableComponentType;
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.registry.TableServiceRegistry;
 import io.cyborgcode.roa.ui.components.table.service.mock.MockTableComponentType;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
@@ -235,6 +236,45 @@ class TableServiceImplTest extends BaseUnitUITest {
       }
    }
 
+   @Nested
+   @DisplayName("Paged Reading Method Delegation")
+   class PagedReadingTests {
+
+      private final PagingStrategy pagingStrategy = PagingStrategy.singlePage();
+
+      @Test
+      @DisplayName("streamTable(type, class, paging, fields) delegates")
+      void testStreamTable() {
+         // Given
+         doReturn(SAMPLE_ROW_LIST.stream()).when(mockTableImpl)
+               .streamTable(any(Class.class), any(PagingStrategy.class), any(TableField[].class));
+
+         // When
+         var result = service.streamTable(componentType, TEST_DATA_CLASS, pagingStrategy, mockTableField).toList();
+
+         // Then
+         assertThat(result).isEqualTo(SAMPLE_ROW_LIST);
+         verify(mockTableImpl).streamTable(TEST_DATA_CLASS, pagingStrategy, mockTableField);
+         verify(mockTableImpl).setServiceRegistry(tableServiceRegistry);
+      }
+
+      @Test
+      @DisplayName("findRow(type, criteria, class, paging, fields) delegates")
+      void testFindRow() {
+         // Given
+         doReturn(mockTestData).when(mockTableImpl)
+               .findRow(anyList(), any(Class.class), any(PagingStrategy.class), any(TableField[].class));
+
+         // When
+         var result = service.findRow(componentType, SAMPLE_CRITERIA, TEST_DATA_CLASS, pagingStrategy, mockTableField);
+
+         // Then
+         assertThat(result).isSameAs(mockTestData);
+         verify(mockTableImpl).findRow(SAMPLE_CRITERIA, TEST_DATA_CLASS, pagingStrategy, mockTableField);
+         verify(mockTableImpl).setServiceRegistry(tableServiceRegistry);
+      }
+   }
+
    @Nested
    @DisplayName("InsertCellValue Method Delegation")
    class InsertCellValueTests {
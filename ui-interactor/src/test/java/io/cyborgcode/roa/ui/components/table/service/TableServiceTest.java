@@ -2,6 +2,7 @@ package io.cyborgcode.roa.ui.components.table.service;
 
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.service.mock.MockTableComponentType;
 import io.cyborgcode.roa.ui.components.table.service.mock.MockTableService;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
@@ -200,6 +201,48 @@ class TableServiceTest extends BaseUnitUITest {
       }
    }
 
+   @Nested
+   @DisplayName("Paged Reading Default Method Tests")
+   class PagedReadingTests {
+
+      private final PagingStrategy pagingStrategy = PagingStrategy.singlePage();
+
+      @Test
+      @DisplayName("streamTable(Class, paging, fields...) delegates correctly")
+      void streamTableDefault() {
+         // Given
+         service.returnList = SAMPLE_ROW_LIST;
+
+         // When
+         var result = service.streamTable(TEST_DATA_CLASS, pagingStrategy, mockTableField).toList();
+
+         // Then
+         assertThat(result).isEqualTo(SAMPLE_ROW_LIST);
+         assertThat(service.lastComponentTypeUsed).isSameAs(DEFAULT_TYPE);
+         assertThat(service.lastClazz).isEqualTo(TEST_DATA_CLASS);
+         assertThat(service.lastPagingStrategy).isSameAs(pagingStrategy);
+         assertThat(service.lastFields).containsExactly(mockTableField);
+      }
+
+      @Test
+      @DisplayName("findRow(criteria, Class, paging, fields...) delegates correctly")
+      void findRowDefault() {
+         // Given
+         service.returnObject = ROW_DATA_STRING;
+
+         // When
+         var result = service.findRow(SAMPLE_CRITERIA, TEST_DATA_CLASS, pagingStrategy, mockTableField);
+
+         // Then
+         assertThat(result).isEqualTo(ROW_DATA_STRING);
+         assertThat(service.lastComponentTypeUsed).isSameAs(DEFAULT_TYPE);
+         assertThat(service.lastSearchCriteria).isEqualTo(SAMPLE_CRITERIA);
+         assertThat(service.lastClazz).isEqualTo(TEST_DATA_CLASS);
+         assertThat(service.lastPagingStrategy).isSameAs(pagingStrategy);
+         assertThat(service.lastFields).containsExactly(mockTableField);
+      }
+   }
+
    @Nested
    @DisplayName("InsertCellValue Default Method Tests")
    class InsertCellValueTests {
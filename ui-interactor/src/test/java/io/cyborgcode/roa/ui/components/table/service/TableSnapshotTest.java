@@ -0,0 +1,121 @@
+package io.cyborgcode.roa.ui.components.table.service;
+
+import io.cyborgcode.roa.ui.components.table.model.CellLocator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TableSnapshot Tests")
+class TableSnapshotTest {
+
+   private static final By ROWS_LOCATOR = By.cssSelector("tbody tr");
+
+   private static CellLocator cell(By locator, By textLocator, boolean collection) {
+      CellLocator cellLocator = new CellLocator();
+      cellLocator.setFieldName("field");
+      cellLocator.setLocator(locator);
+      cellLocator.setCellTextLocator(textLocator);
+      cellLocator.setCollection(collection);
+      return cellLocator;
+   }
+
+   @Test
+   @DisplayName("Should translate CSS, XPath and the locators Selenium maps to CSS")
+   void shouldTranslateSupportedLocators() {
+      // Then
+      assertThat(TableSnapshot.selector(By.cssSelector("td.name"))).contains(List.of("css", "td.name"));
+      assertThat(TableSnapshot.selector(By.xpath(".//td[2]"))).contains(List.of("xpath", ".//td[2]"));
+      assertThat(TableSnapshot.selector(By.id("cell"))).contains(List.of("css", "#cell"));
+      assertThat(TableSnapshot.selector(By.className("cell"))).contains(List.of("css", ".cell"));
+      assertThat(TableSnapshot.selector(By.tagName("td"))).contains(List.of("css", "td"));
+   }
+
+   @Test
+   @DisplayName("Should not support link text locators or custom locators")
+   void shouldRejectUnsupportedLocators() {
+      // Given
+      By custom = new By() {
+         @Override
+         public List<WebElement> findElements(org.openqa.selenium.SearchContext context) {
+            return List.of();
+         }
+      };
+
+      // Then
+      assertThat(TableSnapshot.selector(By.linkText("Edit"))).isEmpty();
+      assertThat(TableSnapshot.selector(custom)).isEmpty();
+      assertThat(TableSnapshot.supports(ROWS_LOCATOR, List.of(cell(By.tagName("td"), By.linkText("Edit"), false))))
+            .isFalse();
+      assertThat(TableSnapshot.supports(By.partialLinkText("row"), List.of())).isFalse();
+      assertThat(TableSnapshot.supports(ROWS_LOCATOR, List.of(cell(By.tagName("td"), By.xpath("."), true))))
+            .isTrue();
+   }
+
+   @Test
+   @DisplayName("Should read all rows with a single script call")
+   @SuppressWarnings("unchecked")
+   void shouldReadRowsWithSingleScript() {
+      // Given
+      JavascriptExecutor executor = mock(JavascriptExecutor.class);
+      WebElement container = mock(WebElement.class);
+      List<CellLocator> cells = List.of(
+            cell(By.className("name"), By.xpath("."), false),
+            cell(By.tagName("li"), By.tagName("span"), true));
+      when(executor.executeScript(anyString(), any(), any(), any())).thenReturn(List.of(
+            List.of(0L, true, "Ann a b", List.of("Ann", List.of("a", "b"))),
+            Arrays.asList(1L, false, "Bob", Arrays.asList(null, List.of()))));
+
+      // When
+      List<TableSnapshot.Row> rows = TableSnapshot.read(executor, container, ROWS_LOCATOR, cells);
+
+      // Then
+      ArgumentCaptor<Object> specs = ArgumentCaptor.forClass(Object.class);
+      verify(executor).executeScript(anyString(), eq(container), eq(List.of("css", "tbody tr")), specs.capture());
+      List<Map<String, Object>> captured = (List<Map<String, Object>>) specs.getValue();
+      assertThat(captured).containsExactly(
+            Map.of("cell", List.of("css", ".name"), "text", List.of("xpath", "."), "many", false),
+            Map.of("cell", List.of("css", "li"), "text", List.of("css", "span"), "many", true));
+      assertThat(rows).hasSize(2);
+      assertThat(rows.get(0)).isEqualTo(new TableSnapshot.Row(0, true, "Ann a b", List.of("Ann", List.of("a", "b"))));
+      assertThat(rows.get(1).index()).isEqualTo(1);
+      assertThat(rows.get(1).visible()).isFalse();
+   }
+
+   @Test
+   @DisplayName("Should return no rows when the script returns nothing")
+   void shouldReturnNoRowsForEmptyResult() {
+      // Given
+      JavascriptExecutor executor = mock(JavascriptExecutor.class);
+
+      // When
+      List<TableSnapshot.Row> rows = TableSnapshot.read(executor, mock(WebElement.class), ROWS_LOCATOR, List.of());
+
+      // Then
+      assertThat(rows).isEmpty();
+   }
+
+   @Test
+   @DisplayName("Should consider a row complete only if every cell and text was found")
+   void shouldDetectIncompleteRows() {
+      // Then
+      assertThat(new TableSnapshot.Row(0, true, "", List.of("a", List.of("b"))).complete()).isTrue();
+      assertThat(new TableSnapshot.Row(0, true, "", List.of("a", List.of())).complete()).isTrue();
+      assertThat(new TableSnapshot.Row(0, true, "", Arrays.asList("a", null)).complete()).isFalse();
+      assertThat(new TableSnapshot.Row(0, true, "", List.of(Arrays.asList("a", null))).complete()).isFalse();
+   }
+
+}
@@ -1,6 +1,7 @@
 package io.cyborgcode.roa.ui.components.table.service;
 
 import io.cyborgcode.roa.ui.components.table.base.TableField;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -65,4 +67,21 @@ class TableTest extends BaseUnitUITest {
          verify(tableMock).insertCellValue(SAMPLE_CRITERIA, Object.class, mockTableField, 1, SINGLE_VALUE);
       }
    }
-}
\ No newline at end of file
+
+   @Nested
+   @DisplayName("Paged Reading Default Method Tests")
+   class PagedReadingTests {
+      @Test
+      @DisplayName("streamTable and findRow are unsupported unless the implementation overrides them")
+      void pagedReadingUnsupportedByDefault() {
+         // Given
+         PagingStrategy pagingStrategy = PagingStrategy.singlePage();
+
+         // When / Then
+         assertThrows(UnsupportedOperationException.class,
+               () -> tableMock.streamTable(Object.class, pagingStrategy, mockTableField));
+         assertThrows(UnsupportedOperationException.class,
+               () -> tableMock.findRow(SAMPLE_CRITERIA, Object.class, pagingStrategy, mockTableField));
+      }
+   }
+}
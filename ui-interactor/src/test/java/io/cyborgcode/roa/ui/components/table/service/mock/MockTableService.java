@@ -3,12 +3,14 @@ package io.cyborgcode.roa.ui.components.table.service.mock;
 import io.cyborgcode.roa.ui.components.table.base.TableComponentType;
 import io.cyborgcode.roa.ui.components.table.base.TableField;
 import io.cyborgcode.roa.ui.components.table.filters.FilterStrategy;
+import io.cyborgcode.roa.ui.components.table.paging.PagingStrategy;
 import io.cyborgcode.roa.ui.components.table.service.TableService;
 import io.cyborgcode.roa.ui.components.table.sort.SortingStrategy;
 import io.cyborgcode.roa.validator.core.Assertion;
 import io.cyborgcode.roa.validator.core.AssertionResult;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 @SuppressWarnings("all")
 public class MockTableService implements TableService {
@@ -26,6 +28,7 @@ public class MockTableService implements TableService {
    public FilterStrategy lastFilterStrategy;
    public String[] lastValues;
    public SortingStrategy lastSortingStrategy;
+   public PagingStrategy lastPagingStrategy;
    public Object lastValidationTable;
    public Assertion[] lastAssertions;
 
@@ -72,6 +75,7 @@ public class MockTableService implements TableService {
       lastFilterStrategy = null;
       lastValues = null;
       lastSortingStrategy = null;
+      lastPagingStrategy = null;
       lastValidationTable = null;
       lastAssertions = null;
       returnList = Collections.emptyList();
@@ -147,6 +151,26 @@ public class MockTableService implements TableService {
       return returnObject;
    }
 
+   @Override
+   public Stream streamTable(TableComponentType tct, Class clazz, PagingStrategy pagingStrategy, TableField... fields) {
+      setLastType(tct);
+      lastClazz = clazz;
+      lastPagingStrategy = pagingStrategy;
+      lastFields = fields;
+      return returnList.stream();
+   }
+
+   @Override
+   public Object findRow(TableComponentType tct, List searchCriteria, Class clazz, PagingStrategy pagingStrategy,
+                         TableField... fields) {
+      setLastType(tct);
+      lastSearchCriteria = searchCriteria;
+      lastClazz = clazz;
+      lastPagingStrategy = pagingStrategy;
+      lastFields = fields;
+      return returnObject;
+   }
+
    @Override
    public void insertCellValue(TableComponentType tct, int row, Class tClass, Object data) {
       setLastType(tct);
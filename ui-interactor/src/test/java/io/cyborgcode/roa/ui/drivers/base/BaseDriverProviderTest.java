@@ -0,0 +1,88 @@
+package io.cyborgcode.roa.ui.drivers.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("BaseDriverProvider Tests")
+class BaseDriverProviderTest {
+
+   @Test
+   @DisplayName("Should resolve the driver binary once per driver type and version")
+   void shouldResolveOncePerVersion() {
+      // Given
+      CountingProvider provider = new CountingProvider();
+
+      // When
+      provider.setupDriver(null);
+      provider.setupDriver("");
+      provider.setupDriver("123.0");
+      provider.setupDriver("123.0");
+
+      // Then
+      assertEquals(List.of("latest", "123.0"), provider.downloads);
+   }
+
+   @Test
+   @DisplayName("Should resolve the driver binary once when browsers start in parallel")
+   void shouldResolveOnceUnderParallelSetup() {
+      // Given
+      CountingProvider provider = new CountingProvider();
+
+      // When
+      CompletableFuture.allOf(IntStream.range(0, 16)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> provider.setupDriver("124.0")))
+            .toArray(CompletableFuture[]::new)).join();
+
+      // Then
+      assertEquals(1, provider.downloads.size());
+   }
+
+   /**
+    * Records the versions it was asked to download, under a driver type unique to the test.
+    */
+   private static final class CountingProvider extends BaseDriverProvider<ChromeOptions> {
+
+      private final String type = "COUNTING-" + UUID.randomUUID();
+
+      private final List<String> downloads = new ArrayList<>();
+
+      @Override
+      protected String getDriverType() {
+         return type;
+      }
+
+      @Override
+      public ChromeOptions createOptions() {
+         return new ChromeOptions();
+      }
+
+      @Override
+      public WebDriver createDriver(ChromeOptions options) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void applyDefaultArguments(ChromeOptions options) {
+      }
+
+      @Override
+      public void applyHeadlessArguments(ChromeOptions options) {
+      }
+
+      @Override
+      public synchronized void downloadDriver(String version) {
+         downloads.add(version == null || version.isEmpty() ? "latest" : version);
+      }
+
+   }
+
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.AbstractDriverOptions;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -176,4 +178,51 @@ class WebDriverFactoryTest {
                "Exception cause should be the original exception");
       }
    }
-}
\ No newline at end of file
+
+   @Test
+   void testCreateRemoteDriverSkipsLocalDriverSetup() throws Exception {
+      // Given a remote configuration for a custom provider
+      String remoteType = "REMOTE_ONLY";
+      WebDriverFactory.registerDriver(remoteType, customProvider);
+      when(config.isRemote()).thenReturn(true);
+
+      try (MockedConstruction<DriverCreator> mockedCreator = mockConstruction(
+            DriverCreator.class,
+            (mock, context) -> {
+               try {
+                  when(mock.createDriver(any(), any())).thenReturn(webDriver);
+               } catch (MalformedURLException e) {
+                  throw new RuntimeException(e);
+               }
+            })) {
+
+         // When creating the driver
+         WebDriver result = WebDriverFactory.createDriver(remoteType, config);
+
+         // Then no local driver binary is resolved
+         assertSame(webDriver, result, "The created WebDriver should be returned");
+         verify(customProvider, never()).setupDriver(any());
+      }
+   }
+
+   @Test
+   void testCreateOptionsDoesNotStartBrowser() {
+      // Given a headless configuration for a custom provider
+      String optionsType = "OPTIONS_ONLY";
+      WebDriverFactory.registerDriver(optionsType, customProvider);
+      AbstractDriverOptions<?> options = mock(AbstractDriverOptions.class);
+      when(customProvider.createOptions()).thenReturn(options);
+      when(config.isHeadless()).thenReturn(true);
+
+      // When creating the options
+      Capabilities result = WebDriverFactory.createOptions(optionsType, config);
+
+      // Then the options are configured like those of a started browser, without starting it
+      assertSame(options, result, "The configured options should be returned");
+      verify(customProvider).applyDefaultArguments(options);
+      verify(customProvider).applyHeadlessArguments(options);
+      verify(customProvider, never()).setupDriver(any());
+      verify(customProvider, never()).createDriver(any());
+   }
+
+}
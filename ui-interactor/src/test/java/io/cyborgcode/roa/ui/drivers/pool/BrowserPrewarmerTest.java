@@ -0,0 +1,172 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("BrowserPrewarmer Tests")
+class BrowserPrewarmerTest {
+
+   private static final SessionKey CHROME = new SessionKey("CHROME", "", true, "", Map.of());
+   private static final SessionKey EDGE = new SessionKey("EDGE", "", true, "", Map.of());
+   private static final Executor SAME_THREAD = Runnable::run;
+
+   private final List<SmartWebDriver> started = new ArrayList<>();
+
+   private final Supplier<SmartWebDriver> factory = () -> {
+      SmartWebDriver driver = mock(SmartWebDriver.class);
+      synchronized (started) {
+         started.add(driver);
+      }
+      return driver;
+   };
+
+   @Test
+   @DisplayName("Should start the first browser on demand and pre-warm the following ones")
+   void shouldPrewarmAfterFirstTake() {
+      // Given
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(2, SAME_THREAD);
+
+      // When
+      SmartWebDriver first = prewarmer.take(CHROME, factory);
+
+      // Then
+      assertEquals(3, started.size());
+      assertSame(started.get(2), first);
+   }
+
+   @Test
+   @DisplayName("Should hand over a pre-warmed browser and start its replacement")
+   void shouldHandOverWarmBrowser() {
+      // Given
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(1, SAME_THREAD);
+      prewarmer.take(CHROME, factory);
+      SmartWebDriver warm = started.get(0);
+
+      // When
+      SmartWebDriver second = prewarmer.take(CHROME, factory);
+
+      // Then
+      assertSame(warm, second);
+      assertEquals(3, started.size());
+   }
+
+   @Test
+   @DisplayName("Should keep pre-warmed browsers separate per session key")
+   void shouldSeparateKeys() {
+      // Given
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(1, SAME_THREAD);
+      prewarmer.take(CHROME, factory);
+      SmartWebDriver warmChrome = started.get(0);
+
+      // When
+      SmartWebDriver edge = prewarmer.take(EDGE, factory);
+
+      // Then
+      assertNotSame(warmChrome, edge);
+      assertEquals(4, started.size());
+   }
+
+   @Test
+   @DisplayName("Should start a browser on demand when the pre-warmed one failed to start")
+   void shouldFallBackWhenWarmStartFailed() {
+      // Given
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(1, SAME_THREAD);
+      int[] calls = {0};
+      Supplier<SmartWebDriver> flaky = () -> {
+         if (++calls[0] == 1) {
+            throw new IllegalStateException("browser crashed on startup");
+         }
+         return factory.get();
+      };
+      prewarmer.take(CHROME, flaky);
+
+      // When
+      SmartWebDriver driver = prewarmer.take(CHROME, flaky);
+
+      // Then
+      assertSame(started.get(started.size() - 1), driver);
+   }
+
+   @Test
+   @DisplayName("Should wait for a pre-warmed browser that is still starting")
+   void shouldWaitForStartingBrowser() throws Exception {
+      // Given
+      CountDownLatch release = new CountDownLatch(1);
+      Executor newThread = task -> new Thread(task).start();
+      Executor delayed = task -> newThread.execute(() -> {
+         await(release);
+         task.run();
+      });
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(1, delayed);
+      List<SmartWebDriver> firstKeyDrivers = new ArrayList<>();
+      prewarmer.take(CHROME, () -> {
+         SmartWebDriver driver = mock(SmartWebDriver.class);
+         synchronized (firstKeyDrivers) {
+            firstKeyDrivers.add(driver);
+         }
+         return driver;
+      });
+
+      // When
+      CompletableFuture<SmartWebDriver> second =
+            CompletableFuture.supplyAsync(() -> prewarmer.take(CHROME, factory), newThread);
+      release.countDown();
+      SmartWebDriver handedOver = second.get(5, TimeUnit.SECONDS);
+
+      // Then
+      synchronized (firstKeyDrivers) {
+         assertEquals(2, firstKeyDrivers.size());
+         assertSame(firstKeyDrivers.get(1), handedOver);
+      }
+   }
+
+   @Test
+   @DisplayName("Should quit unclaimed browsers and stop pre-warming on shutdown")
+   void shouldQuitUnclaimedBrowsersOnShutdown() {
+      // Given
+      BrowserPrewarmer prewarmer = new BrowserPrewarmer(1, SAME_THREAD);
+      SmartWebDriver taken = prewarmer.take(CHROME, factory);
+      SmartWebDriver unclaimed = started.get(0);
+
+      // When
+      prewarmer.shutdown();
+      prewarmer.take(CHROME, factory);
+
+      // Then
+      verify(unclaimed).quit();
+      verify(taken, never()).quit();
+      assertEquals(3, started.size());
+   }
+
+   @Test
+   @DisplayName("Should reject a pre-warmer without sessions")
+   void shouldRejectNonPositiveSessions() {
+      assertThrows(IllegalArgumentException.class, () -> new BrowserPrewarmer(0, SAME_THREAD));
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
@@ -0,0 +1,114 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.DevTools;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("SessionReset Tests")
+class SessionResetTest {
+
+   @Test
+   @DisplayName("Should close extra windows, clear storage and cookies and navigate to a blank page")
+   void shouldResetSession() {
+      // Given
+      WebDriver driver = mock(WebDriver.class,
+            withSettings().extraInterfaces(JavascriptExecutor.class).defaultAnswer(RETURNS_DEEP_STUBS));
+      when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of("main", "popup")));
+
+      // When
+      boolean reset = SessionReset.reset(smart(driver));
+
+      // Then
+      assertTrue(reset);
+      InOrder order = inOrder(driver);
+      order.verify((JavascriptExecutor) driver).executeScript(anyString());
+      order.verify(driver).get("about:blank");
+      verify(driver.switchTo().window("popup")).close();
+      verify(driver.switchTo()).window("main");
+      verify(driver.manage()).deleteAllCookies();
+   }
+
+   @Test
+   @DisplayName("Should clear the cookies of all domains through DevTools on Chromium browsers")
+   void shouldClearCookiesThroughDevTools() {
+      // Given
+      WebDriver driver = mock(WebDriver.class,
+            withSettings().extraInterfaces(JavascriptExecutor.class, HasCdp.class).defaultAnswer(RETURNS_DEEP_STUBS));
+      when(driver.getWindowHandles()).thenReturn(Set.of("main"));
+
+      // When
+      boolean reset = SessionReset.reset(smart(driver));
+
+      // Then
+      assertTrue(reset);
+      verify((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+      verify(driver, never()).manage();
+      verify(driver, never()).switchTo();
+   }
+
+   @Test
+   @DisplayName("Should close the DevTools session and its listeners before the session is reused")
+   void shouldCloseDevToolsSession() {
+      // Given
+      WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+      when(driver.getWindowHandles()).thenReturn(Set.of("main"));
+      DevTools devTools = mock(DevTools.class);
+      SmartWebDriver smartWebDriver = smart(driver);
+      when(smartWebDriver.getDevToolsSession()).thenReturn(devTools);
+
+      // When
+      boolean reset = SessionReset.reset(smartWebDriver);
+
+      // Then
+      assertTrue(reset);
+      InOrder order = inOrder(smartWebDriver, devTools, driver);
+      order.verify(smartWebDriver).setDevToolsSession(null);
+      order.verify(devTools).clearListeners();
+      order.verify(devTools).disconnectSession();
+      order.verify(driver).get("about:blank");
+   }
+
+   @Test
+   @DisplayName("Should report a session that could not be reset")
+   void shouldReportFailedReset() {
+      // Given
+      WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+      when(driver.getWindowHandles()).thenReturn(Set.of("main"));
+      doThrow(new WebDriverException("browser crashed")).when(driver).get("about:blank");
+
+      // When
+      boolean reset = SessionReset.reset(smart(driver));
+
+      // Then
+      assertFalse(reset);
+   }
+
+   private static SmartWebDriver smart(WebDriver driver) {
+      SmartWebDriver smartWebDriver = mock(SmartWebDriver.class);
+      when(smartWebDriver.getOriginal()).thenReturn(driver);
+      return smartWebDriver;
+   }
+
+}
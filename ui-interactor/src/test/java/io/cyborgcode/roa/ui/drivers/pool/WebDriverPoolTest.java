@@ -0,0 +1,307 @@
+package io.cyborgcode.roa.ui.drivers.pool;
+
+import io.cyborgcode.roa.ui.selenium.smart.SmartWebDriver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WebDriverPool Tests")
+class WebDriverPoolTest {
+
+   private static final SessionKey CHROME = new SessionKey("CHROME", "", true, "", Map.of());
+   private static final SessionKey EDGE = new SessionKey("EDGE", "", true, "", Map.of());
+   private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+   private final List<SmartWebDriver> created = new ArrayList<>();
+
+   private final Supplier<SmartWebDriver> factory = () -> {
+      SmartWebDriver driver = mock(SmartWebDriver.class);
+      synchronized (created) {
+         created.add(driver);
+      }
+      return driver;
+   };
+
+   @Test
+   @DisplayName("Should reuse a healthy session for the next test with the same key")
+   void shouldReuseHealthySession() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(2, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver first = pool.checkout(CHROME, factory);
+
+      // When
+      boolean pooled = pool.checkin(first, true);
+      SmartWebDriver second = pool.checkout(CHROME, factory);
+
+      // Then
+      assertTrue(pooled);
+      assertSame(first, second);
+      assertEquals(1, created.size());
+      verify(first, never()).quit();
+   }
+
+   @Test
+   @DisplayName("Should not hand a session to a test requesting another key")
+   void shouldSeparateSessionsByKey() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(2, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver chrome = pool.checkout(CHROME, factory);
+      pool.checkin(chrome, true);
+
+      // When
+      SmartWebDriver edge = pool.checkout(EDGE, factory);
+
+      // Then
+      assertNotSame(chrome, edge);
+      assertEquals(2, created.size());
+   }
+
+   @Test
+   @DisplayName("Should not hand a session to a test requesting the same browser with other capabilities")
+   void shouldSeparateSessionsByCapabilities() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(2, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver chrome = pool.checkout(CHROME, factory);
+      pool.checkin(chrome, true);
+      SessionKey mobile = new SessionKey("CHROME", "", true, "", Map.of("mobileEmulation", "Pixel 7"));
+
+      // When
+      SmartWebDriver emulated = pool.checkout(mobile, factory);
+
+      // Then
+      assertNotSame(chrome, emulated);
+      assertEquals(2, created.size());
+   }
+
+   @Test
+   @DisplayName("Should quit the session of a failed test")
+   void shouldDiscardSessionOfFailedTest() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver first = pool.checkout(CHROME, factory);
+
+      // When
+      pool.checkin(first, false);
+      SmartWebDriver second = pool.checkout(CHROME, factory);
+
+      // Then
+      verify(first).quit();
+      assertNotSame(first, second);
+   }
+
+   @Test
+   @DisplayName("Should recycle a session once it served the maximum number of tests")
+   void shouldRecycleAfterMaxUses() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 2, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver driver = pool.checkout(CHROME, factory);
+      pool.checkin(driver, true);
+      assertSame(driver, pool.checkout(CHROME, factory));
+
+      // When
+      pool.checkin(driver, true);
+      SmartWebDriver next = pool.checkout(CHROME, factory);
+
+      // Then
+      verify(driver).quit();
+      assertNotSame(driver, next);
+   }
+
+   @Test
+   @DisplayName("Should quit a session that could not be reset")
+   void shouldDiscardSessionFailingReset() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, driver -> null);
+      SmartWebDriver driver = pool.checkout(CHROME, factory);
+
+      // When
+      pool.checkin(driver, true);
+
+      // Then
+      verify(driver).quit();
+      assertNotSame(driver, pool.checkout(CHROME, factory));
+   }
+
+   @Test
+   @DisplayName("Should release a session kept for the run without quitting it")
+   void shouldDetachSessionKeptForRun() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver kept = pool.checkout(CHROME, factory);
+      when(kept.isKeepDriverForSession()).thenReturn(true);
+
+      // When
+      boolean pooled = pool.checkin(kept, true);
+      SmartWebDriver next = pool.checkout(CHROME, factory);
+
+      // Then
+      assertTrue(pooled);
+      verify(kept, never()).quit();
+      assertNotSame(kept, next);
+   }
+
+   @Test
+   @DisplayName("Should evict an idle session of another key when the pool is full")
+   void shouldEvictIdleSessionWhenFull() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver chrome = pool.checkout(CHROME, factory);
+      pool.checkin(chrome, true);
+
+      // When
+      SmartWebDriver edge = pool.checkout(EDGE, factory);
+
+      // Then
+      verify(chrome).quit();
+      assertNotSame(chrome, edge);
+   }
+
+   @Test
+   @DisplayName("Should fail the checkout when no session is checked in within the timeout")
+   void shouldTimeOutWhenAllSessionsAreInUse() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, Duration.ofMillis(50), UnaryOperator.identity());
+      pool.checkout(CHROME, factory);
+
+      // When
+      IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> pool.checkout(CHROME, factory));
+
+      // Then
+      assertTrue(exception.getMessage().contains("all 1 pooled sessions are in use"));
+   }
+
+   @Test
+   @DisplayName("Should hand a checked-in session to a waiting test")
+   void shouldWakeWaitingCheckout() throws Exception {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver first = pool.checkout(CHROME, factory);
+      CompletableFuture<SmartWebDriver> waiting = CompletableFuture.supplyAsync(() -> pool.checkout(CHROME, factory));
+
+      // When
+      Thread.sleep(50);
+      pool.checkin(first, true);
+
+      // Then
+      assertSame(first, waiting.get(5, TimeUnit.SECONDS));
+      assertEquals(1, created.size());
+   }
+
+   @Test
+   @DisplayName("Should free the slot of a session that failed to start")
+   void shouldReleaseSlotWhenCreationFails() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, Duration.ofMillis(50), UnaryOperator.identity());
+
+      // When
+      assertThrows(IllegalStateException.class, () -> pool.checkout(CHROME, () -> {
+         throw new IllegalStateException("browser did not start");
+      }));
+
+      // Then
+      pool.checkout(CHROME, factory);
+      assertEquals(1, created.size());
+   }
+
+   @Test
+   @DisplayName("Should leave drivers that were not checked out to the caller")
+   void shouldIgnoreForeignDrivers() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(1, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver foreign = mock(SmartWebDriver.class);
+
+      // When
+      boolean pooled = pool.checkin(foreign, true);
+
+      // Then
+      assertFalse(pooled);
+      verify(foreign, never()).quit();
+   }
+
+   @Test
+   @DisplayName("Should quit idle sessions on shutdown")
+   void shouldQuitIdleSessionsOnShutdown() {
+      // Given
+      WebDriverPool pool = new WebDriverPool(2, 10, TIMEOUT, UnaryOperator.identity());
+      SmartWebDriver idle = pool.checkout(CHROME, factory);
+      SmartWebDriver busy = pool.checkout(CHROME, factory);
+      pool.checkin(idle, true);
+
+      // When
+      pool.shutdown();
+
+      // Then
+      verify(idle).quit();
+      verify(busy, never()).quit();
+   }
+
+   @Test
+   @DisplayName("Should never open more sessions than the pool size under parallel use")
+   void shouldBoundSessionsUnderParallelUse() throws InterruptedException {
+      // Given
+      WebDriverPool pool = new WebDriverPool(3, 5, TIMEOUT, UnaryOperator.identity());
+      AtomicInteger inUse = new AtomicInteger();
+      AtomicInteger maxInUse = new AtomicInteger();
+      int tests = 200;
+      CountDownLatch done = new CountDownLatch(tests);
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+
+      // When
+      for (int i = 0; i < tests; i++) {
+         SessionKey key = i % 3 == 0 ? EDGE : CHROME;
+         boolean healthy = i % 7 != 0;
+         executor.execute(() -> {
+            try {
+               SmartWebDriver driver = pool.checkout(key, factory);
+               maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+               inUse.decrementAndGet();
+               pool.checkin(driver, healthy);
+            } finally {
+               done.countDown();
+            }
+         });
+      }
+      boolean finished = done.await(30, TimeUnit.SECONDS);
+      executor.shutdown();
+      pool.shutdown();
+
+      // Then
+      assertTrue(finished);
+      assertTrue(maxInUse.get() <= 3);
+      assertTrue(created.size() < tests);
+      created.forEach(driver -> verify(driver).quit());
+   }
+
+   @Test
+   @DisplayName("Should reject a pool without capacity")
+   void shouldRejectNonPositiveLimits() {
+      assertThrows(IllegalArgumentException.class,
+            () -> new WebDriverPool(0, 10, TIMEOUT, UnaryOperator.identity()));
+      assertThrows(IllegalArgumentException.class,
+            () -> new WebDriverPool(1, 0, TIMEOUT, UnaryOperator.identity()));
+   }
+
+}
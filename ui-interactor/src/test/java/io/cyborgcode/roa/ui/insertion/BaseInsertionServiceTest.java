@@ -226,6 +226,92 @@ public class BaseInsertionServiceTest {
       }
    }
 
+   // --- Tests for the shared field plans ---
+   @Nested
+   @DisplayName("Field plans")
+   class FieldPlanTests {
+
+      @Test
+      @DisplayName("Repeated insertions of the same data class reuse the sorted fields")
+      void testFieldPlanIsReused() {
+         class CountingService extends TestInsertionService {
+            private int orderCalls;
+
+            CountingService(InsertionServiceRegistry registry) {
+               super(registry);
+            }
+
+            @Override
+            protected int getOrder(DummyAnnotation annotation) {
+               orderCalls++;
+               return super.getOrder(annotation);
+            }
+         }
+
+         InsertionServiceRegistry registry = new InsertionServiceRegistry();
+         Insertion mockInsertion = mock(Insertion.class);
+         registry.registerService(DummyComponentType.class, mockInsertion);
+         CountingService first = new CountingService(registry);
+         CountingService second = new CountingService(registry);
+
+         first.insertData(new DummyDTO());
+         int callsAfterFirstInsertion = first.orderCalls;
+         first.insertData(new DummyDTO());
+         second.insertData(new DummyDTO());
+
+         assertTrue(callsAfterFirstInsertion > 0, "Expected the first insertion to sort the fields");
+         assertEquals(callsAfterFirstInsertion, first.orderCalls, "Expected the sorted fields to be reused");
+         assertEquals(0, second.orderCalls, "Expected the sorted fields to be shared by all instances");
+         InOrder inOrder = inOrder(mockInsertion);
+         for (int i = 0; i < 3; i++) {
+            inOrder.verify(mockInsertion).insertion(eq(DummyEnum.VALUE1), any(By.class), eq("value1"));
+            inOrder.verify(mockInsertion).insertion(eq(DummyEnum.VALUE1), any(By.class), eq("value2"));
+         }
+      }
+
+      @Test
+      @DisplayName("Each insertion service class plans the fields of a data class on its own")
+      void testFieldPlanIsKeptPerServiceClass() {
+         class FirstService extends TestInsertionService {
+            private int orderCalls;
+
+            FirstService(InsertionServiceRegistry registry) {
+               super(registry);
+            }
+
+            @Override
+            protected int getOrder(DummyAnnotation annotation) {
+               orderCalls++;
+               return super.getOrder(annotation);
+            }
+         }
+         class SecondService extends TestInsertionService {
+            private int orderCalls;
+
+            SecondService(InsertionServiceRegistry registry) {
+               super(registry);
+            }
+
+            @Override
+            protected int getOrder(DummyAnnotation annotation) {
+               orderCalls++;
+               return super.getOrder(annotation);
+            }
+         }
+
+         InsertionServiceRegistry registry = new InsertionServiceRegistry();
+         registry.registerService(DummyComponentType.class, mock(Insertion.class));
+         FirstService first = new FirstService(registry);
+         SecondService second = new SecondService(registry);
+
+         first.insertData(new DummyDTO());
+         second.insertData(new DummyDTO());
+
+         assertTrue(first.orderCalls > 0, "Expected the first service class to sort the fields");
+         assertTrue(second.orderCalls > 0, "Expected the second service class to sort the fields on its own");
+      }
+   }
+
    // --- Tests for the extractComponentTypeClass helper method ---
    @Nested
    @DisplayName("Method: extractComponentTypeClass")
@@ -0,0 +1,139 @@
+package io.cyborgcode.roa.ui.jfr;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ElementEvent Tests")
+class ElementEventTest {
+
+   @TempDir
+   Path tempDir;
+
+   @Test
+   @DisplayName("Should record the action, locator, wait time and recovery of an element action")
+   void shouldRecordElementAction() throws IOException {
+      // Given
+      AtomicReference<String> waitedFor = new AtomicReference<>();
+      Consumer<String> wait = condition -> {
+         waitedFor.set(condition);
+         sleep(5);
+      };
+      Path file = tempDir.resolve("actions.jfr");
+
+      // When
+      try (Recording recording = new Recording()) {
+         recording.enable(ElementActionEvent.NAME);
+         recording.start();
+         ElementActionEvent event = new ElementActionEvent();
+         event.begin();
+         event.timed(wait).accept("clickable");
+         event.recovered();
+         event.finish("click", "By.id: submit");
+         recording.stop();
+         recording.dump(file);
+      }
+
+      // Then
+      List<RecordedEvent> events = readEvents(file, ElementActionEvent.NAME);
+      assertEquals(1, events.size());
+      RecordedEvent event = events.get(0);
+      assertEquals("clickable", waitedFor.get());
+      assertEquals("click", event.getString("action"));
+      assertEquals("By.id: submit", event.getString("locator"));
+      assertTrue(event.getBoolean("recovered"));
+      assertTrue(event.getDuration("waitTime").compareTo(Duration.ofMillis(5)) >= 0);
+   }
+
+   @Test
+   @DisplayName("Should record the locator of an element lookup")
+   void shouldRecordElementLookup() throws IOException {
+      // Given
+      Path file = tempDir.resolve("lookups.jfr");
+
+      // When
+      try (Recording recording = new Recording()) {
+         recording.enable(ElementLookupEvent.NAME);
+         recording.start();
+         ElementLookupEvent event = new ElementLookupEvent();
+         event.begin();
+         event.finish("By.cssSelector: .row");
+         recording.stop();
+         recording.dump(file);
+      }
+
+      // Then
+      List<RecordedEvent> events = readEvents(file, ElementLookupEvent.NAME);
+      assertEquals(1, events.size());
+      assertEquals("By.cssSelector: .row", events.get(0).getString("locator"));
+      assertFalse(events.get(0).getBoolean("recovered"));
+   }
+
+   @Test
+   @DisplayName("Should leave waits untimed while no recording wants the event")
+   void shouldNotTimeWaitsWithoutRecording() {
+      // Given
+      Consumer<String> wait = condition -> {
+      };
+
+      // When
+      Consumer<String> timed = new ElementActionEvent().timed(wait);
+
+      // Then
+      assertSame(wait, timed);
+   }
+
+   @Test
+   @DisplayName("Should be enabled by the settings profile shipped in the jar")
+   void shouldBeEnabledByShippedProfile() throws IOException, ParseException {
+      // Given
+      try (Reader reader = new InputStreamReader(Objects.requireNonNull(
+            getClass().getClassLoader().getResourceAsStream("META-INF/roa/flight-recorder.jfc")),
+            StandardCharsets.UTF_8)) {
+
+         // When
+         Map<String, String> settings = Configuration.create(reader).getSettings();
+
+         // Then
+         assertEquals("true", settings.get(ElementLookupEvent.NAME + "#enabled"));
+         assertEquals("true", settings.get(ElementActionEvent.NAME + "#enabled"));
+      }
+   }
+
+   private static List<RecordedEvent> readEvents(Path file, String name) throws IOException {
+      return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+   }
+
+   private static void sleep(long millis) {
+      try {
+         TimeUnit.MILLISECONDS.sleep(millis);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -157,7 +159,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartDriver.getOriginal()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class))).thenReturn(foundElement);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(foundElement);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -172,7 +174,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 assertEquals(jsDriver, result.getDriver());
 
                 // Verify the script was executed with the right parameters
-                verify((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class));
+                verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class));
             }
         }
 
@@ -186,7 +188,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // When
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartDriver.getOriginal()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class))).thenReturn(null);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(null);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -198,6 +200,42 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 );
             }
         }
+
+        @Test
+        @DisplayName("findElementInShadowRoots should pass the wait and the single result mode to the script")
+        void findElementInShadowRootsShouldPassWaitAndSingleResultMode() {
+            // Given
+            WebElement foundElement = mock(WebElement.class);
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(foundElement);
+            ArgumentCaptor<Map<String, Object>> selector = ArgumentCaptor.forClass(Map.class);
+
+            // When
+            findElementInShadowRoots(smartDriver, By.cssSelector("button.primary"), 2500L);
+
+            // Then
+            verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), selector.capture());
+            assertEquals("css", selector.getValue().get("type"));
+            assertEquals("button.primary", selector.getValue().get("value"));
+            assertEquals(2500L, selector.getValue().get("maxWait"));
+            assertEquals(false, selector.getValue().get("many"));
+        }
+
+        @Test
+        @DisplayName("findElementInShadowRoots should throw exception when the lookup exceeds the script timeout")
+        void findElementInShadowRootsShouldThrowExceptionWhenScriptTimesOut() {
+            // Given
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class)))
+                    .thenThrow(new ScriptTimeoutException("script timeout"));
+
+            // Then
+            assertThrows(UiInteractionException.class,
+                    () -> findElementInShadowRoots(smartDriver, By.id("testId"), 60_000L)
+            );
+        }
     }
 
     @Nested
@@ -214,7 +252,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartElement.getDriver()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class))).thenReturn(foundElement);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class))).thenReturn(foundElement);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -229,7 +267,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 assertEquals(jsDriver, result.getDriver());
 
                 // Verify the script was executed
-                verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class));
+                verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class));
             }
         }
 
@@ -243,7 +281,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartElement.getDriver()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class))).thenReturn(null);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class))).thenReturn(null);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -287,7 +325,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartDriver.getOriginal()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class))).thenReturn(foundElements);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(foundElements);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -307,7 +345,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 }
 
                 // Verify the script was executed
-                verify((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class));
+                verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class));
             }
         }
 
@@ -320,7 +358,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartDriver.getOriginal()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), any(Map.class))).thenReturn(null);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(null);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -334,6 +372,48 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 assertTrue(results.isEmpty());
             }
         }
+
+        @Test
+        @DisplayName("findElementsInShadowRoots should ask the script for all matches")
+        void findElementsInShadowRootsShouldRequestAllMatches() {
+            // Given
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class))).thenReturn(List.of());
+            ArgumentCaptor<Map<String, Object>> selector = ArgumentCaptor.forClass(Map.class);
+
+            try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
+                configHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+
+                // When
+                ShadowDomUtils.findElementsInShadowRoots(smartDriver, By.className("row"));
+
+                // Then
+                verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), selector.capture());
+                assertEquals(10_000L, selector.getValue().get("maxWait"));
+                assertEquals(true, selector.getValue().get("many"));
+            }
+        }
+
+        @Test
+        @DisplayName("findElementsInShadowRoots should return empty list when the lookup exceeds the script timeout")
+        void findElementsInShadowRootsShouldReturnEmptyListWhenScriptTimesOut() {
+            // Given
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class)))
+                    .thenThrow(new ScriptTimeoutException("script timeout"));
+
+            try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
+                configHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+
+                // When
+                List<SmartWebElement> results = ShadowDomUtils.findElementsInShadowRoots(smartDriver, By.id("testId"));
+
+                // Then
+                assertTrue(results.isEmpty());
+            }
+        }
     }
 
     @Nested
@@ -352,7 +432,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartElement.getDriver()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class))).thenReturn(foundElements);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class))).thenReturn(foundElements);
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -372,7 +452,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
                 }
 
                 // Verify the script was executed
-                verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class));
+                verify((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class));
             }
         }
 
@@ -399,7 +479,7 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             // Configure driver as a JavascriptExecutor for this test only
             WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
             when(smartElement.getDriver()).thenReturn(jsDriver);
-            when(((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(webElement), any(Map.class))).thenReturn("not a list");
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), eq(webElement), any(Map.class))).thenReturn("not a list");
 
             try (MockedStatic<UiConfigHolder> configHolderMock = mockStatic(UiConfigHolder.class)) {
                 // Set up mocks
@@ -489,6 +569,50 @@ class ShadowDomUtilsTest extends BaseUnitUITest {
             assertFalse(result);
         }
 
+        @Test
+        @DisplayName("shadowRootElementsPresent and lookups should install the same shadow root index")
+        void shadowRootElementsPresentAndLookupsShouldShareTheIndex() {
+            // Given
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeScript(anyString())).thenReturn(Boolean.TRUE);
+            when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any(Map.class)))
+                    .thenReturn(mock(WebElement.class));
+            ArgumentCaptor<String> presenceScript = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> findScript = ArgumentCaptor.forClass(String.class);
+
+            // When
+            ShadowDomUtils.shadowRootElementsPresent(smartDriver);
+            findElementInShadowRoots(smartDriver, By.id("testId"), 0L);
+
+            // Then
+            verify((JavascriptExecutor) jsDriver).executeScript(presenceScript.capture());
+            verify((JavascriptExecutor) jsDriver).executeAsyncScript(findScript.capture(), any(Map.class));
+            assertTrue(presenceScript.getValue().startsWith("if (!window.__roaShadowIndex)"));
+            assertTrue(findScript.getValue().startsWith("if (!window.__roaShadowIndex)"));
+            assertFalse(presenceScript.getValue().contains("querySelectorAll('*')"));
+        }
+
+        @Test
+        @DisplayName("shadow root index should only observe attributes and attachShadow while a lookup waits")
+        void shadowRootIndexShouldOnlyObserveContentWhileWaiting() {
+            // Given
+            WebDriver jsDriver = mock(WebDriver.class, org.mockito.Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+            when(smartDriver.getOriginal()).thenReturn(jsDriver);
+            when(((JavascriptExecutor) jsDriver).executeScript(anyString())).thenReturn(Boolean.TRUE);
+            ArgumentCaptor<String> script = ArgumentCaptor.forClass(String.class);
+
+            // When
+            ShadowDomUtils.shadowRootElementsPresent(smartDriver);
+
+            // Then
+            verify((JavascriptExecutor) jsDriver).executeScript(script.capture());
+            assertTrue(script.getValue().contains("observer.observe(document, structure);"));
+            assertTrue(script.getValue().contains("const structure = { childList: true, subtree: true };"));
+            assertFalse(script.getValue().contains("Element.prototype.attachShadow = function"));
+            assertTrue(script.getValue().contains("contentObserver.disconnect();"));
+        }
+
         @Test
         @DisplayName("shadowRootElementsPresent with element should return false when element is null")
         void shadowRootElementsPresentWithElementShouldReturnFalseWhenElementIsNull() {
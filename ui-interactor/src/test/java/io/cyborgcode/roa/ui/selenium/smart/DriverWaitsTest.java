@@ -0,0 +1,70 @@
+package io.cyborgcode.roa.ui.selenium.smart;
+
+import io.cyborgcode.roa.ui.config.UiConfig;
+import io.cyborgcode.roa.ui.config.UiConfigHolder;
+import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DriverWaits Tests")
+class DriverWaitsTest extends BaseUnitUITest {
+
+   private UiConfig uiConfig;
+   private MockedStatic<UiConfigHolder> uiConfigHolder;
+   private WebDriver original;
+
+   @BeforeEach
+   void setUp() {
+      uiConfig = mock(UiConfig.class);
+      when(uiConfig.waitDuration()).thenReturn(5);
+      uiConfigHolder = mockStatic(UiConfigHolder.class);
+      uiConfigHolder.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+      original = mock(WebDriver.class);
+   }
+
+   @AfterEach
+   void tearDown() {
+      uiConfigHolder.close();
+   }
+
+   @Test
+   @DisplayName("Should share one wait between a driver, its decorator and their elements")
+   void shouldShareWaitPerDriver() {
+      // Given
+      SmartWebDriver driver = new SmartWebDriver(original);
+
+      // When
+      WebDriverWait wait = DriverWaits.forDriver(original);
+
+      // Then
+      assertThat(driver.getWait()).isSameAs(wait);
+      assertThat(DriverWaits.forDriver(driver)).isSameAs(wait);
+      assertThat(DriverWaits.forDriver(mock(WebDriver.class))).isNotSameAs(wait);
+   }
+
+   @Test
+   @DisplayName("Should create a new wait when the configured duration changes")
+   void shouldRecreateWaitWhenDurationChanges() {
+      // Given
+      WebDriverWait wait = DriverWaits.forDriver(original);
+
+      // When
+      when(uiConfig.waitDuration()).thenReturn(7);
+      WebDriverWait changed = DriverWaits.forDriver(original);
+
+      // Then
+      assertThat(changed).isNotSameAs(wait);
+      assertThat(DriverWaits.forDriver(original)).isSameAs(changed);
+   }
+
+}
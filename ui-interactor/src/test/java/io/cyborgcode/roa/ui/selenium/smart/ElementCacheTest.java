@@ -0,0 +1,249 @@
+package io.cyborgcode.roa.ui.selenium.smart;
+
+import io.cyborgcode.roa.ui.config.UiConfig;
+import io.cyborgcode.roa.ui.config.UiConfigHolder;
+import io.cyborgcode.roa.ui.selenium.helper.LocatorParser;
+import io.cyborgcode.roa.ui.testutil.BaseUnitUITest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ElementCache Tests")
+class ElementCacheTest extends BaseUnitUITest {
+
+   private static final String PAGE = "https://app.example.com/orders";
+   private static final By FORM = By.id("form");
+   private static final By SUBMIT = By.id("submit");
+
+   private WebDriver original;
+   private WebElement formElement;
+   private WebElement submitElement;
+   private UiConfig uiConfig;
+   private MockedStatic<UiConfigHolder> uiConfigHolder;
+   private SmartWebDriver driver;
+
+   @BeforeEach
+   void setUp() {
+      uiConfig = mock(UiConfig.class);
+      when(uiConfig.waitDuration()).thenReturn(1);
+      when(uiConfig.useWrappedSeleniumFunctions()).thenReturn(true);
+      when(uiConfig.elementCacheEnabled()).thenReturn(true);
+      uiConfigHolder = mockStatic(UiConfigHolder.class);
+      uiConfigHolder.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+
+      original = mock(WebDriver.class);
+      formElement = mock(WebElement.class);
+      submitElement = mock(WebElement.class);
+      when(original.getCurrentUrl()).thenReturn(PAGE);
+      when(original.findElement(FORM)).thenReturn(formElement);
+      when(original.findElement(SUBMIT)).thenReturn(submitElement);
+      when(formElement.findElement(SUBMIT)).thenReturn(submitElement);
+      driver = new SmartWebDriver(original);
+   }
+
+   @AfterEach
+   void tearDown() {
+      uiConfigHolder.close();
+   }
+
+   @Nested
+   @DisplayName("Lookup Tests")
+   class LookupTests {
+
+      @Test
+      @DisplayName("Should resolve an element once and answer later lookups from the cache")
+      void shouldAnswerRepeatedLookupsFromCache() {
+         // When
+         SmartWebElement first = driver.findSmartElement(FORM);
+         SmartWebElement second = driver.findSmartElement(FORM);
+
+         // Then
+         assertThat(second).isSameAs(first);
+         assertThat(first.getLocatorChain()).isEqualTo(new ElementCache.LocatorChain(null, FORM));
+         assertThat(driver.getElementCache().getStats())
+               .isEqualTo(new ElementCache.Stats(1, 1, 0, 0, 1));
+         assertThat(driver.getElementCache().getStats().hitRatio()).isEqualTo(0.5);
+      }
+
+      @Test
+      @DisplayName("Should answer a cache hit without any browser command")
+      void shouldNotQueryBrowserOnCacheHit() {
+         // Given
+         driver.findSmartElement(FORM);
+         clearInvocations(original);
+
+         // When
+         driver.findSmartElement(FORM);
+
+         // Then
+         verifyNoInteractions(original);
+      }
+
+      @Test
+      @DisplayName("Should key child elements by the locator chain of their parent")
+      void shouldCacheChildrenByLocatorChain() {
+         // When
+         SmartWebElement submit = driver.findSmartElement(FORM).findSmartElement(SUBMIT);
+         SmartWebElement again = driver.findSmartElement(FORM).findSmartElement(SUBMIT);
+
+         // Then
+         assertThat(again).isSameAs(submit);
+         assertThat(submit.getLocatorChain())
+               .hasToString(FORM + " -> " + SUBMIT)
+               .isEqualTo(new ElementCache.LocatorChain(new ElementCache.LocatorChain(null, FORM), SUBMIT));
+         verify(formElement, times(1)).findElement(SUBMIT);
+         assertThat(driver.getElementCache().getStats().hits()).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("Should not cache lookups when the cache is disabled")
+      void shouldBypassCacheWhenDisabled() {
+         // Given
+         when(uiConfig.elementCacheEnabled()).thenReturn(false);
+
+         // When
+         SmartWebElement first = driver.findSmartElement(FORM);
+         SmartWebElement second = driver.findSmartElement(FORM);
+
+         // Then
+         assertThat(second).isNotSameAs(first);
+         assertThat(first.getElementCache()).isNull();
+         assertThat(driver.getElementCache().getStats().misses()).isZero();
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Invalidation Tests")
+   class InvalidationTests {
+
+      @Test
+      @DisplayName("Should drop cached elements when a cache miss finds another URL")
+      void shouldInvalidateOnUrlChange() {
+         // Given
+         SmartWebElement first = driver.findSmartElement(FORM);
+         when(original.getCurrentUrl()).thenReturn(PAGE + "/42");
+
+         // When
+         driver.findSmartElement(SUBMIT);
+         SmartWebElement second = driver.findSmartElement(FORM);
+
+         // Then
+         assertThat(second).isNotSameAs(first);
+         assertThat(driver.getElementCache().getStats().invalidations()).isEqualTo(1);
+      }
+
+      @Test
+      @DisplayName("Should drop cached elements when the browser navigates back")
+      void shouldInvalidateOnNavigateBack() {
+         // Given
+         WebDriver.Navigation navigation = mock(WebDriver.Navigation.class);
+         when(original.navigate()).thenReturn(navigation);
+         SmartWebElement first = driver.findSmartElement(FORM);
+
+         // When
+         driver.navigate().back();
+         SmartWebElement second = driver.findSmartElement(FORM);
+
+         // Then
+         verify(navigation).back();
+         assertThat(second).isNotSameAs(first);
+      }
+
+      @Test
+      @DisplayName("Should drop cached elements when the driver navigates")
+      void shouldInvalidateOnNavigation() {
+         // Given
+         SmartWebElement first = driver.findSmartElement(FORM);
+
+         // When
+         driver.get(PAGE);
+         SmartWebElement second = driver.findSmartElement(FORM);
+
+         // Then
+         verify(original).get(PAGE);
+         assertThat(second).isNotSameAs(first);
+         assertThat(driver.getElementCache().getStats().size()).isEqualTo(1);
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Stale Element Tests")
+   class StaleElementTests {
+
+      @Test
+      @DisplayName("Should resolve a stale element again from its locator chain")
+      void shouldRefreshStaleElement() {
+         // Given
+         SmartWebElement stale = driver.findSmartElement(FORM).findSmartElement(SUBMIT);
+         WebElement renderedForm = mock(WebElement.class);
+         WebElement renderedSubmit = mock(WebElement.class);
+         when(original.findElement(FORM)).thenReturn(renderedForm);
+         when(renderedForm.findElement(SUBMIT)).thenReturn(renderedSubmit);
+         driver.getElementCache().refresh(driver.findSmartElement(FORM));
+
+         // When
+         SmartWebElement refreshed = driver.getElementCache().refresh(stale);
+
+         // Then
+         assertThat(refreshed.getOriginal()).isSameAs(renderedSubmit);
+         assertThat(driver.findSmartElement(FORM).findSmartElement(SUBMIT)).isSameAs(refreshed);
+         assertThat(driver.getElementCache().getStats().stale()).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("Should return the fresh element when a stale element is refreshed again")
+      void shouldReuseAlreadyRefreshedElement() {
+         // Given
+         SmartWebElement stale = driver.findSmartElement(FORM);
+         SmartWebElement refreshed = driver.getElementCache().refresh(stale);
+
+         // When
+         SmartWebElement again = driver.getElementCache().refresh(stale);
+
+         // Then
+         assertThat(again).isSameAs(refreshed);
+         assertThat(driver.getElementCache().getStats().misses()).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("Should relocate cached elements through the stale element handling")
+      void shouldRelocateThroughStaleElementHandling() {
+         // Given
+         SmartWebElement stale = driver.findSmartElement(FORM);
+         WebElement rendered = mock(WebElement.class);
+         when(original.findElement(FORM)).thenReturn(rendered);
+         when(formElement.isDisplayed()).thenReturn(true);
+         when(formElement.isEnabled()).thenReturn(true);
+         doThrow(new StaleElementReferenceException("re-rendered")).when(formElement).click();
+
+         // When
+         stale.click();
+
+         // Then
+         verify(rendered).click();
+         assertThat(LocatorParser.updateWebElement(original, stale).getOriginal()).isSameAs(rendered);
+         assertThat(driver.getElementCache().getStats().stale()).isEqualTo(2);
+      }
+
+   }
+
+}
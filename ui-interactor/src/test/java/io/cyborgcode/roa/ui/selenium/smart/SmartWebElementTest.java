@@ -33,6 +33,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
@@ -41,6 +42,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -48,9 +50,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -597,7 +601,8 @@ class SmartWebElementTest extends BaseUnitUITest {
          when(testConfig.useWrappedSeleniumFunctions()).thenReturn(false);
 
          try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
-              MockedConstruction<Actions> actionsMock = mockConstruction(Actions.class)) {
+              MockedConstruction<Actions> actionsMock = mockConstruction(Actions.class,
+                    (mock, context) -> when(mock.doubleClick(any(WebElement.class))).thenReturn(mock))) {
 
             // Setup UiConfigHolder to return test config
             uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(testConfig);
@@ -610,6 +615,8 @@ class SmartWebElementTest extends BaseUnitUITest {
 
             // Then
             assertFalse(actionsMock.constructed().isEmpty(), "Actions should have been constructed");
+            verify(actionsMock.constructed().get(0)).doubleClick(testElement);
+            verify(actionsMock.constructed().get(0)).perform();
             verify(testConfig).useWrappedSeleniumFunctions();
          }
       }
@@ -621,7 +628,7 @@ class SmartWebElementTest extends BaseUnitUITest {
          try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
               MockedStatic<ExpectedConditions> expectedConditionsMock = mockStatic(ExpectedConditions.class);
               MockedConstruction<Actions> actionsMock = mockConstruction(Actions.class,
-                    (mock, context) -> when(mock.doubleClick()).thenReturn(mock))) {
+                    (mock, context) -> when(mock.doubleClick(any(WebElement.class))).thenReturn(mock))) {
 
             uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
 
@@ -635,7 +642,31 @@ class SmartWebElementTest extends BaseUnitUITest {
 
             // Then
             assertFalse(actionsMock.constructed().isEmpty());
-            verify(actionsMock.constructed().get(0)).doubleClick();
+            verify(actionsMock.constructed().get(0)).doubleClick(webElement);
+            verify(actionsMock.constructed().get(0)).perform();
+         }
+      }
+
+      @Test
+      @DisplayName("doubleClick should perform the Actions on the driver wrapped by a SmartWebDriver")
+      void doubleClickShouldPerformActionsOnWrappedDriver() {
+         // Given
+         try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
+              MockedConstruction<Actions> actionsMock = mockConstruction(Actions.class,
+                    (mock, context) -> {
+                       assertSame(driver, context.arguments().get(0));
+                       when(mock.doubleClick(any(WebElement.class))).thenReturn(mock);
+                    })) {
+
+            uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            when(uiConfig.useWrappedSeleniumFunctions()).thenReturn(false);
+            SmartWebElement element = new SmartWebElement(webElement, new SmartWebDriver(driver));
+
+            // When
+            element.doubleClick();
+
+            // Then
+            verify(actionsMock.constructed().get(0)).perform();
          }
       }
 
@@ -651,7 +682,10 @@ class SmartWebElementTest extends BaseUnitUITest {
               MockedStatic<ExceptionHandlingWebElement> exceptionHandlingMock = mockStatic(ExceptionHandlingWebElement.class);
               MockedStatic<ExceptionHandlingWebElementFunctions> exceptionHandlingFnMock = mockStatic(ExceptionHandlingWebElementFunctions.class);
               MockedConstruction<Actions> actionsMock = mockConstruction(Actions.class,
-                    (mock, context) -> when(mock.doubleClick()).thenThrow(exception))) {
+                    (mock, context) -> {
+                       when(mock.doubleClick(any(WebElement.class))).thenReturn(mock);
+                       doThrow(exception).when(mock).perform();
+                    })) {
 
             uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
 
@@ -854,6 +888,108 @@ class SmartWebElementTest extends BaseUnitUITest {
       }
    }
 
+   @Nested
+   @DisplayName("Optimistic action tests")
+   class OptimisticActionTests {
+
+      @Test
+      @DisplayName("click should not wait for a ready element")
+      void clickShouldNotWaitForReadyElement() {
+         // Given
+         try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
+              MockedStatic<ExpectedConditions> expectedConditionsMock = mockStatic(ExpectedConditions.class)) {
+
+            uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            when(uiConfig.optimisticElementActions()).thenReturn(true);
+
+            // When
+            smartElement.click();
+
+            // Then
+            verify(webElement, times(1)).click();
+            expectedConditionsMock.verify(() -> ExpectedConditions.elementToBeClickable(any(WebElement.class)),
+                  never());
+         }
+      }
+
+      @Test
+      @DisplayName("sendKeys should wait and retry when the element is not interactable yet")
+      void sendKeysShouldWaitAndRetryWhenElementIsNotInteractable() {
+         // Given
+         try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
+              MockedStatic<ExpectedConditions> expectedConditionsMock = mockStatic(ExpectedConditions.class)) {
+
+            uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            when(uiConfig.optimisticElementActions()).thenReturn(true);
+            ExpectedCondition<WebElement> clickableCondition = driver -> webElement;
+            expectedConditionsMock.when(() -> ExpectedConditions.elementToBeClickable(any(WebElement.class)))
+                  .thenReturn(clickableCondition);
+            doThrow(new ElementNotInteractableException("hidden"))
+                  .doNothing()
+                  .when(webElement).sendKeys("text");
+
+            // When
+            smartElement.sendKeys("text");
+
+            // Then
+            verify(webElement, times(2)).sendKeys("text");
+            expectedConditionsMock.verify(() -> ExpectedConditions.elementToBeClickable(smartElement));
+         }
+      }
+
+      @Test
+      @DisplayName("click should hand other failures to the exception handling without waiting")
+      void clickShouldHandOtherFailuresToExceptionHandling() {
+         // Given
+         WebDriverException exception = new WebDriverException("session lost");
+
+         try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
+              MockedStatic<ExpectedConditions> expectedConditionsMock = mockStatic(ExpectedConditions.class);
+              MockedStatic<LogUi> logUiMock = mockStatic(LogUi.class)) {
+
+            uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            when(uiConfig.optimisticElementActions()).thenReturn(true);
+            doThrow(exception).when(webElement).click();
+
+            // When
+            WebDriverException thrown = assertThrows(WebDriverException.class, smartElement::click);
+
+            // Then
+            assertSame(exception, thrown);
+            verify(webElement, times(1)).click();
+            expectedConditionsMock.verify(() -> ExpectedConditions.elementToBeClickable(any(WebElement.class)),
+                  never());
+         }
+      }
+
+      @Test
+      @DisplayName("Elements of the same driver should share one lazily created wait")
+      void elementsOfSameDriverShouldShareWait() throws Exception {
+         // Given
+         try (MockedStatic<UiConfigHolder> uiConfigHolderMock = mockStatic(UiConfigHolder.class);
+              MockedStatic<ExpectedConditions> expectedConditionsMock = mockStatic(ExpectedConditions.class)) {
+
+            uiConfigHolderMock.when(UiConfigHolder::getUiConfig).thenReturn(uiConfig);
+            ExpectedCondition<WebElement> clickableCondition = driver -> webElement;
+            expectedConditionsMock.when(() -> ExpectedConditions.elementToBeClickable(any(WebElement.class)))
+                  .thenReturn(clickableCondition);
+            SmartWebElement first = new SmartWebElement(webElement, driver);
+            SmartWebElement second = new SmartWebElement(mock(WebElement.class), driver);
+            Field waitField = SmartWebElement.class.getDeclaredField("wait");
+            waitField.setAccessible(true);
+
+            // When
+            Object beforeAction = waitField.get(first);
+            first.click();
+            second.clear();
+
+            // Then
+            assertNull(beforeAction);
+            assertSame(waitField.get(first), waitField.get(second));
+         }
+      }
+   }
+
    @Nested
    @DisplayName("waitWithoutFailure test")
    class WaitWithoutFailureTest {
@@ -0,0 +1,153 @@
+package io.cyborgcode.roa.ui.util.table;
+
+import io.cyborgcode.roa.ui.components.table.annotations.TableCellLocator;
+import io.cyborgcode.roa.ui.components.table.annotations.TableInfo;
+import io.cyborgcode.roa.ui.components.table.model.CellLocator;
+import io.cyborgcode.roa.ui.components.table.model.TableCell;
+import io.cyborgcode.roa.ui.components.table.model.TableLocators;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TableRowBinding Tests")
+class TableRowBindingTest {
+
+   @TableInfo(tableContainerLocator = @FindBy(id = "users"), rowsLocator = @FindBy(css = "tr"),
+         headerRowLocator = @FindBy(css = "thead tr"))
+   static class UserRow {
+
+      private static TableCell shared;
+
+      @TableCellLocator(cellLocator = @FindBy(className = "name"), tableSection = "main")
+      private TableCell name;
+
+      private String note;
+
+      @TableCellLocator(cellLocator = @FindBy(className = "action"), tableSection = "actions")
+      private List<TableCell> actions;
+
+      @TableCellLocator(cellLocator = @FindBy(className = "email"), tableSection = "main")
+      private TableCell email;
+
+      private UserRow() {
+      }
+
+      private void setName(TableCell name) {
+         this.name = name;
+      }
+
+   }
+
+   static class FailingRow {
+
+      FailingRow() {
+         throw new IllegalStateException("no rows today");
+      }
+
+   }
+
+   static class NoDefaultConstructorRow {
+
+      NoDefaultConstructorRow(String value) {
+      }
+
+   }
+
+   @Test
+   @DisplayName("Should compute the plan once per class")
+   void shouldCachePlanPerClass() {
+      // Then
+      assertThat(TableRowBinding.of(UserRow.class)).isSameAs(TableRowBinding.of(UserRow.class));
+      assertThat(TableRowBinding.of(UserRow.class).sectionLocators())
+            .isSameAs(TableRowBinding.of(UserRow.class).sectionLocators());
+   }
+
+   @Test
+   @DisplayName("Should bind instance fields in declaration order")
+   void shouldBindInstanceFieldsInOrder() {
+      // When
+      TableRowBinding binding = TableRowBinding.of(UserRow.class);
+
+      // Then
+      assertThat(binding.fields()).extracting(TableRowBinding.FieldBinding::name)
+            .containsExactly("name", "note", "actions", "email");
+      assertThat(binding.cellFields()).extracting(TableRowBinding.FieldBinding::name)
+            .containsExactly("name", "actions", "email");
+      assertThat(binding.locatedFields()).extracting(TableRowBinding.FieldBinding::name)
+            .containsExactly("name", "actions", "email");
+   }
+
+   @Test
+   @DisplayName("Should group cell locators by table section in declaration order")
+   void shouldGroupLocatorsBySection() {
+      // When
+      Map<String, List<CellLocator>> sections = TableRowBinding.of(UserRow.class).sectionLocators();
+
+      // Then
+      assertThat(sections).containsOnlyKeys("main", "actions");
+      assertThat(sections.get("main")).extracting(CellLocator::getFieldName).containsExactly("name", "email");
+      assertThat(sections.get("main").get(0).getLocator()).isEqualTo(By.className("name"));
+      assertThat(sections.get("actions").get(0).isCollection()).isTrue();
+   }
+
+   @Test
+   @DisplayName("Should build the table locators of the row class")
+   void shouldBuildTableLocators() {
+      // When
+      TableLocators locators = TableRowBinding.of(UserRow.class).tableLocators();
+
+      // Then
+      assertThat(locators.getTableContainerLocator()).isEqualTo(By.id("users"));
+      assertThat(locators.getTableRowsLocator()).isEqualTo(By.cssSelector("tr"));
+      assertThatThrownBy(() -> TableRowBinding.of(NoDefaultConstructorRow.class).tableLocators())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("missing @TableInfo annotation");
+   }
+
+   @Test
+   @DisplayName("Should create rows, set values and merge rows through method handles")
+   void shouldCreateSetAndMergeRows() throws Throwable {
+      // Given
+      TableRowBinding binding = TableRowBinding.of(UserRow.class);
+      Object first = binding.newRow();
+      Object second = binding.newRow();
+      Object value = new TableCell("Ada");
+      MethodHandle setter = binding.setter("setName", TableCell.class);
+      ((UserRow) first).email = new TableCell("ada@example.com");
+      ((UserRow) second).email = new TableCell("other@example.com");
+      ((UserRow) second).note = "from second";
+
+      // When
+      setter.invokeExact(second, value);
+      binding.merge(first, second);
+
+      // Then
+      UserRow merged = (UserRow) first;
+      assertThat(merged.name).isSameAs(value);
+      assertThat(merged.email.getText()).isEqualTo("ada@example.com");
+      assertThat(merged.note).isEqualTo("from second");
+      assertThat(binding.setter("setName", TableCell.class)).isSameAs(setter);
+   }
+
+   @Test
+   @DisplayName("Should report missing setters and constructors like reflection")
+   void shouldReportReflectiveFailures() {
+      // Then
+      assertThatThrownBy(() -> TableRowBinding.of(UserRow.class).setter("setNote", String.class))
+            .isInstanceOf(NoSuchMethodException.class);
+      assertThatThrownBy(() -> TableRowBinding.of(NoDefaultConstructorRow.class).newRow())
+            .isInstanceOf(NoSuchMethodException.class);
+      assertThatThrownBy(() -> TableRowBinding.of(FailingRow.class).newRow())
+            .isInstanceOf(InvocationTargetException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+   }
+
+}